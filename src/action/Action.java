@@ -9,11 +9,14 @@ import item.Crop;
 import item.Seed;
 import time.GameCalendar;
 import time.Time;
+import system.GameLogger;
 
 import java.util.Scanner;
 import java.util.concurrent.Future;
 
 public class Action {
+    private static final GameLogger LOG = GameLogger.get(Action.class);
+
     public static Future<?> fish(FarmMap farm, FishingLocation location, Player player, Time time, GameCalendar calendar, Scanner scanner) throws IllegalArgumentException {
         if (!player.isEquipped("Fishing Rod")) {
             throw new IllegalArgumentException("Fishing rod must be equipped to fish.");
@@ -31,22 +34,22 @@ public class Action {
         }
 
         if (player.getEnergy() < (Player.MIN_ENERGY + 5)){ 
-            System.out.println("Not enough energy to till.");
+            LOG.debug("Not enough energy to till.");
             return;
         }
 
         Tile tile = farm.getTileAt(player.getX(), player.getY());
         if (tile == null) {
-            System.out.println("Invalid tile position.");
+            LOG.debug("Invalid tile position.");
             return;
         }
         if (tile.getType() != Tile.TileType.UNTILLED) { 
-            System.out.println("Cannot till this tile. It's not untilled land.");
+            LOG.debug("Cannot till this tile. It's not untilled land.");
             return;
         }
 
         tile.setType(Tile.TileType.TILLED);
-        System.out.println("You tilled the land at (" + player.getX() + ", " + player.getY() + ").");
+        LOG.debug("You tilled the land at (%d, %d).", player.getX(), player.getY());
 
         player.setEnergy(player.getEnergy() - 5); 
         time.advanceGameMinutes(5); 
@@ -61,7 +64,7 @@ public class Action {
                                       // Spending 5 energy should be possible even if current energy is 0 down to -15.
                                       // Let's adjust to ensure they can go into negative if above MIN_ENERGY + cost
             if (player.getEnergy() - 5 < Player.MIN_ENERGY) {
-                 System.out.println("Not enough energy to recover land. (Would go below " + Player.MIN_ENERGY + ")");
+                 LOG.debug("Not enough energy to recover land. (Would go below %d)", Player.MIN_ENERGY);
                  return;
             }
         }
@@ -69,25 +72,25 @@ public class Action {
 
         Tile tile = farm.getTileAt(player.getX(), player.getY());
         if (tile == null) {
-            System.out.println("Invalid tile position. Cannot recover land here.");
+            LOG.debug("Invalid tile position. Cannot recover land here.");
             throw new IllegalStateException("Player is on an invalid tile position."); // Or handle more gracefully
         }
 
         if (tile.getType() != Tile.TileType.TILLED && tile.getType() != Tile.TileType.PLANTED) {
-             System.out.println("Cannot recover this tile. It's not tilled soil or has no planted crop.");
+             LOG.debug("Cannot recover this tile. It's not tilled soil or has no planted crop.");
              return;
         }
 
         // If there's a crop, it will be destroyed.
         if (tile.getType() == Tile.TileType.PLANTED) {
-            System.out.println("The crop on this tile will be destroyed by recovering the land.");
+            LOG.debug("The crop on this tile will be destroyed by recovering the land.");
             tile.clearPlantedCrop(); // Removes the crop reference
         }
 
         tile.setType(Tile.TileType.UNTILLED); // Change tile type to untilled land
         // Note: Tile.setType should handle resetting its internal state (like deployedChar if any, though not for tilled/planted)
 
-        System.out.println("You recovered the land at (" + player.getX() + ", " + player.getY() + ") back to untilled land.");
+        LOG.debug("You recovered the land at (%d, %d) back to untilled land.", player.getX(), player.getY());
         
         player.setEnergy(player.getEnergy() - 5); // Deduct energy [cite: 188]
         time.advanceGameMinutes(5); // Advance time [cite: 188]
@@ -99,34 +102,34 @@ public class Action {
         }
 
         if (player.getInventory().getItemCount(seed) < 1) {
-            System.out.println("You don't have " + seed.getName() + " in your inventory.");
+            LOG.debug("You don't have %s in your inventory.", seed.getName());
             return;
         }
 
         if (player.getEnergy() < (Player.MIN_ENERGY + 5)) { 
-            System.out.println("Not enough energy to plant.");
+            LOG.debug("Not enough energy to plant.");
             return;
         }
 
         Tile tile = farm.getTileAt(player.getX(), player.getY());
         if (tile == null) {
-            System.out.println("Invalid tile position.");
+            LOG.debug("Invalid tile position.");
             return;
         }
         if (tile.getType() != Tile.TileType.TILLED) { 
-            System.out.println("Cannot plant here. This tile is not tilled.");
+            LOG.debug("Cannot plant here. This tile is not tilled.");
             return;
         }
 
         if (!seed.getSeasons().contains(calendar.getCurrentSeason())) {
-            System.out.println("You cannot plant " + seed.getName() + " in " + calendar.getCurrentSeason() + ".");
+            LOG.debug("You cannot plant %s in %s.", seed.getName(), calendar.getCurrentSeason());
             return;
         }
 
         Crop newCrop = new Crop(seed); 
         tile.plantCrop(newCrop);
         player.getInventory().removeItem(seed, 1);
-        System.out.println("You planted " + seed.getName() + " at (" + player.getX() + ", " + player.getY() + ").");
+        LOG.debug("You planted %s at (%d, %d).", seed.getName(), player.getX(), player.getY());
         player.setEnergy(player.getEnergy() - 5); 
         time.advanceGameMinutes(5); 
     }
@@ -137,56 +140,56 @@ public class Action {
         }
 
         if (player.getEnergy() < (Player.MIN_ENERGY + 5)) {
-            System.out.println("Not enough energy to water.");
+            LOG.debug("Not enough energy to water.");
             return;
         }
 
         Tile tile = farm.getTileAt(player.getX(), player.getY());
         if (tile == null) {
-            System.out.println("Invalid tile position.");
+            LOG.debug("Invalid tile position.");
             return;
         }
         if (tile.getType() != Tile.TileType.PLANTED || tile.getPlantedCrop() == null) {
-            System.out.println("Nothing to water here. This tile does not have a planted crop.");
+            LOG.debug("Nothing to water here. This tile does not have a planted crop.");
             return;
         }
 
         Crop crop = tile.getPlantedCrop();
         if (crop.isWateredToday(calendar.getTotalDay())) {
-            System.out.println("This crop has already been watered today.");
+            LOG.debug("This crop has already been watered today.");
             return;
         }
 
         crop.water(calendar.getTotalDay());
-        System.out.println("You watered the crop at (" + player.getX() + ", " + player.getY() + ").");
+        LOG.debug("You watered the crop at (%d, %d).", player.getX(), player.getY());
         player.setEnergy(player.getEnergy() - 5);
         time.advanceGameMinutes(5); 
     }
 
     public static void harvest(FarmMap farm, Player player, Time time) {
         if (player.getEnergy() < (Player.MIN_ENERGY + 5)) {
-            System.out.println("Not enough energy to harvest.");
+            LOG.debug("Not enough energy to harvest.");
             return;
         }
 
         Tile tile = farm.getTileAt(player.getX(), player.getY());
         if (tile == null) {
-            System.out.println("Invalid tile position.");
+            LOG.debug("Invalid tile position.");
             return;
         }
         if (tile.getType() != Tile.TileType.PLANTED || tile.getPlantedCrop() == null) {
-            System.out.println("Nothing to harvest here. This tile does not have a planted crop.");
+            LOG.debug("Nothing to harvest here. This tile does not have a planted crop.");
             return;
         }
 
         Crop crop = tile.getPlantedCrop();
         if (!crop.isHarvestable()) {
-            System.out.println("This crop is not ready to be harvested yet.");
+            LOG.debug("This crop is not ready to be harvested yet.");
             return;
         }
 
         player.getInventory().addItem(crop.getHarvestedProduct(), crop.getQuantityPerHarvest());
-        System.out.println("You harvested " + crop.getQuantityPerHarvest() + " " + crop.getHarvestedProduct().getName() + " from (" + player.getX() + ", " + player.getY() + ").");
+        LOG.debug("You harvested %d %s from (%d, %d).", crop.getQuantityPerHarvest(), crop.getHarvestedProduct().getName(), player.getX(), player.getY());
 
         tile.setType(Tile.TileType.TILLED);
         tile.clearPlantedCrop();
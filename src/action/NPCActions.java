@@ -5,11 +5,14 @@ import core.player.Player;
 import core.player.RelationshipStatus;
 import item.Item;
 import time.Time;
+import system.GameLogger;
 
 /**
  * Kelas untuk Mengelola Aksi Terkait NPC.
  */
 public class NPCActions {
+    private static final GameLogger LOG = GameLogger.get(NPCActions.class);
+
     private Player player;
     // private GameManager gameManager; // Untuk mengelola waktu, hari, musim, dll.
 
@@ -85,7 +88,7 @@ public class NPCActions {
         }
         npc.addHeartPoints(heartChange);
         if (!reactionMessage.isEmpty()) {
-            System.out.println(reactionMessage);
+            LOG.debug(reactionMessage);
         }
 
 
@@ -173,7 +176,7 @@ public class NPCActions {
         }
         NPC formerPartner = player.getPartner();
         formerPartner.addHeartPoints(-NPC.MAX_HEART_POINTS); // Drastically reduce hearts
-        System.out.println(formerPartner.getName() + "'s heart points drastically reduced due to divorce.");
+        LOG.debug("%s's heart points drastically reduced due to divorce.", formerPartner.getName());
         
         // Player.setRelationshipStatus handles resetting player's partner and daysSinceProposal counter
         player.setRelationshipStatus(formerPartner, RelationshipStatus.SINGLE); 
@@ -191,7 +194,7 @@ public class NPCActions {
             int currentDays = player.getDaysSinceProposalWithPartner();
             if (currentDays != -1) { // Only if a proposal is effectively active (0 or more)
                 player.setDaysSinceProposalWithPartner(currentDays + 1);
-                System.out.println("DEBUG: Days since proposal with " + player.getPartner().getName() + " incremented to: " + player.getDaysSinceProposalWithPartner());
+                LOG.debug("Days since proposal with %s incremented to: %d", player.getPartner().getName(), player.getDaysSinceProposalWithPartner());
             }
         }
     }
@@ -1,5 +1,6 @@
 package cooking;
 
+import system.GameLogger;
 import core.player.Player;
 import recipe.Recipe;
 import item.Item;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.List;
 // Import ScheduledExecutorService and related classes
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit; // For TimeUnit
@@ -21,10 +23,14 @@ import java.util.stream.Collectors;
 
 
 public class CookingManager implements CookingTask.CookingCompleteListener {
+    private static final GameLogger LOG = GameLogger.get(CookingManager.class);
+
     private final Player player;
     private final Set<String> unlockedRecipeIds;
     // Change ExecutorService to ScheduledExecutorService
     private final ScheduledExecutorService cookingScheduler;
+    // Tempat hasil masakan benar-benar dimasukkan ke inventory (default: langsung di thread scheduler)
+    private volatile Executor worldExecutor = Runnable::run;
     private static final int COOKING_DELAY_SECONDS = 12; // 1 game hour = 60 game mins; 5 game mins = 1 real sec => 60/5 = 12 real secs
 
     public CookingManager(Player player) {
@@ -45,6 +51,14 @@ public class CookingManager implements CookingTask.CookingCompleteListener {
             .forEach(recipe -> unlockRecipe(recipe.getRecipeId()));
     }
 
+    /**
+     * Routes cooking completions through the given executor, e.g. the simulation clock,
+     * so the inventory is only mutated by the world thread.
+     */
+    public void setWorldExecutor(Executor worldExecutor) {
+        this.worldExecutor = worldExecutor != null ? worldExecutor : Runnable::run;
+    }
+
     public void unlockRecipe(String recipeId) {
         if (RecipeData.getRecipeById(recipeId) != null) {
             unlockedRecipeIds.add(recipeId);
@@ -151,7 +165,7 @@ public class CookingManager implements CookingTask.CookingCompleteListener {
         );
         
         // Schedule the task to run after 1 game hour (12 real seconds)
-        cookingScheduler.schedule(cookingTask, COOKING_DELAY_SECONDS, TimeUnit.SECONDS);
+        cookingScheduler.schedule(() -> worldExecutor.execute(cookingTask), COOKING_DELAY_SECONDS, TimeUnit.SECONDS);
 
         return "Memasak '" + recipe.getRecipeName() + "' dimulai! Akan selesai dalam 1 jam game. ("+ outputItemForRecipe.getName() +" x"+ recipe.getOutputQuantity()+")";
     }
@@ -163,14 +177,14 @@ public class CookingManager implements CookingTask.CookingCompleteListener {
         // This method is called by CookingTask when it finishes
         // You can add UI notifications here if needed, e.g., via a callback to GameView/GameManager
         // For now, it just logs to console. The item is already added to inventory by CookingTask.
-        System.out.println("[CookingManager NOTIFICATION] " + player.getName() + " telah selesai memasak " + quantity + "x " + itemProduced.getName() + "! Item ditambahkan ke inventory.");
+        LOG.info("[CookingManager NOTIFICATION] " + player.getName() + " telah selesai memasak " + quantity + "x " + itemProduced.getName() + "! Item ditambahkan ke inventory.");
         // If you have a GameView reference or an event bus, you could trigger a small GUI notification.
         // Example: gameManager.notifyPlayer("Cooking complete: " + itemProduced.getName());
     }
     
     @Override
     public void onCookingFailed(Player player, String recipeName, String reason) {
-        System.err.println("[CookingManager NOTIFICATION] " + player.getName() + " gagal memasak " + recipeName + ". Alasan: " + reason);
+        LOG.warn("[CookingManager NOTIFICATION] " + player.getName() + " gagal memasak " + recipeName + ". Alasan: " + reason);
         // Potentially refund ingredients here if appropriate, or notify player.
     }
 
@@ -185,6 +199,6 @@ public class CookingManager implements CookingTask.CookingCompleteListener {
             cookingScheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
-        System.out.println("CookingManager (Scheduler) telah dimatikan.");
+        LOG.debug("CookingManager (Scheduler) telah dimatikan.");
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package cooking;
 
+import system.GameLogger;
 import core.player.Player;
 import item.Item;
 import core.player.Inventory;
 
 public class CookingTask implements Runnable {
+    private static final GameLogger LOG = GameLogger.get(CookingTask.class);
+
     private final Player player;
     private final Item foodToProduce; // Item makanan yang akan dihasilkan
     private final int quantityToProduce; // Jumlah makanan yang akan dihasilkan
@@ -33,8 +36,9 @@ public class CookingTask implements Runnable {
     @Override
     public void run() {
         String taskName = "CookingTask-" + foodToProduce.getName() + "-for-" + player.getName();
+        String originalThreadName = Thread.currentThread().getName(); // Thread ini bisa milik SimulationClock, jangan diganti permanen
         Thread.currentThread().setName(taskName);
-        System.out.println("[" + Thread.currentThread().getName() + "] Processing scheduled cooking completion...");
+        LOG.debug("[" + Thread.currentThread().getName() + "] Processing scheduled cooking completion...");
 
         try {
             // The delay is handled by ScheduledExecutorService, so no Thread.sleep() needed here.
@@ -50,7 +54,7 @@ public class CookingTask implements Runnable {
                 playerInventory.addItem(foodToProduce, quantityToProduce);
             }
             
-            System.out.println("[" + Thread.currentThread().getName() + "] Completed. " +
+            LOG.debug("[" + Thread.currentThread().getName() + "] Completed. " +
                                foodToProduce.getName() + " x" + quantityToProduce + 
                                " added to inventory for " + player.getName() + ".");
             
@@ -59,12 +63,14 @@ public class CookingTask implements Runnable {
             }
 
         } catch (Exception e) { // Catch generic exceptions during the task execution
-            System.err.println("[" + Thread.currentThread().getName() + "] Failed to complete cooking task: " + e.getMessage());
+            LOG.error("[" + Thread.currentThread().getName() + "] Failed to complete cooking task: " + e.getMessage());
             e.printStackTrace(); // Log the full stack trace for debugging
              if (listener != null) {
                 listener.onCookingFailed(player, foodToProduce.getName(), "Kesalahan sistem saat menyelesaikan masak: " + e.getMessage());
             }
             // No Thread.currentThread().interrupt() unless it was an InterruptedException and re-interrupting is desired.
+        } finally {
+            Thread.currentThread().setName(originalThreadName);
         }
     }
 }
\ No newline at end of file
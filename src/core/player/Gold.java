@@ -1,33 +1,111 @@
 package core.player;
 
+import core.world.Season;
+import item.Item;
+import item.ItemIds;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A player's gold balance.
+ *
+ * Credits and debits are compare-and-set loops on one atomic int, so concurrent callers (the
+ * simulation thread, tests and tools driving a Gold directly) never lose an update and a debit
+ * never takes the balance below zero. Every change is appended to the {@link GoldJournal}, which is also the
+ * source of income and expenditure statistics.
+ */
 public class Gold {
-    private int amount;
+    private final AtomicInteger amount;
+    private final GoldJournal journal = new GoldJournal();
+    private final List<GoldListener> listeners = new CopyOnWriteArrayList<>();
 
     public Gold(int initialAmount) {
-        this.amount = initialAmount;
+        this.amount = new AtomicInteger(initialAmount);
     }
 
     public int getAmount() {
-        return amount;
+        return amount.get();
+    }
+
+    public GoldJournal getJournal() {
+        return journal;
     }
 
+    /** Sets the balance without journaling it, e.g. when a save game is loaded together with its journal. */
+    public void restore(int value) {
+        if (value < 0) throw new IllegalArgumentException("Gold tidak boleh negatif: " + value);
+        int old = amount.getAndSet(value);
+        if (old != value) {
+            for (GoldListener listener : listeners) {
+                listener.onGoldChanged(old, value);
+            }
+        }
+    }
+
+    /** Adds gold that is neither income nor expenditure, e.g. starting money. */
     public void add(int value) {
-        if (value < 0) throw new IllegalArgumentException("Cannot add negative gold.");
-        amount += value;
+        credit(value, GoldJournal.Source.ADJUSTMENT, null, null);
     }
 
+    /** Removes gold that is neither income nor expenditure. */
     public boolean subtract(int value) {
+        return debit(value, GoldJournal.Source.ADJUSTMENT, null, null);
+    }
+
+    /**
+     * Adds {@code value} and journals it.
+     * @param season may be null; {@code item} may be null.
+     */
+    public void credit(int value, GoldJournal.Source source, Season season, Item item) {
+        if (value < 0) throw new IllegalArgumentException("Cannot add negative gold.");
+        int old;
+        int updated;
+        do {
+            old = amount.get();
+            updated = (int) Math.min(Integer.MAX_VALUE, (long) old + value);
+        } while (!amount.compareAndSet(old, updated));
+        record(source, updated - old, season, item, old, updated);
+    }
+
+    /**
+     * Takes {@code value} if the balance covers it, and journals it.
+     * @return false, without any change, if there is not enough gold.
+     */
+    public boolean debit(int value, GoldJournal.Source source, Season season, Item item) {
         if (value < 0) throw new IllegalArgumentException("Cannot subtract negative gold.");
-        if (amount >= value) {
-            amount -= value;
-            return true;
+        int old;
+        do {
+            old = amount.get();
+            if (old < value) return false;
+        } while (!amount.compareAndSet(old, old - value));
+        record(source, -value, season, item, old, old - value);
+        return true;
+    }
+
+    private void record(GoldJournal.Source source, int delta, Season season, Item item, int oldAmount, int newAmount) {
+        if (delta == 0) return;
+        journal.append(source, delta, season, item == null ? ItemIds.NONE : item.getId(), newAmount);
+        for (GoldListener listener : listeners) {
+            listener.onGoldChanged(oldAmount, newAmount);
+        }
+    }
+
+    /** Registers a listener for amount changes (e.g. the top info bar). */
+    public void addGoldListener(GoldListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
         }
-        return false;
+        listeners.add(listener);
+    }
+
+    public void removeGoldListener(GoldListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
     public String toString() {
-        return amount + "g";
+        return amount.get() + "g";
     }
 }
-
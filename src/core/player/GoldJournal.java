@@ -0,0 +1,307 @@
+package core.player;
+
+import core.world.Season;
+import item.ItemIds;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only record of every change to a {@link Gold} balance.
+ *
+ * Each entry holds the signed amount (credits positive, debits negative), its {@link Source},
+ * the season and the item id involved (or -1), and the balance right after it. Entries live in
+ * chunks of packed ints; a writer reserves its slot with one atomic increment and entries are
+ * published in slot order, so readers only ever see complete entries. Entries of transactions
+ * that raced each other may appear in either order.
+ *
+ * Income and expenditure are not kept anywhere else: {@link #getIncome(Season)} and friends fold
+ * the journal, remembering how far they got so each entry is only read once.
+ */
+public final class GoldJournal {
+    /** Why gold moved. Adjustments (starting money, loading) are neither income nor expenditure. */
+    public enum Source {
+        SALE, PURCHASE, ADJUSTMENT,
+        /** Totals carried over from before the journal existed; they do not touch the balance. */
+        CARRY_OVER
+    }
+
+    /** Told about each entry after it is published, on the thread that made the change. */
+    @FunctionalInterface
+    public interface Listener {
+        void onEntry(Source source, int amount, Season season, int itemId);
+    }
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_ENTRIES = 1 << CHUNK_SHIFT;
+    private static final int MAX_CHUNKS = 4096; // 4 juta entri
+    private static final int FIELDS = 5;        // amount, source, season, item, balance
+    private static final int SPINS_BEFORE_YIELD = 64;
+    private static final Source[] SOURCES = Source.values();
+    private static final Season[] SEASONS = Season.values();
+
+    private final AtomicReferenceArray<int[]> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger reserved = new AtomicInteger();
+    private volatile int published;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Lipatan untuk view; indeks terakhir = tanpa musim
+    private final long[] incomeBySeason = new long[SEASONS.length + 1];
+    private final long[] expenditureBySeason = new long[SEASONS.length + 1];
+    private int folded;
+
+    /** Appends an entry, tells the listeners and returns its index. */
+    int append(Source source, int amount, Season season, int itemId, int balanceAfter) {
+        int index = write(source, amount, season, itemId, balanceAfter);
+        for (Listener listener : listeners) {
+            listener.onEntry(source, amount, season, itemId);
+        }
+        return index;
+    }
+
+    private int write(Source source, int amount, Season season, int itemId, int balanceAfter) {
+        int index = reserved.getAndIncrement();
+        int c = index >>> CHUNK_SHIFT;
+        if (c >= MAX_CHUNKS) {
+            throw new IllegalStateException("Jurnal emas penuh: " + index + " entri");
+        }
+        int[] chunk = chunks.get(c);
+        if (chunk == null) {
+            chunks.compareAndSet(c, null, new int[CHUNK_ENTRIES * FIELDS]);
+            chunk = chunks.get(c);
+        }
+        int base = (index & (CHUNK_ENTRIES - 1)) * FIELDS;
+        chunk[base] = amount;
+        chunk[base + 1] = source.ordinal();
+        chunk[base + 2] = season == null ? -1 : season.ordinal();
+        chunk[base + 3] = itemId;
+        chunk[base + 4] = balanceAfter;
+        for (int spins = 0; published != index; spins++) {
+            // Penulis sebelumnya sedang mengisi slotnya; kalau ia tersela, beri CPU kepadanya
+            if (spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        published = index + 1; // volatile: isi entri terlihat oleh pembaca yang melihat ukuran baru
+        return index;
+    }
+
+    /** Number of published entries. */
+    public int size() {
+        return published;
+    }
+
+    public int getAmount(int index) {
+        return field(index, 0);
+    }
+
+    public Source getSource(int index) {
+        return SOURCES[field(index, 1)];
+    }
+
+    /** Season of entry {@code index}, or null if none was given. */
+    public Season getSeason(int index) {
+        int season = field(index, 2);
+        return season < 0 ? null : SEASONS[season];
+    }
+
+    /** {@link ItemIds} id of entry {@code index}, or -1. */
+    public int getItemId(int index) {
+        return field(index, 3);
+    }
+
+    public int getBalanceAfter(int index) {
+        return field(index, 4);
+    }
+
+    public void addListener(Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Gold earned from sales (and carried-over income) in {@code season}. */
+    public int getIncome(Season season) {
+        return clamp(fold(incomeBySeason)[season.ordinal()]);
+    }
+
+    public int getExpenditure(Season season) {
+        return clamp(fold(expenditureBySeason)[season.ordinal()]);
+    }
+
+    /** Income over all seasons, including entries without a season. */
+    public int getTotalIncome() {
+        return clamp(sum(fold(incomeBySeason)));
+    }
+
+    public int getTotalExpenditure() {
+        return clamp(sum(fold(expenditureBySeason)));
+    }
+
+    /**
+     * Appends balance-neutral entries for whatever the views are missing compared to the given
+     * totals, e.g. when loading a save written before the journal existed. A total beyond the
+     * seasonal amounts goes in without a season.
+     */
+    public synchronized void carryOver(Map<Season, Integer> income, Map<Season, Integer> expenditure, int totalIncome, int totalExpenditure) {
+        carryOver(income, totalIncome, true);
+        carryOver(expenditure, totalExpenditure, false);
+    }
+
+    private void carryOver(Map<Season, Integer> bySeason, int total, boolean income) {
+        int sign = income ? 1 : -1;
+        for (Map.Entry<Season, Integer> entry : bySeason.entrySet()) {
+            long missing = entry.getValue() - fold(income ? incomeBySeason : expenditureBySeason)[entry.getKey().ordinal()];
+            if (missing > 0) {
+                write(Source.CARRY_OVER, (int) (sign * missing), entry.getKey(), ItemIds.NONE, 0);
+            }
+        }
+        long missing = total - sum(fold(income ? incomeBySeason : expenditureBySeason));
+        if (missing > 0) {
+            write(Source.CARRY_OVER, (int) (sign * missing), null, ItemIds.NONE, 0);
+        }
+    }
+
+    /** Writes every entry; items by name. */
+    public void writeState(DataOutput out) throws IOException {
+        writeState(out, 0);
+    }
+
+    /**
+     * Writes the entries from index {@code from} on, for an incremental save.
+     * @return the index after the last written entry, i.e. {@code from} of the next increment.
+     */
+    public int writeState(DataOutput out, int from) throws IOException {
+        int end = published;
+        if (from < 0 || from > end) {
+            throw new IllegalArgumentException("Awal jurnal tidak valid: " + from + " dari " + end);
+        }
+        out.writeInt(from);
+        out.writeInt(end - from);
+        for (int i = from; i < end; i++) {
+            int itemId = getItemId(i);
+            out.writeInt(getAmount(i));
+            out.writeUTF(getSource(i).name());
+            out.writeUTF(getSeason(i) == null ? "" : getSeason(i).name());
+            out.writeUTF(itemId < 0 ? "" : ItemIds.nameOf(itemId));
+            out.writeInt(getBalanceAfter(i));
+        }
+        return end;
+    }
+
+    /**
+     * Applies what {@link #writeState(DataOutput, int)} wrote: entries from its start index on are
+     * replaced, earlier ones are kept. Call while nothing else changes gold.
+     * @throws IOException if the journal is shorter than the start index (a missing increment).
+     */
+    public synchronized void readState(DataInput in) throws IOException {
+        int from = in.readInt();
+        if (from > published) {
+            throw new IOException("Jurnal emas di save tidak bersambung: mulai di " + from + ", jurnal punya " + published);
+        }
+        truncate(from);
+        for (int i = in.readInt(); i > 0; i--) {
+            int amount = in.readInt();
+            String source = in.readUTF();
+            String season = in.readUTF();
+            String item = in.readUTF();
+            int balance = in.readInt();
+            try {
+                write(Source.valueOf(source), amount, season.isEmpty() ? null : Season.valueOf(season),
+                        item.isEmpty() ? ItemIds.NONE : ItemIds.intern(item), balance);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Entri jurnal emas tidak valid: " + source + "/" + season, e);
+            }
+        }
+    }
+
+    /** Drops every entry. Call while nothing else changes gold. */
+    public void clear() {
+        truncate(0);
+    }
+
+    /** Drops the entries from {@code size} on. Call while nothing else changes gold. */
+    private synchronized void truncate(int size) {
+        if (size >= published) return;
+        for (int c = (size + CHUNK_ENTRIES - 1) >>> CHUNK_SHIFT; c < MAX_CHUNKS && chunks.get(c) != null; c++) {
+            chunks.set(c, null);
+        }
+        published = size;
+        reserved.set(size);
+        // Lipatan dihitung ulang dari awal saat view berikutnya dibaca
+        folded = 0;
+        Arrays.fill(incomeBySeason, 0);
+        Arrays.fill(expenditureBySeason, 0);
+    }
+
+    /** Per-season amounts as a map, for display. */
+    public Map<Season, Integer> incomeBySeason() {
+        return bySeason(true);
+    }
+
+    public Map<Season, Integer> expenditureBySeason() {
+        return bySeason(false);
+    }
+
+    private Map<Season, Integer> bySeason(boolean income) {
+        long[] totals = fold(income ? incomeBySeason : expenditureBySeason);
+        Map<Season, Integer> map = new EnumMap<>(Season.class);
+        for (Season season : SEASONS) {
+            if (totals[season.ordinal()] != 0) {
+                map.put(season, clamp(totals[season.ordinal()]));
+            }
+        }
+        return map;
+    }
+
+    /** Folds entries not seen yet and returns a copy of {@code view}. */
+    private synchronized long[] fold(long[] view) {
+        int end = published;
+        for (int i = folded; i < end; i++) {
+            Source source = getSource(i);
+            if (source == Source.ADJUSTMENT) continue;
+            int season = field(i, 2);
+            int slot = season < 0 ? SEASONS.length : season;
+            int amount = getAmount(i);
+            if (amount > 0) {
+                incomeBySeason[slot] += amount;
+            } else {
+                expenditureBySeason[slot] -= amount;
+            }
+        }
+        folded = end;
+        return view.clone();
+    }
+
+    private int field(int index, int field) {
+        if (index < 0 || index >= published) {
+            throw new IndexOutOfBoundsException("Entri jurnal " + index + " dari " + published);
+        }
+        return chunks.get(index >>> CHUNK_SHIFT)[(index & (CHUNK_ENTRIES - 1)) * FIELDS + field];
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) total += value;
+        return total;
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, value);
+    }
+}
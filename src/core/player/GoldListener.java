@@ -0,0 +1,9 @@
+package core.player;
+
+/**
+ * Notified by {@link Gold} after the amount changed. Called on the thread that changed it.
+ */
+@FunctionalInterface
+public interface GoldListener {
+    void onGoldChanged(int oldAmount, int newAmount);
+}
@@ -1,19 +1,28 @@
 package core.player;
 
+import system.GameLogger;
 import item.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Inventory {
-    private Map<Item, Integer> items;
+    private static final GameLogger LOG = GameLogger.get(Inventory.class);
+
+    // Satu slot per nama item (nama unik tanpa memandang huruf besar/kecil); jumlah disimpan sebagai int
+    private final ItemSlotIndex slotByName = new ItemSlotIndex();
+    private Item[] slotItems = new Item[16];
+    private int[] slotQuantities = new int[16];
+    private int slotCount;
     private PlayerStats playerStats;
     private EquipmentManager equipmentManager;
+    private final List<InventoryListener> listeners = new CopyOnWriteArrayList<>();
 
     public Inventory(PlayerStats playerStats, EquipmentManager equipmentManager) {
-        items = new HashMap<>();
         this.playerStats = playerStats;
         this.equipmentManager = equipmentManager;
         giveStartingItems();
@@ -23,36 +32,186 @@ public class Inventory {
         addItem(SeedRegistry.getSeedByName("Parsnip Seeds"), 15);
     }
 
+    /**
+     * Registers a listener for item quantity changes, so views can update single rows
+     * instead of re-reading {@link #getAllItems()}.
+     */
+    public void addInventoryListener(InventoryListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeInventoryListener(InventoryListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyChanged(Item item, int oldQuantity, int newQuantity) {
+        if (oldQuantity == newQuantity) return;
+        for (InventoryListener listener : listeners) {
+            listener.onItemChanged(item, oldQuantity, newQuantity);
+        }
+    }
+
     public Map<item.Item, Integer> getAllItems() {
-        return new HashMap<>(items);
+        Map<Item, Integer> copy = new HashMap<>(slotCount * 2);
+        for (int i = 0; i < slotCount; i++) {
+            copy.put(slotItems[i], slotQuantities[i]);
+        }
+        return copy;
+    }
+
+    /** Slot of the item with exactly this name, or -1. */
+    private int slotOf(String name) {
+        int slot = slotByName.get(name);
+        // Indeks tidak peka huruf; pencarian per nama/objek tetap persis seperti Item.equals
+        return slot >= 0 && slotItems[slot].getName().equals(name) ? slot : -1;
+    }
+
+    private int addSlot(Item item, int quantity) {
+        ensureSlotCapacity(slotCount + 1);
+        slotItems[slotCount] = item;
+        slotQuantities[slotCount] = quantity;
+        slotByName.put(item.getName(), slotCount);
+        return slotCount++;
+    }
+
+    private void ensureSlotCapacity(int slots) {
+        if (slots <= slotItems.length) return;
+        int capacity = Math.max(slots, slotItems.length * 2);
+        slotItems = Arrays.copyOf(slotItems, capacity);
+        slotQuantities = Arrays.copyOf(slotQuantities, capacity);
+    }
+
+    /** Removes the slot by moving the last slot into its place. */
+    private void removeSlot(int slot) {
+        slotByName.remove(slotItems[slot].getName());
+        int last = --slotCount;
+        if (slot != last) {
+            slotItems[slot] = slotItems[last];
+            slotQuantities[slot] = slotQuantities[last];
+            slotByName.put(slotItems[slot].getName(), slot);
+        }
+        slotItems[last] = null;
+        slotQuantities[last] = 0;
+    }
+
+    /** Takes {@code quantity} from {@code slot}, which must hold at least that many. */
+    private void takeFromSlot(int slot, int quantity) {
+        Item item = slotItems[slot];
+        int oldQuantity = slotQuantities[slot];
+        if (oldQuantity == quantity) {
+            removeSlot(slot);
+        } else {
+            slotQuantities[slot] = oldQuantity - quantity;
+        }
+        notifyChanged(item, oldQuantity, oldQuantity - quantity);
     }
 
 
     public void addItem(Item item, int quantity) {
         if (item == null || quantity <= 0) {
-            System.err.println("Inventory.addItem: Attempted to add null item or non-positive quantity.");
+            LOG.warn("Inventory.addItem: Attempted to add null item or non-positive quantity.");
             return;
         }
 
         if (item instanceof Equipment) {
-            for (int i = 0; i < quantity; i++) {
-                equipmentManager.addEquipment(new Equipment(item.getName(), item.getBuyPrice(), item.getSellPrice()));
-            }
+            equipmentManager.addEquipment((Equipment) item); // Satu instance per jenis alat; jumlah tidak dicatat
             if (playerStats != null) {
                 playerStats.addItem(item.getName(), quantity);
             }
             return;
         }
-        Item mapKey = findItemByName(item.getName()); // Check if an item with this name already exists
-        if (mapKey == null) {
-             mapKey = item; // If not, use the passed item as the new key
+        int slot = slotByName.get(item.getName()); // Item dengan nama ini (huruf apa pun) digabung ke slot yang ada
+        if (slot < 0) {
+            addSlot(item, quantity);
+            notifyChanged(item, 0, quantity);
+        } else {
+            int oldQuantity = slotQuantities[slot];
+            slotQuantities[slot] = Math.addExact(oldQuantity, quantity);
+            notifyChanged(slotItems[slot], oldQuantity, oldQuantity + quantity);
         }
-        items.put(mapKey, items.getOrDefault(mapKey, 0) + quantity);
         if (playerStats != null) {
             playerStats.addItem(item.getName(), quantity); // Stats are usually by name
         }
     }
 
+    /**
+     * Adds several items in one pass: the slot arrays grow at most once and statistics are
+     * updated once for the whole batch. Listeners still hear about every item.
+     * @throws IllegalArgumentException if {@link #canAddAll(Map)} is false; nothing is added then.
+     */
+    public void addItems(Map<Item, Integer> items) {
+        if (!canAddAll(items)) {
+            throw new IllegalArgumentException("Item tidak dapat ditambahkan: item null, jumlah tidak positif atau melebihi batas");
+        }
+        ensureSlotCapacity(slotCount + items.size());
+        for (Map.Entry<Item, Integer> entry : items.entrySet()) {
+            Item item = entry.getKey();
+            int quantity = entry.getValue();
+            if (item instanceof Equipment) {
+                equipmentManager.addEquipment((Equipment) item);
+                continue;
+            }
+            int slot = slotByName.get(item.getName());
+            if (slot < 0) {
+                addSlot(item, quantity);
+                notifyChanged(item, 0, quantity);
+            } else {
+                int oldQuantity = slotQuantities[slot];
+                slotQuantities[slot] = oldQuantity + quantity;
+                notifyChanged(slotItems[slot], oldQuantity, oldQuantity + quantity);
+            }
+        }
+        if (playerStats != null) {
+            playerStats.addItems(items);
+        }
+    }
+
+    /** Whether {@link #addItems(Map)} would accept {@code items}: no null item, positive quantities, no count overflowing. */
+    public boolean canAddAll(Map<Item, Integer> items) {
+        if (items == null) return false;
+        for (Map.Entry<Item, Integer> entry : items.entrySet()) {
+            Item item = entry.getKey();
+            Integer quantity = entry.getValue();
+            if (item == null || quantity == null || quantity <= 0) return false;
+            if (item instanceof Equipment) continue;
+            int slot = slotByName.get(item.getName());
+            if (slot >= 0 && (long) slotQuantities[slot] + quantity > Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces all non-equipment items, e.g. when a save game is loaded. Statistics are not
+     * touched; listeners hear about every item whose quantity changed.
+     */
+    public void replaceContents(Map<Item, Integer> contents) {
+        Map<Item, Integer> old = getAllItems();
+        while (slotCount > 0) {
+            removeSlot(slotCount - 1);
+        }
+        for (Map.Entry<Item, Integer> entry : contents.entrySet()) {
+            if (entry.getKey() instanceof Equipment || entry.getValue() <= 0) continue;
+            int slot = slotByName.get(entry.getKey().getName());
+            if (slot < 0) {
+                addSlot(entry.getKey(), entry.getValue());
+            } else {
+                slotQuantities[slot] += entry.getValue();
+            }
+        }
+        Map<Item, Integer> now = getAllItems();
+        for (Map.Entry<Item, Integer> entry : old.entrySet()) {
+            notifyChanged(entry.getKey(), entry.getValue(), now.getOrDefault(entry.getKey(), 0));
+        }
+        for (Map.Entry<Item, Integer> entry : now.entrySet()) {
+            if (!old.containsKey(entry.getKey())) {
+                notifyChanged(entry.getKey(), 0, entry.getValue());
+            }
+        }
+    }
+
     public void addItem(Item item){
         addItem(item, 1);
     }
@@ -68,10 +227,11 @@ public class Inventory {
             return true;
         }
         
-        int currentQuantity = items.getOrDefault(item, 0);
-        if (currentQuantity < quantity) return false;
-        if (currentQuantity == quantity) items.remove(item);
-        else items.put(item, currentQuantity - quantity);
+        if (item == null || quantity < 0) return false;
+        if (quantity == 0) return true;
+        int slot = slotOf(item.getName());
+        if (slot < 0 || slotQuantities[slot] < quantity) return false;
+        takeFromSlot(slot, quantity);
         return true;
     }
 
@@ -80,7 +240,8 @@ public class Inventory {
             return equipmentManager.hasEquipment(item.getName()) ? 1 : 0;
         }
         
-        return items.getOrDefault(item, 0);
+        int slot = item == null ? -1 : slotOf(item.getName());
+        return slot < 0 ? 0 : slotQuantities[slot];
     }
 
     public int getItemCount(String name) {
@@ -88,13 +249,8 @@ public class Inventory {
             return 1;
         }
         
-        int total = 0;
-        for (var e : items.entrySet()) {
-            if (e.getKey().getName().equals(name)) {
-                total += e.getValue();
-            }
-        }
-        return total;
+        int slot = slotOf(name);
+        return slot < 0 ? 0 : slotQuantities[slot];
     }
 
     /** Remove up to `quantity` items matching `name`. Returns true if successful. */
@@ -104,20 +260,10 @@ public class Inventory {
             return equipmentManager.removeEquipment(name);
         }
         
-        int need = quantity;
-        List<Item> toRemove = new ArrayList<>();
-        for (var e : items.entrySet()) {
-            if (need == 0) break;
-            Item it = e.getKey();
-            int cnt = e.getValue();
-            if (it.getName().equals(name)) {
-                int take = Math.min(cnt, need);
-                for (int i = 0; i < take; i++) toRemove.add(it);
-                need -= take;
-            }
-        }
-        if (need > 0) return false;
-        for (Item it : toRemove) removeItem(it, 1);
+        if (quantity <= 0) return true;
+        int slot = slotOf(name);
+        if (slot < 0 || slotQuantities[slot] < quantity) return false;
+        takeFromSlot(slot, quantity); // Satu operasi, berapa pun jumlahnya
         return true;
     }
 
@@ -125,8 +271,8 @@ public class Inventory {
         System.out.println("=== INVENTORY ===");
         
         System.out.println("Items:");
-        for (Map.Entry<Item, Integer> entry : items.entrySet()) {
-            System.out.println("- " + entry.getKey().getName() + " x" + entry.getValue());
+        for (int i = 0; i < slotCount; i++) {
+            System.out.println("- " + slotItems[i].getName() + " x" + slotQuantities[i]);
         }
         
         equipmentManager.showEquipmentStatus();
@@ -134,19 +280,18 @@ public class Inventory {
 
     public List<Seed> getAllOwnedSeeds() {
         List<Seed> ownedSeeds = new ArrayList<>();
-        for (Item item : items.keySet()) { // Iterate through the keys of the map
-            if (item instanceof Seed) {
-                ownedSeeds.add((Seed) item);
+        for (int i = 0; i < slotCount; i++) {
+            if (slotItems[i] instanceof Seed) {
+                ownedSeeds.add((Seed) slotItems[i]);
             }
         }
         return ownedSeeds;
     }
     
     public Item findItemByName(String name){
-        for(Item item : items.keySet()){
-            if(item.getName().equalsIgnoreCase(name)){
-                return item;
-            }
+        int slot = slotByName.get(name);
+        if (slot >= 0) {
+            return slotItems[slot];
         }
 
         if (equipmentManager.hasEquipment(name)) {
@@ -0,0 +1,14 @@
+package core.player;
+
+import item.Item;
+
+/**
+ * Notified by an {@link Inventory} after the quantity of one item changed.
+ * {@code oldQuantity == 0} means the item was added, {@code newQuantity == 0} that it was removed.
+ * Equipment is kept by the EquipmentManager and is not reported here.
+ * Called on the thread that changed the inventory.
+ */
+@FunctionalInterface
+public interface InventoryListener {
+    void onItemChanged(Item item, int oldQuantity, int newQuantity);
+}
@@ -0,0 +1,98 @@
+package core.player;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from item name to slot number, ignoring case.
+ *
+ * Names are hashed and compared case-insensitively without building a lower-case copy, so a
+ * lookup allocates nothing. Linear probing with backward-shift deletion keeps every probe
+ * chain free of tombstones; the table is at most half full.
+ */
+final class ItemSlotIndex {
+    private static final int EMPTY = -1;
+
+    private String[] names;
+    private int[] slots;
+    private int size;
+
+    ItemSlotIndex() {
+        names = new String[16];
+        slots = new int[16];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /** Slot of {@code name} (any case), or -1 if absent. */
+    int get(String name) {
+        int mask = names.length - 1;
+        for (int i = hash(name) & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return slots[i];
+            }
+        }
+        return EMPTY;
+    }
+
+    /** Maps {@code name} to {@code slot}, replacing the slot of an equal name. */
+    void put(String name, int slot) {
+        if ((size + 1) * 2 > names.length) {
+            grow();
+        }
+        int mask = names.length - 1;
+        int i = hash(name) & mask;
+        while (slots[i] != EMPTY) {
+            if (names[i].equalsIgnoreCase(name)) {
+                slots[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        names[i] = name;
+        slots[i] = slot;
+        size++;
+    }
+
+    void remove(String name) {
+        int mask = names.length - 1;
+        int i = hash(name) & mask;
+        while (slots[i] != EMPTY && !names[i].equalsIgnoreCase(name)) {
+            i = (i + 1) & mask;
+        }
+        if (slots[i] == EMPTY) return;
+        size--;
+        // Geser entri berikutnya ke lubang selama posisi idealnya tidak dilewati
+        int hole = i;
+        for (int j = (hole + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+            int ideal = hash(names[j]) & mask;
+            if (((j - ideal) & mask) >= ((j - hole) & mask)) {
+                names[hole] = names[j];
+                slots[hole] = slots[j];
+                hole = j;
+            }
+        }
+        names[hole] = null;
+        slots[hole] = EMPTY;
+    }
+
+    private void grow() {
+        String[] oldNames = names;
+        int[] oldSlots = slots;
+        names = new String[oldNames.length * 2];
+        slots = new int[oldSlots.length * 2];
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldSlots[i] != EMPTY) {
+                put(oldNames[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,8 +1,8 @@
 package core.player;
 
 import core.world.Tile;
-import item.Equipment;
 import item.EquipmentManager;
+import item.EquipmentRegistry;
 import npc.NPC;
 import java.util.HashMap;
 import core.world.ShippingBin;
@@ -32,7 +32,7 @@ public class Player {
         this.farmName = "My Farm";
         this.x = 0;
         this.y = 0;
-        this.playerStats = new PlayerStats();
+        this.playerStats = new PlayerStats(gold.getJournal());
         this.equipmentManager = new EquipmentManager();
         this.inventory = new Inventory(this.playerStats, this.equipmentManager);
         this.shippingBin = null;
@@ -41,10 +41,10 @@ public class Player {
     }
 
     private void giveStartingEquipment() {
-        equipmentManager.addEquipment(new Equipment("Hoe", 0, 0));
-        equipmentManager.addEquipment(new Equipment("Watering Can", 0, 0));
-        equipmentManager.addEquipment(new Equipment("Pickaxe", 0, 0));
-        equipmentManager.addEquipment(new Equipment("Fishing Rod", 0, 0));
+        equipmentManager.addEquipment(EquipmentRegistry.getEquipmentByName("Hoe"));
+        equipmentManager.addEquipment(EquipmentRegistry.getEquipmentByName("Watering Can"));
+        equipmentManager.addEquipment(EquipmentRegistry.getEquipmentByName("Pickaxe"));
+        equipmentManager.addEquipment(EquipmentRegistry.getEquipmentByName("Fishing Rod"));
     }
     
     public String getName(){
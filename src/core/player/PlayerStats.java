@@ -1,18 +1,27 @@
 package core.player;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import item.Fish;
+import item.Item;
+import item.ItemIds;
 import core.world.Season;
 import fishing.FishType;
 
 public class PlayerStats {
-    private Map<String, Integer> itemCount;
+    /** What changed, as reported to a {@link PlayerStatsListener}. */
+    public enum Stat {
+        ITEM_COUNT, GOLD_EARNED, GOLD_SPENT, NPC_CHAT, NPC_GIFT, FISH_CAUGHT, CROPS_HARVESTED, DAYS_PLAYED, MILESTONES
+    }
+
+    private final List<PlayerStatsListener> listeners = new CopyOnWriteArrayList<>();
+    private int[] itemCountById; // Index = ItemIds id; diperbesar kalau ada nama item baru
     private static final Map<String, List<String>> CATEGORY_MAP = new HashMap<>();
-    private int totalGoldEarned;
-    private int totalGoldSpent = 0;
-    private Map<Season, Integer> seasonalIncome = new HashMap<>();
-    private Map<Season, Integer> seasonalExpenditure = new HashMap<>();
+    private final GoldJournal goldJournal; // Sumber pendapatan/pengeluaran; tidak ada counter terpisah
     private Map<Season, Integer> daysPlayedPerSeason = new HashMap<>();
     private Map<String, Integer> npcChatFrequency = new HashMap<>();
     private Map<String, Integer> npcGiftFrequency = new HashMap<>();
@@ -21,17 +30,33 @@ public class PlayerStats {
     private int totalCropsHarvested = 0;
     private boolean milestonesCheckedAndDisplayed = false;
 
+    /** Stats with their own, empty gold journal. */
     public PlayerStats() {
-        itemCount = new HashMap<>();
-        totalGoldEarned = 0;
+        this(new GoldJournal());
+    }
+
+    /** Stats whose income and expenditure are views of {@code goldJournal}, normally the player's {@link Gold#getJournal()}. */
+    public PlayerStats(GoldJournal goldJournal) {
+        if (goldJournal == null) {
+            throw new IllegalArgumentException("Jurnal emas tidak boleh null");
+        }
+        this.goldJournal = goldJournal;
+        goldJournal.addListener((source, amount, season, itemId) -> {
+            if (source == GoldJournal.Source.SALE) {
+                notifyChanged(Stat.GOLD_EARNED);
+            } else if (source == GoldJournal.Source.PURCHASE) {
+                notifyChanged(Stat.GOLD_SPENT);
+            }
+        });
         initializeAllItems();
         initializeCategories();
     }
 
     private void initializeAllItems() {
         for(String item : getAllItems()){
-            itemCount.put(item, 0);
+            ItemIds.intern(item); // Supaya item penting punya id dan tetap tampil walau jumlahnya 0
         }
+        itemCountById = new int[ItemIds.count()];
     }
 
     private void initializeCategories(){
@@ -74,12 +99,130 @@ public class PlayerStats {
             .toList();
     }
 
+    /** Registers a listener that hears about every statistic change. */
+    public void addStatsListener(PlayerStatsListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeStatsListener(PlayerStatsListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyChanged(Stat stat) {
+        for (PlayerStatsListener listener : listeners) {
+            listener.onStatChanged(stat);
+        }
+    }
+
+    /**
+     * Writes every statistic to {@code out}; {@link #readState(DataInput)} reads it back.
+     * Items, NPCs, seasons and fish types are written by name so the data survives reordering.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        int ids = Math.min(itemCountById.length, ItemIds.count());
+        int nonZero = 0;
+        for (int id = 0; id < ids; id++) {
+            if (itemCountById[id] != 0) nonZero++;
+        }
+        out.writeInt(nonZero);
+        for (int id = 0; id < ids; id++) {
+            if (itemCountById[id] != 0) {
+                out.writeUTF(ItemIds.nameOf(id));
+                out.writeInt(itemCountById[id]);
+            }
+        }
+        out.writeInt(getTotalGoldEarned());
+        out.writeInt(getTotalGoldSpent());
+        out.writeInt(totalFishCaught);
+        out.writeInt(totalCropsHarvested);
+        out.writeBoolean(milestonesCheckedAndDisplayed);
+        writeCounts(out, goldJournal.incomeBySeason());
+        writeCounts(out, goldJournal.expenditureBySeason());
+        writeCounts(out, daysPlayedPerSeason);
+        writeCounts(out, npcChatFrequency);
+        writeCounts(out, npcGiftFrequency);
+        writeCounts(out, fishCaughtByType);
+    }
+
+    /** Replaces every statistic with what {@link #writeState(DataOutput)} wrote. */
+    public void readState(DataInput in) throws IOException {
+        Arrays.fill(itemCountById, 0);
+        for (int i = in.readInt(); i > 0; i--) {
+            String itemName = in.readUTF();
+            int id = ItemIds.intern(itemName);
+            if (id >= itemCountById.length) {
+                itemCountById = Arrays.copyOf(itemCountById, Math.max(id + 1, itemCountById.length * 2));
+            }
+            itemCountById[id] = in.readInt();
+        }
+        int savedGoldEarned = in.readInt();
+        int savedGoldSpent = in.readInt();
+        totalFishCaught = in.readInt();
+        totalCropsHarvested = in.readInt();
+        milestonesCheckedAndDisplayed = in.readBoolean();
+        Map<Season, Integer> savedIncome = new HashMap<>();
+        Map<Season, Integer> savedExpenditure = new HashMap<>();
+        readCounts(in, savedIncome, Season::valueOf);
+        readCounts(in, savedExpenditure, Season::valueOf);
+        readCounts(in, daysPlayedPerSeason, Season::valueOf);
+        readCounts(in, npcChatFrequency, name -> name);
+        readCounts(in, npcGiftFrequency, name -> name);
+        readCounts(in, fishCaughtByType, FishType::valueOf);
+        // Save dengan jurnal sudah mengisi jurnalnya; save lama hanya punya total ini
+        goldJournal.carryOver(savedIncome, savedExpenditure, savedGoldEarned, savedGoldSpent);
+        for (Stat stat : Stat.values()) {
+            notifyChanged(stat);
+        }
+    }
+
+    private static void writeCounts(DataOutput out, Map<?, Integer> counts) throws IOException {
+        out.writeInt(counts.size());
+        for (Map.Entry<?, Integer> entry : counts.entrySet()) {
+            out.writeUTF(entry.getKey().toString());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static <K> void readCounts(DataInput in, Map<K, Integer> counts, java.util.function.Function<String, K> key) throws IOException {
+        counts.clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            String name = in.readUTF();
+            int count = in.readInt();
+            try {
+                counts.put(key.apply(name), count);
+            } catch (IllegalArgumentException e) {
+                // Nilai enum dari versi lain; dilewati
+            }
+        }
+    }
+
     public void addItem(String itemName, int amount) {
-        itemCount.put(itemName, itemCount.getOrDefault(itemName, 0) + amount);
+        int id = ItemIds.intern(itemName);
+        if (id >= itemCountById.length) {
+            itemCountById = Arrays.copyOf(itemCountById, Math.max(id + 1, itemCountById.length * 2));
+        }
+        itemCountById[id] += amount;
+        notifyChanged(Stat.ITEM_COUNT);
+    }
+
+    /** Counts a batch of items with a single {@link Stat#ITEM_COUNT} notification. */
+    public void addItems(Map<Item, Integer> items) {
+        for (Map.Entry<Item, Integer> entry : items.entrySet()) {
+            int id = entry.getKey().getId();
+            if (id >= itemCountById.length) {
+                itemCountById = Arrays.copyOf(itemCountById, Math.max(id + 1, itemCountById.length * 2));
+            }
+            itemCountById[id] += entry.getValue();
+        }
+        notifyChanged(Stat.ITEM_COUNT);
     }
 
     public int getItemCount(String itemName) {
-        return itemCount.getOrDefault(itemName, 0);
+        int id = ItemIds.idOf(itemName);
+        return id >= 0 && id < itemCountById.length ? itemCountById[id] : 0;
     }
 
     public int getTotalInCategory(String category) {
@@ -96,41 +239,34 @@ public class PlayerStats {
         // Filter untuk hanya menampilkan item dengan jumlah > 0
         // Atau item yang memang ada di CATEGORY_MAP (untuk memastikan item penting tetap terlihat walau jumlahnya 0)
         List<String> allDefinedItems = getAllItems();
-        for (Map.Entry<String, Integer> entry : itemCount.entrySet()) {
-            if (entry.getValue() > 0 || allDefinedItems.contains(entry.getKey())) {
-                System.out.println("Item: " + entry.getKey() + " | Jumlah: " + entry.getValue());
+        int ids = Math.min(itemCountById.length, ItemIds.count());
+        for (int id = 0; id < ids; id++) {
+            String itemName = ItemIds.nameOf(id);
+            if (itemCountById[id] > 0 || allDefinedItems.contains(itemName)) {
+                System.out.println("Item: " + itemName + " | Jumlah: " + itemCountById[id]);
             }
         }
-        System.out.println("Total Gold Earned: " + totalGoldEarned + "g");
+        System.out.println("Total Gold Earned: " + getTotalGoldEarned() + "g");
         System.out.println("-----------------------");
     }
 
-    public void addGoldEarned(int amount) {
-        if (amount < 0) {
-            throw new IllegalArgumentException("Cannot add negative gold earned.");
-        }
-        this.totalGoldEarned += amount;
-    }
-
+    /** Gold from sales; see {@link Gold#credit}. */
     public int getTotalGoldEarned() {
-        return totalGoldEarned;
+        return goldJournal.getTotalIncome();
     }
 
-    public void addGoldSpent(int amount, Season currentSeason) {
-        if (amount < 0) {
-            //System.err.println("Cannot spend negative gold. Amount: " + amount);
-            return; // Or throw new IllegalArgumentException("Cannot spend negative gold.");
-        }
-        this.totalGoldSpent += amount;
-        this.seasonalExpenditure.merge(currentSeason, amount, Integer::sum);
+    public GoldJournal getGoldJournal() {
+        return goldJournal;
     }
 
     public void incrementNpcChatFrequency(String npcName) {
         this.npcChatFrequency.merge(npcName, 1, Integer::sum);
+        notifyChanged(Stat.NPC_CHAT);
     }
 
     public void incrementNpcGiftFrequency(String npcName) {
         this.npcGiftFrequency.merge(npcName, 1, Integer::sum);
+        notifyChanged(Stat.NPC_GIFT);
     }
 
     public void recordFishCaught(Fish fish) {
@@ -139,28 +275,31 @@ public class PlayerStats {
         this.fishCaughtByType.merge(fish.getType(), 1, Integer::sum);
         // Also ensure the specific fish is tracked by addItem if not already
         // addItem(fish.getName(), 1); // This is likely already handled by inventory.addItem
+        notifyChanged(Stat.FISH_CAUGHT);
     }
 
     public void recordCropHarvested(String cropName, int quantity) {
         this.totalCropsHarvested += quantity;
         // addItem(cropName, quantity); // This is likely already handled by inventory.addItem
+        notifyChanged(Stat.CROPS_HARVESTED);
     }
 
 
     public void incrementDaysPlayedInSeason(Season currentSeason) {
         this.daysPlayedPerSeason.merge(currentSeason, 1, Integer::sum);
+        notifyChanged(Stat.DAYS_PLAYED);
     }
 
     public int getTotalGoldSpent() {
-        return totalGoldSpent;
+        return goldJournal.getTotalExpenditure();
     }
 
     public Map<Season, Integer> getSeasonalIncome() {
-        return new HashMap<>(seasonalIncome); // Return a copy
+        return goldJournal.incomeBySeason();
     }
 
     public Map<Season, Integer> getSeasonalExpenditure() {
-        return new HashMap<>(seasonalExpenditure); // Return a copy
+        return goldJournal.expenditureBySeason();
     }
 
     public Map<Season, Integer> getDaysPlayedPerSeason() {
@@ -193,16 +332,6 @@ public class PlayerStats {
 
     public void setMilestonesDisplayed(boolean status) {
         this.milestonesCheckedAndDisplayed = status;
+        notifyChanged(Stat.MILESTONES);
     }
-
-    // Modification to existing addGoldEarned:
-    // public void addGoldEarned(int amount) { // OLD
-    public void addGoldEarned(int amount, Season currentSeason) { // NEW
-        if (amount < 0) {
-            throw new IllegalArgumentException("Cannot add negative gold earned.");
-        }
-        this.totalGoldEarned += amount;
-        this.seasonalIncome.merge(currentSeason, amount, Integer::sum); // NEW LINE
-    }
-
 }
\ No newline at end of file
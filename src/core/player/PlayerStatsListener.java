@@ -0,0 +1,9 @@
+package core.player;
+
+/**
+ * Notified by {@link PlayerStats} after one statistic changed. Called on the thread that changed it.
+ */
+@FunctionalInterface
+public interface PlayerStatsListener {
+    void onStatChanged(PlayerStats.Stat stat);
+}
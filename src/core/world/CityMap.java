@@ -1,13 +1,17 @@
 package core.world;
 
+import system.GameLogger;
 import core.player.Player;
 import java.util.ArrayList;
 import java.util.List;
 
 public class CityMap implements GameMap {
+    private static final GameLogger LOG = GameLogger.get(CityMap.class);
+
     public static final int SIZE = 20;
     protected Tile[][] grid = new Tile[SIZE][SIZE];
     protected List<DeployedObject> objects = new ArrayList<>();
+    private final WalkabilityGrid walkability = new WalkabilityGrid(SIZE, SIZE, this::computeWalkable);
     private String name = "City Map";
 
     // City building/object symbols (matching constants in Tile.java)
@@ -38,6 +42,7 @@ public class CityMap implements GameMap {
     public CityMap(Player player) {
         initTiles();          
         placeCityBuildings(); 
+        walkability.rebuild();
         spawnPlayer(player);  
     }
 
@@ -49,6 +54,7 @@ public class CityMap implements GameMap {
         for (int x = 0; x < SIZE; x++) {
             for (int y = 0; y < SIZE; y++) {
                 grid[x][y] = new Tile(x, y);
+                grid[x][y].setChangeListener((tile, oldType, oldCrop) -> walkability.refresh(tile.getX(), tile.getY()));
                 grid[x][y].deployObject(AIR_SYMBOL);
             }
         }
@@ -196,7 +202,7 @@ public class CityMap implements GameMap {
         deployObject(new DeployedObject(SIZE/2, SIZE - 1, 1, 1, EXIT_SYMBOL) {
             @Override
             public void interact(Player p, FarmMap map) {
-                System.out.println("You are at the exit to the Farm!");
+                LOG.debug("You are at the exit to the Farm!");
             }
             @Override public boolean isWalkable() {
                 return true; // Exit is walkable
@@ -206,7 +212,7 @@ public class CityMap implements GameMap {
         deployObject(new DeployedObject(SIZE/2 - 1, SIZE - 1, 1, 1, EXIT_SYMBOL) {
             @Override
             public void interact(Player p, FarmMap map) {
-                System.out.println("You are at the exit to the Farm!");
+                LOG.debug("You are at the exit to the Farm!");
             }
             @Override public boolean isWalkable() {
                 return true; // Exit is walkable
@@ -228,6 +234,7 @@ public class CityMap implements GameMap {
                 }
             }
         }
+        walkability.refreshArea(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
     }
 
     private void spawnPlayer(Player player) {
@@ -245,9 +252,18 @@ public class CityMap implements GameMap {
         return grid[x][y];
     }
 
+    @Override
+    public int getWalkabilityVersion() {
+        return walkability.getVersion();
+    }
+
     @Override
     public boolean isWalkable(int x, int y) {
-        if (!inBounds(x, y)) return false;
+        return walkability.isWalkable(x, y);
+    }
+
+    // Aturan lengkap; hasilnya di-cache per tile di walkability
+    private boolean computeWalkable(int x, int y) {
         for (DeployedObject obj : objects) {
             if (obj.occupies(x, y)) {
                 return obj.isWalkable();
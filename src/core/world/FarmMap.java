@@ -1,48 +1,198 @@
 package core.world;
 
+import system.GameLogger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import core.house.*;
 import core.player.Player;
 import item.Crop;
 
 
 public class FarmMap implements GameMap {
+    private static final GameLogger LOG = GameLogger.get(FarmMap.class);
+
     public static final int SIZE = 32;
-    protected Tile[][] grid = new Tile[SIZE][SIZE];
+    public static final int MAX_SIZE = 16384; // Per sisi; indeks tile dipak ke satu int
+    private final int width;
+    private final int height;
+    private final PackedTileStore tiles; // 2 byte per tile di chunk yang pernah ditulis; crop di tabel samping
+    private final TileChangeListener tileListener = this::onTileChanged;
+    private final List<TileChangeListener> tileObservers = new CopyOnWriteArrayList<>(); // Mis. renderer
+    private final WalkabilityGrid walkability;
     protected List<DeployedObject> objects = new ArrayList<>();
     private final Random rng = new Random();
     private String name = "Farm Map";
 
     public FarmMap(Player player) {
+        this(player, SIZE);
+    }
+
+    /**
+     * Creates a square farm of {@code size} x {@code size} tiles. The game uses {@link #SIZE};
+     * other sizes exist for benchmarks and bigger maps.
+     */
+    public FarmMap(Player player, int size) {
+        this(player, size, size);
+    }
+
+    /**
+     * Creates a farm of {@code width} x {@code height} tiles. Tile state is packed into byte arrays
+     * per chunk, allocated on the first change, so a large, mostly untouched farm costs little
+     * more than its walkability bits. {@link #getTileAt(int, int)} returns a lightweight view.
+     * @throws IllegalArgumentException if a side is smaller than {@link #SIZE} or larger than {@link #MAX_SIZE}.
+     */
+    public FarmMap(Player player, int width, int height) {
+        // Penempatan rumah/kolam acak butuh ruang minimal SIZE
+        if (width < SIZE || height < SIZE || width > MAX_SIZE || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Ukuran FarmMap harus antara " + SIZE + " dan " + MAX_SIZE
+                    + " per sisi, diberikan: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = new PackedTileStore(width, height);
+        this.walkability = new WalkabilityGrid(width, height, this::computeWalkable);
         initTiles();
         placeHouseAndPond();
         placeShippingBin();
         spawnPlayer(player); // Pass player to spawn method
     }
 
+    /** Resets every tile to untilled ground. Deployed objects stay where they are. */
     public void initTiles() {
-        for (int x = 0; x < SIZE; x++) {
-            for (int y = 0; y < SIZE; y++) {
-                grid[x][y] = new Tile(x, y);
+        tiles.clear();
+        // Tanah default selalu walkable; cukup perbarui area objek
+        walkability.fill(true);
+        for (DeployedObject obj : objects) {
+            walkability.refreshArea(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+        }
+    }
+
+    private void onTileChanged(Tile tile, Tile.TileType oldType, Crop oldCrop) {
+        walkability.refresh(tile.getX(), tile.getY()); // Index crop sudah dijaga PackedTileStore
+        for (TileChangeListener observer : tileObservers) {
+            observer.onTileChanged(tile, oldType, oldCrop);
+        }
+    }
+
+    /**
+     * Registers an observer for tile changes on this farm (till, plant, harvest, deploy), also
+     * called for every planted tile after daily crop growth. Tiles only change on the simulation
+     * thread (day rollover included), or on the caller's thread while the clock is stopped, so
+     * calls never overlap. Only state the listener shares with the EDT, such as a panel's dirty
+     * set, needs to be handed over safely.
+     */
+    public void addTileChangeListener(TileChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        tileObservers.add(listener);
+    }
+
+    public void removeTileChangeListener(TileChangeListener listener) {
+        tileObservers.remove(listener);
+    }
+
+    PackedTileStore tileStore() {
+        return tiles;
+    }
+
+    /** Replaces the deployed objects without touching tiles; used when a save game is loaded. */
+    void restoreObjects(List<DeployedObject> restored) {
+        objects.clear();
+        objects.addAll(restored);
+    }
+
+    /** Recomputes walkability for the whole map after tiles were restored in bulk. */
+    void refreshAllWalkability() {
+        // Tanah default selalu walkable; hanya chunk yang pernah ditulis perlu dihitung
+        walkability.fill(true);
+        for (int c = 0; c < tiles.chunkSlots(); c++) {
+            if (tiles.chunkTypes(c) != null) {
+                int x = tiles.chunkOriginX(c);
+                int y = tiles.chunkOriginY(c);
+                walkability.refreshArea(x, y, Math.min(PackedTileStore.CHUNK_SIZE, width - x), Math.min(PackedTileStore.CHUNK_SIZE, height - y));
             }
         }
     }
 
+    /** Number of tiles that currently hold a crop. */
+    public int getPlantedTileCount() {
+        return tiles.getPlantedCount();
+    }
+
+    /** Number of tile chunks allocated so far; untouched chunks cost nothing. */
+    public int getMaterializedChunkCount() {
+        return tiles.getChunkCount();
+    }
+
+    /** Bytes used by the packed tile arrays, about two per tile in allocated chunks. */
+    public long getTileStorageBytes() {
+        return tiles.getStorageBytes();
+    }
+
+    /**
+     * A view of the tile at (x,y). Views are created per call and backed by the map's arrays,
+     * so changes through any view are seen by all of them.
+     */
     @Override
     public Tile getTileAt(int x, int y) {
-        if (x < 0 || y < 0 || x >= SIZE || y >= SIZE) {
+        if (!inBounds(x, y)) {
+            return null;
+        }
+        PackedTileView view = new PackedTileView(x, y, tiles);
+        view.setChangeListener(tileListener);
+        return view;
+    }
+
+    /**
+     * Like {@link #getTileAt(int, int)}, but default ground comes back as a shared read-only
+     * tile instead of a new view. Do not modify the result.
+     */
+    @Override
+    public Tile peekTileAt(int x, int y) {
+        if (!inBounds(x, y)) {
             return null;
         }
-        return grid[x][y];
+        return tiles.isDefault(x, y) ? PackedTileStore.DEFAULT_TILE : getTileAt(x, y);
+    }
+
+    // Akses langsung ke array, tanpa objek Tile; untuk scan seluruh peta (mis. rendering)
+
+    /** Type of the tile at (x,y); the coordinates must be inside the map. */
+    public Tile.TileType getTileTypeAt(int x, int y) {
+        checkBounds(x, y);
+        return tiles.typeAt(x, y);
+    }
+
+    /** Display symbol of the tile at (x,y); the coordinates must be inside the map. */
+    public char getDisplayCharAt(int x, int y) {
+        checkBounds(x, y);
+        return tiles.symbolAt(x, y);
+    }
+
+    /** Crop planted at (x,y), or null; the coordinates must be inside the map. */
+    public Crop getCropAt(int x, int y) {
+        checkBounds(x, y);
+        return tiles.cropAt(x, y);
+    }
+
+    private void checkBounds(int x, int y) {
+        if (!inBounds(x, y)) {
+            throw new IllegalArgumentException("Koordinat (" + x + "," + y + ") di luar FarmMap " + width + "x" + height);
+        }
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
     }
 
     private void placeHouseAndPond() {
         int hx, hy;
         while (true) {
-            hx = rng.nextInt(SIZE - 10);
-            hy = rng.nextInt(SIZE - 7);
+            hx = rng.nextInt(width - 10);
+            hy = rng.nextInt(height - 7);
             if (areaFree(hx, hy, 6, 6)) break;
         }
         House house = new House(hx, hy, 6, 6, 'h');
@@ -50,11 +200,11 @@ public class FarmMap implements GameMap {
 
         int px, py;
         while (true) {
-            px = rng.nextInt(SIZE - 4);
-            py = rng.nextInt(SIZE - 3);
+            px = rng.nextInt(width - 4);
+            py = rng.nextInt(height - 3);
 
-            px = Math.max(0, Math.min(px, SIZE - 4));
-            py = Math.max(0, Math.min(py, SIZE - 3));
+            px = Math.max(0, Math.min(px, width - 4));
+            py = Math.max(0, Math.min(py, height - 3));
 
             if (areaFree(px, py, 4, 3) && (py > hy + 6 || py < hy - 3) && (px > hx + 10 || px < hx - 4)) break;
         }
@@ -71,27 +221,35 @@ public class FarmMap implements GameMap {
         int bx = house.getX() + house.getWidth() + 1;
         int by = house.getY();
 
-        bx = Math.min(bx, SIZE - 3);
+        bx = Math.min(bx, width - 3);
         ShippingBin bin = new ShippingBin(bx, by, 3, 2, 's');
         deployObject(bin);
     }
 
-    private void deployObject(DeployedObject obj) {
+    /**
+     * Places {@code obj} on the farm and marks its tiles as deployed.
+     * @throws IllegalArgumentException if the object does not fit inside the map.
+     */
+    public void deployObject(DeployedObject obj) {
+        if (obj.getX() < 0 || obj.getY() < 0 || obj.getX() + obj.getWidth() > width || obj.getY() + obj.getHeight() > height) {
+            throw new IllegalArgumentException("Objek '" + obj.getSymbol() + "' di luar FarmMap: (" + obj.getX() + "," + obj.getY() + ")");
+        }
         objects.add(obj);
         for (int dx = 0; dx < obj.width; dx++) {
             for (int dy = 0; dy < obj.height; dy++) {
-                grid[obj.getX() + dx][obj.getY() + dy].deployObject(obj.getSymbol());
+                getTileAt(obj.getX() + dx, obj.getY() + dy).deployObject(obj.getSymbol());
             }
         }
+        walkability.refreshArea(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
     }
 
     private boolean areaFree(int x, int y, int w, int h) {
         for (int dx = 0; dx < w; dx++) {
             for (int dy = 0; dy < h; dy++) {
-                if (x + dx < 0 || x + dx >= SIZE || y + dy < 0 || y + dy >= SIZE) {
+                if (!inBounds(x + dx, y + dy)) {
                     return false;
                 }
-                if (!grid[x + dx][y + dy].isWalkable()) {
+                if (!tiles.isWalkable(x + dx, y + dy)) {
                     return false;
                 }
             }
@@ -108,8 +266,8 @@ public class FarmMap implements GameMap {
         int px = house.getX() + house.getWidth() / 2;
         int py = house.getY() + house.getHeight() + 1;
 
-        if (py >= SIZE) py = SIZE - 1;
-        if (px >= SIZE) px = SIZE - 1;
+        if (py >= height) py = height - 1;
+        if (px >= width) px = width - 1;
 
         while (!isWalkable(px, py) && py > 0) {
             py--;
@@ -120,7 +278,7 @@ public class FarmMap implements GameMap {
                 for (int dx = -3; dx <= 3 && !found; dx++) {
                     int newX = house.getX() + house.getWidth() / 2 + dx;
                     int newY = house.getY() + house.getHeight() + 1 + dy;
-                    if (newX >= 0 && newX < SIZE && newY >= 0 && newY < SIZE && isWalkable(newX, newY)) {
+                    if (inBounds(newX, newY) && isWalkable(newX, newY)) {
                         px = newX;
                         py = newY;
                         found = true;
@@ -132,10 +290,19 @@ public class FarmMap implements GameMap {
         // Player location set by GameManager when setting current map
     }
 
+    @Override
+    public int getWalkabilityVersion() {
+        return walkability.getVersion();
+    }
+
     @Override
     public boolean isWalkable(int x, int y) {
-        if (x < 0 || y < 0 || x >= SIZE || y >= SIZE) return false;
-        if (!grid[x][y].isWalkable()) return false;
+        return walkability.isWalkable(x, y);
+    }
+
+    // Aturan lengkap; hasilnya di-cache per tile di walkability
+    private boolean computeWalkable(int x, int y) {
+        if (!tiles.isWalkable(x, y)) return false;
         for (DeployedObject o : objects) {
             if (o.occupies(x, y)) return false;
         }
@@ -145,7 +312,7 @@ public class FarmMap implements GameMap {
     @Override
     public boolean atEdge(Player player) {
         int x = player.getX(), y = player.getY();
-        return x == 0 || y == 0 || x == SIZE - 1 || y == SIZE - 1;
+        return x == 0 || y == 0 || x == width - 1 || y == height - 1;
     }
 
     @Override
@@ -153,7 +320,7 @@ public class FarmMap implements GameMap {
         int newX = player.getX() + dx;
         int newY = player.getY() + dy;
 
-        if (newX >= 0 && newX < SIZE && newY >= 0 && newY < SIZE && isWalkable(newX, newY)) {
+        if (inBounds(newX, newY) && isWalkable(newX, newY)) {
             player.setPosition(newX, newY);
             return true;
         }
@@ -163,12 +330,12 @@ public class FarmMap implements GameMap {
     @Override
     public void displayMap(Player player) {
         System.out.println("--- " + getName() + " ---");
-        for (int y = 0; y < SIZE; y++) {
-            for (int x = 0; x < SIZE; x++) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 if (player != null && player.getX() == x && player.getY() == y) {
                     System.out.print("P ");
                 } else {
-                    System.out.print(grid[x][y].displayChar() + " ");
+                    System.out.print(tiles.symbolAt(x, y) + " ");
                 }
             }
             System.out.println();
@@ -185,20 +352,36 @@ public class FarmMap implements GameMap {
         return name;
     }
 
+    /** The longer side; see {@link #getWidth()} and {@link #getHeight()}. */
     @Override
     public int getSize() {
-        return SIZE;
+        return Math.max(width, height);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
     }
 
     public void updateDailyCropGrowth(int currentDay, Season currentSeason, boolean wasYesterdayRainy) {
-        System.out.println("FarmMap: Updating daily crop growth for day " + currentDay + ". Yesterday rainy: " + wasYesterdayRainy);
-        for (int x = 0; x < SIZE; x++) {
-            for (int y = 0; y < SIZE; y++) {
-                Tile tile = grid[x][y];
-                if (tile != null && tile.getType() == Tile.TileType.PLANTED && tile.getPlantedCrop() != null) {
-                    Crop crop = tile.getPlantedCrop();
-                    // Pass necessary info to crop's newDay method
-                    crop.newDay(currentDay, currentSeason, wasYesterdayRainy);
+        LOG.debug("FarmMap: Updating daily crop growth for day " + currentDay + ". Yesterday rainy: " + wasYesterdayRainy
+                + ". Planted tiles: " + tiles.getPlantedCount());
+        // Mundur supaya aman kalau tile terhapus dari index selama iterasi
+        for (int i = tiles.getPlantedCount() - 1; i >= 0; i--) {
+            Crop crop = tiles.getPlantedCrop(i);
+            if (crop != null) {
+                // Pass necessary info to crop's newDay method
+                crop.newDay(currentDay, currentSeason, wasYesterdayRainy);
+                if (!tileObservers.isEmpty()) {
+                    Tile tile = getTileAt(tiles.getPlantedX(i), tiles.getPlantedY(i));
+                    for (TileChangeListener observer : tileObservers) {
+                        observer.onTileChanged(tile, Tile.TileType.PLANTED, crop);
+                    }
                 }
             }
         }
@@ -206,9 +389,9 @@ public class FarmMap implements GameMap {
 
     // --- Map transition helpers (see GameMap interface) ---
     // Map transition helpers (tidak pakai @Override karena belum ada di interface GameMap)
-    public int getExitToCityX() { return SIZE / 2; }
-    public int getExitToCityY() { return SIZE - 1; }
-    public int getEntryFromCityX() { return SIZE / 2; }
+    public int getExitToCityX() { return width / 2; }
+    public int getExitToCityY() { return height - 1; }
+    public int getEntryFromCityX() { return width / 2; }
     public int getEntryFromCityY() { return 0; }
 
     // Tetap pertahankan helper untuk house exit agar tidak break logic lain
@@ -218,7 +401,7 @@ public class FarmMap implements GameMap {
                 return obj.getX() + obj.getWidth() / 2;
             }
         }
-        return SIZE / 2;
+        return width / 2;
     }
     public int getHouseExitSpawnY() {
         for (DeployedObject obj : objects) {
@@ -226,6 +409,6 @@ public class FarmMap implements GameMap {
                 return obj.getY() + obj.getHeight();
             }
         }
-        return SIZE - 2;
+        return height - 2;
     }
 }
\ No newline at end of file
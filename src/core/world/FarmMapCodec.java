@@ -0,0 +1,160 @@
+package core.world;
+
+import core.house.House;
+import item.Crop;
+import item.Seed;
+import item.SeedRegistry;
+import system.GameLogger;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Reads and writes the state of a {@link FarmMap} for save games.
+ *
+ * Tiles are written as the raw type/symbol bytes of whole chunks (see {@link PackedTileStore}),
+ * so a snapshot costs about two bytes per tile in chunks that were ever changed and nothing
+ * for untouched ground. A delta can carry only the chunks changed since the last save.
+ * Crops are written separately, because they change every day without changing their tile.
+ */
+public final class FarmMapCodec {
+    private static final GameLogger LOG = GameLogger.get(FarmMapCodec.class);
+
+    private FarmMapCodec() {
+    }
+
+    /** Chunk holding tile (x,y), for dirty tracking with {@link #writeChunks}. */
+    public static int chunkOf(FarmMap map, int x, int y) {
+        return map.tileStore().chunkIndexOf(x, y);
+    }
+
+    /** House, pond and shipping bin positions; the farm layout is random per new game. */
+    public static void writeObjects(FarmMap map, DataOutput out) throws IOException {
+        List<DeployedObject> objects = map.getDeployedObjects();
+        out.writeInt(objects.size());
+        for (DeployedObject obj : objects) {
+            out.writeChar(obj.getSymbol());
+            out.writeInt(obj.getX());
+            out.writeInt(obj.getY());
+            out.writeInt(obj.getWidth());
+            out.writeInt(obj.getHeight());
+        }
+    }
+
+    public static void readObjects(FarmMap map, DataInput in) throws IOException {
+        List<DeployedObject> objects = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            char symbol = in.readChar();
+            int x = in.readInt();
+            int y = in.readInt();
+            int w = in.readInt();
+            int h = in.readInt();
+            switch (symbol) {
+                case 'h' -> objects.add(new House(x, y, w, h, symbol));
+                case 'o' -> objects.add(new Pond(x, y, w, h, symbol));
+                case 's' -> objects.add(new ShippingBin(x, y, w, h, symbol));
+                default -> LOG.warn("Objek farm tidak dikenal di save: '" + symbol + "'");
+            }
+        }
+        map.restoreObjects(objects);
+    }
+
+    /**
+     * Writes the chunks set in {@code chunks}, or every chunk ever written if it is null.
+     * Each entry is the chunk index and its bytes, or a marker for default ground.
+     */
+    public static void writeChunks(FarmMap map, DataOutput out, BitSet chunks) throws IOException {
+        PackedTileStore store = map.tileStore();
+        BitSet selected = chunks;
+        if (selected == null) {
+            selected = new BitSet(store.chunkSlots());
+            for (int c = 0; c < store.chunkSlots(); c++) {
+                if (store.chunkTypes(c) != null) selected.set(c);
+            }
+        }
+        out.writeInt(store.chunkSlots());
+        out.writeInt(selected.cardinality());
+        for (int c = selected.nextSetBit(0); c >= 0; c = selected.nextSetBit(c + 1)) {
+            out.writeInt(c);
+            byte[] types = store.chunkTypes(c);
+            if (types == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                out.write(types);
+                out.write(store.chunkSymbols(c));
+            }
+        }
+    }
+
+    /** Applies chunks written by {@link #writeChunks}; a snapshot first drops every other chunk. */
+    public static void readChunks(FarmMap map, DataInput in, boolean snapshot) throws IOException {
+        PackedTileStore store = map.tileStore();
+        int slots = in.readInt();
+        if (slots != store.chunkSlots()) {
+            throw new IOException("Ukuran farm di save tidak cocok: " + slots + " chunk, peta punya " + store.chunkSlots());
+        }
+        if (snapshot) {
+            store.clear();
+        }
+        int cells = PackedTileStore.CHUNK_SIZE * PackedTileStore.CHUNK_SIZE;
+        for (int i = in.readInt(); i > 0; i--) {
+            int c = in.readInt();
+            if (c < 0 || c >= slots) {
+                throw new IOException("Indeks chunk tidak valid: " + c);
+            }
+            if (in.readBoolean()) {
+                byte[] types = new byte[cells];
+                byte[] symbols = new byte[cells];
+                in.readFully(types);
+                in.readFully(symbols);
+                store.restoreChunk(c, types, symbols);
+            } else {
+                store.restoreChunk(c, null, null);
+            }
+        }
+        map.refreshAllWalkability();
+    }
+
+    /** Every planted crop with its position, seed and growth. */
+    public static void writeCrops(FarmMap map, DataOutput out) throws IOException {
+        PackedTileStore store = map.tileStore();
+        int count = store.getPlantedCount();
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            Crop crop = store.getPlantedCrop(i);
+            out.writeInt(store.getPlantedX(i));
+            out.writeInt(store.getPlantedY(i));
+            out.writeUTF(crop.getPlantedSeed() != null ? crop.getPlantedSeed().getName() : "");
+            out.writeByte(crop.getGrowthStage());
+            out.writeInt(crop.getDaysSincePlanting());
+            out.writeInt(crop.getLastWateredDay());
+        }
+    }
+
+    /** Replaces all crops; the planted tiles themselves come from {@link #readChunks}. */
+    public static void readCrops(FarmMap map, DataInput in) throws IOException {
+        PackedTileStore store = map.tileStore();
+        store.clearCrops();
+        for (int i = in.readInt(); i > 0; i--) {
+            int x = in.readInt();
+            int y = in.readInt();
+            String seedName = in.readUTF();
+            int stage = in.readByte();
+            int days = in.readInt();
+            int lastWatered = in.readInt();
+            Seed seed = SeedRegistry.getSeedByName(seedName);
+            if (seed == null || x < 0 || y < 0 || x >= map.getWidth() || y >= map.getHeight()) {
+                LOG.warn("Tanaman di save dilewati: '" + seedName + "' di (" + x + "," + y + ")");
+                continue;
+            }
+            Crop crop = new Crop(seed);
+            crop.restoreGrowth(stage, days, lastWatered);
+            store.restoreCrop(x, y, crop);
+        }
+    }
+}
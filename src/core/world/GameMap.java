@@ -63,7 +63,44 @@ public interface GameMap {
 
     /**
      * Get the size of the map (e.g., FarmMap.SIZE).
+     * For maps that are not square this is the longer side; use {@link #getWidth()} and
+     * {@link #getHeight()} for bounds checks.
      * @return The side length of the square map.
      */
     int getSize();
-}
\ No newline at end of file
+
+    /**
+     * Width of the map in tiles; valid x coordinates are 0 to width - 1.
+     * @return The width, by default {@link #getSize()}.
+     */
+    default int getWidth() {
+        return getSize();
+    }
+
+    /**
+     * Height of the map in tiles; valid y coordinates are 0 to height - 1.
+     * @return The height, by default {@link #getSize()}.
+     */
+    default int getHeight() {
+        return getSize();
+    }
+
+    /**
+     * Read-only view of the tile at the given coordinates. Unlike {@link #getTileAt(int, int)}
+     * this never creates tiles, so maps with lazily created tiles may return a shared default
+     * tile that must not be modified. Use it for rendering and scans.
+     * @return The tile (or a shared stand-in) at (x,y), or null if out of bounds.
+     */
+    default Tile peekTileAt(int x, int y) {
+        return getTileAt(x, y);
+    }
+
+    /**
+     * A counter that changes whenever the walkability of any tile on this map changes.
+     * Caches built from {@link #isWalkable(int, int)} compare it to know when to rebuild.
+     * @return the current walkability version; maps that never change may return a constant.
+     */
+    default int getWalkabilityVersion() {
+        return 0;
+    }
+}
@@ -12,6 +12,7 @@ public class HouseMap implements GameMap {
     public static final int SIZE = 24; // As per specification bonus
     private Tile[][] grid = new Tile[SIZE][SIZE];
     private List<DeployedObject> objects = new ArrayList<>();
+    private final WalkabilityGrid walkability = new WalkabilityGrid(SIZE, SIZE, this::computeWalkable);
     private Player player; // Keep a reference if needed for spawn logic relative to player
 
     private static final char BED_SYMBOL = 'B';
@@ -31,6 +32,7 @@ public class HouseMap implements GameMap {
         this.player = player;
         initTiles();
         placeFurnitureAndSpots();
+        walkability.rebuild(); // Tile default (UNTILLED) tidak memicu listener
         // spawnPlayer(player); // Player position will be set on transition
     }
 
@@ -38,6 +40,7 @@ public class HouseMap implements GameMap {
         for (int x = 0; x < SIZE; x++) {
             for (int y = 0; y < SIZE; y++) {
                 grid[x][y] = new Tile(x, y);
+                grid[x][y].setChangeListener((tile, oldType, oldCrop) -> walkability.refresh(tile.getX(), tile.getY()));
                 // Set border as non-walkable except exit
                 boolean isBorder = (x == 0 || x == SIZE - 1 || y == 0 || y == SIZE - 1);
                 boolean isExit = (x == EXIT_LOCATION.x && y == EXIT_LOCATION.y);
@@ -94,6 +97,7 @@ public class HouseMap implements GameMap {
                 }
             }
         }
+        walkability.refreshArea(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
     }
 
 
@@ -105,9 +109,18 @@ public class HouseMap implements GameMap {
         return grid[x][y];
     }
 
+    @Override
+    public int getWalkabilityVersion() {
+        return walkability.getVersion();
+    }
+
     @Override
     public boolean isWalkable(int x, int y) {
-        if (x < 0 || y < 0 || x >= SIZE || y >= SIZE) return false;
+        return walkability.isWalkable(x, y);
+    }
+
+    // Aturan lengkap; hasilnya di-cache per tile di walkability
+    private boolean computeWalkable(int x, int y) {
         Tile tile = grid[x][y];
         if (tile.getType() == Tile.TileType.DEPLOYED) {
             // Check if there's a specific DeployedObject here that might be walkable (like our InteractionSpot)
@@ -0,0 +1,205 @@
+package core.world;
+
+import item.Crop;
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays tile storage for large maps: one byte for the tile type and one byte for
+ * the display symbol per cell, with crops in a side table keyed by packed index.
+ *
+ * The arrays are split into fixed-size square chunks of {@link #CHUNK_SIZE} tiles that are only
+ * allocated on the first write; untouched chunks are plain untilled ground. There are no Tile
+ * objects in here: {@link PackedTileView}s are created on demand and read and write these arrays.
+ *
+ * Callers do the bounds check; coordinates here are assumed to lie inside the map.
+ */
+final class PackedTileStore {
+    static final int CHUNK_SHIFT = 5;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 32x32 tile per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+
+    /** Shared stand-in for every cell that still holds the default untilled ground. */
+    static final Tile DEFAULT_TILE = new DefaultTile();
+
+    private static final Tile.TileType[] TYPES = Tile.TileType.values();
+    private static final byte DEFAULT_TYPE = (byte) Tile.TileType.UNTILLED.ordinal();
+    private static final byte DEFAULT_SYMBOL = (byte) Tile.DEFAULT_UNTILLED_CHAR;
+
+    private final int chunksX;
+    private final byte[][] types;   // Per chunk, null = belum pernah ditulis
+    private final byte[][] symbols; // Per chunk, dialokasikan bersama types
+    private final PlantedTileIndex crops;
+    private int chunkCount;
+
+    PackedTileStore(int width, int height) {
+        this.chunksX = (width + CHUNK_MASK) >>> CHUNK_SHIFT;
+        int chunksY = (height + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.types = new byte[chunksX * chunksY][];
+        this.symbols = new byte[chunksX * chunksY][];
+        this.crops = new PlantedTileIndex(width, height);
+    }
+
+    Tile.TileType typeAt(int x, int y) {
+        byte[] chunk = types[chunkIndex(x, y)];
+        return chunk == null ? Tile.TileType.UNTILLED : TYPES[chunk[cellIndex(x, y)]];
+    }
+
+    char symbolAt(int x, int y) {
+        byte[] chunk = symbols[chunkIndex(x, y)];
+        return chunk == null ? Tile.DEFAULT_UNTILLED_CHAR : (char) chunk[cellIndex(x, y)];
+    }
+
+    Crop cropAt(int x, int y) {
+        return crops.crop(crops.pack(x, y));
+    }
+
+    boolean isWalkable(int x, int y) {
+        return Tile.isWalkable(typeAt(x, y), symbolAt(x, y));
+    }
+
+    /** True if the cell is untilled default ground (no symbol, no crop). */
+    boolean isDefault(int x, int y) {
+        int c = chunkIndex(x, y);
+        if (types[c] == null) return true;
+        int i = cellIndex(x, y);
+        return types[c][i] == DEFAULT_TYPE && symbols[c][i] == DEFAULT_SYMBOL;
+    }
+
+    void write(int x, int y, Tile.TileType type, char symbol, Crop crop) {
+        if (symbol > Byte.MAX_VALUE) { // Semua simbol Tile ASCII; sisanya tidak muat di satu byte
+            throw new IllegalArgumentException("Simbol '" + symbol + "' tidak bisa disimpan di (" + x + "," + y + ")");
+        }
+        int c = chunkIndex(x, y);
+        if (types[c] == null) {
+            allocate(c);
+        }
+        int i = cellIndex(x, y);
+        types[c][i] = (byte) type.ordinal();
+        symbols[c][i] = (byte) symbol;
+        int packed = crops.pack(x, y);
+        if (type == Tile.TileType.PLANTED && crop != null) {
+            crops.put(packed, crop);
+        } else {
+            crops.remove(packed);
+        }
+    }
+
+    // Dikunci supaya EDT dan thread simulasi tidak mengalokasikan chunk yang sama dua kali
+    private synchronized void allocate(int c) {
+        if (types[c] != null) return;
+        byte[] chunkSymbols = new byte[CHUNK_CELLS];
+        Arrays.fill(chunkSymbols, DEFAULT_SYMBOL);
+        byte[] chunkTypes = new byte[CHUNK_CELLS];
+        Arrays.fill(chunkTypes, DEFAULT_TYPE);
+        symbols[c] = chunkSymbols;
+        types[c] = chunkTypes; // Terakhir: types != null berarti symbols juga siap
+        chunkCount++;
+    }
+
+    /** Drops every chunk and crop; all cells go back to the default. */
+    synchronized void clear() {
+        Arrays.fill(types, null);
+        Arrays.fill(symbols, null);
+        crops.clear();
+        chunkCount = 0;
+    }
+
+    int chunkSlots() {
+        return types.length;
+    }
+
+    int chunkIndexOf(int x, int y) {
+        return chunkIndex(x, y);
+    }
+
+    int chunkOriginX(int c) {
+        return (c % chunksX) << CHUNK_SHIFT;
+    }
+
+    int chunkOriginY(int c) {
+        return (c / chunksX) << CHUNK_SHIFT;
+    }
+
+    /** Type bytes of chunk {@code c}, or null while it is untouched. Callers must not modify them. */
+    byte[] chunkTypes(int c) {
+        return types[c];
+    }
+
+    byte[] chunkSymbols(int c) {
+        return symbols[c];
+    }
+
+    /** Overwrites chunk {@code c} with saved bytes, or drops it back to default ground if null. */
+    synchronized void restoreChunk(int c, byte[] chunkTypes, byte[] chunkSymbols) {
+        if (chunkTypes == null) {
+            if (types[c] != null) chunkCount--;
+            types[c] = null;
+            symbols[c] = null;
+            return;
+        }
+        if (chunkTypes.length != CHUNK_CELLS || chunkSymbols.length != CHUNK_CELLS) {
+            throw new IllegalArgumentException("Ukuran chunk tidak valid: " + chunkTypes.length);
+        }
+        if (types[c] == null) chunkCount++;
+        symbols[c] = chunkSymbols.clone();
+        types[c] = chunkTypes.clone();
+    }
+
+    /** Replaces the crop side table; the tiles themselves are not changed. */
+    void restoreCrop(int x, int y, Crop crop) {
+        crops.put(crops.pack(x, y), crop);
+    }
+
+    void clearCrops() {
+        crops.clear();
+    }
+
+    int getPlantedCount() {
+        return crops.size();
+    }
+
+    /** Crop number {@code i} of {@link #getPlantedCount()}; iterating backwards survives removals. */
+    Crop getPlantedCrop(int i) {
+        return crops.cropAt(i);
+    }
+
+    int getPlantedX(int i) {
+        return crops.unpackX(crops.get(i));
+    }
+
+    int getPlantedY(int i) {
+        return crops.unpackY(crops.get(i));
+    }
+
+    synchronized int getChunkCount() {
+        return chunkCount;
+    }
+
+    /** Bytes held by the type/symbol arrays (chunk headers not counted). */
+    synchronized long getStorageBytes() {
+        return (long) chunkCount * CHUNK_CELLS * 2;
+    }
+
+    private int chunkIndex(int x, int y) {
+        return (y >>> CHUNK_SHIFT) * chunksX + (x >>> CHUNK_SHIFT);
+    }
+
+    private static int cellIndex(int x, int y) {
+        return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    /** Untilled ground without a position; it refuses every write so the shared instance stays clean. */
+    private static final class DefaultTile extends Tile {
+        DefaultTile() {
+            super(-1, -1);
+        }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Tile default hanya untuk dibaca; pakai getTileAt untuk mengubah tile");
+        }
+
+        @Override public void setChangeListener(TileChangeListener changeListener) { throw readOnly(); }
+        @Override void store(TileType type, char deployedChar, Crop plantedCrop) { throw readOnly(); }
+    }
+}
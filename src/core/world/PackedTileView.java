@@ -0,0 +1,36 @@
+package core.world;
+
+import item.Crop;
+
+/**
+ * A Tile whose state lives in a {@link PackedTileStore}. Views are cheap and created per
+ * request; two views of the same cell see the same state and are equal.
+ */
+final class PackedTileView extends Tile {
+    private final PackedTileStore tiles;
+
+    PackedTileView(int x, int y, PackedTileStore tiles) {
+        super(x, y);
+        this.tiles = tiles;
+    }
+
+    @Override
+    TileType storedType() {
+        return tiles.typeAt(getX(), getY());
+    }
+
+    @Override
+    char storedChar() {
+        return tiles.symbolAt(getX(), getY());
+    }
+
+    @Override
+    Crop storedCrop() {
+        return tiles.cropAt(getX(), getY());
+    }
+
+    @Override
+    void store(TileType type, char deployedChar, Crop plantedCrop) {
+        tiles.write(getX(), getY(), type, deployedChar, plantedCrop);
+    }
+}
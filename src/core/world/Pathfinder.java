@@ -0,0 +1,249 @@
+package core.world;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 4-directional A* over a {@link GameMap}, using packed {@code y * width + x} coordinates.
+ *
+ * Scores, parents and the open set live in primitive arrays that are reused across calls;
+ * a generation stamp marks which entries belong to the current search, so nothing has to be
+ * cleared or allocated per search. The open set is an indexed binary heap with decrease-key.
+ *
+ * One instance is not thread-safe; use {@link #forCurrentThread()} or one instance per caller.
+ */
+public class Pathfinder {
+    public static final int NO_PATH = -1;
+
+    private static final ThreadLocal<Pathfinder> PER_THREAD = ThreadLocal.withInitial(Pathfinder::new);
+
+    private int capacity;
+    private int[] gScore = new int[0];
+    private int[] fScore = new int[0];
+    private int[] parent = new int[0];
+    private int[] stamp = new int[0];     // == generation: node sudah disentuh di pencarian ini
+    private boolean[] closed = new boolean[0];
+    private int[] heap = new int[0];      // isi: node
+    private int[] heapIndex = new int[0]; // node -> posisi di heap, -1 jika tidak di heap
+    private int heapSize;
+    private int generation;
+
+    private int[] path = new int[16];     // Hasil terakhir, start tidak termasuk, goal termasuk
+    private int pathLength;
+    private int lastWidth;
+    private int expandedNodes;
+
+    /** The pathfinder owned by the calling thread, e.g. the EDT or the simulation thread. */
+    public static Pathfinder forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Finds a shortest path from start to goal, moving only onto walkable tiles.
+     * The result can be read with {@link #getPathX(int)}/{@link #getPathY(int)} until the next call.
+     *
+     * @return the number of steps (0 if start equals goal), or {@link #NO_PATH}.
+     */
+    public int findPath(GameMap map, int startX, int startY, int goalX, int goalY) {
+        int width = map.getWidth();
+        int height = map.getHeight();
+        pathLength = 0;
+        expandedNodes = 0;
+        lastWidth = width;
+        if (startX < 0 || startY < 0 || startX >= width || startY >= height
+                || goalX < 0 || goalY < 0 || goalX >= width || goalY >= height) {
+            return NO_PATH;
+        }
+        ensureCapacity(width * height);
+        nextGeneration();
+
+        int start = startY * width + startX;
+        int goal = goalY * width + goalX;
+        touch(start);
+        gScore[start] = 0;
+        parent[start] = -1;
+        fScore[start] = heuristic(startX, startY, goalX, goalY);
+        heapPush(start);
+
+        while (heapSize > 0) {
+            int current = heapPop();
+            if (current == goal) {
+                return buildPath(start, goal);
+            }
+            closed[current] = true;
+            expandedNodes++;
+            int cx = current % width;
+            int cy = current / width;
+            int nextG = gScore[current] + 1;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx, ny = cy;
+                switch (dir) {
+                    case 0: ny++; break;
+                    case 1: nx++; break;
+                    case 2: ny--; break;
+                    default: nx--; break;
+                }
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int next = ny * width + nx;
+                boolean seen = stamp[next] == generation;
+                if (seen && closed[next]) continue;
+                if (!map.isWalkable(nx, ny)) continue;
+                if (!seen) {
+                    touch(next);
+                } else if (nextG >= gScore[next]) {
+                    continue;
+                }
+                gScore[next] = nextG;
+                parent[next] = current;
+                fScore[next] = nextG + heuristic(nx, ny, goalX, goalY);
+                if (heapIndex[next] >= 0) {
+                    siftUp(heapIndex[next]);
+                } else {
+                    heapPush(next);
+                }
+            }
+        }
+        return NO_PATH;
+    }
+
+    /** Convenience wrapper returning the path as points (start excluded), or an empty list. */
+    public List<Point> findPathPoints(GameMap map, Point start, Point goal) {
+        int length = findPath(map, start.x, start.y, goal.x, goal.y);
+        if (length <= 0) return Collections.emptyList();
+        List<Point> points = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            points.add(new Point(getPathX(i), getPathY(i)));
+        }
+        return points;
+    }
+
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    public int getPathX(int step) {
+        checkStep(step);
+        return path[step] % lastWidth;
+    }
+
+    public int getPathY(int step) {
+        checkStep(step);
+        return path[step] / lastWidth;
+    }
+
+    /** Nodes taken off the open set by the last search; useful for benchmarks. */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    private void checkStep(int step) {
+        if (step < 0 || step >= pathLength) {
+            throw new IndexOutOfBoundsException("Langkah " + step + " di luar path sepanjang " + pathLength);
+        }
+    }
+
+    private int buildPath(int start, int goal) {
+        int length = 0;
+        for (int node = goal; node != start; node = parent[node]) {
+            length++;
+        }
+        if (path.length < length) {
+            path = new int[Math.max(length, path.length * 2)];
+        }
+        int i = length;
+        for (int node = goal; node != start; node = parent[node]) {
+            path[--i] = node;
+        }
+        pathLength = length;
+        return length;
+    }
+
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.abs(x - goalX) + Math.abs(y - goalY);
+    }
+
+    private void ensureCapacity(int nodes) {
+        if (nodes <= capacity) return;
+        capacity = nodes;
+        gScore = new int[nodes];
+        fScore = new int[nodes];
+        parent = new int[nodes];
+        stamp = new int[nodes];
+        closed = new boolean[nodes];
+        heap = new int[nodes];
+        heapIndex = new int[nodes];
+        generation = 0;
+    }
+
+    private void nextGeneration() {
+        heapSize = 0;
+        generation++;
+        if (generation == Integer.MAX_VALUE) { // Hampir tidak mungkin, tapi stamp lama bisa bentrok
+            java.util.Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+
+    private void touch(int node) {
+        stamp[node] = generation;
+        closed[node] = false;
+        heapIndex[node] = -1;
+    }
+
+    // --- Indexed binary min-heap berdasarkan fScore, seri dipecah dengan gScore lebih besar (lebih dekat ke goal) ---
+
+    private boolean less(int a, int b) {
+        if (fScore[a] != fScore[b]) return fScore[a] < fScore[b];
+        return gScore[a] > gScore[b];
+    }
+
+    private void heapPush(int node) {
+        heap[heapSize] = node;
+        heapIndex[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int heapPop() {
+        int top = heap[0];
+        heapIndex[top] = -1;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int pos) {
+        int node = heap[pos];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parentNode = heap[parentPos];
+            if (!less(node, parentNode)) break;
+            heap[pos] = parentNode;
+            heapIndex[parentNode] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = node;
+        heapIndex[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = heap[pos];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], node)) break;
+            heap[pos] = heap[child];
+            heapIndex[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = node;
+        heapIndex[node] = pos;
+    }
+}
@@ -0,0 +1,114 @@
+package core.world;
+
+import item.Crop;
+
+/**
+ * Sparse map from planted tile positions, packed as {@code y * width + x}, to their crops.
+ * Put, remove and lookup are O(1); iteration only touches planted tiles.
+ * The position lookup is split into pages allocated on first use, so a huge,
+ * mostly empty map does not pay for a full-size lookup array.
+ */
+class PlantedTileIndex {
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final int width;
+    private final int[][] sparse; // posisi -> index di dense (valid hanya jika dense[i] == posisi), per halaman
+    private int[] dense = new int[16];
+    private Crop[] crops = new Crop[16]; // Sejajar dengan dense
+    private int count;
+
+    PlantedTileIndex(int width, int height) {
+        this.width = width;
+        this.sparse = new int[(width * height + PAGE_MASK) >>> PAGE_SHIFT][];
+    }
+
+    int pack(int x, int y) {
+        return y * width + x;
+    }
+
+    int unpackX(int packed) {
+        return packed % width;
+    }
+
+    int unpackY(int packed) {
+        return packed / width;
+    }
+
+    boolean contains(int packed) {
+        return indexOf(packed) >= 0;
+    }
+
+    private int indexOf(int packed) {
+        int[] page = sparse[packed >>> PAGE_SHIFT];
+        if (page == null) return -1;
+        int i = page[packed & PAGE_MASK];
+        return i < count && dense[i] == packed ? i : -1;
+    }
+
+    private void setSlot(int packed, int i) {
+        int[] page = sparse[packed >>> PAGE_SHIFT];
+        if (page == null) {
+            page = new int[PAGE_MASK + 1];
+            sparse[packed >>> PAGE_SHIFT] = page;
+        }
+        page[packed & PAGE_MASK] = i;
+    }
+
+    /** The crop at {@code packed}, or null if the position is not planted. */
+    Crop crop(int packed) {
+        int i = indexOf(packed);
+        return i >= 0 ? crops[i] : null;
+    }
+
+    /** Adds the position, or replaces its crop if it is already present. */
+    void put(int packed, Crop crop) {
+        int existing = indexOf(packed);
+        if (existing >= 0) {
+            crops[existing] = crop;
+            return;
+        }
+        if (count == dense.length) {
+            int[] grown = new int[dense.length * 2];
+            System.arraycopy(dense, 0, grown, 0, count);
+            dense = grown;
+            Crop[] grownCrops = new Crop[dense.length];
+            System.arraycopy(crops, 0, grownCrops, 0, count);
+            crops = grownCrops;
+        }
+        dense[count] = packed;
+        crops[count] = crop;
+        setSlot(packed, count);
+        count++;
+    }
+
+    void remove(int packed) {
+        int i = indexOf(packed);
+        if (i < 0) return;
+        count--;
+        int last = dense[count];
+        dense[i] = last; // Tukar dengan elemen terakhir
+        crops[i] = crops[count];
+        crops[count] = null;
+        setSlot(last, i);
+    }
+
+    void clear() {
+        java.util.Arrays.fill(crops, 0, count, null);
+        count = 0;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /** Packed position at {@code i}, for 0 <= i < size(). Removing the current entry while iterating backwards is safe. */
+    int get(int i) {
+        return dense[i];
+    }
+
+    /** Crop at {@code i}, for 0 <= i < size(). */
+    Crop cropAt(int i) {
+        return crops[i];
+    }
+}
@@ -1,5 +1,8 @@
 package core.world;
 
+import system.GameLogger;
+import system.MarketPricing;
+import core.player.GoldJournal;
 import core.player.Player;
 import item.Item;
 
@@ -8,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 
 public class ShippingBin extends DeployedObject{
+    private static final GameLogger LOG = GameLogger.get(ShippingBin.class);
+
     private static final int MAX_UNIQUE_SLOTS = 16;
     private Map<Item, Integer> itemsToShip; // Item -> Quantity
     private int uniqueSlotsUsed;
@@ -36,18 +41,18 @@ public class ShippingBin extends DeployedObject{
 
     public boolean addItem(Player player, Item item, int quantity) {
         if (quantity <= 0) {
-            System.out.println("Jumlah item harus positif.");
+            LOG.info("Jumlah item harus positif.");
             return false;
         }
 
         // Cek apakah item sudah ada di bin atau apakah slot unik penuh
         if (!itemsToShip.containsKey(item) && uniqueSlotsUsed >= MAX_UNIQUE_SLOTS) {
-            System.out.println("Shipping Bin penuh. Maksimal " + MAX_UNIQUE_SLOTS + " slot item unik.");
+            LOG.info("Shipping Bin penuh. Maksimal " + MAX_UNIQUE_SLOTS + " slot item unik.");
             return false;
         }
 
         if (!player.getInventory().removeByName(item.getName(), quantity)) {
-            System.out.println("Anda tidak memiliki cukup " + item.getName() + " di inventaris.");
+            LOG.info("Anda tidak memiliki cukup " + item.getName() + " di inventaris.");
             return false;
         }
 
@@ -55,33 +60,40 @@ public class ShippingBin extends DeployedObject{
             uniqueSlotsUsed++;
         }
         itemsToShip.put(item, itemsToShip.getOrDefault(item, 0) + quantity);
-        System.out.println(quantity + " " + item.getName() + " ditambahkan ke Shipping Bin.");
+        LOG.debug(quantity + " " + item.getName() + " ditambahkan ke Shipping Bin.");
         return true;
     }
 
     public int processSales(Player player, Season currentSeason) { // NEW
+        return processSales(player, currentSeason, null);
+    }
+
+    /**
+     * Sells everything in the bin and empties it. With a {@code market}, each item is paid at
+     * its current market price and its volume is recorded; without one, at its fixed sell price.
+     */
+    public int processSales(Player player, Season currentSeason, MarketPricing market) {
         int totalGoldEarnedThisSale = 0; // Renamed to avoid confusion with PlayerStats field
-        System.out.println("\n--- Memproses Penjualan Shipping Bin ---");
+        LOG.debug("--- Memproses Penjualan Shipping Bin ---");
         if (itemsToShip.isEmpty()) {
-            System.out.println("Shipping Bin kosong. Tidak ada yang dijual.");
+            LOG.debug("Shipping Bin kosong. Tidak ada yang dijual.");
         } else {
             for (Map.Entry<Item, Integer> entry : itemsToShip.entrySet()) {
                 Item item = entry.getKey();
                 int quantity = entry.getValue();
-                int itemSaleValue = item.getSellPrice() * quantity;
+                int itemSaleValue = market != null ? market.sell(item, quantity) : item.getSellPrice() * quantity;
                 totalGoldEarnedThisSale += itemSaleValue;
-                System.out.println("- " + quantity + "x " + item.getName() + " dijual seharga " + itemSaleValue + "g.");
+                // Satu entri jurnal per item; statistik pendapatan dihitung dari jurnal
+                player.getGold().credit(itemSaleValue, GoldJournal.Source.SALE, currentSeason, item);
+                LOG.debug("- " + quantity + "x " + item.getName() + " dijual seharga " + itemSaleValue + "g.");
             }
-            player.getGold().add(totalGoldEarnedThisSale);
-            // Perbarui total pendapatan di PlayerStats
-            player.getStats().addGoldEarned(totalGoldEarnedThisSale, currentSeason); // MODIFIED: pass currentSeason
-            System.out.println("Total emas yang didapat: " + totalGoldEarnedThisSale + "g.");
+            LOG.debug("Total emas yang didapat: " + totalGoldEarnedThisSale + "g.");
         }
 
         // Kosongkan bin setelah penjualan
         itemsToShip.clear();
         uniqueSlotsUsed = 0;
-        System.out.println("--- Penjualan Selesai ---");
+        LOG.debug("--- Penjualan Selesai ---");
         return totalGoldEarnedThisSale;
     }
 
@@ -99,6 +111,18 @@ public class ShippingBin extends DeployedObject{
         System.out.println("------------------------");
     }
 
+    /** Copy of what is waiting to be shipped tonight. */
+    public Map<Item, Integer> getItemsToShip() {
+        return new HashMap<>(itemsToShip);
+    }
+
+    /** Replaces the bin contents, e.g. when a save game is loaded. */
+    public void restoreContents(Map<Item, Integer> contents) {
+        itemsToShip.clear();
+        itemsToShip.putAll(contents);
+        uniqueSlotsUsed = itemsToShip.size();
+    }
+
     public int getUniqueSlotsUsed() {
         return uniqueSlotsUsed;
     }
@@ -1,14 +1,20 @@
 package core.world;
 
+import system.GameLogger;
 import item.Crop;
-import java.util.Objects;
 
 /**
  * Universal Tile class for all maps (Farm, House, City).
  * Handles all terrain types (UNTILLED variants, TILLED, PLANTED)
  * and all deployed object symbols (buildings, interactables).
+ *
+ * A plain Tile keeps its state in its own fields. Maps with packed storage hand out
+ * views whose state lives in the map's arrays instead (see {@link PackedTileView}); all
+ * reads and writes go through the package-private {@code stored*}/{@code store} hooks.
  */
 public class Tile {
+    private static final GameLogger LOG = GameLogger.get(Tile.class);
+
     public enum TileType {
         UNTILLED,   // Default walkable ground (e.g., grass, plain road, dirt)
         TILLED,     // Tilled soil for planting
@@ -20,6 +26,7 @@ public class Tile {
     private TileType type;
     private char deployedChar; // Stores the specific symbol for display, or terrain type
     private Crop plantedCrop;
+    private TileChangeListener changeListener; // Biasanya map pemilik tile ini
 
     // Default symbol for plain ground/road
     public static final char DEFAULT_UNTILLED_CHAR = '.';
@@ -70,43 +77,77 @@ public class Tile {
         this.deployedChar = DEFAULT_UNTILLED_CHAR; // Default to '.' road/ground
     }
 
+    /**
+     * Sets the listener told about every type/crop change of this tile. One per tile.
+     */
+    public void setChangeListener(TileChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    // --- Penyimpanan state; PackedTileView membaca/menulis array milik map ---
+
+    TileType storedType() { return type; }
+    char storedChar() { return deployedChar; }
+    Crop storedCrop() { return plantedCrop; }
+
+    void store(TileType type, char deployedChar, Crop plantedCrop) {
+        this.type = type;
+        this.deployedChar = deployedChar;
+        this.plantedCrop = plantedCrop;
+    }
+
+    private void notifyChanged(TileType oldType, Crop oldCrop, char oldChar) {
+        // Simbol ikut dicek karena terrain (mis. air) menentukan walkability tanpa mengubah type
+        if (changeListener != null && (oldType != storedType() || oldCrop != storedCrop() || oldChar != storedChar())) {
+            changeListener.onTileChanged(this, oldType, oldCrop);
+        }
+    }
+
     public int getX() { return x; }
     public int getY() { return y; }
-    public TileType getType() { return type; }
-    public Crop getPlantedCrop() { return plantedCrop; }
+    public TileType getType() { return storedType(); }
+    public Crop getPlantedCrop() { return storedCrop(); }
 
     public void plantCrop(Crop crop) {
-        if (this.type == TileType.TILLED) {
-            this.plantedCrop = crop;
-            this.type = TileType.PLANTED;
-            this.deployedChar = PLANTED_CHAR; // Set char for planted state
+        TileType oldType = storedType();
+        if (oldType == TileType.TILLED) {
+            Crop oldCrop = storedCrop();
+            char oldChar = storedChar();
+            store(TileType.PLANTED, PLANTED_CHAR, crop); // Set char for planted state
+            notifyChanged(oldType, oldCrop, oldChar);
         } else {
-            System.out.println("Cannot plant here. Soil is not tilled.");
+            LOG.debug("Cannot plant here. Soil is not tilled.");
         }
     }
 
     public void clearPlantedCrop() {
-        this.plantedCrop = null;
-        if (this.type == TileType.PLANTED) { // After harvesting, revert to tilled
-            this.type = TileType.TILLED;
-            this.deployedChar = TILLED_CHAR; // Set char for tilled state
+        TileType oldType = storedType();
+        Crop oldCrop = storedCrop();
+        char oldChar = storedChar();
+        if (oldType == TileType.PLANTED) { // After harvesting, revert to tilled
+            store(TileType.TILLED, TILLED_CHAR, null); // Set char for tilled state
+        } else {
+            store(oldType, oldChar, null);
         }
+        notifyChanged(oldType, oldCrop, oldChar);
     }
 
     public void setType(TileType type) {
+        TileType oldType = storedType();
         // Prevent direct type change for DEPLOYED if object is still on it
-        if (this.type == TileType.DEPLOYED && type != TileType.DEPLOYED) {
-            System.out.println("Warning: Cannot change type of a deployed tile directly. Use clearDeployment first.");
+        if (oldType == TileType.DEPLOYED && type != TileType.DEPLOYED) {
+            LOG.warn("Warning: Cannot change type of a deployed tile directly. Use clearDeployment first.");
             return;
         }
-        this.type = type;
+        Crop oldCrop = storedCrop();
+        char oldChar = storedChar();
+        char newChar = oldChar;
         // If type changes to non-deployed, ensure deployedChar reverts to default terrain char
         if (type != TileType.DEPLOYED && type != TileType.TILLED && type != TileType.PLANTED) { // Only revert if not tilled or planted either
-            this.deployedChar = DEFAULT_UNTILLED_CHAR;
-        }
-        if (type != TileType.PLANTED) {
-            this.plantedCrop = null;
+            newChar = DEFAULT_UNTILLED_CHAR;
         }
+        store(type, newChar, type != TileType.PLANTED ? null : oldCrop);
+        notifyChanged(oldType, oldCrop, oldChar);
     }
 
     /**
@@ -115,6 +156,11 @@ public class Tile {
      * @param c The character symbol representing the object or terrain type.
      */
     public void deployObject(char c) {
+        TileType oldType = storedType();
+        Crop oldCrop = storedCrop();
+        char oldChar = storedChar();
+        TileType newType;
+        Crop newCrop = null;
         switch (c) {
             // --- DEPLOYED symbols (objects that sit on tiles) ---
             case FARM_HOUSE_SYMBOL:
@@ -131,9 +177,7 @@ public class Tile {
             case EXIT_SYMBOL:
             case ORENJI_SYMBOL:
             case FENCE_SYMBOL:
-                this.type = TileType.DEPLOYED;
-                this.deployedChar = c;
-                this.plantedCrop = null;
+                newType = TileType.DEPLOYED;
                 break;
 
             // --- Terrain symbols (these are UNTILLED ground types for core logic) ---
@@ -147,34 +191,32 @@ public class Tile {
             case JALAN_COKLAT_KANAN_SYMBOL: // 'N'
             case JALAN_COKLAT_ATAS_SYMBOL: // 'U'
             case JALAN_COKLAT_BAWAH_SYMBOL: // 'D'
-                this.type = TileType.UNTILLED;
-                this.deployedChar = c;
-                this.plantedCrop = null;
+                newType = TileType.UNTILLED;
                 break;
 
             // --- Tilled and Planted symbols (specific ground states) ---
             case TILLED_CHAR: // 't'
-                this.type = TileType.TILLED;
-                this.deployedChar = c;
-                this.plantedCrop = null;
+                newType = TileType.TILLED;
                 break;
             case PLANTED_CHAR: // 'l'
-                this.type = TileType.PLANTED;
-                this.deployedChar = c;
-                // plantedCrop is set separately by plantCrop()
+                newType = TileType.PLANTED;
+                newCrop = oldCrop; // plantedCrop is set separately by plantCrop()
                 break;
 
             default:
                 throw new IllegalArgumentException("Invalid deployed object or terrain character: '" + c +
                                                    "' for Tile at (" + x + "," + y + ")");
         }
+        store(newType, c, newCrop);
+        notifyChanged(oldType, oldCrop, oldChar);
     }
 
     public void clearDeployment() {
-        if (this.type == TileType.DEPLOYED) {
-            this.type = TileType.UNTILLED;
-            this.deployedChar = DEFAULT_UNTILLED_CHAR; // Revert to default '.' terrain symbol
-            this.plantedCrop = null;
+        if (storedType() == TileType.DEPLOYED) {
+            Crop oldCrop = storedCrop();
+            char oldChar = storedChar();
+            store(TileType.UNTILLED, DEFAULT_UNTILLED_CHAR, null); // Revert to default '.' terrain symbol
+            notifyChanged(TileType.DEPLOYED, oldCrop, oldChar);
         }
     }
 
@@ -184,11 +226,16 @@ public class Tile {
      * will ultimately determine walkability in the Map.isWalkable() method.
      */
     public boolean isWalkable() {
-        if (this.type == TileType.DEPLOYED) {
+        return isWalkable(storedType(), storedChar());
+    }
+
+    /** The terrain rule behind {@link #isWalkable()}, for storage that has no Tile object at hand. */
+    static boolean isWalkable(TileType type, char deployedChar) {
+        if (type == TileType.DEPLOYED) {
              return false;
         }
         // Specific non-walkable terrain types
-        if (this.deployedChar == AIR_SYMBOL) return false; // Water ('3') is not walkable
+        if (deployedChar == AIR_SYMBOL) return false; // Water ('3') is not walkable
 
         // All other UNTILLED (including varied terrain), TILLED, and PLANTED tiles are walkable by default.
         return true;
@@ -199,7 +246,7 @@ public class Tile {
      * This character will be used by Map Panels to select the correct image.
      */
     public char displayChar() {
-        return this.deployedChar;
+        return storedChar();
     }
 
     @Override
@@ -212,6 +259,6 @@ public class Tile {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y; // Tanpa boxing
     }
 }
\ No newline at end of file
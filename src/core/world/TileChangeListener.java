@@ -0,0 +1,14 @@
+package core.world;
+
+import item.Crop;
+
+/**
+ * Notified by a {@link Tile} after its type or planted crop changed.
+ * Maps use it to keep their indexes (planted tiles, walkability) in sync;
+ * observers added with {@link FarmMap#addTileChangeListener} also hear about crop growth,
+ * in which case the old type and crop equal the current ones.
+ */
+@FunctionalInterface
+public interface TileChangeListener {
+    void onTileChanged(Tile tile, Tile.TileType oldType, Crop oldCrop);
+}
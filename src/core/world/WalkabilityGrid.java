@@ -0,0 +1,71 @@
+package core.world;
+
+/**
+ * Precomputed walkability of every cell of a map, one bit per cell.
+ *
+ * The owning map supplies the rule (terrain + deployed objects) and calls
+ * {@link #refresh(int, int)} / {@link #refreshArea(int, int, int, int)} whenever a tile
+ * or an object changes, so a walkability query is a bounds check and a bit test.
+ */
+final class WalkabilityGrid {
+    @FunctionalInterface
+    interface Rule {
+        boolean isWalkable(int x, int y);
+    }
+
+    private final int width;
+    private final int height;
+    private final long[] bits;
+    private final Rule rule;
+    private int version; // Naik setiap kali ada bit yang berubah
+
+    WalkabilityGrid(int width, int height, Rule rule) {
+        this.width = width;
+        this.height = height;
+        this.bits = new long[(width * height + 63) >>> 6];
+        this.rule = rule;
+    }
+
+    boolean isWalkable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        int index = y * width + x;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    void refresh(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return;
+        int index = y * width + x;
+        long before = bits[index >>> 6];
+        if (rule.isWalkable(x, y)) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+        if (bits[index >>> 6] != before) {
+            version++;
+        }
+    }
+
+    /** Changes every time any cell flips, so derived data (e.g. distance fields) knows when to rebuild. */
+    int getVersion() {
+        return version;
+    }
+
+    void refreshArea(int x, int y, int w, int h) {
+        for (int dy = 0; dy < h; dy++) {
+            for (int dx = 0; dx < w; dx++) {
+                refresh(x + dx, y + dy);
+            }
+        }
+    }
+
+    void rebuild() {
+        refreshArea(0, 0, width, height);
+    }
+
+    /** Sets every cell without asking the rule; the owner refreshes the exceptions afterwards. */
+    void fill(boolean walkable) {
+        java.util.Arrays.fill(bits, walkable ? -1L : 0L);
+        version++;
+    }
+}
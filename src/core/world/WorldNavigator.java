@@ -0,0 +1,329 @@
+package core.world;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Navigation graph over the whole world (farm, city, house), linked through the same
+ * entry/exit points GameManager.transitionMap uses.
+ *
+ * For each fixed {@link Destination} a distance field over every tile of every map is
+ * computed once (a multi-source BFS run backwards from the destination, where crossing a
+ * map exit costs nothing) and cached until one of the maps reports a walkability change.
+ * Planning a route from anywhere is then a walk down the field: no search per map.
+ */
+public class WorldNavigator {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Fixed places autopilot and bots travel to. */
+    public enum Destination {
+        BED,          // Tempat tidur di HouseMap
+        HOUSE_DOOR,   // Tile di depan pintu rumah di FarmMap
+        SHIPPING_BIN, // Tile mana pun yang bersebelahan dengan shipping bin
+        STORE         // Tile mana pun yang bersebelahan dengan toko Emily di CityMap
+    }
+
+    /** A one-way link: standing on (exitX, exitY) of {@code from} leads to (entryX, entryY) of {@code to}. */
+    public static final class Portal {
+        private final GameMap from;
+        private final int exitX, exitY;
+        private final GameMap to;
+        private final int entryX, entryY;
+
+        Portal(GameMap from, int exitX, int exitY, GameMap to, int entryX, int entryY) {
+            this.from = from;
+            this.exitX = exitX;
+            this.exitY = exitY;
+            this.to = to;
+            this.entryX = entryX;
+            this.entryY = entryY;
+        }
+
+        public GameMap getFrom() { return from; }
+        public int getExitX() { return exitX; }
+        public int getExitY() { return exitY; }
+        public GameMap getTo() { return to; }
+        public int getEntryX() { return entryX; }
+        public int getEntryY() { return entryY; }
+    }
+
+    /** Part of a route on a single map: the steps to walk, then optionally a portal to take. */
+    public static final class Leg {
+        private final GameMap map;
+        private final List<Point> steps;
+        private final Portal exit;
+
+        Leg(GameMap map, List<Point> steps, Portal exit) {
+            this.map = map;
+            this.steps = steps;
+            this.exit = exit;
+        }
+
+        public GameMap getMap() { return map; }
+        /** Tiles to walk in order, excluding the starting tile. */
+        public List<Point> getSteps() { return steps; }
+        /** Portal taken at the end of this leg, or null if this leg ends at the destination. */
+        public Portal getExit() { return exit; }
+    }
+
+    private final GameMap[] maps;
+    private final int[] offsets;
+    private final int totalNodes;
+    private final List<Portal> portals = new ArrayList<>();
+    private final int[] portalTargetByNode; // node exit -> node entry, -1 jika bukan exit
+    private final FarmMap farm;
+    private final CityMap city;
+    private final HouseMap house;
+
+    private final Map<Destination, int[]> fields = new EnumMap<>(Destination.class);
+    private final Map<Destination, Integer> fieldVersions = new EnumMap<>(Destination.class);
+    private int[] queue;
+    private int fieldBuilds;
+
+    public WorldNavigator(FarmMap farm, CityMap city, HouseMap house) {
+        this.farm = farm;
+        this.city = city;
+        this.house = house;
+        this.maps = new GameMap[] {farm, city, house};
+        this.offsets = new int[maps.length];
+        int total = 0;
+        for (int i = 0; i < maps.length; i++) {
+            offsets[i] = total;
+            total += maps[i].getWidth() * maps[i].getHeight();
+        }
+        this.totalNodes = total;
+        this.portalTargetByNode = new int[total];
+        java.util.Arrays.fill(portalTargetByNode, -1);
+
+        // Sama dengan GameManager.transitionMap dan titik exit yang dipakai GUI
+        addPortal(city, city.getWidth() / 2, city.getHeight() - 1, farm, farm.getEntryFromCityX(), farm.getEntryFromCityY());
+        addPortal(city, city.getWidth() / 2 - 1, city.getHeight() - 1, farm, farm.getEntryFromCityX(), farm.getEntryFromCityY());
+        addPortal(farm, farm.getExitToCityX(), farm.getExitToCityY(), city, city.getWidth() / 2, 0);
+        addPortal(farm, farm.getHouseExitSpawnX(), farm.getHouseExitSpawnY(), house, HouseMap.ENTRY_LOCATION.x, HouseMap.ENTRY_LOCATION.y);
+        addPortal(house, HouseMap.EXIT_LOCATION.x, HouseMap.EXIT_LOCATION.y, farm, farm.getHouseExitSpawnX(), farm.getHouseExitSpawnY());
+    }
+
+    private void addPortal(GameMap from, int exitX, int exitY, GameMap to, int entryX, int entryY) {
+        Portal portal = new Portal(from, exitX, exitY, to, entryX, entryY);
+        portals.add(portal);
+        portalTargetByNode[node(from, exitX, exitY)] = node(to, entryX, entryY);
+    }
+
+    public List<Portal> getPortals() {
+        return Collections.unmodifiableList(portals);
+    }
+
+    /** The map with this name (as stored in Player.getLocation()), or null. */
+    public GameMap findMap(String mapName) {
+        for (GameMap map : maps) {
+            if (map.getName().equals(mapName)) return map;
+        }
+        return null;
+    }
+
+    /**
+     * Steps (walking moves; map transitions are free) from a tile to {@code destination},
+     * or {@link #UNREACHABLE}.
+     */
+    public int distance(GameMap map, int x, int y, Destination destination) {
+        int index = mapIndex(map);
+        if (index < 0 || x < 0 || y < 0 || x >= map.getWidth() || y >= map.getHeight()) return UNREACHABLE;
+        return field(destination)[offsets[index] + y * map.getWidth() + x];
+    }
+
+    /**
+     * The route from (x, y) on {@code map} to {@code destination}, split per map.
+     * A single leg without steps if already there; null if the destination cannot be reached.
+     */
+    public List<Leg> planRoute(GameMap map, int x, int y, Destination destination) {
+        int[] field = field(destination);
+        if (distance(map, x, y, destination) == UNREACHABLE) return null;
+
+        List<Leg> legs = new ArrayList<>();
+        int current = node(map, x, y);
+        GameMap currentMap = map;
+        List<Point> steps = new ArrayList<>();
+        int guard = totalNodes; // Tidak mungkin lebih panjang dari jumlah node
+        while (field[current] > 0 && guard-- > 0) {
+            int portalTarget = portalTargetByNode[current];
+            if (portalTarget >= 0 && field[portalTarget] == field[current]) {
+                Portal portal = portalAt(current);
+                legs.add(new Leg(currentMap, steps, portal));
+                steps = new ArrayList<>();
+                current = portalTarget;
+                currentMap = portal.getTo();
+                continue;
+            }
+            int next = downhillNeighbour(field, current);
+            if (next < 0) return null; // Field basi; seharusnya tidak terjadi
+            current = next;
+            int local = current - offsets[mapIndex(currentMap)];
+            steps.add(new Point(local % currentMap.getWidth(), local / currentMap.getWidth()));
+        }
+        if (!steps.isEmpty() || legs.isEmpty()) {
+            legs.add(new Leg(currentMap, steps, null));
+        }
+        return legs;
+    }
+
+    /** How many times a distance field was (re)built; for tests and benchmarks. */
+    public int getFieldBuildCount() {
+        return fieldBuilds;
+    }
+
+    /** Drops every cached field, e.g. after changing maps in a way they do not report. */
+    public synchronized void invalidate() {
+        fields.clear();
+        fieldVersions.clear();
+    }
+
+    private synchronized int[] field(Destination destination) {
+        int version = combinedVersion();
+        int[] field = fields.get(destination);
+        Integer builtAt = fieldVersions.get(destination);
+        if (field == null || builtAt == null || builtAt != version) {
+            field = buildField(destination);
+            fields.put(destination, field);
+            fieldVersions.put(destination, version);
+        }
+        return field;
+    }
+
+    private int combinedVersion() {
+        int version = 17;
+        for (GameMap map : maps) {
+            version = version * 31 + map.getWalkabilityVersion();
+        }
+        return version;
+    }
+
+    // BFS mundur dari semua tile tujuan; melewati portal (dari entry balik ke exit) gratis
+    private int[] buildField(Destination destination) {
+        fieldBuilds++;
+        int[] field = new int[totalNodes];
+        java.util.Arrays.fill(field, UNREACHABLE);
+        // Deque di atas array: depan untuk langkah biaya 0 (portal), belakang untuk biaya 1.
+        // Node bisa masuk lebih dari sekali, jadi sisakan ruang dua kali jumlah node di belakang.
+        if (queue == null) queue = new int[totalNodes * 3];
+        int head = totalNodes, tail = totalNodes;
+
+        for (int goal : goalNodes(destination)) {
+            if (field[goal] != 0) {
+                field[goal] = 0;
+                queue[tail++] = goal;
+            }
+        }
+        while (head < tail) {
+            int current = queue[head++];
+            int d = field[current];
+            // Portal terbalik: exit yang menuju node ini punya jarak sama
+            for (Portal portal : portals) {
+                if (node(portal.getTo(), portal.getEntryX(), portal.getEntryY()) != current) continue;
+                int exit = node(portal.getFrom(), portal.getExitX(), portal.getExitY());
+                if (field[exit] > d && portal.getFrom().isWalkable(portal.getExitX(), portal.getExitY())) {
+                    field[exit] = d;
+                    queue[--head] = exit;
+                }
+            }
+            int index = mapIndexOfNode(current);
+            GameMap map = maps[index];
+            int width = map.getWidth();
+            int local = current - offsets[index];
+            int cx = local % width, cy = local / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx + (dir == 0 ? 1 : dir == 1 ? -1 : 0);
+                int ny = cy + (dir == 2 ? 1 : dir == 3 ? -1 : 0);
+                if (!map.isWalkable(nx, ny)) continue;
+                int next = offsets[index] + ny * width + nx;
+                if (field[next] > d + 1) {
+                    field[next] = d + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return field;
+    }
+
+    private List<Integer> goalNodes(Destination destination) {
+        List<Integer> goals = new ArrayList<>();
+        switch (destination) {
+            case BED:
+                goals.add(node(house, HouseMap.BED_LOCATION.x, HouseMap.BED_LOCATION.y));
+                break;
+            case HOUSE_DOOR:
+                goals.add(node(farm, farm.getHouseExitSpawnX(), farm.getHouseExitSpawnY()));
+                break;
+            case SHIPPING_BIN:
+                addTilesNextTo(goals, farm, Tile.SHIPPING_BIN_SYMBOL);
+                break;
+            case STORE:
+                addTilesNextTo(goals, city, Tile.STORE_SYMBOL);
+                break;
+            default:
+                throw new IllegalArgumentException("Destination tidak dikenal: " + destination);
+        }
+        return goals;
+    }
+
+    private void addTilesNextTo(List<Integer> goals, GameMap map, char symbol) {
+        for (int x = 0; x < map.getWidth(); x++) {
+            for (int y = 0; y < map.getHeight(); y++) {
+                if (!map.isWalkable(x, y)) continue;
+                if (hasSymbol(map, x + 1, y, symbol) || hasSymbol(map, x - 1, y, symbol)
+                        || hasSymbol(map, x, y + 1, symbol) || hasSymbol(map, x, y - 1, symbol)) {
+                    goals.add(node(map, x, y));
+                }
+            }
+        }
+    }
+
+    private static boolean hasSymbol(GameMap map, int x, int y, char symbol) {
+        Tile tile = map.peekTileAt(x, y);
+        return tile != null && tile.displayChar() == symbol;
+    }
+
+    private int downhillNeighbour(int[] field, int current) {
+        int index = mapIndexOfNode(current);
+        GameMap map = maps[index];
+        int width = map.getWidth();
+        int local = current - offsets[index];
+        int cx = local % width, cy = local / width;
+        for (int dir = 0; dir < 4; dir++) {
+            int nx = cx + (dir == 0 ? 1 : dir == 1 ? -1 : 0);
+            int ny = cy + (dir == 2 ? 1 : dir == 3 ? -1 : 0);
+            if (nx < 0 || ny < 0 || nx >= width || ny >= map.getHeight()) continue;
+            int next = offsets[index] + ny * width + nx;
+            if (field[next] == field[current] - 1 && map.isWalkable(nx, ny)) return next;
+        }
+        return -1;
+    }
+
+    private Portal portalAt(int exitNode) {
+        for (Portal portal : portals) {
+            if (node(portal.getFrom(), portal.getExitX(), portal.getExitY()) == exitNode) return portal;
+        }
+        return null;
+    }
+
+    private int node(GameMap map, int x, int y) {
+        return offsets[mapIndex(map)] + y * map.getWidth() + x;
+    }
+
+    private int mapIndex(GameMap map) {
+        for (int i = 0; i < maps.length; i++) {
+            if (maps[i] == map) return i;
+        }
+        return -1;
+    }
+
+    private int mapIndexOfNode(int node) {
+        for (int i = maps.length - 1; i >= 0; i--) {
+            if (node >= offsets[i]) return i;
+        }
+        return 0;
+    }
+}
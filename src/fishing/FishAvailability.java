@@ -0,0 +1,52 @@
+package fishing;
+
+import core.world.Season;
+import core.world.Weather;
+import item.Fish;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Which fish of one {@link FishingLocation} bite in each season, weather and hour, worked out
+ * once so a cast is a single array lookup. Cells are unmodifiable lists; cells holding the same
+ * fish share one list.
+ */
+final class FishAvailability {
+    static final int HOURS = 24;
+    private static final Season[] SEASONS = Season.values();
+    private static final Weather[] WEATHERS = Weather.values();
+
+    private final List<?>[] cells = new List<?>[SEASONS.length * WEATHERS.length * HOURS];
+
+    FishAvailability(FishingLocation location, List<Fish> fish) {
+        Map<List<Fish>, List<Fish>> shared = new HashMap<>();
+        List<Fish> cell = new ArrayList<>();
+        for (Season season : SEASONS) {
+            for (Weather weather : WEATHERS) {
+                for (int hour = 0; hour < HOURS; hour++) {
+                    cell.clear();
+                    for (Fish f : fish) {
+                        if (f.isCatchableAt(season, hour, weather, location)) {
+                            cell.add(f);
+                        }
+                    }
+                    cells[index(season, weather, hour)] = shared.computeIfAbsent(List.copyOf(cell), list -> list);
+                }
+            }
+        }
+    }
+
+    /** Fish catchable at {@code hour} (wrapped into 0-23); empty if season or weather is null. */
+    @SuppressWarnings("unchecked")
+    List<Fish> get(Season season, Weather weather, int hour) {
+        if (season == null || weather == null) return List.of();
+        return (List<Fish>) cells[index(season, weather, Math.floorMod(hour, HOURS))];
+    }
+
+    private static int index(Season season, Weather weather, int hour) {
+        return (season.ordinal() * WEATHERS.length + weather.ordinal()) * HOURS + hour;
+    }
+}
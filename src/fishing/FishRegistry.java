@@ -141,6 +141,10 @@ public class FishRegistry {
     public static List<Fish> buildAll(Map<String,FishingLocation> locationsByName) {
         List<Fish> allCreatedFish = new ArrayList<>(DEFINITIONS.size());
         FISH_BY_NAME.clear();
+        // Daftar ikan lokasi dibangun ulang dari awal, supaya buildAll berulang tidak menggandakan ikan
+        for (FishingLocation loc : locationsByName.values()) {
+            loc.setPossibleFish(new ArrayList<>());
+        }
 
         for (var d : DEFINITIONS) {
             var associatedLocations = new ArrayList<FishingLocation>();
@@ -167,6 +171,10 @@ public class FishRegistry {
                 loc.addFish(newFish);
             }
         }
+        // Tabel ketersediaan per (musim, cuaca, jam) dihitung sekali di sini, bukan tiap lemparan kail
+        for (FishingLocation loc : locationsByName.values()) {
+            loc.buildAvailability();
+        }
         return allCreatedFish;
     }
 
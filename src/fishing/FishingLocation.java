@@ -10,28 +10,50 @@ import core.player.Player;
 public abstract class FishingLocation {
     protected String name;
     protected List<Fish> possibleFish;
+    private volatile FishAvailability availability; // Dibangun ulang setelah daftar ikan berubah
 
     public FishingLocation(String name, List<Fish> possibleFish) {
         this.name = name;
         this.possibleFish = possibleFish;
     }
 
+    /**
+     * Fish that bite here now. Served from a table built once per fish list (see
+     * {@link FishRegistry#buildAll}); the returned list is shared and unmodifiable.
+     */
     public List<Fish> getPossibleFish(Season seasons, Time time, Weather weather, FishingLocation location) {
-        List<Fish> catchableFish = new ArrayList<>();
-        for (Fish fish : possibleFish) {
-            if (fish.isCatchable(seasons, time, weather, location)) {
-                catchableFish.add(fish);
+        if (location != this) {
+            // Tabel hanya berlaku untuk lokasi ini sendiri
+            List<Fish> catchableFish = new ArrayList<>();
+            for (Fish fish : possibleFish) {
+                if (fish.isCatchable(seasons, time, weather, location)) {
+                    catchableFish.add(fish);
+                }
             }
+            return catchableFish;
         }
-        return catchableFish;
+        FishAvailability table = availability;
+        if (table == null) {
+            table = buildAvailability();
+        }
+        return table.get(seasons, weather, time.getHour());
+    }
+
+    /** Precomputes the availability table for the current fish list. */
+    FishAvailability buildAvailability() {
+        FishAvailability table = new FishAvailability(this, possibleFish);
+        availability = table;
+        return table;
     }
 
     public void setPossibleFish(List<Fish> fish) {
         this.possibleFish = fish;
+        this.availability = null;
     }
 
     public void addFish(Fish f) {
         this.possibleFish.add(f);
+        this.availability = null;
     }
         
     public abstract boolean canFishAt(Player player);
@@ -1,7 +1,7 @@
 package fishing;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.ArrayList;
 
 import item.Fish;
 import core.world.*;
@@ -14,27 +14,29 @@ public class SpecificFishingLocation extends FishingLocation {
     };
 
     protected FarmMap farmMap;
-    protected List<Tile> fishingPositions;
+    // Petak di samping kolam sebagai indeks y * lebar + x; peekTileAt memberi tile bersama tanpa koordinat, jadi bandingkan posisinya
+    protected final BitSet fishingPositions = new BitSet();
 
     public SpecificFishingLocation(String name, List<Fish> possibleFish, FarmMap farmMap) {
         super(name, possibleFish);
         this.farmMap = farmMap;
-        this.fishingPositions = new ArrayList<>();
-        getFishingPositions();
+        refreshFishingPositions();
     }
 
-    private void getFishingPositions() {
-        for (int x = 0; x < FarmMap.SIZE; x++) {
-            for (int y = 0; y < FarmMap.SIZE; y++) {
-                Tile t = farmMap.getTileAt(x, y);
-                if (t.getType() == TileType.DEPLOYED && t.displayChar() == 'o') {
+    /** Recomputes the tiles beside the pond, e.g. after a save game moved the pond. */
+    public void refreshFishingPositions() {
+        fishingPositions.clear();
+        // Cukup periksa area objek kolam, bukan seluruh peta (FarmMap bisa sangat besar)
+        for (DeployedObject obj : farmMap.getDeployedObjects()) {
+            if (obj.getSymbol() != Tile.POND_SYMBOL) continue;
+            for (int x = obj.getX(); x < obj.getX() + obj.getWidth(); x++) {
+                for (int y = obj.getY(); y < obj.getY() + obj.getHeight(); y++) {
+                    Tile t = farmMap.peekTileAt(x, y);
+                    if (t == null || t.getType() != TileType.DEPLOYED || t.displayChar() != Tile.POND_SYMBOL) continue;
                     for (int[] d : ADJACENT) {
                         int nx = x + d[0], ny = y + d[1];
-                        if (nx >= 0 && ny >= 0 && nx < FarmMap.SIZE && ny < FarmMap.SIZE) {
-                            Tile adj = farmMap.getTileAt(nx, ny);
-                            if (adj.isWalkable()) {
-                                fishingPositions.add(adj);
-                            }
+                        if (nx >= 0 && ny >= 0 && nx < farmMap.getWidth() && ny < farmMap.getHeight()) {
+                            fishingPositions.set(ny * farmMap.getWidth() + nx);
                         }
                     }
                 }
@@ -48,10 +50,12 @@ public class SpecificFishingLocation extends FishingLocation {
             return false;
         }
 
-        Tile currentTile = this.farmMap.getTileAt(player.getX(), player.getY());
-        if(currentTile == null){
+        int x = player.getX();
+        int y = player.getY();
+        if (x < 0 || y < 0 || x >= farmMap.getWidth() || y >= farmMap.getHeight()) {
             return false;
         }
-        return fishingPositions.contains(currentTile);
+        // Kelayakan jalan dicek sekarang: petak bisa dicangkul atau ditanami setelah lokasi dibuat
+        return fishingPositions.get(y * farmMap.getWidth() + x) && farmMap.isWalkable(x, y);
     }
-} 
+}
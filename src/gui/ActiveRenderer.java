@@ -0,0 +1,220 @@
+package gui;
+
+import system.GameLogger;
+import time.SimulationClock;
+
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Window;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Optional active-rendering mode for {@link GameView}.
+ *
+ * Instead of waiting for {@code repaint()} requests, a "RenderLoop" thread paces frames at a
+ * fixed target FPS and, for every frame, paints the whole frame content into a
+ * {@link BufferStrategy} on the EDT and flips it. Swing's own repaint requests are ignored
+ * while the mode is on, so input handlers and the simulation only change state and the next
+ * frame shows it; simulation ticks keep running on their own clock, independent of frames.
+ *
+ * An overlay shows frame time, the last simulation tick time and the number of dropped
+ * frames (frame deadlines that passed while the EDT was still busy). Enable with
+ * {@code -Dspakbor.render.active=true}, target FPS with {@code -Dspakbor.render.fps=60}.
+ */
+public final class ActiveRenderer {
+    private static final GameLogger LOG = GameLogger.get(ActiveRenderer.class);
+
+    public static final String ENABLED_PROPERTY = "spakbor.render.active";
+    public static final String FPS_PROPERTY = "spakbor.render.fps";
+    public static final int DEFAULT_FPS = 60;
+
+    private static final int STATS_WINDOW = 60; // Rata-rata dan maksimum atas 60 frame terakhir
+
+    private final JFrame frame;
+    private final SimulationClock clock; // Boleh null, overlay lalu tidak menampilkan tick
+    private final long framePeriodNanos;
+
+    private BufferStrategy strategy; // Hanya dipakai dari EDT
+    private RepaintManager previousRepaintManager;
+    private volatile boolean running;
+    private volatile boolean overlayVisible = true;
+    private Thread loopThread;
+
+    // Statistik frame; ditulis dari EDT, dibaca oleh overlay di EDT juga
+    private final long[] frameNanos = new long[STATS_WINDOW];
+    private int frameCursor;
+    private long framesRendered;
+    private volatile long droppedFrames;
+
+    public ActiveRenderer(JFrame frame, SimulationClock clock, int targetFps) {
+        if (frame == null) {
+            throw new IllegalArgumentException("Frame tidak boleh null");
+        }
+        if (targetFps < 1 || targetFps > 1000) {
+            throw new IllegalArgumentException("Target FPS tidak valid: " + targetFps);
+        }
+        this.frame = frame;
+        this.clock = clock;
+        this.framePeriodNanos = 1_000_000_000L / targetFps;
+    }
+
+    public static boolean isEnabledByProperty() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /** Target FPS from {@value #FPS_PROPERTY}, or {@link #DEFAULT_FPS} if unset or invalid. */
+    public static int configuredFps() {
+        String value = System.getProperty(FPS_PROPERTY);
+        if (value == null) return DEFAULT_FPS;
+        try {
+            int fps = Integer.parseInt(value.trim());
+            if (fps >= 1 && fps <= 1000) return fps;
+        } catch (NumberFormatException e) {
+            // Jatuh ke default di bawah
+        }
+        LOG.warn("Invalid " + FPS_PROPERTY + "=" + value + ", using " + DEFAULT_FPS);
+        return DEFAULT_FPS;
+    }
+
+    /**
+     * Switches the frame to active rendering. Call on the EDT after the frame is visible.
+     */
+    public synchronized void start() {
+        if (running) return;
+        if (!frame.isDisplayable()) {
+            throw new IllegalStateException("Frame harus sudah tampil sebelum active rendering dimulai");
+        }
+        frame.setIgnoreRepaint(true);
+        frame.createBufferStrategy(2);
+        strategy = frame.getBufferStrategy();
+        previousRepaintManager = RepaintManager.currentManager(frame);
+        RepaintManager.setCurrentManager(new PassiveRepaintManager());
+
+        running = true;
+        loopThread = new Thread(this::loop, "RenderLoop");
+        loopThread.setDaemon(true);
+        loopThread.start();
+        LOG.info("Active rendering on, target " + (1_000_000_000L / framePeriodNanos) + " FPS");
+    }
+
+    /**
+     * Goes back to normal Swing repaints. Call on the EDT.
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        loopThread.interrupt();
+        loopThread = null;
+        RepaintManager.setCurrentManager(previousRepaintManager);
+        frame.setIgnoreRepaint(false);
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+        frame.repaint();
+        LOG.info("Active rendering off");
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setOverlayVisible(boolean visible) {
+        this.overlayVisible = visible;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    private void loop() {
+        long deadline = System.nanoTime();
+        while (running) {
+            deadline += framePeriodNanos;
+            try {
+                SwingUtilities.invokeAndWait(this::renderFrame);
+            } catch (InterruptedException e) {
+                return; // stop()
+            } catch (InvocationTargetException e) {
+                LOG.error("Frame gagal dirender: " + e.getCause());
+            }
+            long now = System.nanoTime();
+            if (now > deadline) {
+                // Deadline yang sudah lewat tidak dikejar; frame-nya dihitung hilang
+                long missed = (now - deadline) / framePeriodNanos + 1;
+                droppedFrames += missed;
+                deadline += missed * framePeriodNanos;
+            }
+            LockSupport.parkNanos(deadline - now);
+        }
+    }
+
+    private void renderFrame() {
+        if (!running || strategy == null) return;
+        long start = System.nanoTime();
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    Insets insets = frame.getInsets();
+                    g.translate(insets.left, insets.top);
+                    frame.getRootPane().paint(g);
+                    if (overlayVisible) {
+                        drawOverlay(g);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        frameNanos[frameCursor] = System.nanoTime() - start;
+        frameCursor = (frameCursor + 1) % STATS_WINDOW;
+        framesRendered++;
+    }
+
+    private void drawOverlay(Graphics2D g) {
+        int samples = (int) Math.min(framesRendered, STATS_WINDOW);
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < samples; i++) {
+            total += frameNanos[i];
+            max = Math.max(max, frameNanos[i]);
+        }
+        double avgMillis = samples == 0 ? 0 : total / (double) samples / 1e6;
+        String frameLine = String.format("frame %.2f ms (max %.2f)", avgMillis, max / 1e6);
+        String tickLine = clock == null ? "tick -" : String.format("tick %.3f ms", clock.getLastTickNanos() / 1e6);
+        String dropLine = "dropped " + droppedFrames + " / " + (framesRendered + droppedFrames);
+
+        g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        g.setColor(new Color(0, 0, 0, 160));
+        g.fillRect(4, 4, 190, 50);
+        g.setColor(Color.WHITE);
+        g.drawString(frameLine, 10, 20);
+        g.drawString(tickLine, 10, 34);
+        g.drawString(dropLine, 10, 48);
+    }
+
+    /** Drops Swing's repaint requests; the render loop paints everything each frame anyway. Layout still works. */
+    private static final class PassiveRepaintManager extends RepaintManager {
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        }
+
+        @Override
+        public void addDirtyRegion(Window window, int x, int y, int w, int h) {
+        }
+    }
+}
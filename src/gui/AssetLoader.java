@@ -0,0 +1,87 @@
+package gui;
+
+import javax.swing.SwingUtilities;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes sprites on a small worker pool so the EDT does not block on ImageIO at startup.
+ *
+ * Images go into the shared {@link SpriteAtlas}; a panel that later calls
+ * {@code SpriteAtlas.load} for a preloaded path gets the decoded image right away, or waits
+ * only for that one file if it is still in flight.
+ */
+public final class AssetLoader {
+    /** Base folder of all PNG sprites. */
+    public static final String PNG_DIR = "resources/asset/png/";
+
+    private static final AssetLoader INSTANCE = new AssetLoader();
+
+    /** Receives loading progress on the EDT. */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int loaded, int total);
+    }
+
+    private final ExecutorService workers;
+
+    private AssetLoader() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-loader-" + counter.incrementAndGet());
+            t.setDaemon(true); // Jangan menahan JVM saat window ditutup
+            return t;
+        });
+    }
+
+    public static AssetLoader getInstance() {
+        return INSTANCE;
+    }
+
+    /** Path of a sprite in {@link #PNG_DIR}. */
+    public static String png(String fileName) {
+        return PNG_DIR + fileName;
+    }
+
+    /**
+     * Starts decoding {@code paths} in parallel. Duplicates and already loaded images are fine.
+     * The listener (may be null) is called on the EDT after each image, with the final call
+     * reporting {@code loaded == total}.
+     */
+    public CompletableFuture<Void> preload(Collection<String> paths, ProgressListener listener) {
+        if (paths == null) {
+            throw new IllegalArgumentException("Daftar aset tidak boleh null");
+        }
+        List<String> unique = new ArrayList<>(new LinkedHashSet<>(paths));
+        int total = unique.size();
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[total];
+        for (int i = 0; i < total; i++) {
+            String path = unique.get(i);
+            CompletableFuture<BufferedImage> image = SpriteAtlas.getInstance().loadAsync(path, fileName(path), workers);
+            pending[i] = image.whenComplete((img, error) -> {
+                loaded.incrementAndGet();
+                if (listener != null) {
+                    // Dibaca di EDT, jadi nilai yang dilaporkan tidak pernah mundur
+                    SwingUtilities.invokeLater(() -> listener.onProgress(loaded.get(), total));
+                }
+            });
+        }
+        if (total == 0 && listener != null) {
+            SwingUtilities.invokeLater(() -> listener.onProgress(0, 0));
+        }
+        return CompletableFuture.allOf(pending);
+    }
+
+    private static String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
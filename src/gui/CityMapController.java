@@ -55,7 +55,8 @@ public class CityMapController extends KeyAdapter {
         if (e.getKeyCode() == KeyEvent.VK_D) { dx += 1; moveKey = true; }
 
         if (moveKey && (dx != 0 || dy != 0) && now - lastMoveTime >= MOVE_COOLDOWN_MS) {
-            actionTaken = cityMap.movePlayer(player, dx, dy);
+            int stepX = dx, stepY = dy;
+            actionTaken = gameManager.getGameTime().getClock().call(() -> cityMap.movePlayer(player, stepX, stepY));
             lastMoveTime = now;
         } else if (!moveKey) {
             // Non-movement actions
@@ -144,7 +145,7 @@ public class CityMapController extends KeyAdapter {
                                     gameView.showNPCInteractionScreen(emilyNpc);
                                     // Apply energy cost for interaction
                                     if (player.getEnergy() >= 5) {
-                                        player.setEnergy(player.getEnergy() - 5);
+                                        spendEnergy(player, 5);
                                     } else {
                                         JOptionPane.showMessageDialog(cityMapPanel, "Not enough energy to interact with Emily.", "Energy Low", JOptionPane.WARNING_MESSAGE);
                                         actionTaken = false;
@@ -153,7 +154,7 @@ public class CityMapController extends KeyAdapter {
                                     System.out.println("Player chose to shop at Emily's Store.");
                                     gameView.showScreen("StoreScreen");
                                     if (player.getEnergy() >= 5) { // Cost for entering store to shop
-                                        player.setEnergy(player.getEnergy() - 5);
+                                        spendEnergy(player, 5);
                                     }
                                 } else { // Cancel or closed dialog
                                     actionTaken = false;
@@ -163,7 +164,7 @@ public class CityMapController extends KeyAdapter {
                                 System.out.println("Emily NPC object not found, defaulting to store screen for: " + buildingName);
                                 gameView.showScreen("StoreScreen");
                                 if (player.getEnergy() >= 5) {
-                                    player.setEnergy(player.getEnergy() - 5);
+                                    spendEnergy(player, 5);
                                 }
                             }
                         } else {
@@ -192,7 +193,7 @@ public class CityMapController extends KeyAdapter {
                                 System.out.println("NPC found: " + targetNpc.getName() + ". Showing interaction screen."); // Debug print
                                 gameView.showNPCInteractionScreen(targetNpc);
                                 if (player.getEnergy() >= 5) { // Assuming a cost for meeting NPC
-                                    player.setEnergy(player.getEnergy() - 5);
+                                    spendEnergy(player, 5);
                                 } else {
                                     JOptionPane.showMessageDialog(
                                         cityMapPanel,
@@ -301,7 +302,7 @@ public class CityMapController extends KeyAdapter {
             int checkX = px + offset[0];
             int checkY = py + offset[1];
 
-            if (checkX >= 0 && checkX < map.getSize() && checkY >= 0 && checkY < map.getSize()) {
+            if (checkX >= 0 && checkX < map.getWidth() && checkY >= 0 && checkY < map.getHeight()) {
                 for (DeployedObject obj : map.getDeployedObjects()) {
                     if (obj.occupies(checkX, checkY)) {
                         // Always allow the exit object (symbol 'X')
@@ -323,4 +324,9 @@ public class CityMapController extends KeyAdapter {
         }
         return null; // No adjacent, non-fence, interactable object found
     }
+
+    /** Energi pemain diubah di SimulationThread, sama seperti aksi lain yang mengubah dunia. */
+    private void spendEnergy(Player player, int amount) {
+        gameManager.getGameTime().getClock().execute(() -> player.setEnergy(player.getEnergy() - amount));
+    }
 }
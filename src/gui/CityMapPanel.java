@@ -3,13 +3,13 @@ package gui;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import core.world.GameMap;
 import core.world.Tile;
@@ -44,142 +44,124 @@ public class CityMapPanel extends JPanel {
     }
 
     /**
-     * Load all necessary images (terrain, generic objects, building sprites, player sprite).
+     * Sprites used by {@link #loadImages()}, including the building images of {@code cityMap},
+     * so {@link AssetLoader} can decode them before the panel is built. Only a hint: a path
+     * missing here is still loaded, just on the EDT.
      */
-    private void loadImages() {
-        try {
-            // ---------------------
-            // Terrain images: (16x16)
-            // ---------------------
-            terrainImages.put(Tile.DEFAULT_UNTILLED_CHAR, loadImage("resources/asset/png/Jalan-16px.png", "Jalan-16px.png"));
-            terrainImages.put(Tile.RUMPUT_HIJAU_SYMBOL, loadImage("/resources/asset/png/JalanHijau-16px.png", "JalanHijau-16px.png"));
-            terrainImages.put(Tile.BATU_SYMBOL, loadImage("/resources/asset/png/Stone_Round.png", "Stone_Round.png"));
-            terrainImages.put(Tile.AIR_SYMBOL, loadImage("/resources/asset/png/Kolam_air.png", "Kolam_air.png"));
-            terrainImages.put(Tile.BUNGA_PINK_SYMBOL, loadImage("/resources/asset/png/BungaPink.png", "BungaPink.png"));
-            terrainImages.put(Tile.TANAH_SYMBOL, loadImage("/resources/asset/png/Tanah-16px.png", "Tanah-16px.png"));
-            terrainImages.put(Tile.TILLED_CHAR, loadImage("/resources/asset/png/Soil_TILLED.png", "Soil_TILLED.png"));
-            terrainImages.put(Tile.PLANTED_CHAR, loadImage("/resources/asset/png/Soil_ThrownSeeds.png", "Soil_ThrownSeeds.png")); // For planted (generic)
-
-            // NEW: Load specific 2-tile wide road segment images
-            terrainImages.put(Tile.JALAN_COKLAT_KIRI_SYMBOL, loadImage("/resources/asset/png/jalan_coklatKiri.png", "jalan_coklatKiri.png"));
-            terrainImages.put(Tile.JALAN_COKLAT_KANAN_SYMBOL, loadImage("/resources/asset/png/jalan_coklatKanan.png", "jalan_coklatKanan.png"));
-            terrainImages.put(Tile.JALAN_COKLAT_ATAS_SYMBOL, loadImage("/resources/asset/png/jalan_coklatAtas.png", "jalan_coklatAtas.png")); 
-            terrainImages.put(Tile.JALAN_COKLAT_BAWAH_SYMBOL, loadImage("/resources/asset/png/jalan_coklatBawah.png", "jalan_coklatBawah.png"));
-            terrainImages.put(Tile.JALAN_TENGAH_SYMBOL, loadImage("/resources/asset/png/jalan_coklatTengah.png", "jalan_coklatTengah.png"));
-
-            // Provide fallbacks if any terrain image is missing:
-            for (char key : new char[]{Tile.DEFAULT_UNTILLED_CHAR, Tile.RUMPUT_HIJAU_SYMBOL, Tile.BATU_SYMBOL, Tile.AIR_SYMBOL,
-                                       Tile.BUNGA_PINK_SYMBOL, Tile.TANAH_SYMBOL, Tile.TILLED_CHAR, Tile.PLANTED_CHAR,
-                                       Tile.JALAN_COKLAT_KIRI_SYMBOL, Tile.JALAN_COKLAT_KANAN_SYMBOL,
-                                       Tile.JALAN_COKLAT_ATAS_SYMBOL, Tile.JALAN_COKLAT_BAWAH_SYMBOL, }) {
-                if (!terrainImages.containsKey(key) || terrainImages.get(key) == null) {
-                    terrainImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
+    static List<String> preloadPaths(CityMap cityMap) {
+        List<String> paths = new ArrayList<>(Arrays.asList(
+                AssetLoader.png("Jalan-16px.png"), AssetLoader.png("JalanHijau-16px.png"), AssetLoader.png("Stone_Round.png"),
+                AssetLoader.png("Kolam_air.png"), AssetLoader.png("BungaPink.png"), AssetLoader.png("Tanah-16px.png"),
+                AssetLoader.png("Soil_TILLED.png"), AssetLoader.png("Soil_ThrownSeeds.png"), AssetLoader.png("jalan_coklatKiri.png"),
+                AssetLoader.png("jalan_coklatKanan.png"), AssetLoader.png("jalan_coklatAtas.png"), AssetLoader.png("jalan_coklatBawah.png"),
+                AssetLoader.png("jalan_coklatTengah.png"), AssetLoader.png("PlayerBoy_idle.png"), AssetLoader.png("Fence.png"),
+                AssetLoader.png("Door.png"), AssetLoader.png("House_Player.png"), AssetLoader.png("ShippingBin_Closed.png")));
+        for (DeployedObject obj : cityMap.getDeployedObjects()) {
+            if (obj instanceof CityMap.Building) {
+                String imgPath = ((CityMap.Building) obj).getImagePath();
+                if (imgPath != null && !imgPath.isEmpty()) {
+                    paths.add(imgPath);
                 }
             }
+        }
+        return paths;
+    }
 
-            // ---------------------
-            // Player image: (16x16)
-            // ---------------------
-            playerImage = loadImage("/resources/asset/png/PlayerBoy_idle.png", "PlayerBoy_idle.png");
-            if (playerImage == null) {
-                playerImage = createFallbackImage(Color.RED);
+    /**
+     * Load all necessary images (terrain, generic objects, building sprites, player sprite).
+     */
+    private void loadImages() {
+        // ---------------------
+        // Terrain images: (16x16)
+        // ---------------------
+        terrainImages.put(Tile.DEFAULT_UNTILLED_CHAR, loadImage("resources/asset/png/Jalan-16px.png", "Jalan-16px.png"));
+        terrainImages.put(Tile.RUMPUT_HIJAU_SYMBOL, loadImage("/resources/asset/png/JalanHijau-16px.png", "JalanHijau-16px.png"));
+        terrainImages.put(Tile.BATU_SYMBOL, loadImage("/resources/asset/png/Stone_Round.png", "Stone_Round.png"));
+        terrainImages.put(Tile.AIR_SYMBOL, loadImage("/resources/asset/png/Kolam_air.png", "Kolam_air.png"));
+        terrainImages.put(Tile.BUNGA_PINK_SYMBOL, loadImage("/resources/asset/png/BungaPink.png", "BungaPink.png"));
+        terrainImages.put(Tile.TANAH_SYMBOL, loadImage("/resources/asset/png/Tanah-16px.png", "Tanah-16px.png"));
+        terrainImages.put(Tile.TILLED_CHAR, loadImage("/resources/asset/png/Soil_TILLED.png", "Soil_TILLED.png"));
+        terrainImages.put(Tile.PLANTED_CHAR, loadImage("/resources/asset/png/Soil_ThrownSeeds.png", "Soil_ThrownSeeds.png")); // For planted (generic)
+
+        // NEW: Load specific 2-tile wide road segment images
+        terrainImages.put(Tile.JALAN_COKLAT_KIRI_SYMBOL, loadImage("/resources/asset/png/jalan_coklatKiri.png", "jalan_coklatKiri.png"));
+        terrainImages.put(Tile.JALAN_COKLAT_KANAN_SYMBOL, loadImage("/resources/asset/png/jalan_coklatKanan.png", "jalan_coklatKanan.png"));
+        terrainImages.put(Tile.JALAN_COKLAT_ATAS_SYMBOL, loadImage("/resources/asset/png/jalan_coklatAtas.png", "jalan_coklatAtas.png")); 
+        terrainImages.put(Tile.JALAN_COKLAT_BAWAH_SYMBOL, loadImage("/resources/asset/png/jalan_coklatBawah.png", "jalan_coklatBawah.png"));
+        terrainImages.put(Tile.JALAN_TENGAH_SYMBOL, loadImage("/resources/asset/png/jalan_coklatTengah.png", "jalan_coklatTengah.png"));
+
+        // Provide fallbacks if any terrain image is missing:
+        for (char key : new char[]{Tile.DEFAULT_UNTILLED_CHAR, Tile.RUMPUT_HIJAU_SYMBOL, Tile.BATU_SYMBOL, Tile.AIR_SYMBOL,
+                                   Tile.BUNGA_PINK_SYMBOL, Tile.TANAH_SYMBOL, Tile.TILLED_CHAR, Tile.PLANTED_CHAR,
+                                   Tile.JALAN_COKLAT_KIRI_SYMBOL, Tile.JALAN_COKLAT_KANAN_SYMBOL,
+                                   Tile.JALAN_COKLAT_ATAS_SYMBOL, Tile.JALAN_COKLAT_BAWAH_SYMBOL, }) {
+            if (!terrainImages.containsKey(key) || terrainImages.get(key) == null) {
+                terrainImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
             }
+        }
 
-            // ---------------------
-            // Deployed objects (Fence, Exit, etc.): (16x16)
-            // ---------------------
-            // Load specific 1x1 object images directly into objectImages map
-            BufferedImage fenceImg = loadImage("/resources/asset/png/Fence.png", "Fence.png");
-            if (fenceImg == null) {
-                fenceImg = createFallbackImage(new Color(100, 100, 100));
-            }
-            objectImages.put(Tile.FENCE_SYMBOL, fenceImg); // Store by symbol
-            
-            BufferedImage doorImg = loadImage("/resources/asset/png/Door.png", "Door.png"); // The Exit image
-            if (doorImg == null) {
-                doorImg = createFallbackImage(new Color(0, 150, 0)); // Green for Exit
-            }
-            objectImages.put(Tile.EXIT_SYMBOL, doorImg); // Store by symbol for Exit
-
-            // For other generic 1x1 deployed objects (like farm house, pond, shipping bin, generic furniture from Tile.java)
-            objectImages.put(Tile.FARM_HOUSE_SYMBOL, loadImage("/resources/asset/png/House_Player.png", "Farm House")); // Assuming this is player's farm house
-            objectImages.put(Tile.POND_SYMBOL, loadImage("/resources/asset/png/Kolam_air.png", "Farm Pond")); // Reusing Kolam_air for farm pond
-            objectImages.put(Tile.SHIPPING_BIN_SYMBOL, loadImage("/resources/asset/png/ShippingBin_Closed.png", "Shipping Bin"));
-            objectImages.put(Tile.GENERIC_FARM_FURNITURE_B, createFallbackImage(new Color(180, 100, 180))); // Fallback for generic B
-            objectImages.put(Tile.GENERIC_FARM_FURNITURE_T, createFallbackImage(new Color(100, 180, 180))); // Fallback for generic T
-
-            // ---------------------
-            // Building images: (multi-tile)
-            // ---------------------
-            for (DeployedObject obj : cityMap.getDeployedObjects()) {
-                if (obj instanceof CityMap.Building) {
-                    CityMap.Building b = (CityMap.Building) obj;
-                    String bName = b.getBuildingName();
-                    String imgPath = b.getImagePath();
-                    
-                    if (imgPath != null && !imgPath.isEmpty()) {
-                        BufferedImage bimg = loadImage(imgPath, "Building: " + bName);
-                        if (bimg != null) {
-                            buildingImages.put(bName, bimg);
-                        } else {
-                            buildingImages.put(bName, createFallbackImage(getFallbackColorForSymbol(obj.getSymbol()), b.getWidth() * BASE_ASSET_SIZE, b.getHeight() * BASE_ASSET_SIZE));
-                        }
+        // ---------------------
+        // Player image: (16x16)
+        // ---------------------
+        playerImage = loadImage("/resources/asset/png/PlayerBoy_idle.png", "PlayerBoy_idle.png");
+        if (playerImage == null) {
+            playerImage = createFallbackImage(Color.RED);
+        }
+
+        // ---------------------
+        // Deployed objects (Fence, Exit, etc.): (16x16)
+        // ---------------------
+        // Load specific 1x1 object images directly into objectImages map
+        BufferedImage fenceImg = loadImage("/resources/asset/png/Fence.png", "Fence.png");
+        if (fenceImg == null) {
+            fenceImg = createFallbackImage(new Color(100, 100, 100));
+        }
+        objectImages.put(Tile.FENCE_SYMBOL, fenceImg); // Store by symbol
+        
+        BufferedImage doorImg = loadImage("/resources/asset/png/Door.png", "Door.png"); // The Exit image
+        if (doorImg == null) {
+            doorImg = createFallbackImage(new Color(0, 150, 0)); // Green for Exit
+        }
+        objectImages.put(Tile.EXIT_SYMBOL, doorImg); // Store by symbol for Exit
+
+        // For other generic 1x1 deployed objects (like farm house, pond, shipping bin, generic furniture from Tile.java)
+        objectImages.put(Tile.FARM_HOUSE_SYMBOL, loadImage("/resources/asset/png/House_Player.png", "Farm House")); // Assuming this is player's farm house
+        objectImages.put(Tile.POND_SYMBOL, loadImage("/resources/asset/png/Kolam_air.png", "Farm Pond")); // Reusing Kolam_air for farm pond
+        objectImages.put(Tile.SHIPPING_BIN_SYMBOL, loadImage("/resources/asset/png/ShippingBin_Closed.png", "Shipping Bin"));
+        objectImages.put(Tile.GENERIC_FARM_FURNITURE_B, createFallbackImage(new Color(180, 100, 180))); // Fallback for generic B
+        objectImages.put(Tile.GENERIC_FARM_FURNITURE_T, createFallbackImage(new Color(100, 180, 180))); // Fallback for generic T
+
+        // ---------------------
+        // Building images: (multi-tile)
+        // ---------------------
+        for (DeployedObject obj : cityMap.getDeployedObjects()) {
+            if (obj instanceof CityMap.Building) {
+                CityMap.Building b = (CityMap.Building) obj;
+                String bName = b.getBuildingName();
+                String imgPath = b.getImagePath();
+                
+                if (imgPath != null && !imgPath.isEmpty()) {
+                    BufferedImage bimg = loadImage(imgPath, "Building: " + bName);
+                    if (bimg != null) {
+                        buildingImages.put(bName, bimg);
                     } else {
-                         buildingImages.put(bName, createFallbackImage(getFallbackColorForSymbol(obj.getSymbol()), b.getWidth() * BASE_ASSET_SIZE, b.getHeight() * BASE_ASSET_SIZE));
+                        buildingImages.put(bName, createFallbackImage(getFallbackColorForSymbol(obj.getSymbol()), b.getWidth() * BASE_ASSET_SIZE, b.getHeight() * BASE_ASSET_SIZE));
                     }
-                }
-            }
-        }
-        catch (IOException e) {
-            e.printStackTrace();
-            System.err.println("Critical Error loading images for CityMapPanel: " + e.getMessage());
-            // Provide a minimal fallback so the panel still draws something.
-            for (char key : new char[]{Tile.DEFAULT_UNTILLED_CHAR, Tile.RUMPUT_HIJAU_SYMBOL, Tile.BATU_SYMBOL, Tile.AIR_SYMBOL,
-                                       Tile.BUNGA_PINK_SYMBOL, Tile.TANAH_SYMBOL, Tile.TILLED_CHAR, Tile.PLANTED_CHAR,
-                                       Tile.JALAN_COKLAT_KIRI_SYMBOL, Tile.JALAN_COKLAT_KANAN_SYMBOL,
-                                       Tile.JALAN_COKLAT_ATAS_SYMBOL, Tile.JALAN_COKLAT_BAWAH_SYMBOL}) {
-                terrainImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
-            }
-            objectImages.put(Tile.FENCE_SYMBOL, createFallbackImage(new Color(100, 100, 100)));
-            objectImages.put(Tile.EXIT_SYMBOL, createFallbackImage(new Color(0, 150, 0)));
-            playerImage = createFallbackImage(Color.RED);
-            for (DeployedObject obj : cityMap.getDeployedObjects()) {
-                if (obj instanceof CityMap.Building) {
-                    CityMap.Building b = (CityMap.Building) obj;
-                    buildingImages.put(b.getBuildingName(), createFallbackImage(getFallbackColorForSymbol(b.getSymbol()), b.getWidth() * BASE_ASSET_SIZE, b.getHeight() * BASE_ASSET_SIZE));
+                } else {
+                     buildingImages.put(bName, createFallbackImage(getFallbackColorForSymbol(obj.getSymbol()), b.getWidth() * BASE_ASSET_SIZE, b.getHeight() * BASE_ASSET_SIZE));
                 }
             }
         }
     }
 
     /**
-     * Helper to load a PNG from the classpath. Returns null if not found or on error.
+     * Helper to load a PNG through the shared {@link SpriteAtlas}. Returns null if not found or on error.
      * @param path The classpath resource path (e.g., "/resources/asset/png/image.png").
      * @param nameForLog A descriptive name for logging purposes.
      * @return The loaded BufferedImage, or null if loading failed.
      */
-    private BufferedImage loadImage(String path, String nameForLog) throws IOException {
-        // Try classpath first (for compatibility)
-        InputStream is = getClass().getResourceAsStream(path.startsWith("/") ? path : "/" + path);
-        if (is == null) {
-            // Try loading from file system (relative to project root)
-            java.io.File file = new java.io.File(path);
-            if (!file.exists()) {
-                // Try with project root prefix if not found
-                file = new java.io.File("resources/" + path);
-            }
-            if (file.exists()) {
-                is = new java.io.FileInputStream(file);
-            } else {
-                System.err.println("Warning: Image not found: " + nameForLog + " (Path: " + path + ")");
-                return null;
-            }
-        }
-        try {
-            return ImageIO.read(is);
-        } finally {
-            try { is.close(); } catch (IOException e) { }
-        }
+    private BufferedImage loadImage(String path, String nameForLog) {
+        return SpriteAtlas.getInstance().load(path, nameForLog);
     }
 
     /**
@@ -198,14 +180,7 @@ public class CityMapPanel extends JPanel {
      * @return The created BufferedImage.
      */
     private BufferedImage createFallbackImage(Color c, int width, int height) {
-        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = img.createGraphics();
-        g2.setColor(c);
-        g2.fillRect(0, 0, width, height);
-        g2.setColor(Color.BLACK);
-        g2.drawRect(0, 0, width - 1, height - 1);
-        g2.dispose();
-        return img;
+        return SpriteAtlas.getInstance().solid(c, width, height);
     }
 
     /**
@@ -295,7 +270,7 @@ public class CityMapPanel extends JPanel {
 
                 BufferedImage terrImg = terrainImages.get(c);
                 if (terrImg != null) {
-                    g2d.drawImage(terrImg, drawX, drawY, tileSize, tileSize, null);
+                    SpriteAtlas.getInstance().draw(g2d, terrImg, drawX, drawY, tileSize, tileSize);
                 } else { // Fallback if image not found
                     g2d.setColor(getFallbackColorForSymbol(c));
                     g2d.fillRect(drawX, drawY, tileSize, tileSize);
@@ -322,7 +297,7 @@ public class CityMapPanel extends JPanel {
                         int drawX = offsetX + tx * tileSize;
                         int drawY = offsetY + ty * tileSize;
                         if (grassImg != null) {
-                            g2d.drawImage(grassImg, drawX, drawY, tileSize, tileSize, null);
+                            SpriteAtlas.getInstance().draw(g2d, grassImg, drawX, drawY, tileSize, tileSize);
                         } else {
                             g2d.setColor(grassFallbackColor);
                             g2d.fillRect(drawX, drawY, tileSize, tileSize);
@@ -348,7 +323,7 @@ public class CityMapPanel extends JPanel {
             int drawH = bh * tileSize;
 
             if (bImg != null) {
-                g2d.drawImage(bImg, drawX, drawY, drawW, drawH, null);
+                SpriteAtlas.getInstance().draw(g2d, bImg, drawX, drawY, drawW, drawH);
             } else {
                 g2d.setColor(getFallbackColorForSymbol(b.getSymbol()));
                 g2d.fillRect(drawX, drawY, drawW, drawH);
@@ -368,7 +343,7 @@ public class CityMapPanel extends JPanel {
             int drawX = offsetX + ox * tileSize;
             int drawY = offsetY + oy * tileSize;
             if (oImg != null) {
-                g2d.drawImage(oImg, drawX, drawY, tileSize, tileSize, null);
+                SpriteAtlas.getInstance().draw(g2d, oImg, drawX, drawY, tileSize, tileSize);
             } else {
                 g2d.setColor(getFallbackColorForSymbol(sym));
                 g2d.fillRect(drawX, drawY, tileSize, tileSize);
@@ -384,7 +359,7 @@ public class CityMapPanel extends JPanel {
             int drawX = offsetX + px * tileSize;
             int drawY = offsetY + py * tileSize;
             if (playerImage != null) {
-                g2d.drawImage(playerImage, drawX, drawY, tileSize, tileSize, null);
+                SpriteAtlas.getInstance().draw(g2d, playerImage, drawX, drawY, tileSize, tileSize);
             } else {
                 g2d.setColor(Color.RED);
                 g2d.fillOval(drawX, drawY, tileSize, tileSize);
@@ -198,7 +198,9 @@ public class CookingPanel extends JPanel {
                     return;
                 }
                 
-                String result = cookingManager.startCooking(selectedRecipe.getRecipeId(), fuel);
+                // Bahan dan bahan bakar diambil dari inventory di SimulationThread
+                String result = gameManager.getGameTime().getClock().call(
+                        () -> cookingManager.startCooking(selectedRecipe.getRecipeId(), fuel));
                 feedbackLabel.setText(result);
                 JOptionPane.showMessageDialog(this, result, "Cooking Attempt", JOptionPane.INFORMATION_MESSAGE);
                 
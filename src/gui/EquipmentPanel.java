@@ -82,7 +82,7 @@ public class EquipmentPanel extends JPanel {
             Vector<String> displayItems = new Vector<>();
             for (Map.Entry<String, Equipment> entry : ownedEquipment.entrySet()) {
                 Equipment eq = entry.getValue();
-                String displayText = eq.getName() + (eq.isEquipped() ? " [EQUIPPED]" : " [STORED]");
+                String displayText = eq.getName() + (player.getEquipmentManager().isEquipped(eq.getName()) ? " [EQUIPPED]" : " [STORED]");
                 displayItems.add(displayText);
             }
             // Sort so equipped item is often more visible or consistently placed if desired
@@ -123,7 +123,7 @@ public class EquipmentPanel extends JPanel {
         if (selectedValue != null && !selectedValue.equals("No equipment owned.")) {
             String baseSelectedItemName = getBaseNameFromDisplay(selectedValue);
             Equipment selectedEquipment = player.getEquipmentManager().getOwnedEquipment().get(baseSelectedItemName);
-            equipButton.setEnabled(selectedEquipment != null && !selectedEquipment.isEquipped());
+            equipButton.setEnabled(selectedEquipment != null && selectedEquipment != currentlyEquipped);
         } else {
             equipButton.setEnabled(false);
         }
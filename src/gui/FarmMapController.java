@@ -61,20 +61,20 @@ public class FarmMapController extends KeyAdapter {
 
         switch (e.getKeyCode()) {
             case KeyEvent.VK_W:
-                actionTaken = farmMap.movePlayer(player, 0, -1);
+                actionTaken = move(0, -1);
                 break;
             case KeyEvent.VK_S:
-                actionTaken = farmMap.movePlayer(player, 0, 1);
+                actionTaken = move(0, 1);
                 break;
             case KeyEvent.VK_A:
-                actionTaken = farmMap.movePlayer(player, -1, 0);
+                actionTaken = move(-1, 0);
                 break;
             case KeyEvent.VK_D:
-                actionTaken = farmMap.movePlayer(player, 1, 0);
+                actionTaken = move(1, 0);
                 break;
             case KeyEvent.VK_T: // 'T' for Tilling
                 try {
-                    Action.till(farmMap, player, gameTime);
+                    onSimulation(() -> Action.till(farmMap, player, gameTime));
                     actionTaken = true;
                 } catch (IllegalArgumentException ex) {
                     JOptionPane.showMessageDialog(farmMapPanel, ex.getMessage(), "Tilling Error", JOptionPane.WARNING_MESSAGE);
@@ -126,7 +126,8 @@ public class FarmMapController extends KeyAdapter {
 
                     if (seedToPlant != null) {
                         try {
-                            Action.plant(farmMap, player, gameTime, gameCalendar, seedToPlant);
+                            Seed seed = seedToPlant;
+                            onSimulation(() -> Action.plant(farmMap, player, gameTime, gameCalendar, seed));
                             // Action.plant itself will print success/failure or throw exception
                         } catch (IllegalArgumentException ex) {
                             JOptionPane.showMessageDialog(farmMapPanel, ex.getMessage(), "Planting Error", JOptionPane.WARNING_MESSAGE);
@@ -139,7 +140,7 @@ public class FarmMapController extends KeyAdapter {
                 break;
             case KeyEvent.VK_H: // 'H' for Harvesting
                 try {
-                    Action.harvest(farmMap, player, gameTime);
+                    onSimulation(() -> Action.harvest(farmMap, player, gameTime));
                     actionTaken = true;
                 } catch (IllegalArgumentException ex) {
                     JOptionPane.showMessageDialog(farmMapPanel, ex.getMessage(), "Harvesting Error", JOptionPane.WARNING_MESSAGE);
@@ -147,7 +148,7 @@ public class FarmMapController extends KeyAdapter {
                 break;
             case KeyEvent.VK_R: // 'R' for Watering
                 try {
-                    Action.water(farmMap, player, gameTime, gameCalendar);
+                    onSimulation(() -> Action.water(farmMap, player, gameTime, gameCalendar));
                     actionTaken = true;
                 } catch (IllegalArgumentException ex) {
                     JOptionPane.showMessageDialog(farmMapPanel, ex.getMessage(), "Watering Error", JOptionPane.WARNING_MESSAGE);
@@ -187,12 +188,12 @@ public class FarmMapController extends KeyAdapter {
                             JOptionPane.showMessageDialog(farmMapPanel, "Energi tidak cukup untuk melakukan perjalanan.", "Tidak Bisa Pergi", JOptionPane.WARNING_MESSAGE);
                             actionTaken = false; // Perjalanan gagal
                         } else {
-                            // Kurangi energi dan majukan waktu untuk perjalanan
-                            player.setEnergy(player.getEnergy() - 10);
-                            gameTime.advanceGameMinutes(15);
-
-                            // Update lokasi pemain (sementara) untuk sesi memancing ini
-                            player.setLocation(chosenSpotName);
+                            // Kurangi energi, majukan waktu dan pindahkan lokasi pemain (sementara) untuk sesi memancing ini
+                            onSimulation(() -> {
+                                player.setEnergy(player.getEnergy() - 10);
+                                gameTime.advanceGameMinutes(15);
+                                player.setLocation(chosenSpotName);
+                            });
 
                             // (Opsional) Refresh info bar untuk menunjukkan lokasi baru sebelum memancing
                             if (gameManager.getTopInfoBarPanel() != null) {
@@ -221,7 +222,7 @@ public class FarmMapController extends KeyAdapter {
 
                             // PENTING: Setelah sesi memancing selesai (berhasil atau tidak),
                             // kembalikan lokasi logis pemain ke Farm Map.
-                            player.setLocation(farmMapName);
+                            onSimulation(() -> player.setLocation(farmMapName));
                             // Tidak perlu pop-up untuk pengembalian lokasi ini, ini perubahan state internal.
                             // Info bar akan di-refresh di akhir blok actionTaken.
                         }
@@ -296,7 +297,7 @@ public class FarmMapController extends KeyAdapter {
                 break;
             case KeyEvent.VK_K: // 'K' for reKover Land (Recover Land)
                 try {
-                    Action.recoverLand(farmMap, player, gameTime);
+                    onSimulation(() -> Action.recoverLand(farmMap, player, gameTime));
                     actionTaken = true;
                 } catch (IllegalArgumentException ex) {
                     JOptionPane.showMessageDialog(farmMapPanel, ex.getMessage(), "Recover Land Error", JOptionPane.WARNING_MESSAGE);
@@ -358,6 +359,18 @@ public class FarmMapController extends KeyAdapter {
         }
     }
 
+    /**
+     * Runs an action that changes the farm on the simulation thread and waits for it, so the EDT never
+     * writes tiles or the inventory while a rollover or autosave reads them. Its exceptions reach the caller.
+     */
+    private void onSimulation(Runnable action) {
+        gameTime.getClock().execute(action);
+    }
+
+    private boolean move(int dx, int dy) {
+        return gameTime.getClock().call(() -> farmMap.movePlayer(player, dx, dy));
+    }
+
     private DeployedObject getAdjacentDeployedObject() {
         int px = player.getX();
         int py = player.getY();
@@ -371,8 +384,8 @@ public class FarmMapController extends KeyAdapter {
             int checkX = px + offset[0];
             int checkY = py + offset[1];
 
-            if (checkX >= 0 && checkX < FarmMap.SIZE && checkY >= 0 && checkY < FarmMap.SIZE) {
-                Tile adjacentTile = farmMap.getTileAt(checkX, checkY);
+            if (checkX >= 0 && checkX < farmMap.getWidth() && checkY >= 0 && checkY < farmMap.getHeight()) {
+                Tile adjacentTile = farmMap.peekTileAt(checkX, checkY);
                 if (adjacentTile != null && adjacentTile.getType() == Tile.TileType.DEPLOYED) {
                     for (DeployedObject obj : farmMap.getDeployedObjects()) {
                         if (obj.occupies(checkX, checkY)) {
@@ -3,13 +3,13 @@ package gui;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.HashSet; // Not explicitly used yet, but good for tracking drawn objects if needed
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.List;
+import java.util.Arrays;
 
 import core.world.FarmMap;
 import core.world.Tile;
@@ -30,131 +30,124 @@ public class FarmMapPanel extends JPanel {
 
     private static final int BASE_ASSET_SIZE = 16; // All assets are assumed to be designed for 16x16 pixels
 
+    // Back-buffer berisi terrain dan objek; hanya tile yang berubah digambar ulang ke sini
+    private BufferedImage backBuffer;
+    private volatile int bufferTileSize;
+    private volatile int offsetX, offsetY;
+    private final BitSet dirtyTiles = new BitSet(); // Index y * width + x, dijaga oleh lock dirtyTiles
+    private int lastPlayerX = -1, lastPlayerY = -1;
+
     public FarmMapPanel(GameManager gameManager, GameView gameView) {
         this.gameManager = gameManager;
         this.farmMap = gameManager.getFarmMap(); // Get FarmMap from GameManager
         this.player = gameManager.getPlayer(); // Get Player from GameManager
 
-        setPreferredSize(new Dimension(farmMap.getSize() * BASE_ASSET_SIZE, farmMap.getSize() * BASE_ASSET_SIZE));
+        setPreferredSize(new Dimension(farmMap.getWidth() * BASE_ASSET_SIZE, farmMap.getHeight() * BASE_ASSET_SIZE));
         setBackground(Color.BLACK); // Default background
         setFocusable(true);
         loadImages(); // Load all images at initialization
         addKeyListener(new FarmMapController(gameManager, this, gameView));
+        farmMap.addTileChangeListener(this::onFarmTileChanged);
+    }
+
+    /**
+     * Sprites used by {@link #loadImages()}, so {@link AssetLoader} can decode them before the
+     * panel is built. Only a hint: a path missing here is still loaded, just on the EDT.
+     */
+    static List<String> preloadPaths() {
+        return Arrays.asList(
+                AssetLoader.png("Soil_UNTILLED.png"), AssetLoader.png("Soil_TILLED.png"), AssetLoader.png("Soil_ThrownSeeds.png"),
+                AssetLoader.png("JalanHijau-16px.png"), AssetLoader.png("Stone_Round.png"), AssetLoader.png("Kolam_air.png"),
+                AssetLoader.png("BungaPink.png"), AssetLoader.png("Tanah-16px.png"), AssetLoader.png("PlayerBoy_idle.png"),
+                AssetLoader.png("House_Player.png"), AssetLoader.png("ShippingBin_Closed.png"), AssetLoader.png("Fence.png"),
+                AssetLoader.png("Door.png"), AssetLoader.png("Blueberry.png"), AssetLoader.png("Cauliflower.png"),
+                AssetLoader.png("Cranberry.png"), AssetLoader.png("Grapes.png"), AssetLoader.png("Hot_Pepper.png"),
+                AssetLoader.png("Melon.png"), AssetLoader.png("Parsnip.png"), AssetLoader.png("Potato.png"),
+                AssetLoader.png("Pumpkin.png"), AssetLoader.png("Tomato.png"), AssetLoader.png("Wheat.png"));
     }
 
     /**
      * Load all necessary images (terrain, generic objects, building sprites, player sprite).
      */
     private void loadImages() {
-        try {
-            // ---------------------
-            // Terrain images: (16x16)
-            // ---------------------
-            terrainImages.put(Tile.DEFAULT_UNTILLED_CHAR, loadImage("resources/asset/png/Soil_UNTILLED.png", "Soil_UNTILLED.png"));
-            terrainImages.put(Tile.TILLED_CHAR, loadImage("resources/asset/png/Soil_TILLED.png", "Soil_TILLED.png"));
-            terrainImages.put(Tile.PLANTED_CHAR, loadImage("resources/asset/png/Soil_ThrownSeeds.png", "Soil_ThrownSeeds.png")); 
-            terrainImages.put(Tile.RUMPUT_HIJAU_SYMBOL, loadImage("resources/asset/png/JalanHijau-16px.png", "JalanHijau-16px.png"));
-            terrainImages.put(Tile.BATU_SYMBOL, loadImage("resources/asset/png/Stone_Round.png", "Stone_Round.png"));
-            terrainImages.put(Tile.AIR_SYMBOL, loadImage("resources/asset/png/Kolam_air.png", "Kolam_air.png")); // For general water/pond
-            terrainImages.put(Tile.BUNGA_PINK_SYMBOL, loadImage("resources/asset/png/BungaPink.png", "BungaPink.png"));
-            terrainImages.put(Tile.TANAH_SYMBOL, loadImage("resources/asset/png/Tanah-16px.png", "Tanah-16px.png"));
-
-            // Ensure fallbacks for terrain
-            for (char key : new char[]{Tile.DEFAULT_UNTILLED_CHAR, Tile.TILLED_CHAR, Tile.PLANTED_CHAR,
-                                       Tile.RUMPUT_HIJAU_SYMBOL, Tile.BATU_SYMBOL, Tile.AIR_SYMBOL,
-                                       Tile.BUNGA_PINK_SYMBOL, Tile.TANAH_SYMBOL}) {
-                if (!terrainImages.containsKey(key) || terrainImages.get(key) == null) {
-                    terrainImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
-                }
+        // ---------------------
+        // Terrain images: (16x16)
+        // ---------------------
+        terrainImages.put(Tile.DEFAULT_UNTILLED_CHAR, loadImage("resources/asset/png/Soil_UNTILLED.png", "Soil_UNTILLED.png"));
+        terrainImages.put(Tile.TILLED_CHAR, loadImage("resources/asset/png/Soil_TILLED.png", "Soil_TILLED.png"));
+        terrainImages.put(Tile.PLANTED_CHAR, loadImage("resources/asset/png/Soil_ThrownSeeds.png", "Soil_ThrownSeeds.png")); 
+        terrainImages.put(Tile.RUMPUT_HIJAU_SYMBOL, loadImage("resources/asset/png/JalanHijau-16px.png", "JalanHijau-16px.png"));
+        terrainImages.put(Tile.BATU_SYMBOL, loadImage("resources/asset/png/Stone_Round.png", "Stone_Round.png"));
+        terrainImages.put(Tile.AIR_SYMBOL, loadImage("resources/asset/png/Kolam_air.png", "Kolam_air.png")); // For general water/pond
+        terrainImages.put(Tile.BUNGA_PINK_SYMBOL, loadImage("resources/asset/png/BungaPink.png", "BungaPink.png"));
+        terrainImages.put(Tile.TANAH_SYMBOL, loadImage("resources/asset/png/Tanah-16px.png", "Tanah-16px.png"));
+
+        // Ensure fallbacks for terrain
+        for (char key : new char[]{Tile.DEFAULT_UNTILLED_CHAR, Tile.TILLED_CHAR, Tile.PLANTED_CHAR,
+                                   Tile.RUMPUT_HIJAU_SYMBOL, Tile.BATU_SYMBOL, Tile.AIR_SYMBOL,
+                                   Tile.BUNGA_PINK_SYMBOL, Tile.TANAH_SYMBOL}) {
+            if (!terrainImages.containsKey(key) || terrainImages.get(key) == null) {
+                terrainImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
             }
+        }
 
-            // ---------------------
-            // Player image: (16x16)
-            // ---------------------
-            // Use the same logic as CityMapPanel for player asset
-            playerImage = loadImage("resources/asset/png/PlayerBoy_idle.png", "PlayerBoy_idle.png");
-            if (playerImage == null) {
-                playerImage = createFallbackImage(Color.RED);
-            }
+        // ---------------------
+        // Player image: (16x16)
+        // ---------------------
+        // Use the same logic as CityMapPanel for player asset
+        playerImage = loadImage("resources/asset/png/PlayerBoy_idle.png", "PlayerBoy_idle.png");
+        if (playerImage == null) {
+            playerImage = createFallbackImage(Color.RED);
+        }
 
-            // ---------------------
-            // Deployed objects (House, Pond, Shipping Bin, Fence, Exit): (16x16 or multi-tile)
-            // ---------------------
-            objectImages.put(Tile.FARM_HOUSE_SYMBOL, loadImage("resources/asset/png/House_Player.png", "Farm House"));
-            objectImages.put(Tile.POND_SYMBOL, loadImage("resources/asset/png/Kolam_air.png", "Farm Pond")); // Reusing water image for pond object
-            objectImages.put(Tile.SHIPPING_BIN_SYMBOL, loadImage("resources/asset/png/ShippingBin_Closed.png", "Shipping Bin"));
-            objectImages.put(Tile.FENCE_SYMBOL, loadImage("resources/asset/png/Fence.png", "Fence"));
-            objectImages.put(Tile.EXIT_SYMBOL, loadImage("resources/asset/png/Door.png", "Exit Door")); // For exit to city
-
-            // Ensure fallbacks for objects
-            for (char key : new char[]{Tile.FARM_HOUSE_SYMBOL, Tile.POND_SYMBOL, Tile.SHIPPING_BIN_SYMBOL,
-                                       Tile.FENCE_SYMBOL, Tile.EXIT_SYMBOL}) {
-                if (!objectImages.containsKey(key) || objectImages.get(key) == null) {
-                    objectImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
-                }
+        // ---------------------
+        // Deployed objects (House, Pond, Shipping Bin, Fence, Exit): (16x16 or multi-tile)
+        // ---------------------
+        objectImages.put(Tile.FARM_HOUSE_SYMBOL, loadImage("resources/asset/png/House_Player.png", "Farm House"));
+        objectImages.put(Tile.POND_SYMBOL, loadImage("resources/asset/png/Kolam_air.png", "Farm Pond")); // Reusing water image for pond object
+        objectImages.put(Tile.SHIPPING_BIN_SYMBOL, loadImage("resources/asset/png/ShippingBin_Closed.png", "Shipping Bin"));
+        objectImages.put(Tile.FENCE_SYMBOL, loadImage("resources/asset/png/Fence.png", "Fence"));
+        objectImages.put(Tile.EXIT_SYMBOL, loadImage("resources/asset/png/Door.png", "Exit Door")); // For exit to city
+
+        // Ensure fallbacks for objects
+        for (char key : new char[]{Tile.FARM_HOUSE_SYMBOL, Tile.POND_SYMBOL, Tile.SHIPPING_BIN_SYMBOL,
+                                   Tile.FENCE_SYMBOL, Tile.EXIT_SYMBOL}) {
+            if (!objectImages.containsKey(key) || objectImages.get(key) == null) {
+                objectImages.put(key, createFallbackImage(getFallbackColorForSymbol(key)));
             }
+        }
 
-            // ---------------------
-            // Crop images: (16x16) - mapped by crop name
-            // ---------------------
-            cropImages.put("Blueberry", loadImage("resources/asset/png/Blueberry.png", "Blueberry"));
-            cropImages.put("Cauliflower", loadImage("resources/asset/png/Cauliflower.png", "Cauliflower"));
-            cropImages.put("Cranberry", loadImage("resources/asset/png/Cranberry.png", "Cranberry"));
-            cropImages.put("Grapes", loadImage("resources/asset/png/Grapes.png", "Grapes"));
-            cropImages.put("Hot Pepper", loadImage("resources/asset/png/Hot_Pepper.png", "Hot Pepper"));
-            cropImages.put("Melon", loadImage("resources/asset/png/Melon.png", "Melon"));
-            cropImages.put("Parsnip", loadImage("resources/asset/png/Parsnip.png", "Parsnip"));
-            cropImages.put("Potato", loadImage("resources/asset/png/Potato.png", "Potato"));
-            cropImages.put("Pumpkin", loadImage("resources/asset/png/Pumpkin.png", "Pumpkin"));
-            cropImages.put("Tomato", loadImage("resources/asset/png/Tomato.png", "Tomato"));
-            cropImages.put("Wheat", loadImage("resources/asset/png/Wheat.png", "Wheat"));
-
-            // Ensure fallbacks for crops
-            for (String cropName : cropImages.keySet()) { // Iterate over keys to check if values are null
-                if (cropImages.get(cropName) == null) {
-                    cropImages.put(cropName, createFallbackImage(new Color(50, 150, 50))); // Generic green for crops
-                }
+        // ---------------------
+        // Crop images: (16x16) - mapped by crop name
+        // ---------------------
+        cropImages.put("Blueberry", loadImage("resources/asset/png/Blueberry.png", "Blueberry"));
+        cropImages.put("Cauliflower", loadImage("resources/asset/png/Cauliflower.png", "Cauliflower"));
+        cropImages.put("Cranberry", loadImage("resources/asset/png/Cranberry.png", "Cranberry"));
+        cropImages.put("Grapes", loadImage("resources/asset/png/Grapes.png", "Grapes"));
+        cropImages.put("Hot Pepper", loadImage("resources/asset/png/Hot_Pepper.png", "Hot Pepper"));
+        cropImages.put("Melon", loadImage("resources/asset/png/Melon.png", "Melon"));
+        cropImages.put("Parsnip", loadImage("resources/asset/png/Parsnip.png", "Parsnip"));
+        cropImages.put("Potato", loadImage("resources/asset/png/Potato.png", "Potato"));
+        cropImages.put("Pumpkin", loadImage("resources/asset/png/Pumpkin.png", "Pumpkin"));
+        cropImages.put("Tomato", loadImage("resources/asset/png/Tomato.png", "Tomato"));
+        cropImages.put("Wheat", loadImage("resources/asset/png/Wheat.png", "Wheat"));
+
+        // Ensure fallbacks for crops
+        for (String cropName : cropImages.keySet()) { // Iterate over keys to check if values are null
+            if (cropImages.get(cropName) == null) {
+                cropImages.put(cropName, createFallbackImage(new Color(50, 150, 50))); // Generic green for crops
             }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.err.println("Critical Error loading images for FarmMapPanel: " + e.getMessage());
-            // Provide minimal fallbacks so the panel still draws something
-            // Terrain fallbacks (already handled in loop above)
-            // Player fallback
-            playerImage = createFallbackImage(Color.RED);
-            // Object fallbacks (already handled in loop above)
-            // Crop fallbacks (already handled in loop above)
         }
     }
 
     /**
-     * Helper to load a PNG from the classpath. Returns null if not found or on error.
+     * Helper to load a PNG through the shared {@link SpriteAtlas}. Returns null if not found or on error.
      * @param path The classpath resource path (e.g., "resources/asset/png/image.png").
      * @param nameForLog A descriptive name for logging purposes.
      * @return The loaded BufferedImage, or null if loading failed.
      */
-    private BufferedImage loadImage(String path, String nameForLog) throws IOException {
-        // Try to load from absolute file path first (outside rootpath, e.g. for development override)
-        java.io.File file = new java.io.File(path);
-        if (file.exists()) {
-            try {
-                return ImageIO.read(file);
-            } catch (IOException e) {
-                System.err.println("Error loading image from file: " + path + " (" + nameForLog + "): " + e.getMessage());
-            }
-        }
-        // Fallback: try to load from classpath (inside jar/resources)
-        InputStream is = getClass().getResourceAsStream(path);
-        if (is == null) {
-            System.err.println("Warning: Image not found: " + nameForLog + " (Path: " + path + ")");
-            return null;
-        }
-        try {
-            return ImageIO.read(is);
-        } finally {
-            try { is.close(); } catch (IOException e) { System.err.println("Error closing stream for " + nameForLog + ": " + e.getMessage()); }
-        }
+    private BufferedImage loadImage(String path, String nameForLog) {
+        return SpriteAtlas.getInstance().load(path, nameForLog);
     }
 
     /**
@@ -173,14 +166,7 @@ public class FarmMapPanel extends JPanel {
      * @return The created BufferedImage.
      */
     private BufferedImage createFallbackImage(Color c, int width, int height) {
-        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = img.createGraphics();
-        g2.setColor(c);
-        g2.fillRect(0, 0, width, height);
-        g2.setColor(Color.BLACK);
-        g2.drawRect(0, 0, width - 1, height - 1);
-        g2.dispose();
-        return img;
+        return SpriteAtlas.getInstance().solid(c, width, height);
     }
 
     /**
@@ -223,188 +209,287 @@ public class FarmMapPanel extends JPanel {
             return;
         }
 
-        int panelWidth = getWidth();
-        int panelHeight = getHeight();
-        int mapSize = FarmMap.SIZE;
-
-        if (mapSize <= 0) return;
+        int mapWidth = farmMap.getWidth();
+        int mapHeight = farmMap.getHeight();
+        if (mapWidth <= 0 || mapHeight <= 0) return;
 
         // Calculate tile size dynamically to fit the panel
-        int tileSize = Math.min(panelWidth / mapSize, panelHeight / mapSize);
+        int tileSize = Math.min(getWidth() / mapWidth, getHeight() / mapHeight);
         if (tileSize < 1) tileSize = 1;
+        offsetX = (getWidth() - tileSize * mapWidth) / 2;
+        offsetY = (getHeight() - tileSize * mapHeight) / 2;
+
+        // 1) Perbarui back-buffer: penuh jika ukuran tile berubah, selain itu hanya tile kotor
+        if (backBuffer == null || bufferTileSize != tileSize) {
+            rebuildBackBuffer(tileSize);
+        } else {
+            redrawDirtyTiles();
+        }
+
+        // 2) Salin bagian back-buffer yang ada di clip saja
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        Rectangle mapArea = new Rectangle(offsetX, offsetY, backBuffer.getWidth(), backBuffer.getHeight());
+        Rectangle area = clip.intersection(mapArea);
+        if (!area.isEmpty()) {
+            int sx = area.x - offsetX, sy = area.y - offsetY;
+            g2d.drawImage(backBuffer, area.x, area.y, area.x + area.width, area.y + area.height,
+                    sx, sy, sx + area.width, sy + area.height, null);
+        }
+
+        // 3) Draw the player on top of everything else
+        if (currentPlayer.getLocation().equals(farmMap.getName())) {
+            int px = currentPlayer.getX();
+            int py = currentPlayer.getY();
+            int drawX = offsetX + px * tileSize;
+            int drawY = offsetY + py * tileSize;
 
-        int totalMapRenderWidth = tileSize * mapSize;
-        int totalMapRenderHeight = tileSize * mapSize;
-        int offsetX = (panelWidth - totalMapRenderWidth) / 2;
-        int offsetY = (panelHeight - totalMapRenderHeight) / 2;
-
-        // 1) Draw every tile’s base terrain or object image
-        // --- Pass 1: Draw terrain and all non-multi-tile objects ---
-        // We'll skip drawing the house and shipping bin here, and draw them in a separate pass as a single image
-        for (int y = 0; y < mapSize; y++) {
-            for (int x = 0; x < mapSize; x++) {
-                int drawX = offsetX + x * tileSize;
-                int drawY = offsetY + y * tileSize;
-
-                Tile tile = currentFarmMap.getTileAt(x, y);
-                if (tile == null) {
-                    g2d.setColor(Color.MAGENTA);
-                    g2d.fillRect(drawX, drawY, tileSize, tileSize);
-                    continue;
+            if (playerImage != null) {
+                SpriteAtlas.getInstance().draw(g2d, playerImage, drawX, drawY, tileSize, tileSize);
+            } else {
+                // Fallback to red oval if player image fails to load
+                g2d.setColor(Color.RED);
+                g2d.fillOval(drawX, drawY, tileSize, tileSize);
+            }
+            lastPlayerX = px;
+            lastPlayerY = py;
+        }
+    }
+
+    /**
+     * Draws the whole farm into a fresh back-buffer at {@code tileSize}. Only needed on the first
+     * paint and when the panel is resized; afterwards tiles are redrawn one by one as they change.
+     */
+    private void rebuildBackBuffer(int tileSize) {
+        synchronized (dirtyTiles) {
+            dirtyTiles.clear(); // Semua tile digambar ulang di bawah
+        }
+        // +1 piksel untuk garis tepi kanan/bawah tile terakhir
+        backBuffer = new BufferedImage(farmMap.getWidth() * tileSize + 1, farmMap.getHeight() * tileSize + 1, BufferedImage.TYPE_INT_ARGB);
+        bufferTileSize = tileSize;
+        Graphics2D g2d = backBuffer.createGraphics();
+        try {
+            // Pass 1: terrain and all single-tile objects; house and shipping bin come in pass 2
+            for (int y = 0; y < farmMap.getHeight(); y++) {
+                for (int x = 0; x < farmMap.getWidth(); x++) {
+                    drawTile(g2d, x, y, tileSize);
+                }
+            }
+            // Pass 2: house and shipping bin as a single image over their full size
+            for (DeployedObject obj : farmMap.getDeployedObjects()) {
+                if (isMultiTileSprite(obj)) {
+                    drawMultiTileObject(g2d, obj, tileSize);
                 }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
 
-                char tileChar = tile.displayChar();
-                boolean isHouseOrigin = false;
-                boolean isShippingBinOrigin = false;
-                // Find house and shipping bin origin (top-left)
+    private void redrawDirtyTiles() {
+        int[] dirty;
+        synchronized (dirtyTiles) {
+            if (dirtyTiles.isEmpty()) return;
+            dirty = dirtyTiles.stream().toArray();
+            dirtyTiles.clear();
+        }
+        int tileSize = bufferTileSize;
+        int mapWidth = farmMap.getWidth();
+        Graphics2D g2d = backBuffer.createGraphics();
+        try {
+            Set<DeployedObject> touchedObjects = new HashSet<>();
+            for (int packed : dirty) {
+                int x = packed % mapWidth, y = packed / mapWidth;
+                drawTile(g2d, x, y, tileSize);
                 for (DeployedObject obj : farmMap.getDeployedObjects()) {
-                    if (obj.getSymbol() == Tile.FARM_HOUSE_SYMBOL && obj.getX() == x && obj.getY() == y) {
-                        isHouseOrigin = true;
-                    }
-                    if (obj.getSymbol() == Tile.SHIPPING_BIN_SYMBOL && obj.getX() == x && obj.getY() == y) {
-                        isShippingBinOrigin = true;
+                    if (isMultiTileSprite(obj) && touchesOrBorders(obj, x, y)) {
+                        touchedObjects.add(obj);
                     }
                 }
+            }
+            // Latar rumah/shipping bin diambil dari tile tetangga, jadi gambar ulang setelah tile-nya
+            for (DeployedObject obj : touchedObjects) {
+                drawMultiTileObject(g2d, obj, tileSize);
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /** Draws one tile at buffer coordinates; house and shipping bin tiles are left to pass 2. */
+    private void drawTile(Graphics2D g2d, int x, int y, int tileSize) {
+        int drawX = x * tileSize;
+        int drawY = y * tileSize;
+
+        // Baca langsung dari array FarmMap, tanpa membuat objek Tile per sel
+        Tile.TileType tileType = farmMap.getTileTypeAt(x, y);
+        char tileChar = farmMap.getDisplayCharAt(x, y);
+
+        // Skip house/shipping bin tiles, they will be covered by the multi-tile image
+        if (tileChar == Tile.FARM_HOUSE_SYMBOL || tileChar == Tile.SHIPPING_BIN_SYMBOL) {
+            return;
+        }
 
-                // Skip drawing house/shipping bin tiles except at their origin
-                if ((tileChar == Tile.FARM_HOUSE_SYMBOL && !isHouseOrigin) || (tileChar == Tile.SHIPPING_BIN_SYMBOL && !isShippingBinOrigin)) {
-                    // Draw nothing, will be covered by the multi-tile image
-                    continue;
+        BufferedImage imageToDraw;
+        Crop plantedCrop = tileType == Tile.TileType.PLANTED ? farmMap.getCropAt(x, y) : null;
+        if (tileType == Tile.TileType.DEPLOYED) {
+            imageToDraw = objectImages.get(tileChar);
+        } else if (plantedCrop != null) {
+            // Draw tilled soil as background
+            BufferedImage tilledSoil = terrainImages.get(Tile.TILLED_CHAR);
+            if (tilledSoil != null) {
+                SpriteAtlas.getInstance().draw(g2d, tilledSoil, drawX, drawY, tileSize, tileSize);
+            } else {
+                g2d.setColor(getFallbackColorForSymbol(Tile.TILLED_CHAR));
+                g2d.fillRect(drawX, drawY, tileSize, tileSize);
+            }
+            imageToDraw = cropImages.get(plantedCrop.getName());
+            if (imageToDraw == null) {
+                imageToDraw = terrainImages.get(Tile.PLANTED_CHAR);
+            }
+        } else if (tileType == Tile.TileType.TILLED) {
+            // Draw tilled soil for tilled tiles
+            imageToDraw = terrainImages.get(Tile.TILLED_CHAR);
+        } else {
+            imageToDraw = terrainImages.get(tileChar);
+        }
+
+        if (imageToDraw != null) {
+            SpriteAtlas.getInstance().draw(g2d, imageToDraw, drawX, drawY, tileSize, tileSize);
+        } else {
+            g2d.setColor(getFallbackColorForSymbol(tileChar));
+            g2d.fillRect(drawX, drawY, tileSize, tileSize);
+        }
+        g2d.setColor(Color.BLACK);
+        g2d.drawRect(drawX, drawY, tileSize, tileSize);
+    }
+
+    /** Draws the house or shipping bin with a context-aware background taken from the nearest outside tile. */
+    private void drawMultiTileObject(Graphics2D g2d, DeployedObject obj, int tileSize) {
+        BufferedImage img = objectImages.get(obj.getSymbol());
+        if (img == null) return;
+        int mapWidth = farmMap.getWidth();
+        int mapHeight = farmMap.getHeight();
+        // For each tile under the object, draw the background based on the nearest outside tile
+        for (int dx = 0; dx < obj.getWidth(); dx++) {
+            for (int dy = 0; dy < obj.getHeight(); dy++) {
+                int tx = obj.getX() + dx;
+                int ty = obj.getY() + dy;
+                int tileDrawX = tx * tileSize;
+                int tileDrawY = ty * tileSize;
+
+                // Find the nearest outside tile (left, right, up, down)
+                Tile neighbor = null;
+                // Prefer left, then right, then up, then down
+                if (tx - 1 >= 0 && (dx == 0)) {
+                    neighbor = farmMap.peekTileAt(tx - 1, ty);
+                }
+                if (neighbor == null && tx + 1 < mapWidth && (dx == obj.getWidth() - 1)) {
+                    neighbor = farmMap.peekTileAt(tx + 1, ty);
+                }
+                if (neighbor == null && ty - 1 >= 0 && (dy == 0)) {
+                    neighbor = farmMap.peekTileAt(tx, ty - 1);
+                }
+                if (neighbor == null && ty + 1 < mapHeight && (dy == obj.getHeight() - 1)) {
+                    neighbor = farmMap.peekTileAt(tx, ty + 1);
+                }
+                // If still null, try corners (diagonals)
+                if (neighbor == null && tx - 1 >= 0 && ty - 1 >= 0 && dx == 0 && dy == 0) {
+                    neighbor = farmMap.peekTileAt(tx - 1, ty - 1);
+                }
+                if (neighbor == null && tx + 1 < mapWidth && ty - 1 >= 0 && dx == obj.getWidth() - 1 && dy == 0) {
+                    neighbor = farmMap.peekTileAt(tx + 1, ty - 1);
+                }
+                if (neighbor == null && tx - 1 >= 0 && ty + 1 < mapHeight && dx == 0 && dy == obj.getHeight() - 1) {
+                    neighbor = farmMap.peekTileAt(tx - 1, ty + 1);
+                }
+                if (neighbor == null && tx + 1 < mapWidth && ty + 1 < mapHeight && dx == obj.getWidth() - 1 && dy == obj.getHeight() - 1) {
+                    neighbor = farmMap.peekTileAt(tx + 1, ty + 1);
                 }
 
-                BufferedImage imageToDraw = null;
-                if (tile.getType() == Tile.TileType.DEPLOYED) {
-                    if (tileChar == Tile.FARM_HOUSE_SYMBOL && isHouseOrigin) {
-                        // Will draw in pass 2
-                        continue;
-                    } else if (tileChar == Tile.SHIPPING_BIN_SYMBOL && isShippingBinOrigin) {
-                        // Will draw in pass 2
-                        continue;
-                    } else {
-                        imageToDraw = objectImages.get(tileChar);
-                    }
-                } else if (tile.getType() == Tile.TileType.PLANTED && tile.getPlantedCrop() != null) {
-                    // Draw tilled soil as background
-                    BufferedImage tilledSoil = terrainImages.get(Tile.TILLED_CHAR);
-                    if (tilledSoil != null) {
-                        g2d.drawImage(tilledSoil, drawX, drawY, tileSize, tileSize, null);
+                char bgChar = Tile.RUMPUT_HIJAU_SYMBOL; // Default to grass
+                if (neighbor != null) {
+                    // Use terrain for deployed/terrain/crop
+                    if (neighbor.getType() == Tile.TileType.DEPLOYED) {
+                        // If neighbor is a fence, pond, etc, use its image
+                        bgChar = neighbor.displayChar();
+                    } else if (neighbor.getType() == Tile.TileType.PLANTED && neighbor.getPlantedCrop() != null) {
+                        // Use tilled soil as background for crops
+                        bgChar = Tile.TILLED_CHAR;
                     } else {
-                        g2d.setColor(getFallbackColorForSymbol(Tile.TILLED_CHAR));
-                        g2d.fillRect(drawX, drawY, tileSize, tileSize);
-                    }
-                    Crop plantedCrop = tile.getPlantedCrop();
-                    imageToDraw = cropImages.get(plantedCrop.getName());
-                    if (imageToDraw == null) {
-                        imageToDraw = terrainImages.get(Tile.PLANTED_CHAR);
+                        bgChar = neighbor.displayChar();
                     }
-                } else if (tile.getType() == Tile.TileType.TILLED) {
-                    // Draw tilled soil for tilled tiles
-                    imageToDraw = terrainImages.get(Tile.TILLED_CHAR);
-                } else {
-                    imageToDraw = terrainImages.get(tileChar);
                 }
-
-                if (imageToDraw != null) {
-                    g2d.drawImage(imageToDraw, drawX, drawY, tileSize, tileSize, null);
+                BufferedImage bgImg = terrainImages.get(bgChar);
+                if (bgImg != null) {
+                    SpriteAtlas.getInstance().draw(g2d, bgImg, tileDrawX, tileDrawY, tileSize, tileSize);
                 } else {
-                    g2d.setColor(getFallbackColorForSymbol(tileChar));
-                    g2d.fillRect(drawX, drawY, tileSize, tileSize);
+                    g2d.setColor(getFallbackColorForSymbol(bgChar));
+                    g2d.fillRect(tileDrawX, tileDrawY, tileSize, tileSize);
                 }
-                g2d.setColor(Color.BLACK);
-                g2d.drawRect(drawX, drawY, tileSize, tileSize);
             }
         }
+        // Now draw the object image on top
+        SpriteAtlas.getInstance().draw(g2d, img, obj.getX() * tileSize, obj.getY() * tileSize, obj.getWidth() * tileSize, obj.getHeight() * tileSize);
+    }
+
+    private static boolean isMultiTileSprite(DeployedObject obj) {
+        return obj.getSymbol() == Tile.FARM_HOUSE_SYMBOL || obj.getSymbol() == Tile.SHIPPING_BIN_SYMBOL;
+    }
 
-        // --- Pass 2: Draw house and shipping bin as a single image for their full size, with context-aware background ---
+    // Di dalam objek atau tepat di sekelilingnya (termasuk diagonal)
+    private static boolean touchesOrBorders(DeployedObject obj, int x, int y) {
+        return x >= obj.getX() - 1 && x <= obj.getX() + obj.getWidth()
+                && y >= obj.getY() - 1 && y <= obj.getY() + obj.getHeight();
+    }
+
+    /**
+     * Called by FarmMap for every tile change and crop growth, possibly off the EDT. Marks the
+     * tile dirty and asks Swing to repaint only its rectangle (and a house or bin whose
+     * background depends on it).
+     */
+    private void onFarmTileChanged(Tile tile, Tile.TileType oldType, Crop oldCrop) {
+        int x = tile.getX(), y = tile.getY();
+        synchronized (dirtyTiles) {
+            dirtyTiles.set(y * farmMap.getWidth() + x);
+        }
+        repaintTiles(x, y, 1, 1);
         for (DeployedObject obj : farmMap.getDeployedObjects()) {
-            if (obj.getSymbol() == Tile.FARM_HOUSE_SYMBOL || obj.getSymbol() == Tile.SHIPPING_BIN_SYMBOL) {
-                BufferedImage img = objectImages.get(obj.getSymbol());
-                if (img != null) {
-                    int drawX = offsetX + obj.getX() * tileSize;
-                    int drawY = offsetY + obj.getY() * tileSize;
-                    // For each tile under the object, draw the background based on the nearest outside tile
-                    for (int dx = 0; dx < obj.getWidth(); dx++) {
-                        for (int dy = 0; dy < obj.getHeight(); dy++) {
-                            int tx = obj.getX() + dx;
-                            int ty = obj.getY() + dy;
-                            int tileDrawX = offsetX + tx * tileSize;
-                            int tileDrawY = offsetY + ty * tileSize;
-
-                            // Find the nearest outside tile (left, right, up, down)
-                            Tile neighbor = null;
-                            // Prefer left, then right, then up, then down
-                            if (tx - 1 >= 0 && (dx == 0)) {
-                                neighbor = farmMap.getTileAt(tx - 1, ty);
-                            }
-                            if (neighbor == null && tx + 1 < mapSize && (dx == obj.getWidth() - 1)) {
-                                neighbor = farmMap.getTileAt(tx + 1, ty);
-                            }
-                            if (neighbor == null && ty - 1 >= 0 && (dy == 0)) {
-                                neighbor = farmMap.getTileAt(tx, ty - 1);
-                            }
-                            if (neighbor == null && ty + 1 < mapSize && (dy == obj.getHeight() - 1)) {
-                                neighbor = farmMap.getTileAt(tx, ty + 1);
-                            }
-                            // If still null, try corners (diagonals)
-                            if (neighbor == null && tx - 1 >= 0 && ty - 1 >= 0 && dx == 0 && dy == 0) {
-                                neighbor = farmMap.getTileAt(tx - 1, ty - 1);
-                            }
-                            if (neighbor == null && tx + 1 < mapSize && ty - 1 >= 0 && dx == obj.getWidth() - 1 && dy == 0) {
-                                neighbor = farmMap.getTileAt(tx + 1, ty - 1);
-                            }
-                            if (neighbor == null && tx - 1 >= 0 && ty + 1 < mapSize && dx == 0 && dy == obj.getHeight() - 1) {
-                                neighbor = farmMap.getTileAt(tx - 1, ty + 1);
-                            }
-                            if (neighbor == null && tx + 1 < mapSize && ty + 1 < mapSize && dx == obj.getWidth() - 1 && dy == obj.getHeight() - 1) {
-                                neighbor = farmMap.getTileAt(tx + 1, ty + 1);
-                            }
-
-                            char bgChar = Tile.RUMPUT_HIJAU_SYMBOL; // Default to grass
-                            if (neighbor != null) {
-                                // Use terrain for deployed/terrain/crop
-                                if (neighbor.getType() == Tile.TileType.DEPLOYED) {
-                                    // If neighbor is a fence, pond, etc, use its image
-                                    bgChar = neighbor.displayChar();
-                                } else if (neighbor.getType() == Tile.TileType.PLANTED && neighbor.getPlantedCrop() != null) {
-                                    // Use tilled soil as background for crops
-                                    bgChar = Tile.TILLED_CHAR;
-                                } else {
-                                    bgChar = neighbor.displayChar();
-                                }
-                            }
-                            BufferedImage bgImg = terrainImages.get(bgChar);
-                            if (bgImg != null) {
-                                g2d.drawImage(bgImg, tileDrawX, tileDrawY, tileSize, tileSize, null);
-                            } else {
-                                g2d.setColor(getFallbackColorForSymbol(bgChar));
-                                g2d.fillRect(tileDrawX, tileDrawY, tileSize, tileSize);
-                            }
-                        }
-                    }
-                    // Now draw the object image on top
-                    g2d.drawImage(img, drawX, drawY, obj.getWidth() * tileSize, obj.getHeight() * tileSize, null);
-                }
+            if (isMultiTileSprite(obj) && touchesOrBorders(obj, x, y)) {
+                repaintTiles(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
             }
         }
+    }
 
-        // 2) Draw the player on top of everything else
-        if (currentPlayer.getLocation().equals(farmMap.getName())) {
-            int px = currentPlayer.getX();
-            int py = currentPlayer.getY();
-            int drawX = offsetX + px * tileSize;
-            int drawY = offsetY + py * tileSize;
-
-            if (playerImage != null) {
-                g2d.drawImage(playerImage, drawX, drawY, tileSize, tileSize, null);
-            } else {
-                // Fallback to red oval if player image fails to load
-                g2d.setColor(Color.RED);
-                g2d.fillOval(drawX, drawY, tileSize, tileSize);
-            }
+    // RepaintManager menggabungkan permintaan ini; aman dipanggil dari thread mana pun
+    private void repaintTiles(int x, int y, int w, int h) {
+        int tileSize = bufferTileSize;
+        if (tileSize <= 0) {
+            repaint(); // Belum pernah digambar, ukuran tile belum diketahui
+            return;
         }
+        repaint(offsetX + x * tileSize, offsetY + y * tileSize, w * tileSize + 1, h * tileSize + 1);
     }
 
+    /**
+     * Repaints what changed since the last frame: tile changes are already queued by the
+     * FarmMap listener, so this only covers the player's old and new position.
+     */
     public void refreshMap() {
+        int px = player.getX(), py = player.getY();
+        if (lastPlayerX < 0 || bufferTileSize <= 0) {
+            repaint();
+            return;
+        }
+        if (px != lastPlayerX || py != lastPlayerY) {
+            repaintTiles(lastPlayerX, lastPlayerY, 1, 1);
+        }
+        repaintTiles(px, py, 1, 1);
+    }
+
+    /** Throws away the back-buffer so the next paint redraws the whole farm. */
+    public void invalidateMap() {
+        backBuffer = null;
         repaint();
     }
 }
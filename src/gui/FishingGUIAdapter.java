@@ -33,8 +33,10 @@ public class FishingGUIAdapter {
             return;
         }
 
-        player.setEnergy(player.getEnergy() - 5); //
-        time.advanceGameMinutes(15); //
+        time.getClock().execute(() -> {
+            player.setEnergy(player.getEnergy() - 5); //
+            time.advanceGameMinutes(15); //
+        });
         // Refresh player info if a panel reference is available, or rely on next general refresh
         // For now, assume PlayerInfoPanel will catch up or refresh on next key action.
 
@@ -86,7 +88,7 @@ public class FishingGUIAdapter {
         }
 
         if (success) {
-            player.getInventory().addItem(chosenFish, 1); //
+            time.getClock().execute(() -> player.getInventory().addItem(chosenFish, 1)); // Inventory hanya diubah di SimulationThread
             JOptionPane.showMessageDialog(parentComponent, "Congratulations! You caught: " + chosenFish.getName() + "!", "Fish Caught!", JOptionPane.INFORMATION_MESSAGE);
         } else {
             JOptionPane.showMessageDialog(parentComponent, "Oh no! The fish got away...", "Fishing Failed", JOptionPane.WARNING_MESSAGE); //
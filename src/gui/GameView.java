@@ -3,21 +3,23 @@ package gui;
 
 import javax.swing.*;
 import java.awt.*;
+import system.GameLogger;
 import system.GameManager;
 import npc.NPC;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Comparator;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 
 import core.world.GameMap;
+import core.world.Pathfinder;
+import core.world.WorldNavigator;
 import core.player.Player;
 
 public class GameView extends JFrame {
+    private static final GameLogger LOG = GameLogger.get(GameView.class);
+
+    /** Save file written at every day rollover; see {@link system.SaveGame}. */
+    public static final String AUTOSAVE_FILE = "saves/autosave.spkb";
 
     private String previousScreenName = "MainMenu";
     private String currentScreenName = "MainMenu";
@@ -38,6 +40,13 @@ public class GameView extends JFrame {
     public CookingPanel cookingPanel;
     public StatisticsPanel statisticsPanel;
 
+    // Wadah kartu untuk panel peta yang dibuat belakangan
+    private JPanel gameScreenOnlyMapPanel;
+    private JPanel cityScreenOnlyMapPanel;
+    private JPanel houseScreenOnlyMapPanel;
+
+    private ActiveRenderer activeRenderer; // Null sampai active rendering pertama kali dinyalakan
+
 
     public GameView() {
         setTitle("Spakbor Hills");
@@ -50,6 +59,7 @@ public class GameView extends JFrame {
 
         gameManager = new GameManager();
         gameManager.setGameView(this);
+        gameManager.enableAutosave(java.nio.file.Paths.get(AUTOSAVE_FILE));
 
         topInfoBarPanel = new TopInfoBarPanel(gameManager);
         gameManager.setTopInfoBarPanel(topInfoBarPanel);
@@ -58,25 +68,18 @@ public class GameView extends JFrame {
         mainMenuPanel.setGameView(this);
 
         playerCreationPanel = new PlayerCreationPanel(this, gameManager);
-        farmMapPanel = new FarmMapPanel(gameManager, this);
-        cityMapPanel = new CityMapPanel(gameManager, this);
+        // Panel peta dibuat saat layarnya pertama kali dibuka (lihat ensureMapPanel)
         storePanel = new StorePanel(this, gameManager.getGameStore(), gameManager);
         shippingBinPanel = new ShippingBinPanel(this, gameManager);
         npcInteractionPanel = new NPCInteractionPanel(this, gameManager);
         inventoryScreenPanel = new InventoryScreenPanel(this, gameManager);
-        houseMapPanel = new HouseMapPanel(gameManager, this);
         helpScreenPanel = new HelpScreenPanel(this, gameManager);
         cookingPanel = new CookingPanel(this, gameManager);
         statisticsPanel = new StatisticsPanel(this, gameManager);
 
-        JPanel gameScreenOnlyMapPanel = new JPanel(new BorderLayout());
-        gameScreenOnlyMapPanel.add(farmMapPanel, BorderLayout.CENTER);
-
-        JPanel cityScreenOnlyMapPanel = new JPanel(new BorderLayout());
-        cityScreenOnlyMapPanel.add(cityMapPanel, BorderLayout.CENTER);
-        
-        JPanel houseScreenOnlyMapPanel = new JPanel(new BorderLayout());
-        houseScreenOnlyMapPanel.add(houseMapPanel, BorderLayout.CENTER);
+        gameScreenOnlyMapPanel = new JPanel(new BorderLayout());
+        cityScreenOnlyMapPanel = new JPanel(new BorderLayout());
+        houseScreenOnlyMapPanel = new JPanel(new BorderLayout());
 
 
         centerCardPanel = new JPanel(new CardLayout());
@@ -99,6 +102,41 @@ public class GameView extends JFrame {
         // REMOVE topInfoBarPanel from the layout entirely
         // add(topInfoBarPanel, BorderLayout.NORTH); // <--- REMOVED
         showScreen("MainMenu");
+
+        // Decode sprite peta di background selama main menu tampil
+        List<String> mapAssets = new ArrayList<>(FarmMapPanel.preloadPaths());
+        mapAssets.addAll(CityMapPanel.preloadPaths(gameManager.getCityMap()));
+        mapAssets.addAll(HouseMapPanel.preloadPaths());
+        AssetLoader.getInstance().preload(mapAssets, mainMenuPanel::setLoadingProgress);
+    }
+
+    /**
+     * Builds the map panel behind {@code screenName} the first time that screen is opened.
+     * Its sprites are normally decoded by then, so this only costs the panel setup.
+     */
+    private void ensureMapPanel(String screenName) {
+        switch (screenName) {
+            case "GameScreen":
+                if (farmMapPanel == null) {
+                    farmMapPanel = new FarmMapPanel(gameManager, this);
+                    gameScreenOnlyMapPanel.add(farmMapPanel, BorderLayout.CENTER);
+                }
+                break;
+            case "CityScreen":
+                if (cityMapPanel == null) {
+                    cityMapPanel = new CityMapPanel(gameManager, this);
+                    cityScreenOnlyMapPanel.add(cityMapPanel, BorderLayout.CENTER);
+                }
+                break;
+            case "HouseScreen":
+                if (houseMapPanel == null) {
+                    houseMapPanel = new HouseMapPanel(gameManager, this);
+                    houseScreenOnlyMapPanel.add(houseMapPanel, BorderLayout.CENTER);
+                }
+                break;
+            default:
+                break;
+        }
     }
 
     public GameManager getGameManager() {
@@ -109,6 +147,7 @@ public class GameView extends JFrame {
     private final int ENERGY_AUTOPILOT_THRESHOLD;
     private boolean autopilotActive = false;
     private boolean forceSleepMode = false;
+    private final Pathfinder pathfinder = new Pathfinder(); // Dipakai hanya dari EDT, buffer dipakai ulang
 
     /**
      * Call this after any action or screen change to check if autopilot is needed.
@@ -147,127 +186,62 @@ public class GameView extends JFrame {
         proceedAutopilotToBed();
     }
 
-    // Recursive step for autopilot: jalan ke exit, transisi, lanjut, sampai bed
+    // Autopilot: rute lintas map dari WorldNavigator (distance field ke bed sudah di-cache)
     private void proceedAutopilotToBed() {
-        String playerLoc = gameManager.getPlayer().getLocation();
-        Point playerPos = new Point(gameManager.getPlayer().getX(), gameManager.getPlayer().getY());
-        Point houseEntry = core.world.HouseMap.ENTRY_LOCATION;
-        Point bedPos = core.world.HouseMap.BED_LOCATION;
-
-        if (playerLoc.equals(gameManager.getHouseMap().getName())) {
-            // Sudah di house, path ke bed
-            List<Point> pathToBed = findPathAStar(gameManager.getHouseMap(), playerPos, bedPos);
+        Player player = gameManager.getPlayer();
+        WorldNavigator navigator = gameManager.getWorldNavigator();
+        GameMap currentMap = navigator.findMap(player.getLocation());
+        List<WorldNavigator.Leg> route = currentMap == null ? null
+                : navigator.planRoute(currentMap, player.getX(), player.getY(), WorldNavigator.Destination.BED);
+
+        if (route == null) {
+            // Lokasi tidak dikenal atau bed tidak terjangkau: langsung masuk rumah lalu jalan ke bed
+            LOG.debug("Autopilot fallback: playerLoc=%s", player.getLocation());
+            gameManager.transitionMap(gameManager.getHouseMap().getName());
+            showScreen(screenForMap(gameManager.getHouseMap()));
+            Point playerPos = new Point(player.getX(), player.getY());
+            List<Point> pathToBed = findPathAStar(gameManager.getHouseMap(), playerPos, core.world.HouseMap.BED_LOCATION);
             animateMovement(pathToBed, gameManager.getHouseMap(), this::autopilotSleep);
             return;
         }
+        followRoute(route, 0);
+    }
 
-        if (playerLoc.equals(gameManager.getFarmMap().getName())) {
-            // Di farm, jalan ke pintu rumah (exit ke house)
-            Point exitToHouse = findNearestHouseExit(gameManager.getFarmMap());
-            List<Point> pathToExit = findPathAStar(gameManager.getFarmMap(), playerPos, exitToHouse);
-            animateMovement(pathToExit, gameManager.getFarmMap(), () -> {
-                // Transisi ke house
-                gameManager.transitionMap(gameManager.getHouseMap().getName());
-                showScreen("HouseScreen");
-                // Set posisi ke entry house
-                gameManager.getPlayer().setPosition(houseEntry.x, houseEntry.y);
-                // Lanjutkan ke bed
-                proceedAutopilotToBed();
-            });
+    private void followRoute(List<WorldNavigator.Leg> route, int legIndex) {
+        if (legIndex >= route.size()) {
+            autopilotSleep();
             return;
         }
-
-        if (playerLoc.equals(gameManager.getCityMap().getName())) {
-            // Di city, animasi jalan ke city exit (bawah tengah), lalu teleport ke farm entry (atas tengah)
-            int cityExitX = gameManager.getCityMap().getSize() / 2;
-            int cityExitY = gameManager.getCityMap().getSize() - 1;
-            Point exitToFarm = new Point(cityExitX, cityExitY);
-            List<Point> pathToExit = findPathAStar(gameManager.getCityMap(), playerPos, exitToFarm);
-            Runnable afterCityToFarm = () -> {
-                // Transisi ke farm
-                gameManager.transitionMap(gameManager.getFarmMap().getName());
-                showScreen("GameScreen");
-                // Set posisi ke entry farm dari city (atas tengah)
-                int farmEntryX = gameManager.getFarmMap().getEntryFromCityX();
-                int farmEntryY = gameManager.getFarmMap().getEntryFromCityY();
-                gameManager.getPlayer().setPosition(farmEntryX, farmEntryY);
-                refreshActiveMapPanel();
-                // Setelah sampai di farm, animasikan jalan ke pintu house (exit ke house)
-                Point farmPos = new Point(farmEntryX, farmEntryY);
-                Point exitToHouse = findNearestHouseExit(gameManager.getFarmMap());
-                List<Point> pathToExitFarm = findPathAStar(gameManager.getFarmMap(), farmPos, exitToHouse);
-                animateMovement(pathToExitFarm, gameManager.getFarmMap(), () -> {
-                    // Setelah animasi selesai, transisi ke house
-                    gameManager.transitionMap(gameManager.getHouseMap().getName());
-                    showScreen("HouseScreen");
-                    gameManager.getPlayer().setPosition(houseEntry.x, houseEntry.y);
-                    proceedAutopilotToBed();
+        WorldNavigator.Leg leg = route.get(legIndex);
+        animateMovement(leg.getSteps(), leg.getMap(), () -> {
+            WorldNavigator.Portal exit = leg.getExit();
+            if (exit != null) {
+                // Transisi ke map berikutnya; transitionMap menaruh player di titik entry yang sama dengan portal
+                onSimulation(() -> {
+                    gameManager.transitionMap(exit.getTo().getName());
+                    gameManager.getPlayer().setPosition(exit.getEntryX(), exit.getEntryY());
                 });
-            };
-            if (pathToExit == null || pathToExit.isEmpty()) {
-                // Path tidak ditemukan, animasikan langkah lurus ke exit (paksa animasi, bukan teleport)
-                java.util.List<Point> fallbackPath = new java.util.ArrayList<>();
-                Point current = new Point(playerPos.x, playerPos.y);
-                while (!current.equals(exitToFarm)) {
-                    if (current.x < exitToFarm.x) current.x++;
-                    else if (current.x > exitToFarm.x) current.x--;
-                    else if (current.y < exitToFarm.y) current.y++;
-                    else if (current.y > exitToFarm.y) current.y--;
-                    fallbackPath.add(new Point(current.x, current.y));
-                }
-                animateMovement(fallbackPath, gameManager.getCityMap(), afterCityToFarm);
-                return;
+                showScreen(screenForMap(exit.getTo()));
+                refreshActiveMapPanel();
             }
-            animateMovement(pathToExit, gameManager.getCityMap(), afterCityToFarm);
-            return;
-        }
-
-        // Default: jika map tidak dikenali, pastikan player animasi jalan di farm sebelum ke house
-        System.out.println("Autopilot fallback: playerLoc=" + playerLoc);
-        if (!playerLoc.equals(gameManager.getFarmMap().getName())) {
-            // Pindah ke farm, posisikan di entry dari city
-            gameManager.transitionMap(gameManager.getFarmMap().getName());
-            showScreen("GameScreen");
-            int farmEntryX = gameManager.getFarmMap().getEntryFromCityX();
-            int farmEntryY = gameManager.getFarmMap().getEntryFromCityY();
-            gameManager.getPlayer().setPosition(farmEntryX, farmEntryY);
-            refreshActiveMapPanel();
-            // Setelah sampai di farm, animasikan jalan ke pintu house (exit ke house)
-            Point farmPos = new Point(farmEntryX, farmEntryY);
-            Point exitToHouse = findNearestHouseExit(gameManager.getFarmMap());
-            List<Point> pathToExit = findPathAStar(gameManager.getFarmMap(), farmPos, exitToHouse);
-            animateMovement(pathToExit, gameManager.getFarmMap(), () -> {
-                // Setelah animasi selesai, transisi ke house
-                gameManager.transitionMap(gameManager.getHouseMap().getName());
-                showScreen("HouseScreen");
-                gameManager.getPlayer().setPosition(houseEntry.x, houseEntry.y);
-                proceedAutopilotToBed();
-            });
-            return;
-        }
-        // Jika sudah di farm (fallback), animasikan jalan ke pintu house
-        Point farmPos = new Point(gameManager.getPlayer().getX(), gameManager.getPlayer().getY());
-        Point exitToHouse = findNearestHouseExit(gameManager.getFarmMap());
-        List<Point> pathToExit = findPathAStar(gameManager.getFarmMap(), farmPos, exitToHouse);
-        animateMovement(pathToExit, gameManager.getFarmMap(), () -> {
-            gameManager.transitionMap(gameManager.getHouseMap().getName());
-            showScreen("HouseScreen");
-            gameManager.getPlayer().setPosition(houseEntry.x, houseEntry.y);
-            proceedAutopilotToBed();
+            followRoute(route, legIndex + 1);
         });
     }
 
-    // Helper: exit point di farm ke house (biasanya di depan rumah)
-    // (HAPUS DUPLIKAT, method ini sudah ada di bawah)
+    /** Redraws the whole farm on the next paint, e.g. after a save game replaced its tiles. */
+    public void invalidateFarmMap() {
+        if (farmMapPanel != null) farmMapPanel.invalidateMap();
+    }
 
-    // Helper: exit point di city ke farm (misal: tengah bawah)
-    private Point findNearestFarmExit(GameMap map) {
-        if (map.getName().equals(gameManager.getCityMap().getName())) {
-            int sz = map.getSize();
-            return new Point(sz / 2, sz - 1);
-        }
-        // Default fallback
-        return new Point(0, 0);
+    /** Autopilot moves the player like a key press would: on the simulation thread. */
+    private void onSimulation(Runnable action) {
+        gameManager.getGameTime().getClock().execute(action);
+    }
+
+    private String screenForMap(GameMap map) {
+        if (map == gameManager.getHouseMap()) return "HouseScreen";
+        if (map == gameManager.getCityMap()) return "CityScreen";
+        return "GameScreen";
     }
 
     /**
@@ -287,8 +261,10 @@ public class GameView extends JFrame {
         autopilotActive = false;
         forceSleepMode = false;
         // Pastikan player tetap di house dan di posisi kasur setelah bangun
-        gameManager.getPlayer().setLocation(gameManager.getHouseMap().getName());
-        gameManager.getPlayer().setPosition(core.world.HouseMap.BED_LOCATION.x, core.world.HouseMap.BED_LOCATION.y);
+        onSimulation(() -> {
+            gameManager.getPlayer().setLocation(gameManager.getHouseMap().getName());
+            gameManager.getPlayer().setPosition(core.world.HouseMap.BED_LOCATION.x, core.world.HouseMap.BED_LOCATION.y);
+        });
         showScreen("HouseScreen"); // Tampilkan house setelah bangun
     }
 
@@ -307,7 +283,7 @@ public class GameView extends JFrame {
         timer.addActionListener(e -> {
             if (idx[0] < path.size()) {
                 Point p = path.get(idx[0]);
-                player.setPosition(p.x, p.y);
+                onSimulation(() -> player.setPosition(p.x, p.y));
                 refreshActiveMapPanel();
                 idx[0]++;
             } else {
@@ -324,79 +300,16 @@ public class GameView extends JFrame {
     private void refreshActiveMapPanel() {
         String loc = gameManager.getPlayer().getLocation();
         if (loc.equals(gameManager.getFarmMap().getName())) {
-            farmMapPanel.refreshMap();
+            if (farmMapPanel != null) farmMapPanel.refreshMap();
         } else if (loc.equals(gameManager.getCityMap().getName())) {
-            cityMapPanel.refreshMap();
+            if (cityMapPanel != null) cityMapPanel.refreshMap();
         } else if (loc.equals(gameManager.getHouseMap().getName())) {
-            houseMapPanel.refreshMap();
-        }
-    }
-
-    /**
-     * Find the nearest house exit on the current map (for simplicity, use house exit spawn on farm, or a fixed point on city).
-     */
-    private Point findNearestHouseExit(GameMap map) {
-        if (map.getName().equals(gameManager.getFarmMap().getName())) {
-            return new Point(gameManager.getFarmMap().getHouseExitSpawnX(), gameManager.getFarmMap().getHouseExitSpawnY());
-        } else if (map.getName().equals(gameManager.getCityMap().getName())) {
-            // For city, use a fixed exit (e.g., center bottom)
-            int sz = map.getSize();
-            return new Point(sz / 2, sz - 1);
+            if (houseMapPanel != null) houseMapPanel.refreshMap();
         }
-        // Default fallback
-        return new Point(0, 0);
     }
 
-    /**
-     * A* pathfinding for any GameMap. Returns list of Points from start (excluded) to goal (included).
-     */
     private List<Point> findPathAStar(GameMap map, Point start, Point goal) {
-        int sz = map.getSize();
-        boolean[][] closed = new boolean[sz][sz];
-        Map<String, String> cameFrom = new HashMap<>();
-        Map<String, Integer> gScore = new HashMap<>();
-        PriorityQueue<Point> open = new PriorityQueue<>(Comparator.comparingInt(p -> gScore.getOrDefault(p.x+","+p.y, Integer.MAX_VALUE) + heuristic(p, goal)));
-        String startKey = start.x + "," + start.y;
-        String goalKey = goal.x + "," + goal.y;
-        gScore.put(startKey, 0);
-        open.add(new Point(start.x, start.y));
-        int[][] dirs = {{0,1},{1,0},{0,-1},{-1,0}};
-        while (!open.isEmpty()) {
-            Point curr = open.poll();
-            String currKey = curr.x + "," + curr.y;
-            if (curr.x == goal.x && curr.y == goal.y) {
-                // Reconstruct path
-                LinkedList<Point> path = new LinkedList<>();
-                String pKey = goalKey;
-                while (!pKey.equals(startKey)) {
-                    String[] parts = pKey.split(",");
-                    int px = Integer.parseInt(parts[0]);
-                    int py = Integer.parseInt(parts[1]);
-                    path.addFirst(new Point(px, py));
-                    pKey = cameFrom.get(pKey);
-                }
-                return path;
-            }
-            closed[curr.x][curr.y] = true;
-            for (int[] d : dirs) {
-                int nx = curr.x + d[0], ny = curr.y + d[1];
-                if (nx < 0 || ny < 0 || nx >= sz || ny >= sz) continue;
-                if (!map.isWalkable(nx, ny)) continue;
-                if (closed[nx][ny]) continue;
-                String npKey = nx + "," + ny;
-                int tentativeG = gScore.get(currKey) + 1;
-                if (tentativeG < gScore.getOrDefault(npKey, Integer.MAX_VALUE)) {
-                    cameFrom.put(npKey, currKey);
-                    gScore.put(npKey, tentativeG);
-                    open.add(new Point(nx, ny));
-                }
-            }
-        }
-        return Collections.emptyList(); // No path found
-    }
-
-    private int heuristic(Point a, Point b) {
-        return Math.abs(a.x - b.x) + Math.abs(a.y - b.y);
+        return pathfinder.findPathPoints(map, start, goal); // Path tanpa titik start, kosong jika tidak ada jalan
     }
 
     public void showNPCInteractionScreen(NPC npc) {
@@ -416,6 +329,7 @@ public class GameView extends JFrame {
             this.previousScreenName = this.currentScreenName;
         }
         this.currentScreenName = screenName;
+        ensureMapPanel(screenName);
 
         System.out.println("GameView: Showing screen - " + screenName + ". Previous screen was: " + previousScreenName);
 
@@ -511,9 +425,34 @@ public class GameView extends JFrame {
         SwingUtilities.invokeLater(() -> {
             GameView game = new GameView();
             game.setVisible(true);
+            if (ActiveRenderer.isEnabledByProperty()) {
+                game.setActiveRendering(true);
+            }
         });
     }
 
+    /**
+     * Turns active rendering (see {@link ActiveRenderer}) on or off. While it is on, F3 toggles
+     * the frame-time overlay. Call on the EDT after the window is visible.
+     */
+    public void setActiveRendering(boolean enabled) {
+        if (enabled) {
+            if (activeRenderer == null) {
+                activeRenderer = new ActiveRenderer(this, gameManager.getGameTime().getClock(), ActiveRenderer.configuredFps());
+                getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke("F3"), "toggleFrameOverlay");
+                getRootPane().getActionMap().put("toggleFrameOverlay", new AbstractAction() {
+                    @Override
+                    public void actionPerformed(java.awt.event.ActionEvent e) {
+                        activeRenderer.setOverlayVisible(!activeRenderer.isOverlayVisible());
+                    }
+                });
+            }
+            activeRenderer.start();
+        } else if (activeRenderer != null) {
+            activeRenderer.stop();
+        }
+    }
+
     public void showStatisticsScreen() {
     if (statisticsPanel == null) { // Defensive check
         System.err.println("GameView: StatisticsPanel is null. Cannot show.");
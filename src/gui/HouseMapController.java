@@ -48,7 +48,8 @@ public class HouseMapController extends KeyAdapter {
         if (e.getKeyCode() == KeyEvent.VK_D) { dx += 1; moveKey = true; }
 
         if (moveKey && (dx != 0 || dy != 0) && now - lastMoveTime >= MOVE_COOLDOWN_MS) {
-            actionTaken = currentMap.movePlayer(player, dx, dy);
+            int stepX = dx, stepY = dy;
+            actionTaken = gameManager.getGameTime().getClock().call(() -> currentMap.movePlayer(player, stepX, stepY));
             lastMoveTime = now;
         } else if (!moveKey) {
             // Non-movement actions
@@ -74,16 +75,20 @@ public class HouseMapController extends KeyAdapter {
                             gameManager.getGameTime().sleep2();
                             JOptionPane.showMessageDialog(houseMapPanel, "You slept well and woke up refreshed!", "Slept", JOptionPane.INFORMATION_MESSAGE);
                         } else if ("TV".equals(interactionType)) {
-                            player.setEnergy(player.getEnergy() - 5);
-                            gameManager.getGameTime().advanceGameMinutes(15);
+                            gameManager.getGameTime().getClock().execute(() -> {
+                                player.setEnergy(player.getEnergy() - 5);
+                                gameManager.getGameTime().advanceGameMinutes(15);
+                            });
                             String weatherForecast = "Today's weather: " + gameManager.getGameCalendar().getCurrentWeather() +
                                 "\n(Energy -5, Time +15 mins)";
                             JOptionPane.showMessageDialog(houseMapPanel, weatherForecast, "Weather Forecast", JOptionPane.INFORMATION_MESSAGE);
                         } else if ("STOVE".equals(interactionType)) {
                             gameView.showScreen("CookingScreen");
                         } else if ("EXIT_TO_FARM".equals(interactionType)) {
-                            gameManager.transitionMap(gameManager.getFarmMap().getName());
-                            player.setPosition(gameManager.getFarmMap().getHouseExitSpawnX(), gameManager.getFarmMap().getHouseExitSpawnY());
+                            gameManager.getGameTime().getClock().execute(() -> {
+                                gameManager.transitionMap(gameManager.getFarmMap().getName());
+                                player.setPosition(gameManager.getFarmMap().getHouseExitSpawnX(), gameManager.getFarmMap().getHouseExitSpawnY());
+                            });
                             gameView.showScreen("GameScreen");
                         } else {
                             actionTaken = false;
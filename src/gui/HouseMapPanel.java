@@ -13,6 +13,8 @@ import core.world.HouseMap; // For static HouseMap.SIZE
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.List;
+import java.util.Arrays;
 
 public class HouseMapPanel extends JPanel {
     private GameManager gameManager;
@@ -29,6 +31,17 @@ public class HouseMapPanel extends JPanel {
         loadAssetImages();
     }
 
+    /**
+     * Sprites used by {@link #loadAssetImages()}, with the player sprite of every gender since it
+     * is not chosen yet at startup. Only a hint for {@link AssetLoader}.
+     */
+    static List<String> preloadPaths() {
+        return Arrays.asList(
+                AssetLoader.png("WoodFloor.png"), AssetLoader.png("WoodFloor_type2.png"), AssetLoader.png("Bed.png"),
+                AssetLoader.png("Stove.png"), AssetLoader.png("TV.png"), AssetLoader.png("PlayerBoy_idle.png"),
+                AssetLoader.png("PlayerGirl_idle.png"), AssetLoader.png("Orenji.png"));
+    }
+
     private void loadAssetImages() {
         floorImage = loadImage("resources/asset/png/WoodFloor.png", "Floor");
         borderImage = loadImage("resources/asset/png/WoodFloor_type2.png", "Border");
@@ -114,14 +127,14 @@ public class HouseMapPanel extends JPanel {
                 boolean isExit = (x == HouseMap.EXIT_LOCATION.x && y == HouseMap.EXIT_LOCATION.y);
                 if (isBorder && !isExit) {
                     if (borderImage != null) {
-                        g2d.drawImage(borderImage, drawX, drawY, actualTileSize, actualTileSize, null);
+                        SpriteAtlas.getInstance().draw(g2d, borderImage, drawX, drawY, actualTileSize, actualTileSize);
                     } else {
                         g2d.setColor(new Color(139, 69, 19));
                         g2d.fillRect(drawX, drawY, actualTileSize, actualTileSize);
                     }
                 } else {
                     if (floorImage != null) {
-                        g2d.drawImage(floorImage, drawX, drawY, actualTileSize, actualTileSize, null);
+                        SpriteAtlas.getInstance().draw(g2d, floorImage, drawX, drawY, actualTileSize, actualTileSize);
                     } else {
                         g2d.setColor(new Color(210, 180, 140));
                         g2d.fillRect(drawX, drawY, actualTileSize, actualTileSize);
@@ -145,7 +158,7 @@ public class HouseMapPanel extends JPanel {
                     if (y == HouseMap.BED_LOCATION.y && x == HouseMap.BED_LOCATION.x) {
                         BufferedImage bedImg = assetImages.get('B');
                         if (bedImg != null) {
-                            g2d.drawImage(bedImg, drawX, drawY, actualTileSize, actualTileSize * 2, null);
+                            SpriteAtlas.getInstance().draw(g2d, bedImg, drawX, drawY, actualTileSize, actualTileSize * 2);
                         } else {
                             g2d.setColor(new Color(135, 206, 250));
                             g2d.fillRect(drawX, drawY, actualTileSize, actualTileSize * 2);
@@ -156,7 +169,7 @@ public class HouseMapPanel extends JPanel {
                     if (y == HouseMap.STOVE_LOCATION.y && x == HouseMap.STOVE_LOCATION.x) {
                         BufferedImage stoveImg = assetImages.get('S');
                         if (stoveImg != null) {
-                            g2d.drawImage(stoveImg, drawX, drawY, actualTileSize, actualTileSize * 2, null);
+                            SpriteAtlas.getInstance().draw(g2d, stoveImg, drawX, drawY, actualTileSize, actualTileSize * 2);
                         } else {
                             g2d.setColor(new Color(128, 128, 128));
                             g2d.fillRect(drawX, drawY, actualTileSize, actualTileSize * 2);
@@ -165,7 +178,7 @@ public class HouseMapPanel extends JPanel {
                 } else if (displayChar == 'T') {
                     BufferedImage tvImg = assetImages.get('T');
                     if (tvImg != null) {
-                        g2d.drawImage(tvImg, drawX, drawY, actualTileSize, actualTileSize, null);
+                        SpriteAtlas.getInstance().draw(g2d, tvImg, drawX, drawY, actualTileSize, actualTileSize);
                     } else {
                         g2d.setColor(new Color(105, 105, 105));
                         g2d.fillRect(drawX, drawY, actualTileSize, actualTileSize);
@@ -189,7 +202,7 @@ public class HouseMapPanel extends JPanel {
             int drawX = offsetX + px * actualTileSize;
             int drawY = offsetY + py * actualTileSize;
             if (playerImage != null) {
-                g2d.drawImage(playerImage, drawX, drawY, actualTileSize, actualTileSize, null);
+                SpriteAtlas.getInstance().draw(g2d, playerImage, drawX, drawY, actualTileSize, actualTileSize);
             } else {
                 g2d.setColor(Color.RED);
                 g2d.fillOval(drawX, drawY, actualTileSize, actualTileSize);
@@ -201,34 +214,12 @@ public class HouseMapPanel extends JPanel {
         repaint(); //
     }
         /**
-     * Helper to load a PNG from an absolute file path first, then fallback to classpath resource.
+     * Helper to load a PNG through the shared {@link SpriteAtlas} (file path first, then classpath resource).
      * @param path The file path or resource path (e.g., "resources/asset/png/image.png").
      * @param nameForLog A descriptive name for logging purposes.
      * @return The loaded BufferedImage, or null if loading failed.
      */
     private BufferedImage loadImage(String path, String nameForLog) {
-        // Try to load from absolute file path first (outside rootpath, e.g. for development override)
-        java.io.File file = new java.io.File(path);
-        if (file.exists()) {
-            try {
-                return javax.imageio.ImageIO.read(file);
-            } catch (Exception e) {
-                System.err.println("Error loading image from file: " + path + " (" + nameForLog + "): " + e.getMessage());
-            }
-        }
-        // Fallback: try to load from classpath (inside jar/resources)
-        java.io.InputStream is = getClass().getResourceAsStream(path);
-        if (is == null) {
-            System.err.println("Warning: Image not found: " + nameForLog + " (Path: " + path + ")");
-            return null;
-        }
-        try {
-            return javax.imageio.ImageIO.read(is);
-        } catch (Exception e) {
-            System.err.println("Error loading image from resource: " + path + " (" + nameForLog + "): " + e.getMessage());
-            return null;
-        } finally {
-            try { is.close(); } catch (Exception e) { System.err.println("Error closing stream for " + nameForLog + ": " + e.getMessage()); }
-        }
+        return SpriteAtlas.getInstance().load(path, nameForLog);
     }
 }
\ No newline at end of file
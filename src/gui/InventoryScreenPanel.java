@@ -37,6 +37,7 @@ public class InventoryScreenPanel extends JPanel {
     private java.util.List<Item> actualGeneralItems;
     private java.util.List<Equipment> actualEquipmentItems;
 
+    private static final String NO_GENERAL_ITEMS = "No general items.";
 
     public InventoryScreenPanel(GameView gameView, GameManager gameManager) {
         this.gameView = gameView;
@@ -52,6 +53,12 @@ public class InventoryScreenPanel extends JPanel {
         initComponents();
         addEventListeners();
         setFocusable(true);
+
+        if (player != null) {
+            // Daftar item dibangun sekali; sesudahnya hanya baris yang berubah yang ditambal
+            populateGeneralItems();
+            player.getInventory().addInventoryListener(this::onInventoryItemChanged);
+        }
     }
 
     private void initComponents() {
@@ -107,21 +114,6 @@ public class InventoryScreenPanel extends JPanel {
     public void refreshPanelData() {
         if (player == null) return;
 
-        // Populate General Items
-        generalItemsListModel.clear();
-        actualGeneralItems.clear();
-        Map<Item, Integer> ownedItems = player.getInventory().getAllItems(); // This gets non-equipment
-        if (ownedItems.isEmpty()) {
-            generalItemsListModel.addElement("No general items.");
-        } else {
-            for (Map.Entry<Item, Integer> entry : ownedItems.entrySet()) {
-                Item item = entry.getKey();
-                int quantity = entry.getValue();
-                generalItemsListModel.addElement(item.getName() + " x" + quantity + " (" + item.getCategory() + ")");
-                actualGeneralItems.add(item);
-            }
-        }
-
         // Populate Equipment
         equipmentListModel.clear();
         actualEquipmentItems.clear();
@@ -130,7 +122,7 @@ public class InventoryScreenPanel extends JPanel {
             equipmentListModel.addElement("No equipment owned.");
         } else {
             for (Equipment eq : ownedEquipment.values()) {
-                equipmentListModel.addElement(eq.getName() + (eq.isEquipped() ? " [EQUIPPED]" : " [STORED]"));
+                equipmentListModel.addElement(eq.getName() + (eq == player.getEquipmentManager().getEquippedItem() ? " [EQUIPPED]" : " [STORED]"));
                 actualEquipmentItems.add(eq);
             }
         }
@@ -145,6 +137,49 @@ public class InventoryScreenPanel extends JPanel {
         SwingUtilities.invokeLater(this::requestFocusInWindow);
     }
 
+    private void populateGeneralItems() {
+        generalItemsListModel.clear();
+        actualGeneralItems.clear();
+        for (Map.Entry<Item, Integer> entry : player.getInventory().getAllItems().entrySet()) {
+            actualGeneralItems.add(entry.getKey());
+            generalItemsListModel.addElement(formatGeneralItem(entry.getKey(), entry.getValue()));
+        }
+        if (actualGeneralItems.isEmpty()) {
+            generalItemsListModel.addElement(NO_GENERAL_ITEMS);
+        }
+    }
+
+    private static String formatGeneralItem(Item item, int quantity) {
+        return item.getName() + " x" + quantity + " (" + item.getCategory() + ")";
+    }
+
+    /** Patches the one row of {@code item}; runs on the EDT. */
+    private void onInventoryItemChanged(Item item, int oldQuantity, int newQuantity) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> onInventoryItemChanged(item, oldQuantity, newQuantity));
+            return;
+        }
+        int row = actualGeneralItems.indexOf(item);
+        if (newQuantity == 0) {
+            if (row >= 0) {
+                actualGeneralItems.remove(row);
+                generalItemsListModel.remove(row);
+                if (actualGeneralItems.isEmpty()) {
+                    generalItemsListModel.addElement(NO_GENERAL_ITEMS);
+                }
+            }
+        } else if (row >= 0) {
+            generalItemsListModel.set(row, formatGeneralItem(item, newQuantity));
+        } else {
+            if (actualGeneralItems.isEmpty()) {
+                generalItemsListModel.clear(); // Buang baris "No general items."
+            }
+            actualGeneralItems.add(item);
+            generalItemsListModel.addElement(formatGeneralItem(item, newQuantity));
+        }
+        updateButtonStates();
+    }
+
     private String getBaseNameFromDisplay(String displayName, boolean isEquipment) {
         if (displayName == null) return null;
         if (isEquipment) {
@@ -181,7 +216,7 @@ public class InventoryScreenPanel extends JPanel {
 
         if (equipIndex != -1 && equipIndex < actualEquipmentItems.size()) {
             Equipment selectedEquipment = actualEquipmentItems.get(equipIndex);
-            equipButton.setEnabled(!selectedEquipment.isEquipped());
+            equipButton.setEnabled(selectedEquipment != currentlyEquipped);
         } else {
             equipButton.setEnabled(false);
         }
@@ -203,8 +238,10 @@ public class InventoryScreenPanel extends JPanel {
                 if (itemToUse instanceof EdibleItem) {
                     EdibleItem edible = (EdibleItem) itemToUse;
                     int energyBefore = player.getEnergy();
-                    player.setEnergy(player.getEnergy() + edible.getEnergyRestored());
-                    player.getInventory().removeItem(itemToUse, 1); // Assumes removeItem works correctly
+                    gameManager.getGameTime().getClock().execute(() -> {
+                        player.setEnergy(player.getEnergy() + edible.getEnergyRestored());
+                        player.getInventory().removeItem(itemToUse, 1); // Assumes removeItem works correctly
+                    });
                     
                     JOptionPane.showMessageDialog(this,
                         "Used " + itemToUse.getName() + ".\nEnergy restored: " + edible.getEnergyRestored() +
@@ -10,6 +10,8 @@ public class MainMenu extends JPanel {
 
     private GameView gameView;
     private Image backgroundImg;
+    private int assetsLoaded; // Progress AssetLoader, hanya diakses dari EDT
+    private int assetsTotal;
 
     // Store buttons as fields for dynamic layout
     private final JButton newGameButton;
@@ -109,52 +111,42 @@ public class MainMenu extends JPanel {
     public void setGameView(GameView gameView) {
         this.gameView = gameView;
     }
+
+    /**
+     * Shows background asset loading progress; the bar disappears once {@code loaded == total}.
+     * Call on the EDT ({@link AssetLoader} does).
+     */
+    public void setLoadingProgress(int loaded, int total) {
+        this.assetsLoaded = loaded;
+        this.assetsTotal = total;
+        repaint(0, getHeight() - 30, getWidth(), 30);
+    }
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         if (backgroundImg != null) {
             g.drawImage(backgroundImg, 0, 0, getWidth(), getHeight(), this);
         }
+        if (assetsLoaded < assetsTotal) {
+            int barWidth = getWidth() / 3;
+            int barX = (getWidth() - barWidth) / 2;
+            int barY = getHeight() - 20;
+            g.setColor(new Color(0, 0, 0, 120));
+            g.fillRect(barX, barY, barWidth, 8);
+            g.setColor(new Color(230, 190, 90));
+            g.fillRect(barX, barY, barWidth * assetsLoaded / assetsTotal, 8);
+            g.setColor(Color.WHITE);
+            g.setFont(new Font("Arial", Font.PLAIN, 11));
+            g.drawString("Memuat aset... " + assetsLoaded + "/" + assetsTotal, barX, barY - 3);
+        }
     }
-        /**
-     * Helper to load a PNG from an absolute file path first, then fallback to classpath resource.
+    /**
+     * Helper to load a PNG through the shared {@link SpriteAtlas} (file path first, then classpath resource).
      * @param path The file path or resource path (e.g., "resources/asset/png/image.png").
      * @param nameForLog A descriptive name for logging purposes.
      * @return The loaded Image, or null if loading failed.
      */
     private Image loadImage(String path, String nameForLog) {
-        // Try absolute path (relative to working directory)
-        java.io.File file = new java.io.File(path);
-        if (file.isAbsolute() && file.exists()) {
-            try {
-                return javax.imageio.ImageIO.read(file);
-            } catch (Exception e) {
-                System.err.println("Error loading image from file: " + path + " (" + nameForLog + "): " + e.getMessage());
-            }
-        } else {
-            // Try relative to project root (working directory)
-            file = new java.io.File(System.getProperty("user.dir"), path);
-            if (file.exists()) {
-                try {
-                    return javax.imageio.ImageIO.read(file);
-                } catch (Exception e) {
-                    System.err.println("Error loading image from file: " + file.getAbsolutePath() + " (" + nameForLog + "): " + e.getMessage());
-                }
-            }
-        }
-        // Fallback: try to load from classpath (inside jar/resources)
-        java.io.InputStream is = getClass().getResourceAsStream(path);
-        if (is == null) {
-            System.err.println("Warning: Image not found: " + nameForLog + " (Path: " + path + ")");
-            return null;
-        }
-        try {
-            return javax.imageio.ImageIO.read(is);
-        } catch (Exception e) {
-            System.err.println("Error loading image from resource: " + path + " (" + nameForLog + "): " + e.getMessage());
-            return null;
-        } finally {
-            try { is.close(); } catch (Exception e) { System.err.println("Error closing stream for " + nameForLog + ": " + e.getMessage()); }
-        }
+        return SpriteAtlas.getInstance().load(path, nameForLog);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.util.function.Supplier;
 
 import system.GameManager;
 import npc.NPC;
@@ -172,7 +173,7 @@ public class NPCInteractionPanel extends JPanel {
         chatButton.addActionListener(e -> {
             System.out.println("Chat Button Clicked");
             if (currentNpc != null) {
-                String interactionResult = npcActions.chatWithNPC(currentNpc);
+                String interactionResult = onSimulation(() -> npcActions.chatWithNPC(currentNpc));
                 dialogueArea.setText(currentNpc.getChatDialogue(gameManager.getPlayer()) + "\n\n--- Interaction Feedback ---\n" + interactionResult);
                 gameManager.getTopInfoBarPanel().refreshInfo();
                 updateActionButtons();
@@ -190,7 +191,7 @@ public class NPCInteractionPanel extends JPanel {
                     Item itemToGift = gameManager.getPlayer().getInventory().findItemByName(itemName.trim());
                     if (itemToGift != null) {
                         if (gameManager.getPlayer().getInventory().getItemCount(itemToGift.getName()) > 0) {
-                            String result = npcActions.giftToNPC(currentNpc, itemToGift);
+                            String result = onSimulation(() -> npcActions.giftToNPC(currentNpc, itemToGift));
                             dialogueArea.setText("--- Gift Interaction ---\n" + result);
                         } else {
                             dialogueArea.setText("You don't have any " + itemName.trim() + " to gift.");
@@ -208,7 +209,7 @@ public class NPCInteractionPanel extends JPanel {
             System.out.println("Propose Button Clicked. Enabled: " + proposeButton.isEnabled());
             if (currentNpc != null && proposeButton.isEnabled()) {
                 boolean hasRing = gameManager.getPlayer().getInventory().getItemCount("Proposal Ring") > 0;
-                String result = npcActions.proposeToNPC(currentNpc, hasRing);
+                String result = onSimulation(() -> npcActions.proposeToNPC(currentNpc, hasRing));
                 dialogueArea.setText("--- Proposal Attempt ---\n" + result);
                 gameManager.getTopInfoBarPanel().refreshInfo();
                 updateActionButtons();
@@ -222,7 +223,7 @@ public class NPCInteractionPanel extends JPanel {
             System.out.println("Marry Button Clicked. Enabled: " + marryButton.isEnabled());
             if (currentNpc != null && marryButton.isEnabled()) {
                 boolean hasRing = gameManager.getPlayer().getInventory().getItemCount("Proposal Ring") > 0;
-                String result = npcActions.marryNPC(currentNpc, hasRing); // Assumes NPCActions handles day check
+                String result = onSimulation(() -> npcActions.marryNPC(currentNpc, hasRing)); // Assumes NPCActions handles day check
                 dialogueArea.setText("--- Marriage Attempt ---\n" + result);
                 if (result.toLowerCase().contains("selamat")) { // Check for successful marriage
                     gameManager.getGameTime().skipTo(22, 0); // Time skip as per spec
@@ -258,4 +259,9 @@ public class NPCInteractionPanel extends JPanel {
         System.out.println("NPCInteractionPanel.performLeaveAction: Leaving to CityScreen.");
         gameView.showScreen("CityScreen");
     }
+
+    /** Hubungan, inventory dan energi diubah di SimulationThread; hasilnya dikembalikan ke EDT. */
+    private String onSimulation(Supplier<String> action) {
+        return gameManager.getGameTime().getClock().call(action);
+    }
 }
\ No newline at end of file
@@ -81,7 +81,7 @@ public class PlayerInfoPanel extends JPanel {
                     inventoryText.append("  (No equipment)\n");
                 } else {
                     for (var entry : player.getEquipmentManager().getOwnedEquipment().entrySet()) {
-                        String status = entry.getValue().isEquipped() ? " [EQUIPPED]" : " [STORED]";
+                        String status = player.getEquipmentManager().isEquipped(entry.getKey()) ? " [EQUIPPED]" : " [STORED]";
                         inventoryText.append("- ").append(entry.getKey()).append(status).append("\n");
                     }
                 }
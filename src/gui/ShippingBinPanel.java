@@ -6,6 +6,8 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import core.player.Player;
 import item.Item;
@@ -21,6 +23,12 @@ public class ShippingBinPanel extends JPanel {
     private JScrollPane scrollPane;
     private JLabel currentBinContentsLabel; // To show what's already in the bin
 
+    // Baris per item, dibangun sekali lalu ditambal lewat event inventory
+    private final Map<Item, JPanel> itemRows = new LinkedHashMap<>();
+    private final Map<Item, JLabel> itemLabels = new HashMap<>();
+    private final JLabel emptyLabel = new JLabel("Your inventory is empty.");
+    private boolean rowsBuilt;
+
     public ShippingBinPanel(GameView gameView, GameManager gameManager) {
         this.gameView = gameView;
         this.gameManager = gameManager;
@@ -59,86 +67,131 @@ public class ShippingBinPanel extends JPanel {
                 }
             }
         });
+
+        if (player != null) {
+            player.getInventory().addInventoryListener(this::onInventoryItemChanged);
+        }
     }
 
     public void refreshShippingBinDisplay() {
         itemsToShipPanel.removeAll();
+        itemRows.clear();
+        itemLabels.clear();
         if (player == null || player.getInventory() == null) {
             itemsToShipPanel.add(new JLabel("Error: Player or inventory not available."));
             return;
         }
 
-        Map<Item, Integer> playerItems = player.getInventory().getAllItems();
+        for (Map.Entry<Item, Integer> entry : player.getInventory().getAllItems().entrySet()) {
+            addItemRow(entry.getKey(), entry.getValue());
+        }
+        if (itemRows.isEmpty()) {
+            itemsToShipPanel.add(emptyLabel);
+        }
+        rowsBuilt = true;
+        updateBinContentsLabel();
+        itemsToShipPanel.revalidate();
+        itemsToShipPanel.repaint();
+    }
 
-        if (playerItems.isEmpty()) {
-            itemsToShipPanel.add(new JLabel("Your inventory is empty."));
-        } else {
-            for (Map.Entry<Item, Integer> entry : playerItems.entrySet()) {
-                Item item = entry.getKey();
-                int currentQuantityInInventory = entry.getValue();
+    private static boolean isShippable(Item item) {
+        // Optionally, exclude certain item categories like "Equipment"
+        return !(item instanceof Equipment) && item.getSellPrice() > 0;
+    }
+
+    private String formatItemLabel(Item item, int quantity) {
+        // Harga pasar saat ini untuk unit berikutnya; turun kalau item ini sering dijual
+        long unitPrice = Math.round(item.getSellPrice() * gameManager.getMarket().getPriceMultiplier(item));
+        return String.format("%s (x%d, Sell: %dg ea.)", item.getName(), quantity, unitPrice);
+    }
+
+    private void addItemRow(Item item, int quantity) {
+        if (!isShippable(item)) {
+            return; // Skip non-sellable items or equipment
+        }
 
-                // Optionally, exclude certain item categories like "Equipment"
-                if (item instanceof Equipment || item.getSellPrice() <= 0) {
-                    continue; // Skip non-sellable items or equipment
+        JPanel itemEntry = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        itemEntry.setBackground(itemsToShipPanel.getBackground());
+
+        JLabel itemLabel = new JLabel(formatItemLabel(item, quantity));
+        itemLabel.setToolTipText(item.getCategory());
+
+        JTextField quantityToShipField = new JTextField("0", 3);
+        JButton shipButton = new JButton("Ship");
+
+        shipButton.addActionListener(e -> {
+            try {
+                int quantityToShip = Integer.parseInt(quantityToShipField.getText());
+                if (quantityToShip <= 0) {
+                    JOptionPane.showMessageDialog(this, "Please enter a positive quantity.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                // Jumlah dibaca saat diklik; baris ini bisa sudah ditambal sejak dibuat
+                if (quantityToShip > player.getInventory().getItemCount(item)) {
+                    JOptionPane.showMessageDialog(this, "Not enough " + item.getName() + " in inventory.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
 
-                JPanel itemEntry = new JPanel(new FlowLayout(FlowLayout.LEFT));
-                itemEntry.setBackground(itemsToShipPanel.getBackground());
-
-                JLabel itemLabel = new JLabel(String.format("%s (x%d, Sell: %dg ea.)",
-                        item.getName(), currentQuantityInInventory, item.getSellPrice()));
-                itemLabel.setToolTipText(item.getCategory());
-
-                JTextField quantityToShipField = new JTextField("0", 3);
-                JButton shipButton = new JButton("Ship");
-
-                shipButton.addActionListener(e -> {
-                    try {
-                        int quantityToShip = Integer.parseInt(quantityToShipField.getText());
-                        if (quantityToShip <= 0) {
-                            JOptionPane.showMessageDialog(this, "Please enter a positive quantity.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                            return;
-                        }
-                        if (quantityToShip > currentQuantityInInventory) {
-                            JOptionPane.showMessageDialog(this, "Not enough " + item.getName() + " in inventory.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                            return;
-                        }
-
-                        // Add to actual shipping bin
-                        boolean success = player.getShippingBin().addItem(player, item, quantityToShip); //
-                        if (success) {
-                            // Refresh player info (gold doesn't change yet, but inventory does)
-                            if(gameManager.getTopInfoBarPanel() != null) {
-                                gameManager.getTopInfoBarPanel().refreshInfo();
-                            }
-                            // Refresh this panel to show updated inventory quantities
-                            refreshShippingBinDisplay();
-                            updateBinContentsLabel(); // Update the label showing bin total
-                            JOptionPane.showMessageDialog(this, quantityToShip + " " + item.getName() + " added to bin.", "Item Shipped", JOptionPane.INFORMATION_MESSAGE);
-                        } else {
-                             JOptionPane.showMessageDialog(this, "Could not add " + item.getName() + " to bin.", "Shipping Error", JOptionPane.ERROR_MESSAGE);
-                        }
-                        // Request focus back
-                        this.requestFocusInWindow();
-
-                    } catch (NumberFormatException ex) {
-                        JOptionPane.showMessageDialog(this, "Invalid quantity entered.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                        this.requestFocusInWindow();
-                    }
-                });
-
-                itemEntry.add(itemLabel);
-                itemEntry.add(new JLabel("Qty to ship:"));
-                itemEntry.add(quantityToShipField);
-                itemEntry.add(shipButton);
-                itemsToShipPanel.add(itemEntry);
+                // Add to actual shipping bin; the inventory event patches this row
+                boolean success = gameManager.getGameTime().getClock().call(
+                        () -> player.getShippingBin().addItem(player, item, quantityToShip)); // Di SimulationThread, sama seperti penjualan malam
+                if (success) {
+                    quantityToShipField.setText("0");
+                    updateBinContentsLabel(); // Update the label showing bin total
+                    JOptionPane.showMessageDialog(this, quantityToShip + " " + item.getName() + " added to bin.", "Item Shipped", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                     JOptionPane.showMessageDialog(this, "Could not add " + item.getName() + " to bin.", "Shipping Error", JOptionPane.ERROR_MESSAGE);
+                }
+                // Request focus back
+                this.requestFocusInWindow();
+
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Invalid quantity entered.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                this.requestFocusInWindow();
             }
+        });
+
+        itemEntry.add(itemLabel);
+        itemEntry.add(new JLabel("Qty to ship:"));
+        itemEntry.add(quantityToShipField);
+        itemEntry.add(shipButton);
+        itemsToShipPanel.add(itemEntry);
+        itemRows.put(item, itemEntry);
+        itemLabels.put(item, itemLabel);
+    }
+
+    /** Patches the one row of {@code item}; runs on the EDT. */
+    private void onInventoryItemChanged(Item item, int oldQuantity, int newQuantity) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> onInventoryItemChanged(item, oldQuantity, newQuantity));
+            return;
+        }
+        if (!rowsBuilt || !isShippable(item)) {
+            return; // Belum pernah ditampilkan: onShow membangun semuanya sekaligus
+        }
+        JLabel label = itemLabels.get(item);
+        if (newQuantity == 0) {
+            JPanel row = itemRows.remove(item);
+            itemLabels.remove(item);
+            if (row != null) {
+                itemsToShipPanel.remove(row);
+                if (itemRows.isEmpty()) {
+                    itemsToShipPanel.add(emptyLabel);
+                }
+            }
+        } else if (label != null) {
+            label.setText(formatItemLabel(item, newQuantity));
+            return; // Ukuran baris hampir tidak berubah; setText sudah memicu revalidate/repaint
+        } else {
+            if (itemRows.isEmpty()) {
+                itemsToShipPanel.remove(emptyLabel);
+            }
+            addItemRow(item, newQuantity);
         }
-        updateBinContentsLabel();
         itemsToShipPanel.revalidate();
         itemsToShipPanel.repaint();
     }
-    
+
     private void updateBinContentsLabel() {
         if (player != null && player.getShippingBin() != null) {
             // This requires ShippingBin to have a method to calculate current value or show contents
@@ -153,7 +206,15 @@ public class ShippingBinPanel extends JPanel {
 
     // Call this when the panel is shown
     public void onShow() {
-        refreshShippingBinDisplay();
+        if (!rowsBuilt) {
+            refreshShippingBinDisplay();
+        } else {
+            // Harga pasar bisa berubah sejak panel terakhir dibuka
+            for (Map.Entry<Item, JLabel> entry : itemLabels.entrySet()) {
+                entry.getValue().setText(formatItemLabel(entry.getKey(), player.getInventory().getItemCount(entry.getKey())));
+            }
+            updateBinContentsLabel();
+        }
         this.requestFocusInWindow();
     }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package gui;
+
+import system.GameLogger;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Process-wide sprite cache shared by all map panels.
+ *
+ * Every PNG is decoded once, however many panels use it, and decoding can run on a worker pool
+ * ahead of time (see {@link AssetLoader}). Panels then ask for a sprite at the
+ * exact pixel size they draw it ({@link #scaled(BufferedImage, int, int)}) and blit it 1:1,
+ * instead of letting every {@code drawImage(img, x, y, w, h, null)} rescale the 16px source.
+ * Scaled copies are compatible images for the screen, so Java2D can keep them in video memory;
+ * a few sizes are kept per sprite and a new one is only made when a panel changes tile size.
+ */
+public final class SpriteAtlas {
+    private static final GameLogger LOG = GameLogger.get(SpriteAtlas.class);
+    private static final SpriteAtlas INSTANCE = new SpriteAtlas();
+    private static final int SIZES_PER_SPRITE = 4; // Cukup untuk panel farm, city dan house sekaligus
+
+    // Key = path tanpa '/' di depan, supaya "/resources/.." dan "resources/.." berbagi satu decode
+    private final Map<String, CompletableFuture<BufferedImage>> sources = new ConcurrentHashMap<>();
+    private final Map<String, BufferedImage> solids = new HashMap<>();
+    private final Map<BufferedImage, List<BufferedImage>> scaledBySource = new IdentityHashMap<>();
+    private int scaleCount;
+
+    private SpriteAtlas() {
+    }
+
+    public static SpriteAtlas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The decoded image at {@code path}, loaded once. The path is tried as a file (also under
+     * "resources/"), then on the classpath. Returns null if it cannot be found or read.
+     * If the image is already being decoded in the background, waits for that decode.
+     */
+    public BufferedImage load(String path, String nameForLog) {
+        return request(path, nameForLog, Runnable::run).join();
+    }
+
+    /**
+     * Starts decoding {@code path} on {@code executor} unless it is already loaded or in flight.
+     * A later {@link #load(String, String)} of the same path gets the same image.
+     */
+    public CompletableFuture<BufferedImage> loadAsync(String path, String nameForLog, Executor executor) {
+        return request(path, nameForLog, executor);
+    }
+
+    private CompletableFuture<BufferedImage> request(String path, String nameForLog, Executor executor) {
+        String key = path.startsWith("/") ? path.substring(1) : path;
+        CompletableFuture<BufferedImage> pending = sources.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<BufferedImage> created = new CompletableFuture<>();
+        pending = sources.putIfAbsent(key, created);
+        if (pending != null) {
+            return pending; // Thread lain lebih dulu
+        }
+        executor.execute(() -> {
+            try {
+                created.complete(read(key, nameForLog)); // null juga di-cache supaya file yang hilang tidak dicari tiap kali
+            } catch (RuntimeException e) {
+                LOG.warn("Error decoding image: " + path + " (" + nameForLog + "): " + e.getMessage());
+                created.complete(null);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * A solid-color rectangle with a black outline, used when a sprite is missing.
+     * Shared for equal color and size.
+     */
+    public synchronized BufferedImage solid(Color color, int width, int height) {
+        String key = color.getRGB() + ":" + width + "x" + height;
+        BufferedImage image = solids.get(key);
+        if (image == null) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.setColor(color);
+            g2.fillRect(0, 0, width, height);
+            g2.setColor(Color.BLACK);
+            g2.drawRect(0, 0, width - 1, height - 1);
+            g2.dispose();
+            solids.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * {@code source} scaled to exactly {@code width} x {@code height} pixels, for a 1:1
+     * {@code drawImage(img, x, y, null)}. Uses the same nearest-neighbour scaling as a scaling
+     * drawImage, so the output looks the same.
+     */
+    public synchronized BufferedImage scaled(BufferedImage source, int width, int height) {
+        if (source == null) {
+            throw new IllegalArgumentException("Sprite sumber tidak boleh null");
+        }
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Ukuran sprite tidak valid: " + width + "x" + height);
+        }
+        if (source.getWidth() == width && source.getHeight() == height) {
+            return source;
+        }
+        List<BufferedImage> variants = scaledBySource.computeIfAbsent(source, s -> new ArrayList<>(SIZES_PER_SPRITE));
+        for (BufferedImage variant : variants) {
+            if (variant.getWidth() == width && variant.getHeight() == height) {
+                return variant;
+            }
+        }
+        BufferedImage variant = createCompatible(width, height);
+        Graphics2D g2 = variant.createGraphics();
+        g2.drawImage(source, 0, 0, width, height, null);
+        g2.dispose();
+        if (variants.size() == SIZES_PER_SPRITE) {
+            variants.remove(0); // Ukuran paling lama, biasanya dari sebelum resize
+        }
+        variants.add(variant);
+        scaleCount++;
+        return variant;
+    }
+
+    /** Draws {@code source} at {@code width} x {@code height} using the cached pre-scaled copy. */
+    public void draw(Graphics2D g2d, BufferedImage source, int x, int y, int width, int height) {
+        g2d.drawImage(scaled(source, width, height), x, y, null);
+    }
+
+    /** Number of scaled variants created so far; for tests and benchmarks. */
+    public synchronized int getScaleCount() {
+        return scaleCount;
+    }
+
+    private static BufferedImage createCompatible(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static BufferedImage read(String relative, String nameForLog) {
+        for (File file : new File[] {new File(relative), new File("resources/" + relative)}) {
+            if (file.exists()) {
+                try {
+                    return ImageIO.read(file);
+                } catch (IOException e) {
+                    LOG.warn("Error loading image from file: " + file + " (" + nameForLog + "): " + e.getMessage());
+                }
+            }
+        }
+        try (InputStream is = SpriteAtlas.class.getResourceAsStream("/" + relative)) {
+            if (is != null) {
+                return ImageIO.read(is);
+            }
+        } catch (IOException e) {
+            LOG.warn("Error loading image from resource: " + relative + " (" + nameForLog + "): " + e.getMessage());
+            return null;
+        }
+        LOG.warn("Image not found: " + nameForLog + " (Path: " + relative + ")");
+        return null;
+    }
+}
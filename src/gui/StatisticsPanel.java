@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.text.DecimalFormat;
 import java.util.Map;
+import java.util.Objects;
 
 import system.GameManager;
 import core.player.Player;
@@ -20,6 +21,10 @@ public class StatisticsPanel extends JPanel {
     private JTextArea statsTextArea;
     private JButton closeButton;
 
+    // Teks hanya dibangun ulang kalau stats/gold berubah (lewat event) atau keadaan lain di layar berubah
+    private volatile boolean statsChanged = true;
+    private int shownStateKey;
+
     public StatisticsPanel(GameView gameView, GameManager gameManager) {
         this.gameView = gameView;
         this.gameManager = gameManager;
@@ -60,12 +65,36 @@ public class StatisticsPanel extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
 
         setFocusable(true); // For potential key listeners if needed
+
+        Player player = gameManager.getPlayer();
+        if (player != null) {
+            player.getStats().addStatsListener(stat -> statsChanged = true);
+            player.getGold().addGoldListener((oldAmount, newAmount) -> statsChanged = true);
+        }
+    }
+
+    /** Hash of what the text shows but no change event covers: day, names and NPC relationships. */
+    private int untrackedStateKey(Player player, GameCalendar calendar) {
+        int key = Objects.hash(calendar.getTotalDay(), player.getName(), player.getFarmName());
+        if (gameManager.getAllNpcs() != null) {
+            for (NPC npc : gameManager.getAllNpcs()) {
+                key = 31 * key + Objects.hash(npc.getHeartPoints(), player.getRelationshipStatus(npc));
+            }
+        }
+        return key;
     }
 
     public void refreshStatistics() {
         Player player = gameManager.getPlayer();
         PlayerStats stats = player.getStats();
         GameCalendar calendar = gameManager.getGameCalendar();
+        int stateKey = untrackedStateKey(player, calendar);
+        if (!statsChanged && stateKey == shownStateKey) {
+            this.requestFocusInWindow();
+            return; // Teks yang tampil masih benar
+        }
+        statsChanged = false; // Sebelum membaca: perubahan selama membangun teks memicu rebuild berikutnya
+        shownStateKey = stateKey;
         StringBuilder sb = new StringBuilder();
         DecimalFormat df = new DecimalFormat("#,##0.00");
 
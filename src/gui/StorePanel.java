@@ -23,6 +23,7 @@ public class StorePanel extends JPanel {
 
     private JPanel itemsPanel;
     private JScrollPane scrollPane;
+    private int shownCatalogSize = -1; // Katalog toko statis; baris hanya dibangun ulang kalau ukurannya berubah
 
     // MODIFIED CONSTRUCTOR
     public StorePanel(GameView gameView, Store store, GameManager gameManager) {
@@ -77,12 +78,12 @@ public class StorePanel extends JPanel {
                 final Item item = entry.getValue();
                 final String itemName = item.getName();
 
-                if (item.getBuyPrice() > 0) {
+                if (store.getPrice(item) > 0) {
                     JPanel itemEntryPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 5));
                     itemEntryPanel.setBackground(new Color(255, 255, 240));
                     itemEntryPanel.setBorder(BorderFactory.createEtchedBorder());
 
-                    JLabel itemLabel = new JLabel(String.format("%-25s (%s) - %dg", item.getName(), item.getCategory(), item.getBuyPrice()));
+                    JLabel itemLabel = new JLabel(String.format("%-25s (%s) - %dg", item.getName(), item.getCategory(), store.getPrice(item)));
                     itemLabel.setFont(new Font("Monospaced", Font.PLAIN, 14));
 
                     JTextField quantityField = new JTextField("1", 3);
@@ -100,24 +101,16 @@ public class StorePanel extends JPanel {
                                 }
 
                                 // Attempt the purchase
-                                boolean purchaseSuccessful = store.handlePurchase(player, itemName, quantity); //
+                                // Gold dan inventory diubah di SimulationThread, bukan di EDT
+                                boolean purchaseSuccessful = gameManager.getGameTime().getClock().call(
+                                        () -> store.handlePurchase(player, itemName, quantity, gameManager.getGameCalendar().getCurrentSeason()));
 
                                 if (purchaseSuccessful) {
-                                    int totalCost = item.getBuyPrice() * quantity;
-                                    gameManager.getPlayer().getStats().addGoldSpent(totalCost, gameManager.getGameCalendar().getCurrentSeason());
-                                    
-                                    if (gameManager.getTopInfoBarPanel() != null) {
-                                        gameManager.getTopInfoBarPanel().refreshInfo();
-                                    }
-                                    // No direct playerInfoPanel refresh here, TopInfoBarPanel should cover main stats
+                                    // Top bar, inventory panels and spending stats follow the gold/inventory change events
 
                                     gameManager.checkMilestonesAndShowStatistics();
 
                                     JOptionPane.showMessageDialog(StorePanel.this, "Successfully bought " + quantity + " " + itemName + ".", "Purchase Complete", JOptionPane.INFORMATION_MESSAGE);
-                                    // Refresh the store display to reflect any changes in purchasable quantity (though not implemented here)
-                                    // or if an item becomes unavailable after purchase (also not a current feature).
-                                    // For now, primarily for UI consistency.
-                                    refreshStoreDisplay(); 
                                 } else {
                                     JOptionPane.showMessageDialog(StorePanel.this, "Could not complete the purchase for " + itemName + ". See console for details (e.g., insufficient funds).", "Purchase Failed", JOptionPane.WARNING_MESSAGE);
                                 }
@@ -138,12 +131,15 @@ public class StorePanel extends JPanel {
                 }
             }
         }
+        shownCatalogSize = itemsForSale.size();
         itemsPanel.revalidate();
         itemsPanel.repaint();
     }
 
     public void onShow() {
-        refreshStoreDisplay();
+        if (shownCatalogSize != store.getItemsForSale().size()) {
+            refreshStoreDisplay();
+        }
         SwingUtilities.invokeLater(this::requestFocusInWindow);
     }
 }
\ No newline at end of file
@@ -4,11 +4,24 @@ import javax.swing.*;
 import java.awt.*;
 import system.GameManager;
 import core.player.Player;
+import core.world.Season;
+import core.world.Weather;
 import time.GameCalendar;
 import time.Time;
+import java.util.Objects;
 
 public class TopInfoBarPanel extends JPanel {
+    // Bit untuk markDirty; satu bit per kelompok label
+    public static final int NAME = 1;
+    public static final int ENERGY = 1 << 1;
+    public static final int GOLD = 1 << 2;
+    public static final int LOCATION = 1 << 3;
+    public static final int TIME = 1 << 4;
+    public static final int CALENDAR = 1 << 5;
+    public static final int ALL = (1 << 6) - 1;
+
     private GameManager gameManager;
+    private final UiRefreshCoalescer refresher = new UiRefreshCoalescer(this::applyRefresh, ActiveRenderer.configuredFps());
 
     private JLabel nameLabel;
     private JLabel farmNameLabel;
@@ -20,6 +33,13 @@ public class TopInfoBarPanel extends JPanel {
     private JLabel dayLabel; 
     private JLabel weatherLabel;
 
+    // Nilai yang sedang ditampilkan; hanya EDT. Label hanya diubah kalau nilainya berbeda
+    private String shownName, shownFarmName, shownLocation;
+    private int shownEnergy = Integer.MIN_VALUE, shownGold = Integer.MIN_VALUE;
+    private int shownHour = -1, shownMinute = -1, shownDay = -1;
+    private Season shownSeason;
+    private Weather shownWeather;
+
     public TopInfoBarPanel(GameManager gameManager) {
         this.gameManager = gameManager;
         setLayout(new FlowLayout(FlowLayout.LEFT, 12, 5)); // Arrange labels horizontally
@@ -46,31 +66,82 @@ public class TopInfoBarPanel extends JPanel {
             add(label);
         }
         refreshInfo(); // Initial population
+
+        Player player = gameManager != null ? gameManager.getPlayer() : null;
+        if (player != null) {
+            // Gold bisa berubah di luar tick (belanja, pengiriman), jadi ikuti event-nya langsung
+            player.getGold().addGoldListener((oldAmount, newAmount) -> markDirty(GOLD));
+        }
     }
 
+    /**
+     * Schedules a refresh of every label. Safe from any thread; bursts of calls are merged
+     * into one EDT update per frame.
+     */
     public void refreshInfo() {
+        markDirty(ALL);
+    }
+
+    /**
+     * Schedules a refresh of the given label groups ({@link #TIME}, {@link #GOLD}, ...).
+     * Safe from any thread.
+     */
+    public void markDirty(int fields) {
         if (gameManager == null) return;
+        refresher.markDirty(fields);
+    }
 
+    private void applyRefresh(int dirty) {
         Player player = gameManager.getPlayer();
         Time gameTime = gameManager.getGameTime();
         GameCalendar gameCalendar = gameManager.getGameCalendar();
 
-        SwingUtilities.invokeLater(() -> { // This is important!
-            if (player != null) {
-                nameLabel.setText("Name: " + player.getName());
-                farmNameLabel.setText("Farm: " + player.getFarmName());
-                energyLabel.setText("Energy: " + player.getEnergy() + "/100");
-                goldLabel.setText("Gold: " + player.getGold().getAmount() + "g");
-                locationLabel.setText("Location: " + player.getLocation());
+        if (player != null) {
+            if ((dirty & NAME) != 0) {
+                if (!Objects.equals(shownName, player.getName())) {
+                    shownName = player.getName();
+                    nameLabel.setText("Name: " + shownName);
+                }
+                if (!Objects.equals(shownFarmName, player.getFarmName())) {
+                    shownFarmName = player.getFarmName();
+                    farmNameLabel.setText("Farm: " + shownFarmName);
+                }
+            }
+            if ((dirty & ENERGY) != 0 && shownEnergy != player.getEnergy()) {
+                shownEnergy = player.getEnergy();
+                energyLabel.setText("Energy: " + shownEnergy + "/100");
             }
-            if (gameTime != null) {
-                timeLabel.setText(String.format("Time: %02d:%02d", gameTime.getHour(), gameTime.getMinute()));
+            if ((dirty & GOLD) != 0 && shownGold != player.getGold().getAmount()) {
+                shownGold = player.getGold().getAmount();
+                goldLabel.setText("Gold: " + shownGold + "g");
             }
-            if (gameCalendar != null) {
-                dayLabel.setText("Day: " + gameCalendar.getTotalDay());
-                seasonLabel.setText("Season: " + gameCalendar.getCurrentSeason());
-                weatherLabel.setText("Weather: " + gameCalendar.getCurrentWeather());
+            if ((dirty & LOCATION) != 0 && !Objects.equals(shownLocation, player.getLocation())) {
+                shownLocation = player.getLocation();
+                locationLabel.setText("Location: " + shownLocation);
             }
-        });
+        }
+        if (gameTime != null && (dirty & TIME) != 0) {
+            int hour = gameTime.getHour();
+            int minute = gameTime.getMinute();
+            if (hour != shownHour || minute != shownMinute) {
+                shownHour = hour;
+                shownMinute = minute;
+                timeLabel.setText(String.format("Time: %02d:%02d", hour, minute));
+            }
+        }
+        if (gameCalendar != null && (dirty & CALENDAR) != 0) {
+            if (shownDay != gameCalendar.getTotalDay()) {
+                shownDay = gameCalendar.getTotalDay();
+                dayLabel.setText("Day: " + shownDay);
+            }
+            if (shownSeason != gameCalendar.getCurrentSeason()) {
+                shownSeason = gameCalendar.getCurrentSeason();
+                seasonLabel.setText("Season: " + shownSeason);
+            }
+            if (shownWeather != gameCalendar.getCurrentWeather()) {
+                shownWeather = gameCalendar.getCurrentWeather();
+                weatherLabel.setText("Weather: " + shownWeather);
+            }
+        }
     }
 }
\ No newline at end of file
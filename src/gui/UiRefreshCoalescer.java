@@ -0,0 +1,82 @@
+package gui;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Merges UI refresh requests from any thread into at most one EDT update per frame.
+ *
+ * Callers mark fields dirty with a bit mask; the first mark schedules a flush and later marks
+ * only OR their bits into the pending mask. The flush runs on the EDT, no sooner than one
+ * frame after the previous flush, and hands the target every field marked since then.
+ */
+public final class UiRefreshCoalescer {
+    /** Applies a refresh on the EDT. */
+    @FunctionalInterface
+    public interface Target {
+        void apply(int dirtyFields);
+    }
+
+    private final Target target;
+    private final long minIntervalNanos;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    private long lastFlushNanos; // Hanya EDT
+    private Timer deferTimer;    // Hanya EDT, menunda flush sampai frame berikutnya
+
+    public UiRefreshCoalescer(Target target, int maxFlushesPerSecond) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target refresh tidak boleh null");
+        }
+        if (maxFlushesPerSecond < 1) {
+            throw new IllegalArgumentException("Jumlah flush per detik harus positif: " + maxFlushesPerSecond);
+        }
+        this.target = target;
+        this.minIntervalNanos = 1_000_000_000L / maxFlushesPerSecond;
+    }
+
+    /** Marks {@code fields} dirty. Safe to call from any thread; never blocks. */
+    public void markDirty(int fields) {
+        if (fields == 0) return;
+        requests.incrementAndGet();
+        pending.getAndAccumulate(fields, (current, added) -> current | added);
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /** Number of {@link #markDirty(int)} calls so far. */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /** Number of EDT updates actually applied so far. */
+    public long getFlushCount() {
+        return flushes.get();
+    }
+
+    private void flush() {
+        long wait = minIntervalNanos - (System.nanoTime() - lastFlushNanos);
+        if (flushes.get() > 0 && wait > 0) {
+            if (deferTimer == null) {
+                deferTimer = new Timer(0, e -> flush());
+                deferTimer.setRepeats(false);
+            }
+            deferTimer.setInitialDelay((int) ((wait + 999_999) / 1_000_000));
+            deferTimer.restart();
+            return;
+        }
+        scheduled.set(false); // Sebelum getAndSet: tanda yang datang sesudah ini menjadwalkan flush baru
+        int dirty = pending.getAndSet(0);
+        if (dirty == 0) return;
+        lastFlushNanos = System.nanoTime();
+        flushes.incrementAndGet();
+        target.apply(dirty);
+    }
+}
@@ -1,8 +1,11 @@
 package item;
 
+import system.GameLogger;
 import core.world.Season;
 
 public class Crop extends Item implements EdibleItem {
+    private static final GameLogger LOG = GameLogger.get(Crop.class);
+
     private int quantityPerHarvest;
     private Seed plantedSeed;
     private int growthStage; // 0 = planted, 1 = seedling, 2 = growing, 3 = mature/harvestable
@@ -68,7 +71,7 @@ public class Crop extends Item implements EdibleItem {
             if (wasYesterdayRainy && this.lastWateredDay != (currentDay - 1)) {
                 // If rain watered it, and player didn't, update lastWateredDay to reflect this.
                 this.lastWateredDay = currentDay - 1;
-                 System.out.println("Crop '" + getName() + "' was watered by rain on day " + (currentDay -1) + ".");
+                 LOG.debug("Crop '" + getName() + "' was watered by rain on day " + (currentDay -1) + ".");
             }
 
             // Check for harvestable state
@@ -77,7 +80,7 @@ public class Crop extends Item implements EdibleItem {
             if (daysSincePlanting >= daysToGrow) {
                 if (growthStage < 3) { // To prevent multiple "now harvestable" messages
                     growthStage = 3; // Directly to harvestable
-                    System.out.println("Crop '" + getName() + "' is now HARVESTABLE (Stage 3) on day " + currentDay +
+                    LOG.debug("Crop '" + getName() + "' is now HARVESTABLE (Stage 3) on day " + currentDay +
                                        ". (Days since planting: " + daysSincePlanting + ", Needs to grow for: " + daysToGrow + " days)");
                 }
             } else if (daysToGrow > 1) { // Handle intermediate visual stages for multi-day crops
@@ -95,14 +98,14 @@ public class Crop extends Item implements EdibleItem {
                 // else it stays at stage 0 (just planted but not yet sprouted)
 
                 if (growthStage > prevGrowthStage) {
-                    System.out.println("Crop '" + getName() + "' grew to visual stage " + growthStage + " on day " + currentDay +
+                    LOG.debug("Crop '" + getName() + "' grew to visual stage " + growthStage + " on day " + currentDay +
                                        ". (Days since planting: " + daysSincePlanting + ")");
                 }
             }
              // If daysToGrow is 1, and it was watered, the above (daysSincePlanting >= daysToGrow) handles it.
         } else { // Not watered and no rain yesterday
             if (growthStage < 3) {
-                System.out.println("Crop '" + getName() + "' did not advance growth on day " + currentDay +
+                LOG.debug("Crop '" + getName() + "' did not advance growth on day " + currentDay +
                                    " because it was not effectively watered on day " + (currentDay - 1) + " (Last watered: " + this.lastWateredDay + ").");
             }
         }
@@ -113,12 +116,12 @@ public class Crop extends Item implements EdibleItem {
         if (growthStage < 3) {
             if (lastWateredDay != currentDay) {
                 this.lastWateredDay = currentDay;
-                System.out.println(getName() + " has been watered.");
+                LOG.debug(getName() + " has been watered.");
             } else {
-                System.out.println(getName() + " has already been watered today.");
+                LOG.debug(getName() + " has already been watered today.");
             }
         } else {
-            System.out.println(getName() + " is already harvestable, no need to water.");
+            LOG.debug(getName() + " is already harvestable, no need to water.");
         }
     }
 
@@ -142,4 +145,22 @@ public class Crop extends Item implements EdibleItem {
     public Seed getPlantedSeed() {
         return plantedSeed;
     }
+
+    public int getDaysSincePlanting() {
+        return daysSincePlanting;
+    }
+
+    public int getLastWateredDay() {
+        return lastWateredDay;
+    }
+
+    /** Sets saved growth progress on a freshly planted crop, e.g. when a save game is loaded. */
+    public void restoreGrowth(int growthStage, int daysSincePlanting, int lastWateredDay) {
+        if (growthStage < 0 || growthStage > 3 || daysSincePlanting < 0) {
+            throw new IllegalArgumentException("Status tumbuh tidak valid: stage " + growthStage + ", hari " + daysSincePlanting);
+        }
+        this.growthStage = growthStage;
+        this.daysSincePlanting = daysSincePlanting;
+        this.lastWateredDay = lastWateredDay;
+    }
 }
\ No newline at end of file
@@ -1,23 +1,17 @@
 package item;
 
+/**
+ * A tool kind. There is one shared instance per tool (see {@link EquipmentRegistry}); whether
+ * a player has it equipped is tracked by that player's {@link EquipmentManager}.
+ */
 public class Equipment extends Item {
-    private boolean isEquipped;
-    
-    public Equipment(String name, int buyPrice, int sellPrice){
+
+    Equipment(String name, int buyPrice, int sellPrice){
         super(name, buyPrice, sellPrice);
-        this.isEquipped = false;
     }
 
     @Override
     public String getCategory(){
         return "Equipment";
     }
-    
-    public boolean isEquipped() {
-        return isEquipped;
-    }
-    
-    public void setEquipped(boolean equipped) {
-        this.isEquipped = equipped;
-    }
-}
\ No newline at end of file
+}
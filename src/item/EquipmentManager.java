@@ -1,11 +1,14 @@
 package item;
 
+import system.GameLogger;
 import java.util.HashMap;
 import java.util.Map;
 
 public class EquipmentManager {
+    private static final GameLogger LOG = GameLogger.get(EquipmentManager.class);
+
     private Map<String, Equipment> ownedEquipment;
-    private Equipment equippedItem;
+    private Equipment equippedItem; // Status "equipped" milik pemain ini, bukan milik Equipment yang dipakai bersama
     
     public EquipmentManager() {
         this.ownedEquipment = new HashMap<>();
@@ -19,7 +22,7 @@ public class EquipmentManager {
     public boolean removeEquipment(String equipmentName) {
         Equipment equipment = ownedEquipment.get(equipmentName);
         if (equipment != null) {
-            if (equipment.isEquipped()) {
+            if (equipment == equippedItem) {
                 unequipItem(equipmentName);
             }
             ownedEquipment.remove(equipmentName);
@@ -35,17 +38,12 @@ public class EquipmentManager {
     public boolean equipItem(String equipmentName) {
         Equipment equipment = ownedEquipment.get(equipmentName);
         if (equipment != null) {
-            if (equipment.isEquipped()) {
-                System.out.println(equipmentName + " is already equipped.");
+            if (equipment == equippedItem) {
+                LOG.debug(equipmentName + " is already equipped.");
                 return false;
             }
 
-            if (equippedItem != null) {
-                equippedItem.setEquipped(false);
-            }
-
-            // Equip new item
-            equipment.setEquipped(true);
+            // Equip new item; the previous one goes back to storage
             equippedItem = equipment;
             return true;
         }
@@ -54,7 +52,6 @@ public class EquipmentManager {
     
     public boolean unequipItem(String equipmentName) {
         if (equippedItem != null && equippedItem.getName().equals(equipmentName)) {
-            equippedItem.setEquipped(false);
             equippedItem = null;
             return true;
         }
@@ -76,7 +73,7 @@ public class EquipmentManager {
     public void showEquipmentStatus() {
         System.out.println("Equipment:");
         for (Equipment eq : ownedEquipment.values()) {
-            String status = eq.isEquipped() ? " [EQUIPPED]" : " [STORED]";
+            String status = eq == equippedItem ? " [EQUIPPED]" : " [STORED]";
             System.out.println("- " + eq.getName() + status);
         }
     }
@@ -0,0 +1,24 @@
+package item;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EquipmentRegistry {
+    private static final Map<String, Equipment> EQUIPMENT_BY_NAME = new HashMap<>();
+
+    static {
+        EQUIPMENT_BY_NAME.put("Hoe", new Equipment("Hoe", 500, 250));
+        EQUIPMENT_BY_NAME.put("Watering Can", new Equipment("Watering Can", 500, 250));
+        EQUIPMENT_BY_NAME.put("Pickaxe", new Equipment("Pickaxe", 500, 250));
+        EQUIPMENT_BY_NAME.put("Fishing Rod", new Equipment("Fishing Rod", 750, 375));
+    }
+
+    public static Equipment getEquipmentByName(String name) {
+        return EQUIPMENT_BY_NAME.get(name);
+    }
+
+    public static List<Equipment> getAllEquipment() {
+        return List.copyOf(EQUIPMENT_BY_NAME.values());
+    }
+}
@@ -62,11 +62,16 @@ public class Fish extends Item implements EdibleItem {
     }
 
     public boolean isCatchable(Season season, Time time, Weather weather, FishingLocation location) {
+        return isCatchableAt(season, time.getHour(), weather, location);
+    }
+
+    /** Like {@link #isCatchable} for a whole hour (0-23) instead of a clock time. */
+    public boolean isCatchableAt(Season season, int hour, Weather weather, FishingLocation location) {
         if (!seasons.contains(season))   return false;
         if (!weathers.contains(weather)) return false;
         if (!locations.contains(location)) return false;
         for (var tr : timeRanges) {
-            if (tr.contains(time)) return true;
+            if (tr.containsHour(hour)) return true;
         }
         return false;
     }
@@ -1,7 +1,7 @@
 package item;
 
 public class Food extends Item implements EdibleItem {
-    private int energyRestored;
+    private final int energyRestored;
 
     public Food(String name, int buyPrice, int sellPrice, int energyRestored){
         super(name, buyPrice, sellPrice);
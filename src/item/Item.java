@@ -1,12 +1,14 @@
 package item;
 
 public abstract class Item {
-    protected String name;
-    protected int buyPrice;
-    protected int sellPrice;
+    protected final String name;
+    private final int id; // Dari ItemIds; sama untuk semua item bernama sama
+    protected final int buyPrice;
+    protected final int sellPrice;
 
     public Item(String name, int buyPrice, int sellPrice){
         this.name = name;
+        this.id = ItemIds.intern(name);
         this.buyPrice = buyPrice;
         this.sellPrice = sellPrice;
     }
@@ -14,6 +16,11 @@ public abstract class Item {
     public String getName(){
         return name;
     }
+
+    /** Dense id of this item's name, see {@link ItemIds}. */
+    public int getId() {
+        return id;
+    }
     
     public int getBuyPrice() {
         return buyPrice;
@@ -30,12 +37,12 @@ public abstract class Item {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Item item = (Item) obj;
-        return name.equals(item.name);
+        return id == item.id;
     }
     
     @Override
     public int hashCode() {
-        return name.hashCode();
+        return id;
     }
     
 }
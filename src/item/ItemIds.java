@@ -0,0 +1,76 @@
+package item;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense integer ids for item names.
+ *
+ * Every distinct name gets the next free id the first time an {@link Item} with that name is
+ * created, so ids run from 0 to {@link #count()} - 1 and can index plain arrays and bitsets.
+ * This is the one name-to-id index in the game; {@link ItemRegistry} fills the id-to-item
+ * table with the canonical instance of every registered item.
+ */
+public final class ItemIds {
+    /** Returned by {@link #idOf(String)} for a name no item has used. */
+    public static final int NONE = -1;
+
+    private static final Map<String, Integer> ID_BY_NAME = new HashMap<>();
+    private static String[] names = new String[128];
+    private static Item[] items = new Item[128];
+    private static int count;
+
+    private ItemIds() {
+    }
+
+    /** The id of {@code name}, assigning the next one if the name is new. */
+    public static synchronized int intern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Nama item tidak boleh null");
+        }
+        Integer id = ID_BY_NAME.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (count == names.length) {
+            names = Arrays.copyOf(names, count * 2);
+            items = Arrays.copyOf(items, count * 2);
+        }
+        names[count] = name;
+        ID_BY_NAME.put(name, count);
+        return count++;
+    }
+
+    /** The id of {@code name}, or {@link #NONE}. Never assigns a new id. */
+    public static synchronized int idOf(String name) {
+        Integer id = name == null ? null : ID_BY_NAME.get(name);
+        return id == null ? NONE : id;
+    }
+
+    public static synchronized String nameOf(int id) {
+        checkId(id);
+        return names[id];
+    }
+
+    /** Number of ids handed out so far; every id is below this. */
+    public static synchronized int count() {
+        return count;
+    }
+
+    /** Makes {@code item} the canonical instance for its id, replacing an earlier one. */
+    static synchronized void register(Item item) {
+        items[item.getId()] = item;
+    }
+
+    /** The canonical registered item with this id, or null if none was registered. */
+    public static synchronized Item get(int id) {
+        return id >= 0 && id < count ? items[id] : null;
+    }
+
+    private static void checkId(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("Id item tidak dikenal: " + id);
+        }
+    }
+}
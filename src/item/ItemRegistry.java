@@ -4,38 +4,46 @@ import fishing.FishRegistry;
 import fishing.FishingLocation;
 import cooking.FuelRegistry;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Canonical item of every registered name. Items are stored by their {@link ItemIds} id, so a
+ * lookup is one name-to-id probe plus an array read; a later registration of the same name
+ * replaces the earlier item.
+ */
 public class ItemRegistry {
-    private static final Map<String, Item> ALL_ITEMS = new HashMap<>();
     private static Map<String, FishingLocation> gameFishingLocations = null;
 
     static {
         // Register Misc items
         for (Map.Entry<String, Item> entry : Misc.getItems().entrySet()) {
-            ALL_ITEMS.put(entry.getKey(), entry.getValue());
+            register(entry.getValue());
         }
 
         // Register Fuel items
         for (Item fuel : FuelRegistry.getAllFuelsAsItems()) {
-            ALL_ITEMS.put(fuel.getName(), fuel);
+            register(fuel);
         }
 
         // Register Seeds
         for (Seed seed : SeedRegistry.getAllSeeds()) {
-            ALL_ITEMS.put(seed.getName(), seed);
+            register(seed);
         }
 
         // Register Harvested Crops
         for (Item crop : CropRegistry.getAllHarvestedCrops()) {
-            ALL_ITEMS.put(crop.getName(), crop);
+            register(crop);
         }
 
         // Register Food items
         for (Food food : FoodRegistry.getAllFood()) {
-            ALL_ITEMS.put(food.getName(), food);
+            register(food);
+        }
+
+        // Register Equipment
+        for (Equipment equipment : EquipmentRegistry.getAllEquipment()) {
+            register(equipment);
         }
 
         // Fish items are NOT registered here, because fishing locations are not available at static init.
@@ -47,15 +55,30 @@ public class ItemRegistry {
         gameFishingLocations = fishingLocations;
         List<Fish> allFish = FishRegistry.buildAll(gameFishingLocations);
         for (Fish fish : allFish) {
-            ALL_ITEMS.put(fish.getName(), fish);
+            register(fish);
         }
     }
 
+    private static void register(Item item) {
+        ItemIds.register(item);
+    }
+
     public static Item getItemByName(String name) {
-        return ALL_ITEMS.get(name);
+        return ItemIds.get(ItemIds.idOf(name));
+    }
+
+    public static Item getItemById(int id) {
+        return ItemIds.get(id);
     }
 
     public static List<Item> getAllItems() {
-        return new ArrayList<>(ALL_ITEMS.values());
+        List<Item> all = new ArrayList<>();
+        for (int id = 0; id < ItemIds.count(); id++) {
+            Item item = ItemIds.get(id);
+            if (item != null) {
+                all.add(item);
+            }
+        }
+        return all;
     }
 }
\ No newline at end of file
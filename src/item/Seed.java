@@ -4,9 +4,9 @@ import core.world.Season;
 import java.util.List;
 
 public class Seed extends Item{
-    private List<Season> seasons;
-    private int daysToGrow;
-    private int quantityPerHarvest;
+    private final List<Season> seasons;
+    private final int daysToGrow;
+    private final int quantityPerHarvest;
 
     public Seed(String name, int buyPrice, List<Season> seasons, int daysToGrow, int quantityPerHarvest){
         super(name, buyPrice, buyPrice / 2);
@@ -16,8 +16,8 @@ public class MayorTadi extends NPC {
     @Override
     public String getReactionToItem(Item giftedItem) {
         if (giftedItem == null) return "neutral";
-        if (lovedItems.contains(giftedItem)) return "loved";
-        if (likedItems.contains(giftedItem)) return "liked";
+        if (contains(lovedItems, giftedItem)) return "loved";
+        if (contains(likedItems, giftedItem)) return "liked";
         return "hated";
     }
 
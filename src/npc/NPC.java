@@ -9,18 +9,20 @@ import item.ItemRegistry;
 import item.CropRegistry;
 import item.FoodRegistry; 
 import fishing.FishRegistry;
+import system.GameLogger;
 
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.BitSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public abstract class NPC {
+    private static final GameLogger LOG = GameLogger.get(NPC.class);
+
     protected String name;
     protected int heartPoints;
-    protected Set<Item> lovedItems; 
-    protected Set<Item> likedItems; 
-    protected Set<Item> hatedItems;
+    // Preferensi sebagai bitset atas id item (ItemIds), bukan set yang di-hash per nama
+    protected BitSet lovedItems;
+    protected BitSet likedItems;
+    protected BitSet hatedItems;
     protected RelationshipStatus relationshipStatus;
     protected String homeLocation;
 
@@ -32,23 +34,32 @@ public abstract class NPC {
         this.homeLocation = homeLocation;
         this.heartPoints = MIN_HEART_POINTS;
 
-        // Convert string names to Item objects using the helper method
-        this.lovedItems = lovedItemNames != null ? lovedItemNames.stream()
-                                                     .map(this::getItemByName)
-                                                     .filter(Objects::nonNull)
-                                                     .collect(Collectors.toSet()) : new HashSet<>();
-        this.likedItems = likedItemNames != null ? likedItemNames.stream()
-                                                     .map(this::getItemByName)
-                                                     .filter(Objects::nonNull)
-                                                     .collect(Collectors.toSet()) : new HashSet<>();
-        this.hatedItems = hatedItemNames != null ? hatedItemNames.stream()
-                                                     .map(this::getItemByName)
-                                                     .filter(Objects::nonNull)
-                                                     .collect(Collectors.toSet()) : new HashSet<>();
+        // Convert string names to item ids using the helper method
+        this.lovedItems = toIdSet(lovedItemNames);
+        this.likedItems = toIdSet(likedItemNames);
+        this.hatedItems = toIdSet(hatedItemNames);
 
         this.relationshipStatus = RelationshipStatus.SINGLE;
     }
 
+    private BitSet toIdSet(Set<String> itemNames) {
+        BitSet ids = new BitSet();
+        if (itemNames != null) {
+            for (String itemName : itemNames) {
+                Item item = getItemByName(itemName);
+                if (item != null) {
+                    ids.set(item.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /** True if {@code item} is in the given preference set. */
+    protected static boolean contains(BitSet preference, Item item) {
+        return item != null && preference.get(item.getId());
+    }
+
     /**
      * Retrieves an Item by name from various item registries.
      * This method checks different item types and their registries.
@@ -71,8 +82,12 @@ public abstract class NPC {
                 item = FoodRegistry.getFoodByName(actualItemName); 
             }
         } else {
-            // If no prefix, try to find item by exact name across all known registries
-            item = FoodRegistry.getFoodByName(itemName); // (Try food first)
+            // If no prefix, the global id table knows every registered item in one lookup;
+            // the registries below still cover fish, which are registered only once the game starts
+            item = ItemRegistry.getItemByName(itemName);
+            if (item == null) {
+                item = FoodRegistry.getFoodByName(itemName);
+            }
             if (item == null) {
                 item = CropRegistry.getHarvestedCropByName(itemName); // (Then harvested crops)
             }
@@ -85,13 +100,10 @@ public abstract class NPC {
             if (item == null) {
                 item = FishRegistry.getFishByName(itemName); // (Finally, fish)
             }
-            if (item == null) {
-                item = ItemRegistry.getItemByName(itemName); // Try the global ItemRegistry
-            }
         }
 
         if (item == null) {
-            System.err.println("Warning: Item '" + itemName + "' not found in any registry.");
+            LOG.warn("Item '%s' not found in any registry.", itemName);
         }
         return item;
     }
@@ -114,7 +126,7 @@ public abstract class NPC {
 
     public void setRelationshipStatus(RelationshipStatus status) {
         this.relationshipStatus = status;
-        System.out.println(this.name + " sekarang berstatus: " + status);
+        LOG.debug("%s sekarang berstatus: %s", this.name, status);
     }
 
     public void addHeartPoints(int amount) {
@@ -130,10 +142,9 @@ public abstract class NPC {
         if (giftedItem == null) {
             return "neutral";
         }
-        // Direct comparison with Item objects in the sets
-        if (lovedItems.contains(giftedItem)) return "loved";
-        if (likedItems.contains(giftedItem)) return "liked";
-        if (hatedItems.contains(giftedItem)) return "hated";
+        if (contains(lovedItems, giftedItem)) return "loved";
+        if (contains(likedItems, giftedItem)) return "liked";
+        if (contains(hatedItems, giftedItem)) return "hated";
         return "neutral";
     }
 
@@ -2,9 +2,12 @@ package npc;
 
 import core.player.Player;
 import item.Item;
+import system.GameLogger;
 import java.util.Set;
 
 public class Orenji extends NPC {
+    private static final GameLogger LOG = GameLogger.get(Orenji.class);
+
     public Orenji() {
         super(
             "Orenji",
@@ -18,13 +21,13 @@ public class Orenji extends NPC {
     @Override
     public String getReactionToItem(Item giftedItem) {
         if (giftedItem == null) {
-            System.out.println(this.name + ": ...meow? (Dia memiringkan kepalanya, tampak bingung dengan ketiadaan.)");
+            LOG.debug("%s: ...meow? (Dia memiringkan kepalanya, tampak bingung dengan ketiadaan.)", this.name);
             return "neutral";
         }
 
         // Special rule for all fish
         if (giftedItem.getCategory().equals("Fish")) {
-            System.out.println(this.name + ": *HISSSS* Meooowww! (Dia terlihat sangat tersinggung dengan " + giftedItem.getName() + " itu!)");
+            LOG.debug("%s: *HISSSS* Meooowww! (Dia terlihat sangat tersinggung dengan %s itu!)", this.name, giftedItem.getName());
             return "hated";
         }
 
@@ -33,17 +36,17 @@ public class Orenji extends NPC {
 
         switch (reaction) {
             case "loved":
-                System.out.println(this.name + ": Purrrr... Meow. (Matanya berbinar melihat " + giftedItem.getName() + ", sepertinya ini pilihan yang tepat.)");
+                LOG.debug("%s: Purrrr... Meow. (Matanya berbinar melihat %s, sepertinya ini pilihan yang tepat.)", this.name, giftedItem.getName());
                 break;
             case "liked":
-                System.out.println(this.name + ": Meow. (Dia mengangguk perlahan pada " + giftedItem.getName() + ", sebuah pengakuan singkat.)");
+                LOG.debug("%s: Meow. (Dia mengangguk perlahan pada %s, sebuah pengakuan singkat.)", this.name, giftedItem.getName());
                 break;
             case "hated":
-                System.out.println(this.name + ": Mrrrrow... (Dia menatap " + giftedItem.getName() + " dengan pandangan menghakimi.)");
+                LOG.debug("%s: Mrrrrow... (Dia menatap %s dengan pandangan menghakimi.)", this.name, giftedItem.getName());
                 break;
             case "neutral":
             default:
-                System.out.println(this.name + ": ...meow? (Dia memiringkan kepalanya pada " + giftedItem.getName() + ", tampak tidak terkesan.)");
+                LOG.debug("%s: ...meow? (Dia memiringkan kepalanya pada %s, tampak tidak terkesan.)", this.name, giftedItem.getName());
                 break;
         }
         return reaction;
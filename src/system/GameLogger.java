@@ -0,0 +1,254 @@
+package system;
+
+import java.io.PrintStream;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Small internal logger with per-package levels and an asynchronous console writer.
+ *
+ * Levels come from system properties: {@code -Dspakbor.log=DEBUG} sets the default,
+ * {@code -Dspakbor.log.time=DEBUG} or {@code -Dspakbor.log.core.world=WARN} override a
+ * package and its sub-packages. The default level is INFO, so per-tick, per-crop and
+ * per-item chatter (logged at DEBUG) costs only a level check.
+ *
+ * Enabled messages are formatted on the calling thread and handed to a lock-free ring
+ * buffer; a single daemon thread ("GameLogWriter") writes them to System.out (DEBUG/INFO)
+ * or System.err (WARN/ERROR). If the buffer is full the message is dropped and counted
+ * instead of blocking the game. Use {@code -Dspakbor.log.async=false} to write inline.
+ */
+public final class GameLogger {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final String PROPERTY_PREFIX = "spakbor.log";
+    private static final Map<String, GameLogger> LOGGERS = new ConcurrentHashMap<>();
+    private static final Map<String, Level> OVERRIDES = new ConcurrentHashMap<>();
+    private static volatile int configVersion = 0;
+    private static final AsyncWriter WRITER = Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + ".async", "true"))
+            ? new AsyncWriter(1 << 14) : null;
+
+    private final String name;
+    private volatile Level cachedLevel;
+    private volatile int cachedVersion = -1;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /** Logger for the package of {@code type}; levels are configured per package. */
+    public static GameLogger get(Class<?> type) {
+        return get(type.getPackageName());
+    }
+
+    public static GameLogger get(String name) {
+        return LOGGERS.computeIfAbsent(name, GameLogger::new);
+    }
+
+    /**
+     * Overrides the level of {@code packageName} (and its sub-packages) at runtime.
+     * An empty name sets the default. Pass null as level to go back to the system property.
+     */
+    public static void setLevel(String packageName, Level level) {
+        if (packageName == null) {
+            throw new IllegalArgumentException("Nama package tidak boleh null");
+        }
+        if (level == null) {
+            OVERRIDES.remove(packageName);
+        } else {
+            OVERRIDES.put(packageName, level);
+        }
+        configVersion++;
+    }
+
+    /** Number of messages dropped because the async buffer was full. */
+    public static long getDroppedCount() {
+        return WRITER != null ? WRITER.dropped.get() : 0;
+    }
+
+    /** Blocks until everything logged so far has been written (or the timeout passes). */
+    public static void flush(long timeoutMillis) {
+        if (WRITER != null) WRITER.awaitDrained(timeoutMillis);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Level getLevel() {
+        int version = configVersion;
+        Level level = cachedLevel;
+        if (level == null || cachedVersion != version) {
+            level = resolveLevel(name);
+            cachedLevel = level;
+            cachedVersion = version;
+        }
+        return level;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() >= getLevel().ordinal();
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public void debug(String message) { log(Level.DEBUG, message, null); }
+    public void debug(String format, Object... args) { logf(Level.DEBUG, format, args); }
+    public void info(String message) { log(Level.INFO, message, null); }
+    public void info(String format, Object... args) { logf(Level.INFO, format, args); }
+    public void warn(String message) { log(Level.WARN, message, null); }
+    public void warn(String format, Object... args) { logf(Level.WARN, format, args); }
+    public void error(String message) { log(Level.ERROR, message, null); }
+    public void error(String message, Throwable error) { log(Level.ERROR, message, error); }
+
+    private void logf(Level level, String format, Object... args) {
+        if (!isEnabled(level)) return;
+        write(level, String.format(format, args), null);
+    }
+
+    private void log(Level level, String message, Throwable error) {
+        if (!isEnabled(level)) return;
+        write(level, message, error);
+    }
+
+    private void write(Level level, String message, Throwable error) {
+        String line = LocalTime.now().format(TIME_FORMAT) + " " + level + " [" + name + "] " + message;
+        Entry entry = new Entry(level, line, error);
+        if (WRITER == null || !WRITER.offer(entry)) {
+            if (WRITER != null) WRITER.dropped.incrementAndGet();
+            if (WRITER == null || level.ordinal() >= Level.WARN.ordinal()) {
+                entry.print(); // Peringatan jangan sampai hilang walau buffer penuh
+            }
+        }
+    }
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static Level resolveLevel(String name) {
+        String current = name;
+        while (true) {
+            Level override = OVERRIDES.get(current);
+            if (override != null) return override;
+            String property = System.getProperty(current.isEmpty() ? PROPERTY_PREFIX : PROPERTY_PREFIX + "." + current);
+            if (property != null) {
+                try {
+                    return Level.valueOf(property.trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    System.err.println("GameLogger: level tidak dikenal '" + property + "' untuk " + current);
+                }
+            }
+            if (current.isEmpty()) return Level.INFO;
+            int dot = current.lastIndexOf('.');
+            current = dot < 0 ? "" : current.substring(0, dot);
+        }
+    }
+
+    private static final class Entry {
+        final Level level;
+        final String line;
+        final Throwable error;
+
+        Entry(Level level, String line, Throwable error) {
+            this.level = level;
+            this.line = line;
+            this.error = error;
+        }
+
+        void print() {
+            PrintStream out = level.ordinal() >= Level.WARN.ordinal() ? System.err : System.out;
+            out.println(line);
+            if (error != null) error.printStackTrace(out);
+        }
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with a CAS on
+     * {@code tail} and publish it through the slot's sequence number; the writer thread is the
+     * only reader, so {@code head} needs no CAS.
+     */
+    private static final class AsyncWriter implements Runnable {
+        private final Entry[] buffer;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private volatile long head;
+        final AtomicLong dropped = new AtomicLong();
+        private final Thread thread;
+
+        AsyncWriter(int capacity) {
+            buffer = new Entry[capacity];
+            sequences = new AtomicLongArray(capacity);
+            mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            thread = new Thread(this, "GameLogWriter");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitDrained(500), "GameLogFlush"));
+        }
+
+        boolean offer(Entry entry) {
+            while (true) {
+                long position = tail.get();
+                int index = (int) (position & mask);
+                long sequence = sequences.get(index);
+                if (sequence == position) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        buffer[index] = entry;
+                        sequences.set(index, position + 1); // Publish ke writer
+                        LockSupport.unpark(thread);
+                        return true;
+                    }
+                } else if (sequence < position) {
+                    return false; // Penuh
+                }
+                // sequence > position: producer lain sudah mengambil slot ini, coba lagi
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                if (!drainOnce()) {
+                    LockSupport.parkNanos(1_000_000L);
+                }
+            }
+        }
+
+        private boolean drainOnce() {
+            boolean any = false;
+            long position = head;
+            while (true) {
+                int index = (int) (position & mask);
+                if (sequences.get(index) != position + 1) break;
+                Entry entry = buffer[index];
+                buffer[index] = null;
+                sequences.set(index, position + buffer.length); // Slot bebas untuk putaran berikutnya
+                position++;
+                head = position;
+                try {
+                    entry.print();
+                } catch (RuntimeException e) {
+                    // Jangan biarkan writer mati karena satu pesan
+                }
+                any = true;
+            }
+            return any;
+        }
+
+        void awaitDrained(long timeoutMillis) {
+            long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+            while (head < tail.get() && System.nanoTime() < deadline) {
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(200_000L);
+            }
+        }
+    }
+}
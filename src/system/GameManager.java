@@ -7,6 +7,8 @@ import core.world.CityMap;
 import core.world.GameMap;
 import time.GameCalendar;
 import time.Time;
+import time.DayRolloverBus;
+import time.NewDayEvent;
 import npc.*;
 import core.world.Season;
 import gui.TopInfoBarPanel;
@@ -15,6 +17,8 @@ import fishing.SpecificFishingLocation; // Import
 import fishing.FreeFishingLocation; // Import
 import fishing.FishRegistry; // Import
 import java.util.Map; // Import
+import java.io.IOException;
+import java.nio.file.Path;
 import gui.GameView;
 
 import javax.swing.JOptionPane;
@@ -28,9 +32,12 @@ import java.util.List;
 import item.*;
 import action.NPCActions;
 import core.world.HouseMap;
+import core.world.WorldNavigator;
 import  cooking.CookingManager;
 
 public class GameManager {
+    private static final GameLogger LOG = GameLogger.get(GameManager.class);
+
     private Player player;
     private GameMap currentMap;
     private FarmMap farmMap;
@@ -42,20 +49,23 @@ public class GameManager {
     private Map<String, FishingLocation> fishingLocations; // Added to store fishing locations
     private List<NPC> allNpcs;
     private HouseMap houseMap;
+    private WorldNavigator worldNavigator;
     private GameView gameViewInstance;
     private CookingManager cookingManager;
     private boolean statisticsScreenShown = false;
+    private SaveGame saveGame; // null sampai autosave atau load dipakai
+    private final MarketPricing market = new MarketPricing();
 
     public GameManager() {
         player = new Player("Dr. Asep Spakbor", "Male");
         player.getGold().add(500);
         player.getInventory().addItem(item.SeedRegistry.getSeedByName("Wheat Seeds"), 5);
-        player.getInventory().addItem(new item.Food("Fish n' Chips", 150, 135, 50), 2);
+        player.getInventory().addItem(item.FoodRegistry.getFoodByName("Fish n' Chips"), 2);
         Item coalFromRegistry = ItemRegistry.getItemByName("Coal");
         if (coalFromRegistry != null) {
             player.getInventory().addItem(coalFromRegistry, 10);
         } else {
-            System.err.println("WARN: GameManager constructor - Coal not found in ItemRegistry. Initial Coal not added.");
+            LOG.warn("GameManager constructor - Coal not found in ItemRegistry. Initial Coal not added.");
         }
         
         player.equipItem("Hoe"); //
@@ -68,6 +78,7 @@ public class GameManager {
         farmMap = new FarmMap(player); //
         cityMap = new CityMap(player); //
         houseMap = new HouseMap(player);
+        worldNavigator = new WorldNavigator(farmMap, cityMap, houseMap);
 
         currentMap = farmMap; // Default to farm map
         player.setLocation(farmMap.getName()); // Set initial player location
@@ -75,20 +86,28 @@ public class GameManager {
 
         gameCalendar = new GameCalendar(); //
         gameTime = new Time(gameCalendar, player, this); //
+        cookingManager.setWorldExecutor(gameTime.getClock()::post); // Hasil masak masuk inventory lewat SimulationThread
+        registerDayRolloverStages();
 
-        gameStore = new Store("Emily's Store", new Emily()); //
         player.setShippingBin(new core.world.ShippingBin()); //
 
         try {
             PriceList.loadPrices("resources/price_list.csv"); //
-            System.out.println("PriceList loaded successfully."); //
+            LOG.debug("PriceList loaded successfully."); //
+            if (Boolean.getBoolean(PriceCatalog.WATCH_PROPERTY)) {
+                PriceList.getCatalog().startWatching();
+            }
         } catch (java.io.IOException e) {
-            System.err.println("Failed to load price_list.csv: " + e.getMessage()); //
+            LOG.error("Failed to load price_list.csv: " + e.getMessage()); //
         }
 
         initializeFishingLocations();
         // Register all fish items in the global item registry after fishing locations are created
         ItemRegistry.initializeFishItems(fishingLocations);
+        gameStore = new Store("Emily's Store", new Emily()); // Setelah ikan terdaftar: Emily menyukai beberapa ikan
+        if (PriceList.getCatalog() != null) {
+            PriceList.reportMismatches(PriceList.getCatalog()); // Setelah ikan terdaftar
+        }
 
         this.allNpcs = new ArrayList<>();
         this.allNpcs.add(new Abigail());
@@ -150,6 +169,11 @@ public class GameManager {
         return cityMap;
     }
     
+    /** Route graph across farm, city and house, with cached distances to the bed, door, bin and store. */
+    public WorldNavigator getWorldNavigator() {
+        return worldNavigator;
+    }
+
     public HouseMap getHouseMap(){
         return houseMap;
     }
@@ -166,6 +190,11 @@ public class GameManager {
         return gameStore;
     }
 
+    /** Supply and demand prices for shipping bin sales. */
+    public MarketPricing getMarket() {
+        return market;
+    }
+
     public Map<String, FishingLocation> getFishingLocations() { // Getter for fishing locations
         return fishingLocations;
     }
@@ -189,8 +218,13 @@ public class GameManager {
     }
 
 
+    /** Moves the player to {@code destinationMapName}'s entry point, on the simulation thread. */
     public boolean transitionMap(String destinationMapName) {
-        System.out.println("GameManager: Attempting transition to " + destinationMapName);
+        return gameTime.getClock().call(() -> moveToMap(destinationMapName));
+    }
+
+    private boolean moveToMap(String destinationMapName) {
+        LOG.debug("GameManager: Attempting transition to " + destinationMapName);
         if (destinationMapName.equals(farmMap.getName())) {
             currentMap = farmMap;
             // Simpan lokasi sebelumnya sebelum update
@@ -219,40 +253,133 @@ public class GameManager {
             // Set player to the defined entry point in HouseMap
             player.setPosition(HouseMap.ENTRY_LOCATION.x, HouseMap.ENTRY_LOCATION.y);
         } else {
-            System.err.println("Unknown map for transition: " + destinationMapName);
+            LOG.warn("Unknown map for transition: " + destinationMapName);
             return false;
         }
         
         if (getTopInfoBarPanel() != null && getTopInfoBarPanel().isVisible()) {
             getTopInfoBarPanel().refreshInfo();
         }
-        System.out.println("Transitioned to " + destinationMapName + ". Player at (" + player.getX() + "," + player.getY() + ")");
+        LOG.debug("Transitioned to " + destinationMapName + ". Player at (" + player.getX() + "," + player.getY() + ")");
+        return true;
+    }
+
+
+    /**
+     * Saves the game to {@code file} at every day rollover, after all other stages.
+     * Failures are logged; the game keeps running.
+     */
+    public SaveGame enableAutosave(Path file) {
+        SaveGame save = saveGameFor(file);
+        gameTime.getDayRolloverBus().register("autosave", DayRolloverBus.ORDER_SAVE, event -> {
+            try {
+                save.save();
+            } catch (IOException e) {
+                LOG.error("Autosave ke " + file + " gagal: " + e.getMessage());
+            }
+        });
+        return save;
+    }
+
+    /** Loads {@code file} into this game. Call while the clock is paused. */
+    public boolean loadGame(Path file) {
+        try {
+            saveGameFor(file).load();
+        } catch (IOException e) {
+            LOG.error("Gagal memuat save " + file + ": " + e.getMessage());
+            return false;
+        }
+        refreshFarmLayoutDependents();
+        if (topInfoBarPanel != null) {
+            topInfoBarPanel.refreshInfo();
+        }
         return true;
     }
 
+    /**
+     * Rebuilds everything derived from where the house, pond and shipping bin stand, after
+     * a save game replaced the farm layout.
+     */
+    private void refreshFarmLayoutDependents() {
+        for (FishingLocation location : fishingLocations.values()) {
+            if (location instanceof SpecificFishingLocation) {
+                ((SpecificFishingLocation) location).refreshFishingPositions();
+            }
+        }
+        // Portal rumah dan tujuan pintu/bin ikut posisi objek; navigator dibuat ulang, bukan hanya cache-nya
+        worldNavigator = new WorldNavigator(farmMap, cityMap, houseMap);
+        // Tile dipulihkan sekaligus tanpa event per tile; back-buffer panel farm harus digambar ulang
+        if (gameViewInstance != null) {
+            SwingUtilities.invokeLater(gameViewInstance::invalidateFarmMap);
+        }
+    }
+
+    private SaveGame saveGameFor(Path file) {
+        if (saveGame == null || !saveGame.getFile().equals(file)) {
+            if (saveGame != null) {
+                saveGame.close(); // Jangan tinggalkan tracker lama di farm
+            }
+            saveGame = new SaveGame(this, file);
+        }
+        return saveGame;
+    }
+
+    /** Switches to a saved map without moving the player; used by {@link SaveGame}. */
+    void restoreCurrentMap(String mapName) {
+        if (mapName.equals(cityMap.getName())) {
+            currentMap = cityMap;
+        } else if (houseMap != null && mapName.equals(houseMap.getName())) {
+            currentMap = houseMap;
+        } else {
+            currentMap = farmMap;
+        }
+    }
+
+    boolean isStatisticsScreenShown() {
+        return statisticsScreenShown;
+    }
+
+    void setStatisticsScreenShown(boolean shown) {
+        this.statisticsScreenShown = shown;
+    }
 
     public void onGameTimeTick(){
         if(topInfoBarPanel != null && topInfoBarPanel.isVisible()){
+            // Murah: digabung jadi satu update per frame, label yang nilainya sama tidak disentuh
             topInfoBarPanel.refreshInfo();
         }
     }
 
-    public void processNewDayUpdates(int currentDayNumber, Season currentSeason, boolean wasYesterdayRainy, int yesterdayDayNumber) {
-        System.out.println("GameManager: Processing new day updates for Day " + currentDayNumber + ". Yesterday was rainy: " + wasYesterdayRainy);
+    private void registerDayRolloverStages() {
+        DayRolloverBus bus = gameTime.getDayRolloverBus();
+        // Tetap di SimulationThread: pertumbuhan tanaman menulis tile farm, dan listener tile-nya
+        // (WalkabilityGrid, FarmMapPanel, SaveGame) mengandalkan satu penulis; begitu juga state player di stage NPC
+        bus.register("crops", DayRolloverBus.ORDER_WORLD,
+            event -> updateCropsForNewDay(event.getDayNumber(), event.getSeason(), event.wasYesterdayRainy()));
+        bus.register("npc", DayRolloverBus.ORDER_WORLD, event -> updateNpcsForNewDay());
+        bus.register("ui", DayRolloverBus.ORDER_UI, event -> {
+            if (event.getCause() == NewDayEvent.Cause.SLEEP && topInfoBarPanel != null) {
+                topInfoBarPanel.refreshInfo(); // Tidur juga mengubah energi dan lokasi
+            }
+        });
+        bus.register("market", DayRolloverBus.ORDER_MARKET, event -> market.endDay());
+        bus.register("milestones", DayRolloverBus.ORDER_MILESTONES, event -> checkMilestonesAndShowStatistics());
+    }
+
+    private void updateCropsForNewDay(int currentDayNumber, Season currentSeason, boolean wasYesterdayRainy) {
         if (farmMap != null) {
             // Pass currentDayNumber for crop growth logic, and whether yesterday was rainy
             // The Crop.newDay() will use wasYesterdayRainy to set lastWateredDay to yesterdayDayNumber if true
             farmMap.updateDailyCropGrowth(currentDayNumber, currentSeason, wasYesterdayRainy);
         }
+    }
 
+    private void updateNpcsForNewDay() {
         // Call NPCActions to increment day for marriage check if applicable
         if (this.player != null && this.gameTime != null) {
             NPCActions tempNpcActions = new NPCActions(this.player, this.gameTime);
             tempNpcActions.incrementDayForMarriageCheck();
-
         }
-
-        System.out.println("GameManager: Finished processing new day updates.");
     }
 
     public void forcePlayerSleep() {
@@ -264,7 +391,13 @@ public class GameManager {
 
         if (!isFaintFromEnergy) {
             // Jam 2 pagi: autopilot ke bed lewat GUI
-            System.out.println("GameManager: Player being forced to sleep due to 02:00 AM time. Will autopilot to bed.");
+            if (gameViewInstance == null) {
+                // Headless: tidak ada GUI sama sekali, langsung tidur di thread simulasi
+                LOG.debug("Player has passed out from exhaustion (02:00 AM, headless)!");
+                gameTime.sleep2();
+                return;
+            }
+            LOG.debug("GameManager: Player being forced to sleep due to 02:00 AM time. Will autopilot to bed.");
             SwingUtilities.invokeLater(() -> {
                 if (gameViewInstance != null && gameViewInstance.isVisible()) {
                     if (!gameViewInstance.isAutopilotActive()) {
@@ -276,7 +409,7 @@ public class GameManager {
                     }
                 } else {
                     // Fallback: no GUI, do instant sleep
-                    System.out.println("Player has passed out from exhaustion (02:00 AM, no GUI)!");
+                    LOG.debug("Player has passed out from exhaustion (02:00 AM, no GUI)!");
                     gameTime.sleep2();
                     if (gameViewInstance != null) {
                         SwingUtilities.invokeLater(() -> gameViewInstance.showScreen("GameScreen"));
@@ -285,18 +418,18 @@ public class GameManager {
             });
         } else {
             // Energi habis: langsung teleport sleep (instan, tidak autopilot)
-            System.out.println("GameManager: Player energy at or below minimum. Forcing instant sleep due to exhaustion.");
+            LOG.debug("GameManager: Player energy at or below minimum. Forcing instant sleep due to exhaustion.");
             gameTime.sleep2(); // This handles game state: time, day, energy, daily updates.
 
             // After gameTime.sleep2(), player should be in the house.
             // Update map and player position for the UI.
             if (this.gameViewInstance != null) {
-                System.out.println("GameManager: Player slept. Transitioning to HouseScreen.");
+                LOG.debug("GameManager: Player slept. Transitioning to HouseScreen.");
                 // Ensure currentMap reflects HouseMap in GameManager's state
                 this.transitionMap(this.getHouseMap().getName()); 
                 // Explicitly set player's position to the house entry point.
                 // Player.setLocation should have been updated by transitionMap.
-                player.setPosition(HouseMap.ENTRY_LOCATION.x, HouseMap.ENTRY_LOCATION.y);
+                gameTime.getClock().execute(() -> player.setPosition(HouseMap.ENTRY_LOCATION.x, HouseMap.ENTRY_LOCATION.y));
                 // Update the UI to show the HouseScreen
                 SwingUtilities.invokeLater(() -> {
                     this.gameViewInstance.showScreen("HouseScreen");
@@ -305,7 +438,7 @@ public class GameManager {
                     }
                 });
             } else {
-                System.err.println("GameManager.forcePlayerSleep: gameViewInstance is null, cannot switch to HouseScreen and update UI correctly.");
+                LOG.debug("GameManager.forcePlayerSleep: gameViewInstance is null, cannot switch to HouseScreen and update UI correctly.");
             }
         }
     }
@@ -322,12 +455,12 @@ public class GameManager {
     if (goldMilestone || marriedMilestone) {
         player.getStats().setMilestonesDisplayed(true); // Set the flag
         if (gameViewInstance != null) {
-            System.out.println("GameManager: Milestone reached. Showing statistics screen.");
+            LOG.info("GameManager: Milestone reached. Showing statistics screen.");
             SwingUtilities.invokeLater(() -> {
                 gameViewInstance.showStatisticsScreen();
             });
         } else {
-            System.err.println("GameManager: Milestones reached, but GameView instance is null. Cannot show statistics screen.");
+            LOG.debug("GameManager: Milestones reached, but GameView instance is null. Cannot show statistics screen.");
         }
     }
 }
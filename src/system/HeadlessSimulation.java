@@ -0,0 +1,268 @@
+package system;
+
+import action.Action;
+import core.player.Player;
+import core.world.FarmMap;
+import core.world.Season;
+import core.world.Tile;
+import item.Item;
+import item.Seed;
+import item.SeedRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import time.DayRolloverBus;
+import time.GameCalendar;
+import time.Time;
+
+/**
+ * Runs the game world without Swing, as fast as the CPU allows.
+ *
+ * A GameManager is built without a GameView and {@link Time} is stepped tick by tick,
+ * so the real new-day path runs unchanged: crop growth, NPC day counters, shipping bin
+ * sales, milestone checks and the 02:00 pass-out. Every morning a simple farmer routine
+ * harvests, ships, buys seeds, plants and waters a small plot, so the economy moves.
+ *
+ * Usage: java system.HeadlessSimulation [seasons] [plotSize] [--verbose]
+ */
+public class HeadlessSimulation {
+    private static final int DAYS_PER_SEASON = 10; // Sama dengan GameCalendar
+    private static final int STALL_DAYS = 7;
+    private static final int MAX_TICKS_PER_DAY = 24 * 60 / 5 * 2; // Jaring pengaman kalau pagi tidak pernah datang
+
+    private final GameManager gameManager;
+    private final Player player;
+    private final FarmMap farm;
+    private final Time time;
+    private final GameCalendar calendar;
+    private final List<Tile> plot = new ArrayList<>();
+
+    private long ticksRun;
+    private int seedsBought;
+    private int cropsShipped;
+
+    public HeadlessSimulation(int plotSize) {
+        this.gameManager = new GameManager();
+        this.player = gameManager.getPlayer();
+        this.farm = gameManager.getFarmMap();
+        this.time = gameManager.getGameTime();
+        this.calendar = gameManager.getGameCalendar();
+        choosePlot(plotSize);
+    }
+
+    private void choosePlot(int plotSize) {
+        for (int y = 0; y < farm.getHeight() && plot.size() < plotSize; y++) {
+            for (int x = 0; x < farm.getWidth() && plot.size() < plotSize; x++) {
+                if (farm.peekTileAt(x, y).getType() == Tile.TileType.UNTILLED && farm.isWalkable(x, y)) {
+                    plot.add(farm.getTileAt(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Simulates {@code days} in-game days. Returns the number of days actually simulated.
+     */
+    public int run(int days) {
+        int startDay = calendar.getTotalDay();
+        int lastActiveDay = startDay;
+        int lastProgress = 0;
+        int progressAfterFirstWeek = -1;
+        while (calendar.getTotalDay() - startDay < days) {
+            farmRoutine();
+            if (seedsBought + cropsShipped != lastProgress) {
+                lastProgress = seedsBought + cropsShipped;
+                lastActiveDay = calendar.getTotalDay();
+            }
+            checkNotStalled(lastActiveDay);
+            if (calendar.getTotalDay() - startDay + 1 == STALL_DAYS) {
+                progressAfterFirstWeek = lastProgress;
+            }
+            advanceToNextMorning();
+        }
+        if (!plot.isEmpty() && progressAfterFirstWeek >= 0 && lastProgress == progressAfterFirstWeek
+                && calendar.getTotalDay() - startDay > STALL_DAYS) {
+            throw new IllegalStateException("Simulasi macet: tidak ada bibit dibeli atau panen dikirim setelah minggu pertama"
+                    + " (energi " + player.getEnergy() + ", emas " + player.getGold().getAmount() + "g)");
+        }
+        return calendar.getTotalDay() - startDay;
+    }
+
+    /**
+     * Fails the run when the bot has neither bought seeds nor shipped crops for {@value #STALL_DAYS}
+     * days in a season that has seeds for sale; the economy numbers would be meaningless otherwise.
+     */
+    private void checkNotStalled(int lastActiveDay) {
+        int today = calendar.getTotalDay();
+        if (plot.isEmpty() || today - lastActiveDay < STALL_DAYS || cheapestSeedFor(calendar.getCurrentSeason()) == null) {
+            return;
+        }
+        throw new IllegalStateException("Simulasi macet: tidak ada bibit dibeli atau panen dikirim sejak hari " + lastActiveDay
+                + " (sekarang hari " + today + ", energi " + player.getEnergy() + ", emas " + player.getGold().getAmount() + "g)");
+    }
+
+    private void advanceToNextMorning() {
+        int ticks = 0;
+        do {
+            time.stepWithDayEvents(1);
+            ticks++;
+        } while (!(time.getHour() == 6 && time.getMinute() == 0) && ticks < MAX_TICKS_PER_DAY);
+        ticksRun += ticks;
+    }
+
+    private void farmRoutine() {
+        Season season = calendar.getCurrentSeason();
+
+        for (Tile tile : plot) {
+            if (tile.getType() == Tile.TileType.PLANTED && tile.getPlantedCrop() != null
+                    && tile.getPlantedCrop().isHarvestable()) {
+                standOn(tile);
+                Action.harvest(farm, player, time);
+            }
+        }
+        shipHarvest();
+
+        for (Tile tile : plot) {
+            // Tanaman di luar musimnya berhenti tumbuh selamanya; bersihkan supaya petak bisa ditanami lagi
+            if (tile.getType() == Tile.TileType.PLANTED && tile.getPlantedCrop() != null
+                    && !tile.getPlantedCrop().isHarvestable() && tile.getPlantedCrop().getPlantedSeed() != null
+                    && !tile.getPlantedCrop().getPlantedSeed().getSeasons().contains(season)) {
+                standOn(tile);
+                equip("Pickaxe");
+                Action.recoverLand(farm, player, time);
+            }
+        }
+
+        Seed seed = cheapestSeedFor(season);
+        for (Tile tile : plot) {
+            if (seed == null) break;
+            if (tile.getType() == Tile.TileType.UNTILLED) {
+                standOn(tile);
+                equip("Hoe");
+                Action.till(farm, player, time);
+            }
+            if (tile.getType() == Tile.TileType.TILLED) {
+                if (player.getInventory().getItemCount(seed) < 1) {
+                    if (gameManager.getGameStore().handlePurchase(player, seed.getName(), 1, season)) {
+                        seedsBought++;
+                    } else {
+                        break; // Emas habis
+                    }
+                }
+                standOn(tile);
+                Action.plant(farm, player, time, calendar, seed);
+            }
+        }
+
+        for (Tile tile : plot) {
+            if (tile.getType() == Tile.TileType.PLANTED && tile.getPlantedCrop() != null
+                    && !tile.getPlantedCrop().isWateredToday(calendar.getTotalDay())) {
+                standOn(tile);
+                equip("Watering Can");
+                Action.water(farm, player, time, calendar);
+            }
+        }
+    }
+
+    private void shipHarvest() {
+        for (Map.Entry<Item, Integer> entry : player.getInventory().getAllItems().entrySet()) {
+            Item item = entry.getKey();
+            if ("Harvested Crop".equals(item.getCategory()) && entry.getValue() > 0) {
+                if (player.getShippingBin().addItem(player, item, entry.getValue())) {
+                    cropsShipped += entry.getValue();
+                }
+            }
+        }
+    }
+
+    private Seed cheapestSeedFor(Season season) {
+        Seed cheapest = null;
+        for (Seed seed : SeedRegistry.getAllSeeds()) {
+            if (!seed.getSeasons().contains(season)) continue;
+            if (!gameManager.getGameStore().getItemsForSale().containsKey(seed.getName())) continue;
+            int price = gameManager.getGameStore().getPrice(seed);
+            int cheapestPrice = cheapest == null ? 0 : gameManager.getGameStore().getPrice(cheapest);
+            if (cheapest == null || price < cheapestPrice
+                    || (price == cheapestPrice && seed.getName().compareTo(cheapest.getName()) < 0)) {
+                cheapest = seed;
+            }
+        }
+        return cheapest;
+    }
+
+    private void equip(String equipmentName) {
+        if (!player.isEquipped(equipmentName)) {
+            player.equipItem(equipmentName);
+        }
+    }
+
+    private void standOn(Tile tile) {
+        player.setPosition(tile.getX(), tile.getY());
+    }
+
+    public static void main(String[] args) {
+        int seasons = 4;
+        int plotSize = 6;
+        boolean verbose = false;
+        List<Integer> numbers = new ArrayList<>();
+        for (String arg : args) {
+            if ("--verbose".equals(arg)) {
+                verbose = true;
+            } else {
+                try {
+                    numbers.add(Integer.parseInt(arg));
+                } catch (NumberFormatException e) {
+                    System.err.println("Argumen tidak dikenal: " + arg);
+                    System.err.println("Usage: java system.HeadlessSimulation [seasons] [plotSize] [--verbose]");
+                    return;
+                }
+            }
+        }
+        if (numbers.size() > 0) seasons = numbers.get(0);
+        if (numbers.size() > 1) plotSize = numbers.get(1);
+        if (seasons <= 0 || plotSize < 0) {
+            throw new IllegalArgumentException("Jumlah season harus positif dan plot tidak boleh negatif.");
+        }
+
+        if (verbose) {
+            GameLogger.setLevel("", GameLogger.Level.DEBUG);
+        }
+
+        HeadlessSimulation simulation;
+        int simulatedDays;
+        long elapsedNanos;
+        try {
+            simulation = new HeadlessSimulation(plotSize);
+            long start = System.nanoTime();
+            simulatedDays = simulation.run(seasons * DAYS_PER_SEASON);
+            elapsedNanos = System.nanoTime() - start;
+        } finally {
+            GameLogger.flush(1000);
+        }
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Player player = simulation.player;
+        System.out.println("=== Headless Simulation ===");
+        System.out.println("Seasons requested : " + seasons);
+        System.out.println("Days simulated    : " + simulatedDays);
+        System.out.println("Ticks run         : " + simulation.ticksRun);
+        System.out.printf("Wall time         : %.3f s%n", seconds);
+        System.out.printf("Throughput        : %.1f days/s%n", seconds > 0 ? simulatedDays / seconds : Double.POSITIVE_INFINITY);
+        System.out.println("Final date        : day " + simulation.calendar.getTotalDay() + ", "
+                + simulation.calendar.getCurrentSeason() + " " + simulation.calendar.getDayInSeason());
+        System.out.println("Plot tiles        : " + simulation.plot.size());
+        System.out.println("Seeds bought      : " + simulation.seedsBought);
+        System.out.println("Crops shipped     : " + simulation.cropsShipped);
+        System.out.println("Gold              : " + player.getGold().getAmount() + "g");
+        System.out.println("Total gold earned : " + player.getStats().getTotalGoldEarned() + "g");
+        System.out.println("Milestone reached : " + player.getStats().haveMilestonesBeenDisplayed());
+
+        DayRolloverBus bus = simulation.time.getDayRolloverBus();
+        int rollovers = Math.max(1, bus.getRolloverCount());
+        System.out.printf("Day rollovers     : %d, avg %.3f ms%n", bus.getRolloverCount(),
+                bus.getTotalRolloverNanos() / 1_000_000.0 / rollovers);
+        for (Map.Entry<String, Long> stage : bus.getTotalStageTimings().entrySet()) {
+            System.out.printf("  %-15s : avg %.3f ms%n", stage.getKey(), stage.getValue() / 1_000_000.0 / rollovers);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package system;
+
+import item.Crop;
+import item.Equipment;
+import item.Fish;
+import item.Food;
+import item.Item;
+import item.ItemIds;
+import item.Seed;
+import system.PriceCatalog.Category;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Supply and demand for shipping bin sales.
+ *
+ * Every item id has a row of daily sold volumes over a rolling window of game days. Volume
+ * from past days counts as market pressure, weakened by its category's daily retention the
+ * older it is; pressure plus what was already sold today lowers the unit price along the
+ * category's decay curve {@code saturation / (saturation + volume)}, never below its floor.
+ * A batch is paid as the exact sum over its units, so splitting a sale does not change the
+ * total. {@link #endDay()} moves the window forward and recomputes pressure.
+ *
+ * All state lives in flat primitive arrays indexed by {@link ItemIds} id; selling and quoting
+ * allocate nothing, and only a never-seen id grows the arrays.
+ */
+public final class MarketPricing {
+    public static final int DEFAULT_WINDOW_DAYS = 7;
+
+    /** Price curve of one category. */
+    public static final class Curve {
+        private final double saturation;
+        private final double floor;
+        private final double retention;
+
+        /**
+         * @param saturation units in the market at which the unit price has halved.
+         * @param floor      lowest multiplier of the base price, in (0, 1].
+         * @param retention  share of a day's volume still weighing on the price one day later, in [0, 1).
+         */
+        public Curve(double saturation, double floor, double retention) {
+            if (saturation <= 0 || floor <= 0 || floor > 1 || retention < 0 || retention >= 1) {
+                throw new IllegalArgumentException("Kurva harga tidak valid: " + saturation + ", " + floor + ", " + retention);
+            }
+            this.saturation = saturation;
+            this.floor = floor;
+            this.retention = retention;
+        }
+
+        public double getSaturation() { return saturation; }
+        public double getFloor() { return floor; }
+        public double getRetention() { return retention; }
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final byte UNRESOLVED = -1;
+
+    private final int windowDays;
+    private final Curve[] curves = new Curve[CATEGORIES.length];
+    private int[] sold = new int[0];          // id * windowDays + slot
+    private double[] pressure = new double[0]; // Volume hari-hari sebelumnya, sudah diberi bobot retensi
+    private byte[] categoryById = new byte[0];
+    private int today;                         // Slot hari ini di ring
+
+    public MarketPricing() {
+        this(DEFAULT_WINDOW_DAYS);
+    }
+
+    public MarketPricing(int windowDays) {
+        if (windowDays < 1) {
+            throw new IllegalArgumentException("Jendela pasar minimal 1 hari: " + windowDays);
+        }
+        this.windowDays = windowDays;
+        curves[Category.CROP.ordinal()] = new Curve(200, 0.4, 0.5);
+        curves[Category.SEEDS.ordinal()] = new Curve(100, 0.5, 0.5);
+        curves[Category.FOOD.ordinal()] = new Curve(100, 0.5, 0.6);
+        curves[Category.FISH.ordinal()] = new Curve(50, 0.3, 0.4);
+        curves[Category.EQUIPMENT.ordinal()] = new Curve(5, 0.5, 0.9);
+        curves[Category.MISC.ordinal()] = new Curve(500, 0.6, 0.5);
+        ensureCapacity(ItemIds.count());
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public synchronized Curve getCurve(Category category) {
+        return curves[category.ordinal()];
+    }
+
+    public synchronized void setCurve(Category category, Curve curve) {
+        if (category == null || curve == null) {
+            throw new IllegalArgumentException("Kategori dan kurva tidak boleh null");
+        }
+        curves[category.ordinal()] = curve;
+        recomputePressure();
+    }
+
+    /** Gold that selling {@code quantity} of {@code item} would pay right now, without selling. */
+    public synchronized int quote(Item item, int quantity) {
+        if (quantity <= 0) return 0;
+        int id = item.getId();
+        ensureCapacity(id + 1);
+        return price(item, id, quantity);
+    }
+
+    /** Pays for {@code quantity} of {@code item} at the current market price and records the volume. */
+    public synchronized int sell(Item item, int quantity) {
+        if (quantity <= 0) return 0;
+        int id = item.getId();
+        ensureCapacity(id + 1);
+        int gold = price(item, id, quantity);
+        int slot = id * windowDays + today;
+        sold[slot] = (int) Math.min(Integer.MAX_VALUE, (long) sold[slot] + quantity);
+        return gold;
+    }
+
+    /** Current unit price as a share of the base price, in (0, 1]. */
+    public synchronized double getPriceMultiplier(Item item) {
+        int id = item.getId();
+        ensureCapacity(id + 1);
+        Curve curve = curves[category(item, id)];
+        double volume = pressure[id] + sold[id * windowDays + today];
+        return Math.max(curve.floor, curve.saturation / (curve.saturation + volume));
+    }
+
+    /** Units of {@code item} sold inside the window, today included. */
+    public synchronized int getVolume(Item item) {
+        int id = item.getId();
+        if (id >= pressure.length) return 0;
+        long total = 0;
+        for (int i = id * windowDays, end = i + windowDays; i < end; i++) {
+            total += sold[i];
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    /** Closes the current day: the oldest day leaves the window and pressure is recomputed. */
+    public synchronized void endDay() {
+        today = (today + 1) % windowDays;
+        for (int id = 0; id < pressure.length; id++) {
+            sold[id * windowDays + today] = 0;
+        }
+        recomputePressure();
+    }
+
+    /** Writes the window by item name; {@link #readState(DataInput)} reads it back. */
+    public synchronized void writeState(DataOutput out) throws IOException {
+        out.writeInt(windowDays);
+        int rows = 0;
+        for (int id = 0; id < pressure.length; id++) {
+            if (hasVolume(id)) rows++;
+        }
+        out.writeInt(rows);
+        for (int id = 0; id < pressure.length; id++) {
+            if (!hasVolume(id)) continue;
+            out.writeUTF(ItemIds.nameOf(id));
+            // Dari hari ini mundur, supaya posisi ring tidak ikut tersimpan
+            for (int age = 0; age < windowDays; age++) {
+                out.writeInt(sold[id * windowDays + slotOfAge(age)]);
+            }
+        }
+    }
+
+    /** Replaces the window with what {@link #writeState(DataOutput)} wrote; days beyond this window are dropped. */
+    public synchronized void readState(DataInput in) throws IOException {
+        int savedWindow = in.readInt();
+        Arrays.fill(sold, 0);
+        for (int rows = in.readInt(); rows > 0; rows--) {
+            int id = ItemIds.intern(in.readUTF());
+            ensureCapacity(id + 1);
+            Item registered = ItemIds.get(id);
+            if (registered != null) {
+                category(registered, id);
+            }
+            for (int age = 0; age < savedWindow; age++) {
+                int volume = in.readInt();
+                if (age < windowDays) {
+                    sold[id * windowDays + slotOfAge(age)] = volume;
+                }
+            }
+        }
+        recomputePressure();
+    }
+
+    private int price(Item item, int id, int quantity) {
+        int base = item.getSellPrice();
+        if (base <= 0) return 0;
+        Curve curve = curves[category(item, id)];
+        double start = pressure[id] + sold[id * windowDays + today];
+        double end = start + quantity;
+        double s = curve.saturation;
+        // Harga per unit turun mengikuti s/(s+v) sampai lantai, lalu datar
+        double floorStart = s * (1 / curve.floor - 1);
+        double units = 0;
+        double curveEnd = Math.min(end, floorStart);
+        if (curveEnd > start) {
+            units += s * Math.log((s + curveEnd) / (s + start));
+        }
+        double flatStart = Math.max(start, floorStart);
+        if (end > flatStart) {
+            units += curve.floor * (end - flatStart);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(base * units));
+    }
+
+    private void recomputePressure() {
+        for (int id = 0; id < pressure.length; id++) {
+            Curve curve = curves[categoryById[id] == UNRESOLVED ? Category.MISC.ordinal() : categoryById[id]];
+            double total = 0;
+            double weight = 1;
+            for (int age = 1; age < windowDays; age++) {
+                weight *= curve.retention;
+                total += sold[id * windowDays + slotOfAge(age)] * weight;
+            }
+            pressure[id] = total;
+        }
+    }
+
+    private boolean hasVolume(int id) {
+        for (int i = id * windowDays, end = i + windowDays; i < end; i++) {
+            if (sold[i] != 0) return true;
+        }
+        return false;
+    }
+
+    private int slotOfAge(int age) {
+        return ((today - age) % windowDays + windowDays) % windowDays;
+    }
+
+    /** Market category of {@code item}: its Category in the price sheet, else guessed from its class. */
+    public static Category categoryOf(Item item) {
+        PriceCatalog catalog = PriceList.getCatalog();
+        Category listed = catalog != null ? catalog.getCategory(item.getName()) : null;
+        if (listed != null) return listed;
+        if (item.getCategory().equals("Harvested Crop")) return Category.CROP; // Hasil panen di CropRegistry bukan subclass Crop
+        if (item instanceof Seed) return Category.SEEDS;
+        if (item instanceof Crop) return Category.CROP;
+        if (item instanceof Fish) return Category.FISH;
+        if (item instanceof Food) return Category.FOOD;
+        if (item instanceof Equipment) return Category.EQUIPMENT;
+        return Category.MISC;
+    }
+
+    private int category(Item item, int id) {
+        byte cached = categoryById[id];
+        if (cached != UNRESOLVED) return cached;
+        int category = categoryOf(item).ordinal();
+        categoryById[id] = (byte) category;
+        if (hasVolume(id)) {
+            recomputePressure(); // Tekanan dari save dihitung dengan kurva MISC sebelum kategorinya diketahui
+        }
+        return category;
+    }
+
+    private void ensureCapacity(int ids) {
+        if (ids <= pressure.length) return;
+        int oldIds = pressure.length;
+        int newIds = Math.max(ids, Math.max(16, oldIds * 2));
+        sold = Arrays.copyOf(sold, newIds * windowDays);
+        pressure = Arrays.copyOf(pressure, newIds);
+        categoryById = Arrays.copyOf(categoryById, newIds);
+        Arrays.fill(categoryById, oldIds, newIds, UNRESOLVED);
+    }
+}
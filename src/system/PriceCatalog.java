@@ -0,0 +1,495 @@
+package system;
+
+import item.ItemIds;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Buy and sell prices from a price sheet CSV ({@code ItemName,Category,BuyPrice,SellPrice}).
+ *
+ * The CSV is parsed once into a binary index next to it ({@code <csv>.idx}): a header with
+ * the size and modification time of the CSV it came from, fixed-size entries sorted by name,
+ * and a UTF-8 string table. Later startups memory-map the index instead of parsing the CSV
+ * again, as long as the CSV has not changed. Lookups by item id (see {@link ItemIds}) go
+ * through plain int arrays that are filled from the index on first use, so they never box.
+ *
+ * Rows with a missing column, an unknown category or a bad price are logged with their line
+ * number and skipped; the rest of the sheet still loads. {@link #reloadIfChanged()} or
+ * {@link #startWatching()} pick up an edited CSV while the game runs: readers keep seeing
+ * the old prices until the new index is complete, then switch over at once.
+ */
+public final class PriceCatalog {
+    private static final GameLogger LOG = GameLogger.get(PriceCatalog.class);
+
+    /** Set {@code -Dspakbor.prices.watch=true} to reload the game's price sheet while it runs. */
+    public static final String WATCH_PROPERTY = "spakbor.prices.watch";
+
+    /** Returned when an item has no price (a "-" in the sheet, or no row at all). */
+    public static final int NO_PRICE = -1;
+
+    /** Values of the Category column. */
+    public enum Category {
+        CROP("Crop"), SEEDS("Seeds"), FOOD("Food"), FISH("Fish"), EQUIPMENT("Equipment"), MISC("Misc");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        static Category fromLabel(String label) {
+            for (Category category : values()) {
+                if (category.label.equalsIgnoreCase(label)) return category;
+            }
+            return null;
+        }
+    }
+
+    /** Told after a reload has replaced the prices. */
+    @FunctionalInterface
+    public interface ReloadListener {
+        void onPricesReloaded(PriceCatalog catalog);
+    }
+
+    private static final int MAGIC = 0x53504B50; // "SPKP"
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 8 + 4 + 4;
+    private static final int ENTRY_BYTES = 4 + 2 + 1 + 4 + 4; // nameOffset, nameLength, category, buy, sell
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private final Path csvFile;
+    private final Path indexFile;
+    private final List<ReloadListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Index index;
+    private volatile Thread watcher;
+    private WatchService watchService;
+
+    /**
+     * Loads {@code csvFile}, reusing its index if it is still current.
+     * @throws IOException if neither the CSV nor an index for it can be read.
+     */
+    public PriceCatalog(Path csvFile) throws IOException {
+        if (csvFile == null) {
+            throw new IllegalArgumentException("File harga tidak boleh null");
+        }
+        this.csvFile = csvFile;
+        this.indexFile = csvFile.resolveSibling(csvFile.getFileName() + ".idx");
+        this.index = open();
+    }
+
+    public Path getCsvFile() {
+        return csvFile;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    /** Number of priced items. */
+    public int size() {
+        return index.count;
+    }
+
+    /** True if the current prices came from an existing index file instead of parsing the CSV. */
+    public boolean isFromCachedIndex() {
+        return index.reused;
+    }
+
+    public int getBuyPrice(int itemId) {
+        Index current = index;
+        int entry = current.entry(itemId);
+        return entry < 0 ? NO_PRICE : current.buyAt(entry);
+    }
+
+    public int getSellPrice(int itemId) {
+        Index current = index;
+        int entry = current.entry(itemId);
+        return entry < 0 ? NO_PRICE : current.sellAt(entry);
+    }
+
+    /** True if the sheet has a row for item {@code itemId}, even one whose prices are "-". */
+    public boolean contains(int itemId) {
+        return index.entry(itemId) >= 0;
+    }
+
+    public int getBuyPrice(String itemName) {
+        Index current = index;
+        int entry = current.find(itemName);
+        return entry < 0 ? NO_PRICE : current.buyAt(entry);
+    }
+
+    public int getSellPrice(String itemName) {
+        Index current = index;
+        int entry = current.find(itemName);
+        return entry < 0 ? NO_PRICE : current.sellAt(entry);
+    }
+
+    /** Category of {@code itemName}, or null if the sheet has no row for it. */
+    public Category getCategory(String itemName) {
+        Index current = index;
+        int entry = current.find(itemName);
+        return entry < 0 ? null : Category.values()[current.categoryAt(entry)];
+    }
+
+    public void addReloadListener(ReloadListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener tidak boleh null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeReloadListener(ReloadListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reloads the prices if the CSV changed since they were loaded.
+     * @return true if new prices were loaded.
+     * @throws IOException if the changed CSV cannot be read; the old prices stay in place.
+     */
+    public synchronized boolean reloadIfChanged() throws IOException {
+        long size = Files.size(csvFile);
+        long modified = Files.getLastModifiedTime(csvFile).toMillis();
+        Index current = index;
+        if (size == current.sourceSize && modified == current.sourceModified) {
+            return false;
+        }
+        index = build(size, modified);
+        LOG.info("Harga dimuat ulang dari " + csvFile + ": " + index.count + " item");
+        for (ReloadListener listener : listeners) {
+            listener.onPricesReloaded(this);
+        }
+        return true;
+    }
+
+    /** Starts a daemon thread that reloads the prices whenever the CSV is written. */
+    public synchronized void startWatching() throws IOException {
+        if (watcher != null) return;
+        Path dir = csvFile.toAbsolutePath().getParent();
+        WatchService service = FileSystems.getDefault().newWatchService();
+        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchService = service;
+        Thread thread = new Thread(() -> watch(service), "PriceCatalogWatcher");
+        thread.setDaemon(true);
+        watcher = thread;
+        thread.start();
+    }
+
+    public synchronized void stopWatching() {
+        if (watcher == null) return;
+        watcher = null;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOG.warn("WatchService harga gagal ditutup: " + e.getMessage());
+        }
+    }
+
+    private void watch(WatchService service) {
+        Path name = csvFile.getFileName();
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    touched |= name.equals(event.context());
+                }
+                key.reset();
+                if (touched) {
+                    try {
+                        reloadIfChanged();
+                    } catch (IOException e) {
+                        // Editor bisa menulis file setengah jadi; event berikutnya mencoba lagi
+                        LOG.warn("Harga belum bisa dimuat ulang: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopWatching()
+        }
+    }
+
+    private Index open() throws IOException {
+        long size = Files.size(csvFile);
+        long modified = Files.getLastModifiedTime(csvFile).toMillis();
+        if (Files.isRegularFile(indexFile)) {
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                Index cached = Index.read(mapped, true);
+                if (cached != null && cached.sourceSize == size && cached.sourceModified == modified) {
+                    LOG.debug("Index harga dipakai ulang: " + indexFile);
+                    return cached;
+                }
+            } catch (IOException e) {
+                LOG.warn("Index harga " + indexFile + " tidak bisa dibaca, dibuat ulang: " + e.getMessage());
+            }
+        }
+        return build(size, modified);
+    }
+
+    /** Parses the CSV, writes a fresh index and maps it; falls back to a heap copy if the index cannot be written. */
+    private Index build(long size, long modified) throws IOException {
+        ByteBuffer encoded = encode(parse(), size, modified);
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+            }
+            try {
+                Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                return Index.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), false);
+            }
+        } catch (IOException e) {
+            LOG.warn("Index harga tidak bisa ditulis ke " + indexFile + ", dipakai dari memori: " + e.getMessage());
+            encoded.rewind();
+            return Index.read(encoded, false);
+        }
+    }
+
+    private static final class Row {
+        final Category category;
+        final int buy;
+        final int sell;
+
+        Row(Category category, int buy, int sell) {
+            this.category = category;
+            this.buy = buy;
+            this.sell = sell;
+        }
+    }
+
+    private Map<String, Row> parse() throws IOException {
+        Map<String, Row> rows = new TreeMap<>(); // Urut nama, sama dengan urutan byte UTF-16 yang dicari find()
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // Header
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                String[] tokens = line.split(",", -1);
+                if (tokens.length != 4) {
+                    LOG.warn(csvFile + ":" + lineNumber + ": harus 4 kolom, ada " + tokens.length + "; baris dilewati");
+                    continue;
+                }
+                String name = tokens[0].trim();
+                Category category = Category.fromLabel(tokens[1].trim());
+                if (name.isEmpty() || category == null || name.length() != name.codePointCount(0, name.length())) {
+                    LOG.warn(csvFile + ":" + lineNumber + ": nama kosong/tidak didukung atau kategori '" + tokens[1].trim() + "' tidak dikenal; baris dilewati");
+                    continue;
+                }
+                int buy;
+                int sell;
+                try {
+                    buy = parsePrice(tokens[2]);
+                    sell = parsePrice(tokens[3]);
+                } catch (NumberFormatException e) {
+                    LOG.warn(csvFile + ":" + lineNumber + ": harga tidak valid untuk " + name + "; baris dilewati");
+                    continue;
+                }
+                if (rows.put(name, new Row(category, buy, sell)) != null) {
+                    LOG.warn(csvFile + ":" + lineNumber + ": " + name + " muncul lagi; baris terakhir yang dipakai");
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static int parsePrice(String token) {
+        String value = token.trim();
+        if (value.equals("-")) return NO_PRICE;
+        int price = Integer.parseInt(value);
+        if (price < 0) {
+            throw new NumberFormatException("Harga negatif: " + price);
+        }
+        return price;
+    }
+
+    private static ByteBuffer encode(Map<String, Row> rows, long sourceSize, long sourceModified) {
+        byte[][] names = new byte[rows.size()][];
+        int stringBytes = 0;
+        int i = 0;
+        for (String name : rows.keySet()) {
+            names[i] = name.getBytes(StandardCharsets.UTF_8);
+            stringBytes += names[i].length;
+            i++;
+        }
+        int stringsOffset = HEADER_BYTES + rows.size() * ENTRY_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(stringsOffset + stringBytes);
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putLong(sourceSize).putLong(sourceModified)
+                .putInt(rows.size()).putInt(stringsOffset);
+        int nameOffset = 0;
+        i = 0;
+        for (Row row : rows.values()) {
+            buffer.putInt(nameOffset).putShort((short) names[i].length).put((byte) row.category.ordinal())
+                    .putInt(row.buy).putInt(row.sell);
+            nameOffset += names[i].length;
+            i++;
+        }
+        for (byte[] name : names) {
+            buffer.put(name);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /** One loaded index. Immutable apart from the per-id cache, whose racy fills are idempotent. */
+    private static final class Index {
+        final ByteBuffer data;
+        final boolean reused;
+        final long sourceSize;
+        final long sourceModified;
+        final int count;
+        final int stringsOffset;
+        volatile int[] entryById = new int[0]; // Entri per id item, -1 tanpa baris, UNRESOLVED belum dicari
+
+        private Index(ByteBuffer data, boolean reused, long sourceSize, long sourceModified, int count, int stringsOffset) {
+            this.data = data;
+            this.reused = reused;
+            this.sourceSize = sourceSize;
+            this.sourceModified = sourceModified;
+            this.count = count;
+            this.stringsOffset = stringsOffset;
+        }
+
+        /** Null if {@code data} is not a complete index of this format. */
+        static Index read(ByteBuffer data, boolean reused) {
+            if (data.limit() < HEADER_BYTES || data.getInt(0) != MAGIC || data.getShort(4) != FORMAT_VERSION) {
+                return null;
+            }
+            int count = data.getInt(22);
+            int stringsOffset = data.getInt(26);
+            if (count < 0 || count > (data.limit() - HEADER_BYTES) / ENTRY_BYTES
+                    || stringsOffset != HEADER_BYTES + count * ENTRY_BYTES || stringsOffset > data.limit()) {
+                return null;
+            }
+            // Setiap nama harus berada di dalam tabel string; index rusak dibuat ulang, bukan gagal saat find()
+            long stringBytes = data.limit() - stringsOffset;
+            for (int entry = 0; entry < count; entry++) {
+                int base = HEADER_BYTES + entry * ENTRY_BYTES;
+                long nameOffset = data.getInt(base);
+                int nameLength = data.getShort(base + 4) & 0xFFFF;
+                int category = data.get(base + 6);
+                if (nameOffset < 0 || nameOffset + nameLength > stringBytes || category < 0 || category >= Category.values().length) {
+                    return null;
+                }
+            }
+            return new Index(data, reused, data.getLong(6), data.getLong(14), count, stringsOffset);
+        }
+
+        int buyAt(int entry) {
+            return data.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 7);
+        }
+
+        int sellAt(int entry) {
+            return data.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 11);
+        }
+
+        int categoryAt(int entry) {
+            return data.get(HEADER_BYTES + entry * ENTRY_BYTES + 6);
+        }
+
+        /** Entry of item {@code itemId}, or -1; cached per id after the first search. */
+        int entry(int itemId) {
+            int[] entries = entryById;
+            if (itemId >= 0 && itemId < entries.length) {
+                int cached = entries[itemId];
+                if (cached != UNRESOLVED) return cached;
+            }
+            return resolve(itemId);
+        }
+
+        private int resolve(int itemId) {
+            if (itemId < 0 || itemId >= ItemIds.count()) {
+                return -1;
+            }
+            int entry = find(ItemIds.nameOf(itemId));
+            synchronized (this) {
+                int[] entries = entryById;
+                if (itemId >= entries.length) {
+                    int oldLength = entries.length;
+                    entries = Arrays.copyOf(entries, Math.max(ItemIds.count(), oldLength * 2));
+                    Arrays.fill(entries, oldLength, entries.length, UNRESOLVED);
+                }
+                entries[itemId] = entry;
+                entryById = entries;
+            }
+            return entry;
+        }
+
+        /** Entry of {@code name}, or -1. Binary search over the sorted names without decoding them. */
+        int find(String name) {
+            if (name == null) return -1;
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareName(mid, name);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /** Compares entry {@code entry}'s name with {@code name} in String.compareTo order. */
+        private int compareName(int entry, String name) {
+            int base = HEADER_BYTES + entry * ENTRY_BYTES;
+            int pos = stringsOffset + data.getInt(base);
+            int end = pos + (data.getShort(base + 4) & 0xFFFF);
+            int i = 0;
+            while (pos < end && i < name.length()) {
+                // Decode satu char UTF-8; parse() hanya menerima nama dalam BMP, jadi paling panjang 3 byte
+                int b = data.get(pos) & 0xFF;
+                char c;
+                if (b < 0x80) {
+                    c = (char) b;
+                    pos += 1;
+                } else if (b < 0xE0) {
+                    c = (char) (((b & 0x1F) << 6) | (data.get(pos + 1) & 0x3F));
+                    pos += 2;
+                } else {
+                    c = (char) (((b & 0x0F) << 12) | ((data.get(pos + 1) & 0x3F) << 6) | (data.get(pos + 2) & 0x3F));
+                    pos += 3;
+                }
+                int diff = c - name.charAt(i++);
+                if (diff != 0) return diff;
+            }
+            if (pos < end) return 1;
+            return i < name.length() ? -1 : 0;
+        }
+    }
+}
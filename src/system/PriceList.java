@@ -1,36 +1,72 @@
 package system;
 
-import java.util.Map;
-import java.util.HashMap;
-import java.io.BufferedReader;
-import java.io.FileReader;
+import item.Item;
+import item.ItemRegistry;
+
 import java.io.IOException;
+import java.nio.file.Paths;
 
+/**
+ * Game-wide prices from {@code resources/price_list.csv}; see {@link PriceCatalog} for the
+ * index format and reloading. Prices are {@link PriceCatalog#NO_PRICE} until
+ * {@link #loadPrices(String)} has run. The sheet is reference data: store, market and shipping
+ * prices come from the items themselves (see {@link #reportMismatches(PriceCatalog)}).
+ */
 public class PriceList {
-    private static final Map<String, Integer> buyPrices = new HashMap<>();
-    private static final Map<String, Integer> sellPrices = new HashMap<>();
+    private static final GameLogger LOG = GameLogger.get(PriceList.class);
+    private static volatile PriceCatalog catalog;
 
     public static void loadPrices(String filePath) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            reader.readLine(); // skip header
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] tokens = line.split(",");
-                String name = tokens[0];
-                int buy = tokens[2].equals("-") ? -1 : Integer.parseInt(tokens[2]);
-                int sell = tokens[3].equals("-") ? -1 : Integer.parseInt(tokens[3]);
-                buyPrices.put(name, buy);
-                sellPrices.put(name, sell);
-            }
-        }
+        PriceCatalog loaded = new PriceCatalog(Paths.get(filePath));
+        loaded.addReloadListener(PriceList::reportMismatches);
+        catalog = loaded;
+    }
+
+    /** The loaded catalog, or null before {@link #loadPrices(String)}. */
+    public static PriceCatalog getCatalog() {
+        return catalog;
     }
 
     public static int getBuyPrice(String itemName) {
-        return buyPrices.getOrDefault(itemName, -1);
+        PriceCatalog current = catalog;
+        return current == null ? PriceCatalog.NO_PRICE : current.getBuyPrice(itemName);
     }
 
     public static int getSellPrice(String itemName) {
-        return sellPrices.getOrDefault(itemName, -1);
+        PriceCatalog current = catalog;
+        return current == null ? PriceCatalog.NO_PRICE : current.getSellPrice(itemName);
+    }
+
+    public static int getBuyPrice(int itemId) {
+        PriceCatalog current = catalog;
+        return current == null ? PriceCatalog.NO_PRICE : current.getBuyPrice(itemId);
     }
-}
 
+    public static int getSellPrice(int itemId) {
+        PriceCatalog current = catalog;
+        return current == null ? PriceCatalog.NO_PRICE : current.getSellPrice(itemId);
+    }
+
+    /**
+     * Logs every registered item whose row in {@code sheet} disagrees with the item's own prices
+     * ("-" counts as 0), at debug level. Gameplay keeps using the item prices; bringing them in
+     * line with the sheet is a balance change of its own.
+     * @return the number of items whose row disagrees.
+     */
+    public static int reportMismatches(PriceCatalog sheet) {
+        int mismatches = 0;
+        for (Item item : ItemRegistry.getAllItems()) {
+            if (!sheet.contains(item.getId())) continue;
+            int buy = Math.max(0, sheet.getBuyPrice(item.getId()));
+            int sell = Math.max(0, sheet.getSellPrice(item.getId()));
+            if (buy != item.getBuyPrice() || sell != item.getSellPrice()) {
+                mismatches++;
+                LOG.debug("%s: sheet %d/%d, item %d/%d", item.getName(), buy, sell, item.getBuyPrice(), item.getSellPrice());
+            }
+        }
+        if (mismatches > 0) {
+            LOG.debug("%d item punya harga berbeda di %s; harga item yang dipakai", mismatches, sheet.getCsvFile());
+        }
+        return mismatches;
+    }
+}
@@ -0,0 +1,519 @@
+package system;
+
+import core.player.Player;
+import core.player.RelationshipStatus;
+import core.world.FarmMap;
+import core.world.FarmMapCodec;
+import core.world.Season;
+import core.world.ShippingBin;
+import core.world.TileChangeListener;
+import core.world.Weather;
+import item.Equipment;
+import item.EquipmentManager;
+import item.EquipmentRegistry;
+import item.Item;
+import item.ItemRegistry;
+import npc.NPC;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary save file for one {@link GameManager}.
+ *
+ * The file starts with a magic number and a format version, followed by records:
+ * {@code [byte kind][int length][int crc32][payload]}. The first record is always a full
+ * snapshot; every later save appends a delta record that repeats the small sections (clock,
+ * player, inventory, stats, NPCs, shipping bin, crops, market) but carries only the farm chunks
+ * that changed and the gold journal entries added since the previous save. After {@value #MAX_DELTAS} deltas, or once the deltas
+ * outgrow the snapshot, the next save rewrites the file as a fresh snapshot (written to a
+ * temporary file and moved into place).
+ *
+ * A payload is a list of sections {@code [byte id][int length][bytes]}; a reader skips
+ * section ids it does not know, so sections can be added without breaking older saves.
+ * Items, NPCs and enum values are stored by name.
+ *
+ * On load, a truncated or corrupt trailing record (e.g. from a crash while appending) is
+ * dropped with a warning and the game continues from the last good record. Cooking in
+ * progress is not saved.
+ */
+public final class SaveGame implements AutoCloseable {
+    private static final GameLogger LOG = GameLogger.get(SaveGame.class);
+
+    public static final int MAGIC = 0x53504B42; // "SPKB"
+    public static final short VERSION = 1;
+    static final int MAX_DELTAS = 14;
+
+    private static final int HEADER_BYTES = 6;
+    private static final int RECORD_HEADER_BYTES = 9;
+    private static final byte RECORD_SNAPSHOT = 1;
+    private static final byte RECORD_DELTA = 2;
+
+    private static final byte SECTION_GAME = 1;
+    private static final byte SECTION_CLOCK = 2;
+    private static final byte SECTION_PLAYER = 3;
+    private static final byte SECTION_INVENTORY = 4;
+    private static final byte SECTION_STATS = 5;
+    private static final byte SECTION_NPCS = 6;
+    private static final byte SECTION_SHIPPING_BIN = 7;
+    private static final byte SECTION_FARM_LAYOUT = 8;
+    private static final byte SECTION_FARM_CHUNKS = 9;
+    private static final byte SECTION_FARM_CROPS = 10;
+    private static final byte SECTION_MARKET = 11;
+    private static final byte SECTION_GOLD_JOURNAL = 12;
+
+    private final GameManager game;
+    private final Path file;
+    private final FarmMap farm;
+    private final TileChangeListener tracker;
+    private final BitSet dirtyChunks = new BitSet();
+    private boolean needsSnapshot = true; // File bisa berisi game lain sampai disimpan atau dimuat sekali
+    private int deltasSinceSnapshot;
+    private long snapshotBytes;
+    private long deltaBytes;
+    private int journalSaved;        // Entri jurnal emas yang sudah ada di file; delta hanya membawa sisanya
+    private int pendingJournalSaved; // Menjadi journalSaved setelah record berhasil ditulis
+
+    public SaveGame(GameManager game, Path file) {
+        if (game == null || file == null) {
+            throw new IllegalArgumentException("Game dan file save tidak boleh null");
+        }
+        this.game = game;
+        this.file = file;
+        this.farm = game.getFarmMap();
+        this.tracker = (tile, oldType, oldCrop) -> markDirty(FarmMapCodec.chunkOf(farm, tile.getX(), tile.getY()));
+        farm.addTileChangeListener(tracker);
+    }
+
+    /**
+     * Stops tracking farm changes. Call when this save is replaced; a closed save that is used
+     * again writes a full snapshot, since the changes in between were not tracked.
+     */
+    @Override
+    public synchronized void close() {
+        farm.removeTileChangeListener(tracker);
+        needsSnapshot = true;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /** Number of deltas appended since the last full snapshot. */
+    public synchronized int getDeltaCount() {
+        return deltasSinceSnapshot;
+    }
+
+    private synchronized void markDirty(int chunk) {
+        dirtyChunks.set(chunk);
+    }
+
+    /**
+     * Saves the current game: a full snapshot when needed, otherwise a delta appended to the file.
+     * Call from the thread that owns the game state (the simulation thread during play).
+     */
+    public synchronized void save() throws IOException {
+        if (needsSnapshot || !Files.exists(file) || deltasSinceSnapshot >= MAX_DELTAS || deltaBytes > snapshotBytes) {
+            writeSnapshot();
+        } else {
+            appendDelta();
+        }
+    }
+
+    /** Rewrites the file as a single full snapshot. */
+    public synchronized void writeSnapshot() throws IOException {
+        byte[] payload = encode(true);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + RECORD_HEADER_BYTES + payload.length);
+        buffer.putInt(MAGIC).putShort(VERSION);
+        putRecord(buffer, RECORD_SNAPSHOT, payload);
+        buffer.flip();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, buffer);
+            channel.force(true);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        needsSnapshot = false;
+        deltasSinceSnapshot = 0;
+        snapshotBytes = payload.length;
+        deltaBytes = 0;
+        journalSaved = pendingJournalSaved;
+        dirtyChunks.clear();
+        LOG.debug("Snapshot disimpan ke " + file + " (" + payload.length + " byte)");
+    }
+
+    private void appendDelta() throws IOException {
+        byte[] payload = encode(false);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+        putRecord(buffer, RECORD_DELTA, payload);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, buffer);
+            channel.force(false);
+        }
+        deltasSinceSnapshot++;
+        deltaBytes += payload.length;
+        journalSaved = pendingJournalSaved;
+        dirtyChunks.clear();
+        LOG.debug("Delta " + deltasSinceSnapshot + " disimpan ke " + file + " (" + payload.length + " byte)");
+    }
+
+    /**
+     * Replaces the game state with the snapshot and deltas in the file.
+     * Call while the game clock is paused. Later saves append to the loaded file.
+     * @throws IOException if the file is missing, not a save file, or its snapshot is unreadable.
+     */
+    public synchronized void load() throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File save terlalu besar: " + size + " byte");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Baca sampai penuh
+            }
+            buffer.flip();
+        }
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Bukan file save Spakbor: " + file);
+        }
+        short version = buffer.getShort();
+        if (version > VERSION) {
+            throw new IOException("Versi save " + version + " lebih baru dari yang didukung (" + VERSION + ")");
+        }
+
+        // Cek semua record dulu, supaya state game tidak setengah diganti oleh file yang rusak
+        List<byte[]> records = new ArrayList<>();
+        List<Byte> kinds = new ArrayList<>();
+        long recordBytes = 0;
+        while (buffer.remaining() > 0) {
+            if (buffer.remaining() < RECORD_HEADER_BYTES) {
+                LOG.warn("Record terakhir di " + file + " terpotong; diabaikan");
+                break;
+            }
+            byte kind = buffer.get();
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                LOG.warn("Record terakhir di " + file + " terpotong; diabaikan");
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (crc != crc32(payload) || (kind != RECORD_SNAPSHOT && kind != RECORD_DELTA)) {
+                LOG.warn("Record " + records.size() + " di " + file + " rusak; record ini dan sesudahnya diabaikan");
+                break;
+            }
+            if (records.isEmpty() && kind != RECORD_SNAPSHOT) {
+                throw new IOException("File save tidak diawali snapshot: " + file);
+            }
+            records.add(payload);
+            kinds.add(kind);
+            if (kind == RECORD_DELTA) recordBytes += length;
+        }
+        if (records.isEmpty()) {
+            throw new IOException("File save tidak berisi snapshot yang utuh: " + file);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            decode(records.get(i), kinds.get(i) == RECORD_SNAPSHOT);
+        }
+        // Record rusak di ekor ditimpa oleh snapshot berikutnya, bukan disambung
+        needsSnapshot = buffer.remaining() > 0;
+        deltasSinceSnapshot = records.size() - 1;
+        snapshotBytes = records.get(0).length;
+        deltaBytes = recordBytes;
+        journalSaved = game.getPlayer().getGold().getJournal().size();
+        dirtyChunks.clear();
+        LOG.info("Save dimuat dari " + file + ": 1 snapshot, " + deltasSinceSnapshot + " delta");
+    }
+
+    private byte[] encode(boolean snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(snapshot ? 16384 : 2048);
+        DataOutputStream out = new DataOutputStream(bytes);
+        FarmMap farm = game.getFarmMap();
+        writeSection(out, SECTION_GAME, section -> {
+            section.writeUTF(game.getCurrentMap() != null ? game.getCurrentMap().getName() : "");
+            section.writeBoolean(game.isStatisticsScreenShown());
+        });
+        writeSection(out, SECTION_CLOCK, this::writeClock);
+        writeSection(out, SECTION_PLAYER, this::writePlayer);
+        // Sebelum STATS: statistik emas dibaca dari jurnal, save lama tanpa jurnal diisi dari total di STATS
+        int journalFrom = snapshot ? 0 : journalSaved;
+        int[] journalEnd = new int[1];
+        writeSection(out, SECTION_GOLD_JOURNAL, section -> journalEnd[0] = game.getPlayer().getGold().getJournal().writeState(section, journalFrom));
+        writeSection(out, SECTION_INVENTORY, section -> writeItems(section, game.getPlayer().getInventory().getAllItems()));
+        writeSection(out, SECTION_STATS, section -> game.getPlayer().getStats().writeState(section));
+        writeSection(out, SECTION_NPCS, this::writeNpcs);
+        ShippingBin bin = game.getPlayer().getShippingBin();
+        if (bin != null) {
+            writeSection(out, SECTION_SHIPPING_BIN, section -> writeItems(section, bin.getItemsToShip()));
+        }
+        if (snapshot) {
+            writeSection(out, SECTION_FARM_LAYOUT, section -> FarmMapCodec.writeObjects(farm, section));
+            writeSection(out, SECTION_FARM_CHUNKS, section -> FarmMapCodec.writeChunks(farm, section, null));
+        } else {
+            BitSet chunks = (BitSet) dirtyChunks.clone();
+            writeSection(out, SECTION_FARM_CHUNKS, section -> FarmMapCodec.writeChunks(farm, section, chunks));
+        }
+        writeSection(out, SECTION_FARM_CROPS, section -> FarmMapCodec.writeCrops(farm, section));
+        writeSection(out, SECTION_MARKET, section -> game.getMarket().writeState(section));
+        out.flush();
+        pendingJournalSaved = journalEnd[0];
+        return bytes.toByteArray();
+    }
+
+    private void decode(byte[] payload, boolean snapshot) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        FarmMap farm = game.getFarmMap();
+        while (in.available() > 0) {
+            byte id = in.readByte();
+            int length = in.readInt();
+            byte[] body = new byte[length];
+            in.readFully(body);
+            DataInputStream section = new DataInputStream(new ByteArrayInputStream(body));
+            switch (id) {
+                case SECTION_GAME -> {
+                    game.restoreCurrentMap(section.readUTF());
+                    game.setStatisticsScreenShown(section.readBoolean());
+                }
+                case SECTION_CLOCK -> readClock(section);
+                case SECTION_PLAYER -> readPlayer(section);
+                case SECTION_INVENTORY -> game.getPlayer().getInventory().replaceContents(readItems(section));
+                case SECTION_STATS -> game.getPlayer().getStats().readState(section);
+                case SECTION_NPCS -> readNpcs(section);
+                case SECTION_SHIPPING_BIN -> {
+                    if (game.getPlayer().getShippingBin() != null) {
+                        game.getPlayer().getShippingBin().restoreContents(readItems(section));
+                    }
+                }
+                case SECTION_FARM_LAYOUT -> FarmMapCodec.readObjects(farm, section);
+                case SECTION_FARM_CHUNKS -> FarmMapCodec.readChunks(farm, section, snapshot);
+                case SECTION_FARM_CROPS -> FarmMapCodec.readCrops(farm, section);
+                case SECTION_MARKET -> game.getMarket().readState(section);
+                case SECTION_GOLD_JOURNAL -> game.getPlayer().getGold().getJournal().readState(section);
+                default -> LOG.debug("Section save tidak dikenal dilewati: " + id);
+            }
+        }
+    }
+
+    private void writeClock(DataOutputStream out) throws IOException {
+        out.writeInt(game.getGameTime().getHour());
+        out.writeInt(game.getGameTime().getMinute());
+        out.writeInt(game.getGameCalendar().getDayInSeason());
+        out.writeInt(game.getGameCalendar().getTotalDay());
+        out.writeUTF(game.getGameCalendar().getCurrentSeason().name());
+        out.writeUTF(game.getGameCalendar().getCurrentWeather().name());
+        out.writeInt(game.getGameCalendar().getRainyDaysInSeason());
+    }
+
+    private void readClock(DataInputStream in) throws IOException {
+        int hour = in.readInt();
+        int minute = in.readInt();
+        int dayInSeason = in.readInt();
+        int totalDay = in.readInt();
+        Season season;
+        Weather weather;
+        try {
+            season = Season.valueOf(in.readUTF());
+            weather = Weather.valueOf(in.readUTF());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Musim atau cuaca di save tidak dikenal", e);
+        }
+        StatisticsManager data = new StatisticsManager(game.getPlayer().getName(), hour, minute, dayInSeason, totalDay, season, weather);
+        data.savedRainyDaysInSeason = in.readInt();
+        game.getGameCalendar().restore(data);
+        game.getGameTime().restore(data);
+    }
+
+    private void writePlayer(DataOutputStream out) throws IOException {
+        Player player = game.getPlayer();
+        out.writeUTF(player.getName());
+        out.writeUTF(player.getGender());
+        out.writeUTF(player.getFarmName());
+        out.writeInt(player.getEnergy());
+        out.writeUTF(player.getLocation() != null ? player.getLocation() : "");
+        out.writeInt(player.getX());
+        out.writeInt(player.getY());
+        out.writeInt(player.getGold().getAmount());
+        out.writeUTF(player.getPartner() != null ? player.getPartner().getName() : "");
+        out.writeInt(player.getDaysSinceProposalWithPartner());
+        Map<NPC, RelationshipStatus> relationships = player.getAllRelationships();
+        out.writeInt(relationships.size());
+        for (Map.Entry<NPC, RelationshipStatus> entry : relationships.entrySet()) {
+            out.writeUTF(entry.getKey().getName());
+            out.writeUTF(entry.getValue().name());
+        }
+        EquipmentManager equipment = player.getEquipmentManager();
+        Map<String, Equipment> owned = equipment.getOwnedEquipment();
+        out.writeInt(owned.size());
+        for (String name : owned.keySet()) {
+            out.writeUTF(name);
+        }
+        out.writeUTF(equipment.getEquippedItem() != null ? equipment.getEquippedItem().getName() : "");
+    }
+
+    private void readPlayer(DataInputStream in) throws IOException {
+        Player player = game.getPlayer();
+        player.setName(in.readUTF());
+        player.setGender(in.readUTF());
+        player.setFarmName(in.readUTF());
+        player.setEnergy(in.readInt());
+        player.setLocation(in.readUTF());
+        player.setPosition(in.readInt(), in.readInt());
+        player.getGold().restore(in.readInt());
+        String partner = in.readUTF();
+        player.setPartner(partner.isEmpty() ? null : game.getNpcByName(partner));
+        player.setDaysSinceProposalWithPartner(in.readInt());
+        Map<NPC, RelationshipStatus> relationships = player.getAllRelationships();
+        relationships.clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            NPC npc = game.getNpcByName(in.readUTF());
+            RelationshipStatus status = readEnum(RelationshipStatus.class, in.readUTF());
+            if (npc != null && status != null) {
+                relationships.put(npc, status);
+            }
+        }
+
+        EquipmentManager equipment = player.getEquipmentManager();
+        List<String> saved = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            saved.add(in.readUTF());
+        }
+        for (String name : equipment.getOwnedEquipment().keySet()) {
+            if (!saved.contains(name)) {
+                equipment.removeEquipment(name);
+            }
+        }
+        for (String name : saved) {
+            Equipment tool = EquipmentRegistry.getEquipmentByName(name);
+            if (tool != null) {
+                equipment.addEquipment(tool);
+            } else {
+                LOG.warn("Equipment di save tidak dikenal: " + name);
+            }
+        }
+        String equipped = in.readUTF();
+        if (equipped.isEmpty()) {
+            if (equipment.getEquippedItem() != null) {
+                equipment.unequipItem(equipment.getEquippedItem().getName());
+            }
+        } else {
+            equipment.equipItem(equipped);
+        }
+    }
+
+    private void writeNpcs(DataOutputStream out) throws IOException {
+        List<NPC> npcs = game.getAllNpcs();
+        out.writeInt(npcs.size());
+        for (NPC npc : npcs) {
+            out.writeUTF(npc.getName());
+            out.writeInt(npc.getHeartPoints());
+            out.writeUTF(npc.getRelationshipStatus().name());
+        }
+    }
+
+    private void readNpcs(DataInputStream in) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            NPC npc = game.getNpcByName(in.readUTF());
+            int heartPoints = in.readInt();
+            RelationshipStatus status = readEnum(RelationshipStatus.class, in.readUTF());
+            if (npc == null) continue;
+            npc.addHeartPoints(heartPoints - npc.getHeartPoints());
+            if (status != null && status != npc.getRelationshipStatus()) {
+                npc.setRelationshipStatus(status);
+            }
+        }
+    }
+
+    private static void writeItems(DataOutputStream out, Map<Item, Integer> items) throws IOException {
+        out.writeInt(items.size());
+        for (Map.Entry<Item, Integer> entry : items.entrySet()) {
+            out.writeUTF(entry.getKey().getName());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static Map<Item, Integer> readItems(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<Item, Integer> items = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            int quantity = in.readInt();
+            Item item = ItemRegistry.getItemByName(name);
+            if (item == null) {
+                LOG.warn("Item di save tidak dikenal, dilewati: " + name);
+                continue;
+            }
+            items.merge(item, quantity, Integer::sum);
+        }
+        return items;
+    }
+
+    private static <E extends Enum<E>> E readEnum(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            LOG.warn(type.getSimpleName() + " di save tidak dikenal: " + name);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static void writeSection(DataOutputStream out, byte id, SectionWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream section = new DataOutputStream(bytes);
+        writer.write(section);
+        section.flush();
+        out.writeByte(id);
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    private static void putRecord(ByteBuffer buffer, byte kind, byte[] payload) {
+        buffer.put(kind).putInt(payload.length).putInt(crc32(payload)).put(payload);
+    }
+
+    private static int crc32(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -10,6 +10,7 @@ public class StatisticsManager {
     public int savedTotalDay;
     public Season savedSeason;
     public Weather savedWeather;
+    public int savedRainyDaysInSeason; // Tidak ada di constructor; 0 kalau tidak diisi
 
     public StatisticsManager(String playerName, int hour, int minute, int day, int total, Season season, Weather weather) {
         this.playerName = playerName;
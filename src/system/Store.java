@@ -3,16 +3,21 @@ package system;
 import item.Item;
 import item.Seed;
 import item.SeedRegistry;
-import item.Food;
 import item.Equipment;
-import item.Misc;
+import item.EquipmentRegistry;
+import item.FoodRegistry;
+import item.ItemRegistry;
+import core.player.GoldJournal;
+import core.player.Inventory;
 import core.player.Player;
 import npc.NPC;
 import gui.StorePanel;
 import gui.GameView;
 import gui.PlayerInfoPanel;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Arrays;
 
@@ -30,9 +35,65 @@ import item.Fish;
  * Emily is the NPC owner of this store.
  */
 public class Store {
+    private static final GameLogger LOG = GameLogger.get(Store.class);
+
+    /**
+     * A multi-item order for {@link Store#checkout(Player, Cart, Season)}, made with
+     * {@link Store#newCart()}. Each item is checked against the store when it is added;
+     * adding the same item again raises its quantity.
+     */
+    public final class Cart {
+        private final Map<Item, Integer> lines = new LinkedHashMap<>();
+        private long total;
+
+        private Cart() {
+        }
+
+        /**
+         * Adds {@code quantity} of {@code itemName} at the store's price.
+         * @throws IllegalArgumentException if the store does not sell the item or the quantity is not positive.
+         */
+        public Cart add(String itemName, int quantity) {
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("Jumlah harus positif: " + quantity);
+            }
+            Item item = itemsForSale.get(itemName);
+            if (item == null || getPrice(item) <= 0) {
+                throw new IllegalArgumentException("'" + itemName + "' tidak dijual di " + name);
+            }
+            lines.merge(item, quantity, (a, b) -> (int) Math.min(Integer.MAX_VALUE, (long) a + b));
+            total += (long) getPrice(item) * quantity;
+            return this;
+        }
+
+        /** Items and quantities in the order they were first added. */
+        public Map<Item, Integer> getLines() {
+            return Collections.unmodifiableMap(lines);
+        }
+
+        /** Gold the whole order costs; may exceed what a single debit can take. */
+        public long getTotal() {
+            return total;
+        }
+
+        public boolean isEmpty() {
+            return lines.isEmpty();
+        }
+
+        public void clear() {
+            lines.clear();
+            total = 0;
+        }
+
+        private Store getStore() {
+            return Store.this;
+        }
+    }
+
     private String name;
     private NPC owner;
     private Map<String, Item> itemsForSale;
+    private final Map<String, Integer> storePrices = new HashMap<>();
     private StorePanel storePanel;
 
     public Store(String name, NPC owner) {
@@ -50,6 +111,21 @@ public class Store {
         return itemsForSale;
     }
 
+    /** What this store charges for one {@code item}; the item's own buy price unless the store sets its own. */
+    public int getPrice(Item item) {
+        Integer price = storePrices.get(item.getName());
+        return price != null ? price : item.getBuyPrice();
+    }
+
+    private void stock(Item item) {
+        itemsForSale.put(item.getName(), item);
+    }
+
+    private void stock(Item item, int price) {
+        stock(item);
+        storePrices.put(item.getName(), price);
+    }
+
 
     private void initializeStoreInventory() {
         itemsForSale.put("Parsnip Seeds", SeedRegistry.getSeedByName("Parsnip Seeds"));
@@ -64,39 +140,22 @@ public class Store {
         itemsForSale.put("Pumpkin Seeds", SeedRegistry.getSeedByName("Pumpkin Seeds"));
         itemsForSale.put("Grape Seeds", SeedRegistry.getSeedByName("Grape Seeds"));
 
-        itemsForSale.put("Fish n' Chips", new Food("Fish n' Chips", 150, 135, 50));
-        itemsForSale.put("Baguette", new Food("Baguette", 100, 80, 25));
-        itemsForSale.put("Sashimi", new Food("Sashimi", 300, 275, 70));
-        itemsForSale.put("Fugu", new Food("Fugu", 0, 135, 50));
-        itemsForSale.put("Wine", new Food("Wine", 100, 90, 20));
-        itemsForSale.put("Pumpkin Pie", new Food("Pumpkin Pie", 120, 100, 35));
-        itemsForSale.put("Veggie Soup", new Food("Veggie Soup", 140, 120, 40));
-        itemsForSale.put("Fish Stew", new Food("Fish Stew", 280, 260, 70));
-        itemsForSale.put("Spakbor Salad", new Food("Spakbor Salad", 0, 250, 70));
-        itemsForSale.put("Fish Sandwich", new Food("Fish Sandwich", 200, 180, 50));
-        itemsForSale.put("The Legends of Spakbor", new Food("The Legends of Spakbor", 0, 2000, 100));
-        itemsForSale.put("Cooked Pig's Head", new Food("Cooked Pig's Head", 1000, 0, 100));
-
-        itemsForSale.put("Hoe", new Equipment("Hoe", 500, 250));
-        itemsForSale.put("Watering Can", new Equipment("Watering Can", 500, 250));
-        itemsForSale.put("Pickaxe", new Equipment("Pickaxe", 500, 250));
-        itemsForSale.put("Fishing Rod", new Equipment("Fishing Rod", 750, 375));
-
-        itemsForSale.put("Coal", new item.Item("Coal", 100, 50) {
-            @Override public String getCategory() { return "Fuel"; }
-        });
-        itemsForSale.put("Firewood", new item.Item("Firewood", 50, 20) {
-            @Override public String getCategory() { return "Fuel"; }
-        });
-        
-        Item proposalRing = new Item("Proposal Ring", 2500, 0) { // Buy: 2500g, Sell: 0g (or non-sellable)
-            @Override
-            public String getCategory() {
-                return "Special"; // A distinct category
-            }
-        };
-        itemsForSale.put(proposalRing.getName(), proposalRing);
-        System.out.println("DEBUG: Proposal Ring added to store for " + proposalRing.getBuyPrice() + "g.");
+        for (String foodName : Arrays.asList("Fish n' Chips", "Baguette", "Sashimi", "Fugu", "Wine", "Pumpkin Pie",
+                "Veggie Soup", "Fish Stew", "Spakbor Salad", "Fish Sandwich", "The Legends of Spakbor", "Cooked Pig's Head")) {
+            stock(FoodRegistry.getFoodByName(foodName));
+        }
+
+        for (Equipment equipment : EquipmentRegistry.getAllEquipment()) {
+            stock(equipment);
+        }
+
+        // Barang yang dijual toko di atas harga dasarnya; item-nya tetap instance dari registry
+        stock(ItemRegistry.getItemByName("Coal"), 100);
+        stock(ItemRegistry.getItemByName("Firewood"), 50);
+
+        Item proposalRing = ItemRegistry.getItemByName("Proposal Ring");
+        stock(proposalRing, 2500);
+        LOG.debug("Proposal Ring added to store for " + getPrice(proposalRing) + "g.");
     }
 
     public void displayStoreMenu() {
@@ -106,8 +165,8 @@ public class Store {
         int i = 1;
         for (Map.Entry<String, Item> entry : itemsForSale.entrySet()) {
             Item item = entry.getValue();
-            if (item.getBuyPrice() > 0) {
-                System.out.printf("%d. %-20s (%s) - %dg%n", i++, item.getName(), item.getCategory(), item.getBuyPrice());
+            if (getPrice(item) > 0) {
+                System.out.printf("%d. %-20s (%s) - %dg%n", i++, item.getName(), item.getCategory(), getPrice(item));
             }
         }
         System.out.println("0. Exit Store");
@@ -144,9 +203,55 @@ public class Store {
     //     }
     // }
 
+    public Cart newCart() {
+        return new Cart();
+    }
+
+    /**
+     * Buys everything in {@code cart} as one order: the inventory is checked first, then the
+     * whole total is taken in a single gold debit (journaled as one purchase in {@code season},
+     * which may be null, with the item only if the order holds one kind), and the items go into
+     * the inventory in one batch. On success the cart is emptied.
+     * @return false, with no change to gold, inventory or cart, if the cart is empty, its total
+     *         is too large, the inventory cannot take the items or the player cannot pay.
+     */
+    public boolean checkout(Player player, Cart cart, Season season) {
+        if (cart == null || cart.getStore() != this) {
+            throw new IllegalArgumentException("Keranjang bukan milik toko " + name);
+        }
+        if (cart.isEmpty()) {
+            LOG.debug("Store: Checkout with an empty cart.");
+            return false;
+        }
+        if (cart.getTotal() > Integer.MAX_VALUE) {
+            LOG.debug("Store: Order total " + cart.getTotal() + "g is too large.");
+            return false;
+        }
+        Inventory inventory = player.getInventory();
+        if (!inventory.canAddAll(cart.lines)) {
+            LOG.debug("Store: The inventory cannot hold this order.");
+            return false;
+        }
+        int total = (int) cart.getTotal();
+        Item journaled = cart.lines.size() == 1 ? cart.lines.keySet().iterator().next() : null;
+        if (!player.getGold().debit(total, GoldJournal.Source.PURCHASE, season, journaled)) {
+            LOG.debug("Store: You don't have enough gold for this order. You need " + total + "g.");
+            return false;
+        }
+        inventory.addItems(cart.lines);
+        LOG.debug("Store: You successfully bought " + cart.lines.size() + " kind(s) of items for " + total + "g.");
+        cart.clear();
+        return true;
+    }
+
     public boolean handlePurchase(Player player, String itemName, int quantity) { // MODIFIED: Return boolean, removed Season parameter
+        return handlePurchase(player, itemName, quantity, null);
+    }
+
+    /** Buys {@code quantity} of {@code itemName}; the payment is journaled as a purchase in {@code season} (may be null). */
+    public boolean handlePurchase(Player player, String itemName, int quantity, Season season) {
         if (quantity <= 0) {
-            System.out.println("Store: Invalid quantity. Please enter a positive number.");
+            LOG.debug("Store: Invalid quantity. Please enter a positive number.");
             // In a GUI context, this message might be better handled by the panel.
             return false;
         }
@@ -154,31 +259,24 @@ public class Store {
         Item itemToBuy = itemsForSale.get(itemName);
 
         if (itemToBuy == null) {
-            System.out.println("Store: Sorry, '" + itemName + "' is not available in this store.");
+            LOG.debug("Store: Sorry, '" + itemName + "' is not available in this store.");
             return false;
         }
 
-        if (itemToBuy.getBuyPrice() <= 0) {
-            System.out.println("Store: You cannot buy '" + itemName + "'. It's not for sale.");
+        if (getPrice(itemToBuy) <= 0) {
+            LOG.debug("Store: You cannot buy '" + itemName + "'. It's not for sale.");
             return false;
         }
 
-        int totalCost = itemToBuy.getBuyPrice() * quantity;
+        int totalCost = getPrice(itemToBuy) * quantity;
 
-        if (player.getGold().getAmount() >= totalCost) {
-            if (player.getGold().subtract(totalCost)) { // This returns boolean
-                player.getInventory().addItem(itemToBuy, quantity);
-                System.out.println("Store: You successfully bought " + quantity + " " + itemToBuy.getName() + "(s) for " + totalCost + "g.");
-                // PlayerStats expenditure will be handled by the caller (StorePanel)
-                return true; // Purchase successful
-            } else {
-                // This case should ideally not be reached if getAmount check is correct,
-                // but good for robustness.
-                System.out.println("Store: Gold subtraction failed unexpectedly for " + itemName);
-                return false;
-            }
+        // Cek saldo dan potong dalam satu langkah atomik; pengeluaran tercatat di jurnal emas
+        if (player.getGold().debit(totalCost, GoldJournal.Source.PURCHASE, season, itemToBuy)) {
+            player.getInventory().addItem(itemToBuy, quantity);
+            LOG.debug("Store: You successfully bought " + quantity + " " + itemToBuy.getName() + "(s) for " + totalCost + "g.");
+            return true; // Purchase successful
         } else {
-            System.out.println("Store: You don't have enough gold to buy " + quantity + " " + itemToBuy.getName() + "(s). You need " + totalCost + "g.");
+            LOG.debug("Store: You don't have enough gold to buy " + quantity + " " + itemToBuy.getName() + "(s). You need " + totalCost + "g.");
             return false; // Not enough gold
         }
     }
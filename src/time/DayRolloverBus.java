@@ -0,0 +1,188 @@
+package time;
+
+import system.GameLogger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Ordered pipeline of everything that has to happen when a new day starts.
+ *
+ * Stages run by ascending {@code order}; stages with the same order run in registration
+ * order. Stages registered as parallel that share an order run concurrently on the
+ * common ForkJoinPool, and the next order only starts once all of them are done, so a
+ * parallel stage must only touch state no other stage in its group touches. Because it
+ * runs off the rollover (simulation) thread, it must also leave world state alone: tiles,
+ * inventories and anything else with listeners or EDT readers belong to sequential stages.
+ * Every stage is timed; the last and cumulative timings are kept per stage.
+ */
+public class DayRolloverBus {
+    private static final GameLogger LOG = GameLogger.get(DayRolloverBus.class);
+
+    // Urutan bawaan, menyalin urutan lama di Time.runTime2()/sleep2()
+    public static final int ORDER_STATS = 0;
+    public static final int ORDER_WORLD = 10;     // crops, NPC
+    public static final int ORDER_UI = 15;
+    public static final int ORDER_SHIPPING = 20;
+    public static final int ORDER_MARKET = 25;    // Setelah penjualan hari itu tercatat
+    public static final int ORDER_MILESTONES = 30;
+    public static final int ORDER_SAVE = 40;      // Autosave, setelah semua state hari baru selesai
+
+    private static final class Stage {
+        final String name;
+        final int order;
+        final boolean parallel;
+        final NewDayListener listener;
+        final int sequence;
+        long lastNanos;
+        long totalNanos;
+
+        Stage(String name, int order, boolean parallel, NewDayListener listener, int sequence) {
+            this.name = name;
+            this.order = order;
+            this.parallel = parallel;
+            this.listener = listener;
+            this.sequence = sequence;
+        }
+    }
+
+    private final List<Stage> stages = new ArrayList<>();
+    private List<Stage> sortedStages = Collections.emptyList();
+    private long lastRolloverNanos;
+    private long totalRolloverNanos;
+    private int rolloverCount;
+
+    /**
+     * Registers a stage that runs on the rollover thread, after all stages with a lower order.
+     */
+    public synchronized void register(String name, int order, NewDayListener listener) {
+        register(name, order, false, listener);
+    }
+
+    /**
+     * Registers a stage. When {@code parallel} is true it may run concurrently with the other
+     * parallel stages of the same order.
+     */
+    public synchronized void register(String name, int order, boolean parallel, NewDayListener listener) {
+        if (name == null || listener == null) {
+            throw new IllegalArgumentException("Nama stage dan listener tidak boleh null");
+        }
+        for (Stage stage : stages) {
+            if (stage.name.equals(name)) {
+                throw new IllegalArgumentException("Stage '" + name + "' sudah terdaftar");
+            }
+        }
+        stages.add(new Stage(name, order, parallel, listener, stages.size()));
+        List<Stage> sorted = new ArrayList<>(stages);
+        sorted.sort(Comparator.<Stage>comparingInt(s -> s.order).thenComparingInt(s -> s.sequence));
+        sortedStages = sorted;
+    }
+
+    public synchronized boolean unregister(String name) {
+        boolean removed = stages.removeIf(stage -> stage.name.equals(name));
+        if (removed) {
+            List<Stage> sorted = new ArrayList<>(sortedStages);
+            sorted.removeIf(stage -> stage.name.equals(name));
+            sortedStages = sorted;
+        }
+        return removed;
+    }
+
+    /**
+     * Runs every stage for {@code event}. A failing stage is reported and the rest still run,
+     * so one broken subscriber cannot stop the day from advancing.
+     */
+    public void publish(NewDayEvent event) {
+        List<Stage> snapshot;
+        synchronized (this) {
+            snapshot = sortedStages;
+        }
+        long start = System.nanoTime();
+        int i = 0;
+        while (i < snapshot.size()) {
+            int order = snapshot.get(i).order;
+            List<Stage> parallelGroup = new ArrayList<>();
+            for (; i < snapshot.size() && snapshot.get(i).order == order; i++) {
+                Stage stage = snapshot.get(i);
+                if (stage.parallel) {
+                    parallelGroup.add(stage);
+                } else {
+                    runStage(stage, event);
+                }
+            }
+            runParallel(parallelGroup, event);
+        }
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            lastRolloverNanos = elapsed;
+            totalRolloverNanos += elapsed;
+            rolloverCount++;
+        }
+    }
+
+    private void runParallel(List<Stage> group, NewDayEvent event) {
+        if (group.isEmpty()) return;
+        if (group.size() == 1) {
+            runStage(group.get(0), event);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(group.size());
+        for (Stage stage : group) {
+            tasks.add(ForkJoinPool.commonPool().submit(() -> runStage(stage, event)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join(); // runStage menangkap exception sendiri
+        }
+    }
+
+    private void runStage(Stage stage, NewDayEvent event) {
+        long start = System.nanoTime();
+        try {
+            stage.listener.onNewDay(event);
+        } catch (RuntimeException e) {
+            LOG.error("Stage '" + stage.name + "' failed on day " + event.getDayNumber() + ": " + e.getMessage(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            synchronized (this) {
+                stage.lastNanos = elapsed;
+                stage.totalNanos += elapsed;
+            }
+        }
+    }
+
+    /** Stage name to nanoseconds spent in the most recent rollover, in execution order. */
+    public synchronized Map<String, Long> getLastStageTimings() {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (Stage stage : sortedStages) {
+            timings.put(stage.name, stage.lastNanos);
+        }
+        return timings;
+    }
+
+    /** Stage name to nanoseconds spent over all rollovers so far, in execution order. */
+    public synchronized Map<String, Long> getTotalStageTimings() {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (Stage stage : sortedStages) {
+            timings.put(stage.name, stage.totalNanos);
+        }
+        return timings;
+    }
+
+    /** Wall time of the most recent rollover, parallel stages counted once. */
+    public synchronized long getLastRolloverNanos() {
+        return lastRolloverNanos;
+    }
+
+    public synchronized long getTotalRolloverNanos() {
+        return totalRolloverNanos;
+    }
+
+    public synchronized int getRolloverCount() {
+        return rolloverCount;
+    }
+}
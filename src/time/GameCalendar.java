@@ -31,7 +31,16 @@ public class GameCalendar {
         this.totalDay = data.savedTotalDay; //diawali day 1
         this.currentSeason = data.savedSeason;
         this.currentWeather = data.savedWeather;
-        this.rainyDaysInSeason = 0;
+        this.rainyDaysInSeason = data.savedRainyDaysInSeason;
+    }
+
+    /** Puts the calendar back to a saved date, e.g. when a save game is loaded. */
+    public void restore(StatisticsManager data){
+        this.dayInSeason = data.savedDayInSeason;
+        this.totalDay = data.savedTotalDay;
+        this.currentSeason = data.savedSeason;
+        this.currentWeather = data.savedWeather;
+        this.rainyDaysInSeason = data.savedRainyDaysInSeason;
     }
 
     private void changeSeason(){
@@ -96,6 +105,9 @@ public class GameCalendar {
     public Weather getCurrentWeather(){
         return currentWeather;
     }
+    public int getRainyDaysInSeason(){
+        return rainyDaysInSeason;
+    }
 
     public void displayCalendar(){ // ADD THIS METHOD
     System.out.println("Current Day in Season: " + dayInSeason);
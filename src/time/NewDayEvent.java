@@ -0,0 +1,56 @@
+package time;
+
+import core.world.Season;
+import core.world.Weather;
+
+/**
+ * Snapshot of a day rollover, handed to every {@link NewDayListener}.
+ * Immutable, so parallel stages can read it without locking.
+ */
+public final class NewDayEvent {
+    public enum Cause {
+        MIDNIGHT, // Jam 24:00 lewat saat waktu berjalan
+        SLEEP     // Pemain tidur (manual, jam 02:00, atau pingsan)
+    }
+
+    private final int dayNumber;
+    private final int previousDayNumber;
+    private final Season season;
+    private final Weather weatherOfEndedDay;
+    private final Cause cause;
+
+    public NewDayEvent(int dayNumber, int previousDayNumber, Season season, Weather weatherOfEndedDay, Cause cause) {
+        this.dayNumber = dayNumber;
+        this.previousDayNumber = previousDayNumber;
+        this.season = season;
+        this.weatherOfEndedDay = weatherOfEndedDay;
+        this.cause = cause;
+    }
+
+    /** The day that just started. */
+    public int getDayNumber() {
+        return dayNumber;
+    }
+
+    /** The day that just ended. */
+    public int getPreviousDayNumber() {
+        return previousDayNumber;
+    }
+
+    /** Season of the day that just started. */
+    public Season getSeason() {
+        return season;
+    }
+
+    public Weather getWeatherOfEndedDay() {
+        return weatherOfEndedDay;
+    }
+
+    public boolean wasYesterdayRainy() {
+        return weatherOfEndedDay == Weather.RAINY;
+    }
+
+    public Cause getCause() {
+        return cause;
+    }
+}
@@ -0,0 +1,9 @@
+package time;
+
+/**
+ * A stage of the day rollover, registered on a {@link DayRolloverBus}.
+ */
+@FunctionalInterface
+public interface NewDayListener {
+    void onNewDay(NewDayEvent event);
+}
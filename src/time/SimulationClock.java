@@ -0,0 +1,262 @@
+package time;
+
+import system.GameLogger;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer, fixed-timestep simulation clock.
+ *
+ * Real time is accumulated and converted into whole game ticks of
+ * {@link #MINUTES_PER_TICK} game minutes each, so the number of ticks run is
+ * independent of how often the driver wakes up. Every tick and every task handed
+ * to {@link #execute(Runnable)}, {@link #call(Supplier)} or {@link #post(Runnable)} runs
+ * on the same "SimulationThread", which makes it the only writer of world state. GUI code
+ * therefore never changes the maps, the player (position, energy, inventory, relationships),
+ * the store or the shipping bin directly from the EDT; it hands the change to one of these methods.
+ */
+public class SimulationClock {
+    private static final GameLogger LOG = GameLogger.get(SimulationClock.class);
+
+    public static final int MINUTES_PER_TICK = 5;
+    public static final double DEFAULT_GAME_MINUTES_PER_SECOND = 5.0; // 1 tick (5 menit game) = 1 detik nyata
+    public static final String SPEED_PROPERTY = "spakbor.clock.minutesPerSecond";
+
+    private static final long PUMP_INTERVAL_MILLIS = 10;
+    private static final int MAX_TICKS_PER_PUMP = 2048; // Hindari "spiral of death" kalau thread sempat tertahan
+
+    private final Runnable tickAction;
+    private volatile double gameMinutesPerSecond;
+    private ScheduledExecutorService executor;
+    private volatile Thread simulationThread;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>(); // post() selagi clock berhenti
+
+    private long lastPumpNanos;
+    private double accumulatorMinutes;
+    private long totalTicks;
+    private volatile long lastTickNanos;
+
+    /** A clock running at {@link #configuredGameMinutesPerSecond()}. */
+    public SimulationClock(Runnable tickAction) {
+        this(tickAction, configuredGameMinutesPerSecond());
+    }
+
+    public SimulationClock(Runnable tickAction, double gameMinutesPerSecond) {
+        if (tickAction == null) {
+            throw new IllegalArgumentException("Tick action tidak boleh null");
+        }
+        this.tickAction = tickAction;
+        setGameMinutesPerSecond(gameMinutesPerSecond);
+    }
+
+    /**
+     * Game minutes per real second from {@value #SPEED_PROPERTY} (e.g. 500 for 100x soak runs),
+     * or {@link #DEFAULT_GAME_MINUTES_PER_SECOND} if unset or invalid.
+     */
+    public static double configuredGameMinutesPerSecond() {
+        String value = System.getProperty(SPEED_PROPERTY);
+        if (value == null) return DEFAULT_GAME_MINUTES_PER_SECOND;
+        try {
+            double speed = Double.parseDouble(value.trim());
+            if (speed > 0 && !Double.isInfinite(speed)) return speed;
+        } catch (NumberFormatException e) {
+            // Jatuh ke default di bawah
+        }
+        LOG.warn("Invalid " + SPEED_PROPERTY + "=" + value + ", using " + DEFAULT_GAME_MINUTES_PER_SECOND);
+        return DEFAULT_GAME_MINUTES_PER_SECOND;
+    }
+
+    /**
+     * Starts driving ticks from real time. Does nothing if the clock is already running.
+     */
+    public synchronized void start() {
+        if (isRunning()) return;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SimulationThread");
+            thread.setDaemon(true);
+            simulationThread = thread;
+            return thread;
+        });
+        executor.execute(() -> {
+            lastPumpNanos = System.nanoTime();
+            accumulatorMinutes = 0;
+            runPending();
+        });
+        executor.scheduleAtFixedRate(this::pump, PUMP_INTERVAL_MILLIS, PUMP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the clock. Pending ticks in the accumulator are discarded; queued tasks are kept
+     * and run when the clock runs again.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            for (Runnable unrun : executor.shutdownNow()) {
+                if (unrun instanceof RunnableScheduledFuture && ((RunnableScheduledFuture<?>) unrun).isPeriodic()) continue; // pump
+                pending.add(unrun);
+            }
+            executor = null;
+        }
+        simulationThread = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return executor != null && !executor.isShutdown();
+    }
+
+    public boolean isSimulationThread() {
+        return Thread.currentThread() == simulationThread;
+    }
+
+    public double getGameMinutesPerSecond() {
+        return gameMinutesPerSecond;
+    }
+
+    /**
+     * Sets how many game minutes pass per real second (5 = normal speed, 500 = 100x).
+     */
+    public void setGameMinutesPerSecond(double gameMinutesPerSecond) {
+        if (!(gameMinutesPerSecond > 0)) {
+            throw new IllegalArgumentException("Rasio menit game per detik harus positif: " + gameMinutesPerSecond);
+        }
+        this.gameMinutesPerSecond = gameMinutesPerSecond;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /** Wall time spent inside the most recent tick, in nanoseconds. */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Runs {@code task} on the simulation thread and waits for it to finish.
+     * Runs inline when called from the simulation thread itself or when the clock is stopped,
+     * so there is still exactly one writer at any moment.
+     * @throws IllegalStateException if the caller is interrupted while waiting; its interrupt flag stays set.
+     */
+    public void execute(Runnable task) {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = executor;
+        }
+        if (current == null || current.isShutdown() || isSimulationThread()) {
+            runPending(); // Yang di-post selagi berhenti tetap jalan lebih dulu
+            task.run();
+            return;
+        }
+        try {
+            current.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Terputus saat menunggu SimulationThread", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            task.run(); // Clock dihentikan di tengah jalan
+        }
+    }
+
+    /**
+     * Like {@link #execute(Runnable)}, returning the value {@code task} produced.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T call(Supplier<T> task) {
+        Object[] result = new Object[1];
+        execute(() -> result[0] = task.get());
+        return (T) result[0];
+    }
+
+    /**
+     * Queues {@code task} on the simulation thread without waiting. While the clock is stopped the
+     * task waits until the clock starts again or the next {@link #execute(Runnable)}/{@link #step(int)},
+     * so it never runs on the posting thread.
+     */
+    public void post(Runnable task) {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = executor;
+            if (current == null || current.isShutdown()) {
+                pending.add(task);
+                return;
+            }
+        }
+        try {
+            current.execute(task);
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            pending.add(task); // Clock dihentikan di tengah jalan; start() berikutnya menjalankannya
+        }
+    }
+
+    /** Number of posted tasks waiting for the clock to run again. */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs exactly {@code ticks} ticks on the calling thread (or the simulation thread when running).
+     * Used by tests and headless runs that want deterministic, as-fast-as-possible progression.
+     */
+    public void step(int ticks) {
+        execute(() -> {
+            for (int i = 0; i < ticks; i++) {
+                runTick();
+            }
+        });
+    }
+
+    /**
+     * Feeds {@code elapsedNanos} of real time into the accumulator and runs the whole ticks it covers.
+     * @return the number of ticks that were run.
+     */
+    int advance(long elapsedNanos) {
+        accumulatorMinutes += (elapsedNanos / 1_000_000_000.0) * gameMinutesPerSecond;
+        int ticks = 0;
+        while (accumulatorMinutes >= MINUTES_PER_TICK && ticks < MAX_TICKS_PER_PUMP) {
+            accumulatorMinutes -= MINUTES_PER_TICK;
+            runTick();
+            ticks++;
+        }
+        if (ticks == MAX_TICKS_PER_PUMP) {
+            accumulatorMinutes = 0; // Tertinggal terlalu jauh, buang sisa daripada terus mengejar
+        }
+        return ticks;
+    }
+
+    private void pump() {
+        long now = System.nanoTime();
+        long elapsed = now - lastPumpNanos;
+        lastPumpNanos = now;
+        try {
+            advance(elapsed);
+        } catch (RuntimeException e) {
+            // Jangan biarkan satu tick yang gagal mematikan scheduler
+            LOG.error("Tick failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void runTick() {
+        long start = System.nanoTime();
+        tickAction.run();
+        totalTicks++;
+        lastTickNanos = System.nanoTime() - start;
+    }
+}
@@ -1,34 +1,36 @@
 package time;
     
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
+import system.GameLogger;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import system.StatisticsManager;
 import core.player.Player;
-import core.world.ShippingBin;
 import core.world.Weather;
 import system.GameManager;
 
 public class Time {
-    private int hour;
-    private int minute;
-    private boolean isNight;
-    private final ScheduledExecutorService scheduler;
+    private static final GameLogger LOG = GameLogger.get(Time.class);
+
+    // Hanya ditulis oleh SimulationThread (lihat SimulationClock); volatile agar EDT membaca nilai terbaru
+    private volatile int hour;
+    private volatile int minute;
+    private volatile boolean isNight;
+    private final SimulationClock clock;
+    private volatile boolean dayEventsEnabled = false; // true setelah runTime2(): tick juga memproses pergantian hari
+    private boolean paused = false;
 
     private final GameCalendar calendar;
     private Player player;
     private GameManager gameManager;
     private boolean alreadyForcedSleepToday = false;
+    private final DayRolloverBus dayRolloverBus = createDayRolloverBus();
 
     public Time(GameCalendar calendar){
         this.hour = 6;
         this.minute = 0;
         this.isNight = false;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.clock = new SimulationClock(this::onTick);
         this.calendar = calendar;
     }
 
@@ -36,7 +38,7 @@ public class Time {
         this.hour = data.savedHour;
         this.minute = data.savedMinute;
         this.isNight = (hour >= 18 || hour < 6);
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.clock = new SimulationClock(this::onTick);
         this.calendar = calendar;
     }
 
@@ -44,7 +46,7 @@ public class Time {
         this.hour = 6;
         this.minute = 0;
         this.isNight = false;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.clock = new SimulationClock(this::onTick);
         this.calendar = calendar;
         this.player = player; // Inisialisasi Player
     }
@@ -53,7 +55,7 @@ public class Time {
         this.hour = 6;
         this.minute = 0;
         this.isNight = false;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.clock = new SimulationClock(this::onTick);
         this.calendar = calendar;
         this.player = player; // Inisialisasi Player
         this.gameManager = gameManager;
@@ -63,12 +65,19 @@ public class Time {
         this.hour = data.savedHour;
         this.minute = data.savedMinute;
         this.isNight = (hour >= 18 || hour < 6);
-        this.scheduler = Executors.newScheduledThreadPool(1);
+        this.clock = new SimulationClock(this::onTick);
         this.calendar = calendar;
         this.player = player; // Inisialisasi Player
         this.gameManager = gameManager;
     }
 
+    /** Sets the clock to a saved time of day. Call while the clock is not running. */
+    public void restore(StatisticsManager data) {
+        this.hour = data.savedHour;
+        this.minute = data.savedMinute;
+        this.isNight = (hour >= 18 || hour < 6);
+    }
+
     private void tickOneInterval() {
         minute += 5;
         if (minute >= 60) {
@@ -76,43 +85,66 @@ public class Time {
             hour++;
             if (hour == 18) {
                 isNight = true;
-                System.out.println("===NIGHT MODE===");
+                LOG.debug("===NIGHT MODE===");
             } else if (hour == 6) {
                 isNight = false;
-                System.out.println("===LIGHT MODE===");
+                LOG.debug("===LIGHT MODE===");
             }
             if (hour == 24) {
                 hour = 0;
                 calendar.nextDay();
             }
         }
-        System.out.printf("%02d : %02d\n", hour, minute);
+        LOG.debug("%02d : %02d", hour, minute);
+    }
+
+    private void onTick() {
+        if (dayEventsEnabled) {
+            tickWithDayEvents();
+        } else {
+            tickOneInterval();
+        }
     }
 
     public void runTime() {
-        scheduler.scheduleAtFixedRate(this::tickOneInterval, 0, 1, TimeUnit.SECONDS);
+        dayEventsEnabled = false;
+        paused = false;
+        clock.start();
     }
 
     public void pause() {
-        scheduler.shutdownNow();
+        paused = true;
+        clock.stop();
     }
 
     public void resume() {
-        if (scheduler.isShutdown()) {
-            runTime();
+        if (paused) {
+            paused = false;
+            clock.start();
         }
     }
 
+    /**
+     * The clock that drives this Time. All changes to hour/minute/day go through its thread.
+     */
+    public SimulationClock getClock() {
+        return clock;
+    }
+
     public void advanceGameMinutes(int minutes) {
-        int steps = minutes / 5;
-        for (int i = 0; i < steps; i++) tickOneInterval();
+        int steps = minutes / SimulationClock.MINUTES_PER_TICK;
+        clock.execute(() -> {
+            for (int i = 0; i < steps; i++) tickOneInterval();
+        });
     }
 
     public void sleep(){
-        this.hour = 6;
-        this.minute = 0;
-        this.isNight = false;
-        calendar.nextDay();
+        clock.execute(() -> {
+            this.hour = 6;
+            this.minute = 0;
+            this.isNight = false;
+            calendar.nextDay();
+        });
         if (this.gameManager != null) { // Update UI immediately after sleep
             this.gameManager.onGameTimeTick();
         }
@@ -140,62 +172,59 @@ public class Time {
         if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
             throw new IllegalArgumentException("Jam atau menit tidak valid");
         }
-        this.hour = hour;
-        this.minute = minute;
-        this.isNight = (hour >= 18 || hour < 6);
-        System.out.printf("Waktu di-skip ke %02d:%02d\n", hour, minute);
+        clock.execute(() -> {
+            this.hour = hour;
+            this.minute = minute;
+            this.isNight = (hour >= 18 || hour < 6);
+        });
+        LOG.info("Waktu di-skip ke %02d:%02d", hour, minute);
     }
 
     public void runTime2(){
-        Runnable updateTime = () -> {
-            minute += 5;
-
-            if (minute >= 60){
-                minute = 0;
-                hour++;
-                if(hour == 18){
-                    isNight = true;
-                    System.out.println("===NIGHT MODE===");
-                } else if (hour == 6){
-                    isNight = false;
-                    System.out.println("===LIGHT MODE===");
-                }
-                
-                if(hour == 24){ // Hari baru dimulai
-                    hour = 0;
-
-                    Weather weatherOfJustEndedDay = calendar.getCurrentWeather();
-                    calendar.nextDay();
-                    int dayThatJustEnded = calendar.getTotalDay();
-
-                    if (this.gameManager != null) {
-                        this.gameManager.processNewDayUpdates(
-                            calendar.getTotalDay(), // Current (new) day number
-                            calendar.getCurrentSeason(), // Current (new) season
-                            weatherOfJustEndedDay == core.world.Weather.RAINY, // Was the day that just ended rainy?
-                            dayThatJustEnded // Pass the day number that was rainy for accurate crop watering
-                        );
-                    }
+        dayEventsEnabled = true;
+        paused = false;
+        clock.start();
+    }
 
-                    // Proses penjualan Shipping Bin di akhir hari
-                    if (player != null && player.getShippingBin() != null) {
-                        player.getShippingBin().processSales(player, calendar.getCurrentSeason()); // MODIFIED: Pass current season
-                    }
+    /**
+     * Runs {@code ticks} full ticks (including new-day processing and the 02:00 pass-out)
+     * as fast as possible, without starting the real-time clock. Used by headless runs.
+     */
+    public void stepWithDayEvents(int ticks) {
+        dayEventsEnabled = true;
+        clock.step(ticks);
+    }
 
-                    if (this.gameManager != null) {
-                        this.gameManager.checkMilestonesAndShowStatistics();
-                    }
-                }
+    private void tickWithDayEvents() {
+        minute += 5;
+
+        if (minute >= 60){
+            minute = 0;
+            hour++;
+            if(hour == 18){
+                isNight = true;
+                LOG.debug("===NIGHT MODE===");
+            } else if (hour == 6){
+                isNight = false;
+                LOG.debug("===LIGHT MODE===");
+            }
+            
+            if(hour == 24){ // Hari baru dimulai
+                hour = 0;
+
+                rolloverDay(NewDayEvent.Cause.MIDNIGHT);
             }
-            if (this.hour == 2 && this.minute == 0 && !alreadyForcedSleepToday) {
-                // Check if player is active (not already in a sleep transition from -20 energy)
-                // This simple check assumes if time hits 02:00, and player hasn't manually slept
-                // or been forced to sleep by MIN_ENERGY yet for *this night cycle*, they pass out.
-                if (player != null /* && !player.isSleeping() // if you had such a flag */ ) {
-                    System.out.println("Console: Time is 02:00 AM. Forcing player to sleep.");
-                    if (gameManager != null) {
-                        // Show message before sleep call, as sleep call changes state immediately
-                         SwingUtilities.invokeLater(() -> {
+        }
+        if (this.hour == 2 && this.minute == 0 && !alreadyForcedSleepToday) {
+            // Check if player is active (not already in a sleep transition from -20 energy)
+            // This simple check assumes if time hits 02:00, and player hasn't manually slept
+            // or been forced to sleep by MIN_ENERGY yet for *this night cycle*, they pass out.
+            if (player != null /* && !player.isSleeping() // if you had such a flag */ ) {
+                LOG.debug("Console: Time is 02:00 AM. Forcing player to sleep.");
+                if (gameManager != null) {
+                    // Show message before sleep call, as sleep call changes state immediately
+                    if (gameManager.getGameViewInstance() != null) { // Mode headless tidak punya GUI, jangan sentuh Swing
+                        SwingUtilities.invokeLater(() -> {
                             if (gameManager.getGameViewInstance() != null && gameManager.getGameViewInstance().isVisible()) { // You'd need getGameViewInstance() in GameManager
                                 JOptionPane.showMessageDialog(gameManager.getGameViewInstance(),
                                     "It's 02:00 AM! You collapse from exhaustion and pass out...",
@@ -203,23 +232,26 @@ public class Time {
                                     JOptionPane.WARNING_MESSAGE);
                             }
                         });
-                        gameManager.forcePlayerSleep(); // This calls sleep2()
-                        alreadyForcedSleepToday = true; // Prevent re-triggering until flag is reset at 06:00 or new day
                     }
+                    // Set sebelum tidur: di mode headless sleep2() berjalan langsung dan mereset flag ini
+                    alreadyForcedSleepToday = true; // Prevent re-triggering until the next sleep resets it
+                    gameManager.forcePlayerSleep(); // This calls sleep2()
                 }
             }
+        }
 
-            System.out.printf("Console Time: %02d : %02d\n", hour, minute);
-            if (this.gameManager != null) {
-                this.gameManager.onGameTimeTick();
-            }
-
-        };
-        scheduler.scheduleAtFixedRate(updateTime, 0, 1, TimeUnit.SECONDS);
-    };
+        LOG.debug("Console Time: %02d : %02d", hour, minute);
+        if (this.gameManager != null) {
+            this.gameManager.onGameTimeTick();
+        }
+    }
 
     public void sleep2() {
-        System.out.println("Player is going to sleep. Current energy: " + (player != null ? player.getEnergy() : "N/A"));
+        clock.execute(this::sleepUntilMorning);
+    }
+
+    private void sleepUntilMorning() {
+        LOG.debug("Player is going to sleep. Current energy: " + (player != null ? player.getEnergy() : "N/A"));
 
         // 1. Restore Player Energy (based on NEW rules)
         if (player != null) {
@@ -229,16 +261,16 @@ public class Time {
 
             if (currentEnergy <= 0) {
                 player.setEnergy(10); // Rule 3: If current energy <= 0, restore to 10 energy
-                System.out.println("Energy was <= 0. Restored to 10. New energy: " + player.getEnergy());
+                LOG.debug("Energy was <= 0. Restored to 10. New energy: " + player.getEnergy());
             } else if (currentEnergy < lowEnergyThreshold) {
                 player.setEnergy(maxEnergy / 2); // Rule 2: If current energy < 10% MAX_ENERGY (and > 0), restore to half
-                System.out.println("Energy was low (but > 0). Restored to half: " + player.getEnergy());
+                LOG.debug("Energy was low (but > 0). Restored to half: " + player.getEnergy());
             } else { // currentEnergy >= lowEnergyThreshold (i.e. >= 10% MAX_ENERGY)
                 player.setEnergy(maxEnergy); // Rule 1: Restore to MAX_ENERGY
-                System.out.println("Energy was sufficient. Restored to full: " + player.getEnergy());
+                LOG.debug("Energy was sufficient. Restored to full: " + player.getEnergy());
             }
         } else {
-            System.err.println("Time.sleep2(): Player object is null, cannot restore energy.");
+            LOG.warn("Time.sleep2(): Player object is null, cannot restore energy.");
         }
 
         // 2. Set time to morning (06:00)
@@ -247,38 +279,52 @@ public class Time {
         this.isNight = false;
         this.alreadyForcedSleepToday = false;
 
-        // 3. Advance to the next day & process daily updates
-        Weather weatherOfJustEndedDay = calendar.getCurrentWeather();
-        int dayThatJustEnded = calendar.getTotalDay(); 
-        calendar.nextDay();
+        // 3. Advance to the next day & process daily updates (stats, crops, NPC, UI, shipping, milestones)
+        rolloverDay(NewDayEvent.Cause.SLEEP);
 
-        if (player != null && player.getStats() != null) {
-            player.getStats().incrementDaysPlayedInSeason(calendar.getCurrentSeason());
-        }
+        LOG.debug("Console: Slept. New Day - Day " + calendar.getTotalDay() +
+                           ", Season: " + calendar.getCurrentSeason() +
+                           ", Weather: " + calendar.getCurrentWeather() +
+                           ", Player Energy: " + (player != null ? player.getEnergy() : "N/A"));
+    }
 
-        if (this.gameManager != null) {
-            this.gameManager.processNewDayUpdates(
-                calendar.getTotalDay(),
-                calendar.getCurrentSeason(),
-                weatherOfJustEndedDay == core.world.Weather.RAINY,
-                dayThatJustEnded
-            );
-            this.gameManager.onGameTimeTick(); // For immediate UI update
-        }
+    /**
+     * The pipeline run on every day change from runTime2() ticks and from sleep2().
+     * Register extra stages here instead of calling them from Time directly.
+     */
+    public DayRolloverBus getDayRolloverBus() {
+        return dayRolloverBus;
+    }
 
-        // 4. Process Shipping Bin sales
-        if (player != null && player.getShippingBin() != null) {
-            player.getShippingBin().processSales(player, calendar.getCurrentSeason()); // MODIFIED: Pass current season
-        }
+    private DayRolloverBus createDayRolloverBus() {
+        DayRolloverBus bus = new DayRolloverBus();
+        bus.register("stats", DayRolloverBus.ORDER_STATS, event -> {
+            // Hanya hitung hari yang dimainkan saat pemain tidur, seperti perilaku lama
+            if (event.getCause() == NewDayEvent.Cause.SLEEP && player != null && player.getStats() != null) {
+                player.getStats().incrementDaysPlayedInSeason(event.getSeason());
+            }
+        });
+        bus.register("shipping", DayRolloverBus.ORDER_SHIPPING, event -> {
+            // Proses penjualan Shipping Bin di akhir hari
+            if (player != null && player.getShippingBin() != null) {
+                player.getShippingBin().processSales(player, event.getSeason(), gameManager != null ? gameManager.getMarket() : null);
+            }
+        });
+        return bus;
+    }
 
-        if (this.gameManager != null) {
-            this.gameManager.checkMilestonesAndShowStatistics();
-        }
+    private void rolloverDay(NewDayEvent.Cause cause) {
+        Weather weatherOfJustEndedDay = calendar.getCurrentWeather();
+        int dayThatJustEnded = calendar.getTotalDay();
+        calendar.nextDay();
 
-        System.out.println("Console: Slept. New Day - Day " + calendar.getTotalDay() +
-                           ", Season: " + calendar.getCurrentSeason() +
-                           ", Weather: " + calendar.getCurrentWeather() +
-                           ", Player Energy: " + (player != null ? player.getEnergy() : "N/A"));
+        NewDayEvent event = new NewDayEvent(calendar.getTotalDay(), dayThatJustEnded,
+                calendar.getCurrentSeason(), weatherOfJustEndedDay, cause);
+        dayRolloverBus.publish(event);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Day rollover (%s) to day %d took %.2f ms %s", cause, event.getDayNumber(),
+                    dayRolloverBus.getLastRolloverNanos() / 1_000_000.0, dayRolloverBus.getLastStageTimings());
+        }
     }
 
     public void displayTime(){ // ADD THIS METHOD
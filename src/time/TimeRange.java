@@ -42,7 +42,11 @@ public class TimeRange {
     }
 
     public boolean contains(Time time) {
-        int hour = time.getHour();
+        return containsHour(time.getHour());
+    }
+
+    /** Whether the range covers {@code hour} (0-23); {@code to} is exclusive. */
+    public boolean containsHour(int hour) {
         if (from <= to) {
             return hour >= from && hour < to;
         } else {
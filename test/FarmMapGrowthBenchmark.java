@@ -0,0 +1,92 @@
+package test;
+
+import core.player.Player;
+import core.world.FarmMap;
+import core.world.Season;
+import core.world.Tile;
+import item.Crop;
+import item.Seed;
+import item.SeedRegistry;
+
+// javac -cp src -d out test/FarmMapGrowthBenchmark.java
+// java -cp out test.FarmMapGrowthBenchmark
+
+/**
+ * Compares the old full-grid scan in daily crop growth against the planted-tile index
+ * that FarmMap.updateDailyCropGrowth now uses, at several map sizes with the same number of crops.
+ * The scan reads types and crops straight from the packed arrays, so it allocates nothing per
+ * tile and measures only the cost of visiting every cell.
+ * Also reports the packed tile storage FarmMap holds after planting.
+ */
+public class FarmMapGrowthBenchmark {
+    private static final int[] SIZES = {32, 256, 1024};
+    private static final int CROPS = 200;
+
+    public static void main(String[] args) {
+        Seed seed = SeedRegistry.getSeedByName("Parsnip Seeds");
+        System.out.println("=== FarmMap Daily Growth Benchmark (" + CROPS + " crops) ===");
+        System.out.printf("%6s %10s %10s %14s %14s %9s%n", "size", "tiles", "storage KB", "scan us/day", "index us/day", "speedup");
+
+        for (int size : SIZES) {
+            FarmMap farm = new FarmMap(new Player("Bench", "Male"), size);
+            int planted = plant(farm, seed, CROPS);
+            if (farm.getPlantedTileCount() != planted) {
+                throw new IllegalStateException("Index tidak sinkron: " + farm.getPlantedTileCount() + " vs " + planted);
+            }
+            long storageKb = farm.getTileStorageBytes() / 1024;
+            int days = size >= 1024 ? 30 : 300;
+
+            // Pemanasan JIT untuk kedua jalur
+            runScan(farm, days, 1);
+            runIndexed(farm, days, 1);
+
+            long scanNanos = runScan(farm, days, 1 + days);
+            long indexNanos = runIndexed(farm, days, 1 + 2 * days);
+
+            double scanMicros = scanNanos / 1000.0 / days;
+            double indexMicros = indexNanos / 1000.0 / days;
+            System.out.printf("%6d %10d %10d %14.2f %14.2f %8.1fx%n", size, size * size, storageKb, scanMicros, indexMicros, scanMicros / indexMicros);
+        }
+    }
+
+    private static int plant(FarmMap farm, Seed seed, int count) {
+        int planted = 0;
+        int tiles = farm.getWidth() * farm.getHeight();
+        int step = Math.max(1, tiles / (count * 2));
+        for (int i = 0; i < tiles && planted < count; i += step) {
+            int x = i % farm.getWidth(), y = i / farm.getWidth();
+            if (farm.peekTileAt(x, y).getType() != Tile.TileType.UNTILLED || !farm.isWalkable(x, y)) continue;
+            Tile tile = farm.getTileAt(x, y);
+            tile.setType(Tile.TileType.TILLED);
+            tile.plantCrop(new Crop(seed));
+            planted++;
+        }
+        return planted;
+    }
+
+    // Jalur lama: cek setiap tile di grid. Dibaca langsung dari array seperti Tile[][] dulu;
+    // getTileAt membuat view per tile dan akan ikut mengukur alokasi, bukan scan-nya
+    private static long runScan(FarmMap farm, int days, int firstDay) {
+        long start = System.nanoTime();
+        for (int d = 0; d < days; d++) {
+            for (int x = 0; x < farm.getWidth(); x++) {
+                for (int y = 0; y < farm.getHeight(); y++) {
+                    if (farm.getTileTypeAt(x, y) != Tile.TileType.PLANTED) continue;
+                    Crop crop = farm.getCropAt(x, y);
+                    if (crop != null) {
+                        crop.newDay(firstDay + d, Season.SPRING, false);
+                    }
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runIndexed(FarmMap farm, int days, int firstDay) {
+        long start = System.nanoTime();
+        for (int d = 0; d < days; d++) {
+            farm.updateDailyCropGrowth(firstDay + d, Season.SPRING, false);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,102 @@
+package test;
+
+import core.world.Season;
+import core.world.Weather;
+import fishing.FishRegistry;
+import fishing.FishingLocation;
+import fishing.FreeFishingLocation;
+import item.Fish;
+import time.GameCalendar;
+import time.Time;
+import time.TimeRange;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FishAvailabilityTester {
+    public static void main(String[] args) {
+        System.out.println("--- Testing Fish Availability Table ---");
+        Map<String, FishingLocation> locations = new LinkedHashMap<>();
+        for (String name : List.of("Pond", "Mountain Lake", "Forest River", "Ocean")) {
+            locations.put(name, new FreeFishingLocation(name, new ArrayList<>(), null));
+        }
+        FishRegistry.buildAll(locations);
+        Time time = new Time(new GameCalendar());
+
+        // 1. Tabel sama dengan memeriksa musim, cuaca, lokasi dan jam tiap ikan
+        System.out.println("\n1. Comparing every cell with a per-fish check.");
+        int cells = 0;
+        int mismatches = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            time.skipTo(hour, 0);
+            for (FishingLocation location : locations.values()) {
+                for (Season season : Season.values()) {
+                    for (Weather weather : Weather.values()) {
+                        List<Fish> expected = new ArrayList<>();
+                        for (Fish fish : FishRegistry.getAllFish()) {
+                            if (bites(fish, season, weather, hour, location)) expected.add(fish);
+                        }
+                        List<Fish> actual = location.getPossibleFish(season, time, weather, location);
+                        cells++;
+                        if (actual.size() != expected.size() || !actual.containsAll(expected)) {
+                            mismatches++;
+                            System.out.println("  Mismatch at " + season + "/" + weather + "/" + hour + ": " + actual + " vs " + expected);
+                        }
+                    }
+                }
+            }
+        }
+        System.out.println("Cells checked: " + cells + " (should be 768), mismatches: " + mismatches);
+
+        // 2. Contoh sel
+        System.out.println("\n2. Sample cells.");
+        time.skipTo(21, 0);
+        System.out.println("Ocean, SUMMER, SUNNY, 21:00: " + names(locations.get("Ocean").getPossibleFish(Season.SUMMER, time, Weather.SUNNY, locations.get("Ocean"))));
+        time.skipTo(9, 0);
+        System.out.println("Mountain Lake, SPRING, RAINY, 09:00: " + names(locations.get("Mountain Lake").getPossibleFish(Season.SPRING, time, Weather.RAINY, locations.get("Mountain Lake"))));
+
+        // 3. buildAll berulang tidak menggandakan ikan
+        System.out.println("\n3. Building the registry twice.");
+        FishRegistry.buildAll(locations);
+        System.out.println("Mountain Lake, SPRING, RAINY, 09:00 after rebuild: "
+                + locations.get("Mountain Lake").getPossibleFish(Season.SPRING, time, Weather.RAINY, locations.get("Mountain Lake")).size() + " fish (same as above)");
+
+        // 4. Lemparan kail tidak mengalokasi
+        System.out.println("\n4. Allocation per lookup.");
+        FishingLocation pond = locations.get("Pond");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int found = 0;
+        for (int i = 0; i < 20_000; i++) { // Pemanasan JIT
+            found += pond.getPossibleFish(Season.FALL, time, Weather.SUNNY, pond).size();
+        }
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        long start = System.nanoTime();
+        for (int i = 0; i < 1_000_000; i++) {
+            found += pond.getPossibleFish(Season.FALL, time, Weather.SUNNY, pond).size();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        System.out.println("1,000,000 lookups: " + (nanos / 1_000_000) + " ms, bytes allocated: " + allocated + " (should be near 0), fish seen: " + found);
+
+        System.out.println("\n--- Fish Availability Testing Complete ---");
+    }
+
+    private static boolean bites(Fish fish, Season season, Weather weather, int hour, FishingLocation location) {
+        if (!fish.getSeasons().contains(season) || !fish.getWeathers().contains(weather) || !fish.getLocations().contains(location)) {
+            return false;
+        }
+        for (TimeRange range : fish.getTimeRanges()) {
+            if (range.containsHour(hour)) return true;
+        }
+        return false;
+    }
+
+    private static List<String> names(List<Fish> fish) {
+        List<String> names = new ArrayList<>();
+        for (Fish f : fish) names.add(f.getName());
+        return names;
+    }
+}
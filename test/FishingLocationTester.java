@@ -0,0 +1,74 @@
+package test;
+
+import core.player.Player;
+import core.world.DeployedObject;
+import core.world.FarmMap;
+import core.world.Tile;
+import fishing.SpecificFishingLocation;
+
+import java.util.ArrayList;
+
+public class FishingLocationTester {
+    private static final int[][] ADJACENT = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+
+    public static void main(String[] args) {
+        System.out.println("--- Testing SpecificFishingLocation ---");
+        Player player = new Player("Asep", "Male");
+        FarmMap farm = new FarmMap(player);
+        player.setLocation("Farm Map");
+        SpecificFishingLocation pond = new SpecificFishingLocation("Pond", new ArrayList<>(), farm);
+
+        // 1. Semua petak bisa dijalani di samping kolam, termasuk tanah default yang belum disentuh
+        System.out.println("\n1. Standing on every walkable tile next to the pond.");
+        int besidePond = 0;
+        int canFish = 0;
+        for (int y = 0; y < farm.getHeight(); y++) {
+            for (int x = 0; x < farm.getWidth(); x++) {
+                if (!farm.isWalkable(x, y) || !nextToPond(farm, x, y)) continue;
+                besidePond++;
+                player.setPosition(x, y);
+                if (pond.canFishAt(player)) canFish++;
+            }
+        }
+        System.out.println("Tiles beside the pond: " + besidePond + ", can fish from: " + canFish + " (should be equal and > 0)");
+
+        // 2. Petak jauh dari kolam dan lokasi lain ditolak
+        System.out.println("\n2. Tiles away from the pond.");
+        int wrong = 0;
+        for (int y = 0; y < farm.getHeight(); y++) {
+            for (int x = 0; x < farm.getWidth(); x++) {
+                if (nextToPond(farm, x, y)) continue;
+                player.setPosition(x, y);
+                if (pond.canFishAt(player)) wrong++;
+            }
+        }
+        System.out.println("Tiles away from the pond that allow fishing: " + wrong + " (should be 0)");
+        player.setLocation("Ocean");
+        System.out.println("Pond from the Ocean: " + pond.canFishAt(player) + " (should be false)");
+        player.setLocation("Farm Map");
+
+        // 3. Petak yang dicangkul tetap bisa dipakai memancing
+        System.out.println("\n3. Tilling a tile beside the pond.");
+        for (int y = 0; y < farm.getHeight(); y++) {
+            for (int x = 0; x < farm.getWidth(); x++) {
+                if (farm.isWalkable(x, y) && nextToPond(farm, x, y)) {
+                    farm.getTileAt(x, y).setType(Tile.TileType.TILLED);
+                    player.setPosition(x, y);
+                    System.out.println("Tilled (" + x + "," + y + "), can fish: " + pond.canFishAt(player) + " (should be true)");
+                    System.out.println("\n--- SpecificFishingLocation Testing Complete ---");
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean nextToPond(FarmMap farm, int x, int y) {
+        for (DeployedObject obj : farm.getDeployedObjects()) {
+            if (obj.getSymbol() != Tile.POND_SYMBOL) continue;
+            for (int[] d : ADJACENT) {
+                if (obj.occupies(x + d[0], y + d[1]) && !obj.occupies(x, y)) return true;
+            }
+        }
+        return false;
+    }
+}
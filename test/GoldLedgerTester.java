@@ -0,0 +1,117 @@
+package test;
+
+import core.player.Gold;
+import core.player.GoldJournal;
+import core.player.PlayerStats;
+import core.world.Season;
+import item.Item;
+import item.ItemIds;
+import item.ItemRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GoldLedgerTester {
+    public static void main(String[] args) throws Exception {
+        System.out.println("--- Testing Gold Ledger ---");
+        Item parsnip = ItemRegistry.getItemByName("Parsnip");
+
+        // 1. Setiap transaksi masuk jurnal dengan sumber, musim dan item
+        System.out.println("\n1. Journal entries.");
+        Gold gold = new Gold(100);
+        PlayerStats stats = new PlayerStats(gold.getJournal());
+        gold.credit(35, GoldJournal.Source.SALE, Season.SPRING, parsnip);
+        gold.debit(20, GoldJournal.Source.PURCHASE, Season.SPRING, parsnip);
+        gold.debit(500, GoldJournal.Source.PURCHASE, Season.SPRING, parsnip); // Gagal, tidak dicatat
+        GoldJournal journal = gold.getJournal();
+        for (int i = 0; i < journal.size(); i++) {
+            System.out.println("  #" + i + " " + journal.getSource(i) + " " + journal.getAmount(i) + "g "
+                    + journal.getSeason(i) + " item=" + ItemIds.nameOf(journal.getItemId(i))
+                    + " balance=" + journal.getBalanceAfter(i));
+        }
+        System.out.println("Balance: " + gold + " (should be 115g), earned/spent: "
+                + stats.getTotalGoldEarned() + "/" + stats.getTotalGoldSpent() + " (should be 35/20)");
+
+        // 2. Banyak thread menjual dan membeli bersamaan
+        System.out.println("\n2. 8 threads crediting and debiting at once.");
+        Gold shared = new Gold(0);
+        int threads = 8;
+        int perThread = 50_000;
+        AtomicInteger debited = new AtomicInteger();
+        AtomicInteger negative = new AtomicInteger();
+        shared.addGoldListener((oldAmount, newAmount) -> { if (newAmount < 0) negative.incrementAndGet(); });
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            boolean seller = t % 2 == 0;
+            Season season = Season.values()[t % Season.values().length];
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    if (seller) {
+                        shared.credit(3, GoldJournal.Source.SALE, season, parsnip);
+                    } else if (shared.debit(2, GoldJournal.Source.PURCHASE, season, parsnip)) {
+                        debited.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        GoldJournal sharedJournal = shared.getJournal();
+        long expected = 3L * perThread * (threads / 2) - 2L * debited.get();
+        System.out.println("Balance: " + shared.getAmount() + "g (should be " + expected + "g), negative balances seen: " + negative.get());
+        System.out.println("Journal entries: " + sharedJournal.size() + " (should be " + (perThread * (threads / 2) + debited.get()) + ")");
+        System.out.println("Income: " + sharedJournal.getTotalIncome() + "g, expenditure: " + sharedJournal.getTotalExpenditure()
+                + "g, difference matches balance: " + (sharedJournal.getTotalIncome() - sharedJournal.getTotalExpenditure() == shared.getAmount()));
+        System.out.println("Income by season: " + sharedJournal.incomeBySeason());
+        System.out.println("Expenditure by season: " + sharedJournal.expenditureBySeason());
+
+        // 3. Simpan dan muat, penuh lalu bertahap
+        System.out.println("\n3. Saving and loading the journal.");
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        int saved = journal.writeState(new DataOutputStream(full), 0);
+        gold.credit(80, GoldJournal.Source.SALE, Season.SUMMER, parsnip);
+        ByteArrayOutputStream increment = new ByteArrayOutputStream();
+        journal.writeState(new DataOutputStream(increment), saved);
+        Gold loaded = new Gold(0);
+        PlayerStats loadedStats = new PlayerStats(loaded.getJournal());
+        loaded.getJournal().readState(new DataInputStream(new ByteArrayInputStream(full.toByteArray())));
+        loaded.getJournal().readState(new DataInputStream(new ByteArrayInputStream(increment.toByteArray())));
+        System.out.println("Entries: " + loaded.getJournal().size() + " (should be " + journal.size() + "), increment bytes: "
+                + increment.size() + " vs full: " + full.size());
+        System.out.println("Seasonal income: " + loadedStats.getSeasonalIncome() + " (should be " + stats.getSeasonalIncome() + ")");
+        try {
+            new Gold(0).getJournal().readState(new DataInputStream(new ByteArrayInputStream(increment.toByteArray())));
+        } catch (IOException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+
+        // 4. Total dari save lama tanpa jurnal
+        System.out.println("\n4. Carrying over totals from before the journal.");
+        Gold old = new Gold(250);
+        Map<Season, Integer> income = new EnumMap<>(Season.class);
+        income.put(Season.SPRING, 400);
+        Map<Season, Integer> spent = new EnumMap<>(Season.class);
+        spent.put(Season.SPRING, 150);
+        old.getJournal().carryOver(income, spent, 450, 150);
+        old.getJournal().carryOver(income, spent, 450, 150); // Kedua kali tidak menambah apa-apa
+        System.out.println("Income " + old.getJournal().getTotalIncome() + "g (should be 450), spring " + old.getJournal().getIncome(Season.SPRING)
+                + "g (should be 400), expenditure " + old.getJournal().getTotalExpenditure() + "g (should be 150)");
+        System.out.println("Balance untouched: " + old + ", entries: " + old.getJournal().size() + " (should be 3)");
+
+        System.out.println("\n--- Gold Ledger Testing Complete ---");
+    }
+}
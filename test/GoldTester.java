@@ -52,6 +52,14 @@ public class GoldTester {
         }
         System.out.println("Player's Gold (should remain 0g): " + playerGold);
 
+        System.out.println("\n9. Listening for gold changes.");
+        playerGold.addGoldListener((oldAmount, newAmount) ->
+                System.out.println("  Gold changed: " + oldAmount + "g -> " + newAmount + "g"));
+        playerGold.add(40);          // Should print 0g -> 40g
+        playerGold.subtract(15);     // Should print 40g -> 25g
+        playerGold.add(0);           // No event, amount unchanged
+        playerGold.subtract(100);    // No event, subtraction fails
+
         System.out.println("\n--- Gold Class Testing Complete ---");
     }
 }
@@ -79,6 +79,32 @@ public class InventoryTester {
         System.out.println("Removed by name successfully: " + removed); // Should be false
         playerInventory.showInventory(); // Should remain x12
 
+        System.out.println("\n17. Listening for item changes.");
+        playerInventory.addInventoryListener((item, oldQuantity, newQuantity) ->
+                System.out.println("  " + item.getName() + ": " + oldQuantity + " -> " + newQuantity));
+        playerInventory.addItem(wheat, 6);                 // Should print Wheat: 0 -> 6
+        playerInventory.removeByName("Wheat", 4);          // One event, Wheat: 6 -> 2
+        playerInventory.removeItem(cookedMeat, 1);         // Cooked Meat: 1 -> 0 (row gone)
+
+        System.out.println("\n18. Large stacks and case-insensitive merging.");
+        playerInventory.addItem(wheat, 10000);                       // Wheat: 2 -> 10002
+        playerInventory.addItem(new Crop("wheat", 10, 8, 5), 3);     // Merged into Wheat: 10002 -> 10005
+        System.out.println("Count of 'Wheat': " + playerInventory.getItemCount("Wheat")); // Should be 10005
+        removed = playerInventory.removeByName("Wheat", 10005);    // One event, Wheat: 10005 -> 0
+        System.out.println("Removed 10005 'Wheat' by name: " + removed); // Should be true
+        System.out.println("Count of 'Wheat' after removal: " + playerInventory.getItemCount("Wheat")); // Should be 0
+        for (int i = 0; i < 100; i++) {
+            playerInventory.addItem(new Crop("Stone " + i, 1, 1, 1), i + 1);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            playerInventory.removeByName("Stone " + i, i + 1);
+        }
+        int stonesLeft = 0;
+        for (int i = 0; i < 100; i++) {
+            stonesLeft += playerInventory.getItemCount("Stone " + i);
+        }
+        System.out.println("Stones left after removing every other stack: " + stonesLeft); // Should be 2550
+
         System.out.println("\n--- Inventory Class Testing Complete ---");
     }
 }
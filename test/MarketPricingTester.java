@@ -0,0 +1,80 @@
+package test;
+
+import item.Item;
+import item.ItemRegistry;
+import system.MarketPricing;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+public class MarketPricingTester {
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Testing MarketPricing ---");
+        Item parsnip = ItemRegistry.getItemByName("Parsnip");
+        Item wheat = ItemRegistry.getItemByName("Wheat");
+        int base = parsnip.getSellPrice();
+
+        // 1. Satu unit di pasar kosong dibayar penuh
+        System.out.println("\n1. Selling one Parsnip into an empty market.");
+        MarketPricing market = new MarketPricing();
+        System.out.println("Paid: " + market.sell(parsnip, 1) + "g (should be " + base + ")");
+
+        // 2. Jual banyak menurunkan harga
+        System.out.println("\n2. Selling 5,000 Parsnips.");
+        int bulk = market.sell(parsnip, 5000);
+        System.out.println("Paid: " + bulk + "g, fixed price would pay " + (base * 5000) + "g");
+        System.out.println("Multiplier now: " + String.format("%.2f", market.getPriceMultiplier(parsnip))
+                + " (should be the crop floor " + market.getCurve(system.PriceCatalog.Category.CROP).getFloor() + ")");
+        System.out.println("Wheat untouched: " + String.format("%.2f", market.getPriceMultiplier(wheat)));
+
+        // 3. Memecah penjualan tidak mengubah total
+        System.out.println("\n3. One batch of 300 vs. three batches of 100.");
+        MarketPricing one = new MarketPricing();
+        MarketPricing three = new MarketPricing();
+        int batch = one.sell(parsnip, 300);
+        int split = three.sell(parsnip, 100) + three.sell(parsnip, 100) + three.sell(parsnip, 100);
+        System.out.println("Batch: " + batch + "g, split: " + split + "g (should differ by at most 2g)");
+
+        // 4. Harga pulih seiring hari berganti
+        System.out.println("\n4. Recovery over the window.");
+        for (int day = 1; day <= market.getWindowDays(); day++) {
+            market.endDay();
+            System.out.println("Day +" + day + ": multiplier " + String.format("%.3f", market.getPriceMultiplier(parsnip))
+                    + ", volume in window " + market.getVolume(parsnip));
+        }
+
+        // 5. Simpan dan muat
+        System.out.println("\n5. Saving and loading the window.");
+        MarketPricing saved = new MarketPricing();
+        saved.sell(parsnip, 400);
+        saved.endDay();
+        saved.sell(parsnip, 50);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        saved.writeState(new DataOutputStream(bytes));
+        MarketPricing loaded = new MarketPricing();
+        loaded.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        System.out.println("Volume: " + loaded.getVolume(parsnip) + " (should be 450), quote for 10: "
+                + loaded.quote(parsnip, 10) + "g (should be " + saved.quote(parsnip, 10) + "g)");
+
+        // 6. Tanpa alokasi saat menjual
+        System.out.println("\n6. Allocation while selling.");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 20_000; i++) { // Pemanasan JIT
+            market.sell(parsnip, 1);
+            market.quote(wheat, 3);
+        }
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < 100_000; i++) {
+            market.sell(parsnip, 1);
+            market.quote(wheat, 3);
+        }
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        System.out.println("Bytes allocated for 100,000 sales: " + allocated + " (should be near 0)");
+
+        System.out.println("\n--- MarketPricing Testing Complete ---");
+    }
+}
@@ -0,0 +1,197 @@
+package test;
+
+import core.player.Player;
+import core.world.DeployedObject;
+import core.world.FarmMap;
+import core.world.GameMap;
+import core.world.Pathfinder;
+import core.world.Tile;
+import java.awt.Point;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// javac -cp src -d out test/PathfindingBenchmark.java
+// java -cp out test.PathfindingBenchmark
+
+/**
+ * Pathfinding on a crowded farm: the old walkability check (scan every DeployedObject)
+ * against GameMap.isWalkable, which is now a bit test on a precomputed grid, and the old
+ * string-keyed A* from GameView against core.world.Pathfinder.
+ */
+public class PathfindingBenchmark {
+    private static final int SIZE = 128;
+    private static final int ROCKS = 1500;
+    private static final int SEARCHES = 200;
+
+    private interface Walkable {
+        boolean test(int x, int y);
+    }
+
+    public static void main(String[] args) {
+        FarmMap farm = new FarmMap(new Player("Bench", "Male"), SIZE);
+        Random rng = new Random(42);
+        int placed = 0;
+        for (int attempt = 0; attempt < ROCKS * 10 && placed < ROCKS; attempt++) {
+            int x = rng.nextInt(SIZE - 2) + 1, y = rng.nextInt(SIZE - 2) + 1;
+            if (!farm.isWalkable(x, y)) continue;
+            farm.deployObject(new DeployedObject(x, y, 1, 1, Tile.FENCE_SYMBOL) {
+                @Override public void interact(Player p, FarmMap map) { }
+            });
+            placed++;
+        }
+
+        Walkable legacy = (x, y) -> {
+            if (x < 0 || y < 0 || x >= SIZE || y >= SIZE) return false;
+            if (!farm.getTileAt(x, y).isWalkable()) return false;
+            for (DeployedObject o : farm.getDeployedObjects()) {
+                if (o.occupies(x, y)) return false;
+            }
+            return true;
+        };
+        Walkable bitset = farm::isWalkable;
+
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                if (legacy.test(x, y) != bitset.test(x, y)) {
+                    throw new IllegalStateException("Walkability berbeda di (" + x + "," + y + ")");
+                }
+            }
+        }
+        checkMap(new core.world.CityMap(new Player("Bench", "Male")));
+        checkMap(new core.world.HouseMap(new Player("Bench", "Male")));
+
+        System.out.println("=== Pathfinding Benchmark (" + SIZE + "x" + SIZE + ", " + farm.getDeployedObjects().size() + " objects, " + SEARCHES + " searches) ===");
+        search(farm, legacy, 20); // Pemanasan
+        search(farm, bitset, 20);
+        long legacyNanos = search(farm, legacy, SEARCHES);
+        long bitsetNanos = search(farm, bitset, SEARCHES);
+        System.out.printf("object scan : %8.3f ms/search%n", legacyNanos / 1e6 / SEARCHES);
+        System.out.printf("bitset      : %8.3f ms/search%n", bitsetNanos / 1e6 / SEARCHES);
+        System.out.printf("speedup     : %8.1fx%n", (double) legacyNanos / bitsetNanos);
+
+        // A*: versi lama GameView (key String, Point di PriorityQueue) vs Pathfinder
+        Pathfinder pathfinder = new Pathfinder();
+        Point start = firstWalkable(farm, 1, 1, 1);
+        Point goal = firstWalkable(farm, SIZE - 2, SIZE - 2, -1);
+        int expected = legacyAStar(farm, start, goal);
+        int actual = pathfinder.findPath(farm, start.x, start.y, goal.x, goal.y);
+        // Versi lama membaca gScore di comparator PriorityQueue, jadi kadang path-nya lebih panjang
+        if (actual == Pathfinder.NO_PATH || actual > expected) {
+            throw new IllegalStateException("Path Pathfinder lebih buruk: lama " + expected + ", baru " + actual);
+        }
+        for (int i = 0; i < 20; i++) { // Pemanasan
+            legacyAStar(farm, start, goal);
+            pathfinder.findPath(farm, start.x, start.y, goal.x, goal.y);
+        }
+        long t0 = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) legacyAStar(farm, start, goal);
+        long legacyAStarNanos = System.nanoTime() - t0;
+        t0 = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) pathfinder.findPath(farm, start.x, start.y, goal.x, goal.y);
+        long pathfinderNanos = System.nanoTime() - t0;
+        System.out.println("A* " + start.x + "," + start.y + " -> " + goal.x + "," + goal.y + ": " + actual + " steps");
+        System.out.printf("legacy A*   : %8.3f ms/search%n", legacyAStarNanos / 1e6 / SEARCHES);
+        System.out.printf("Pathfinder  : %8.3f ms/search%n", pathfinderNanos / 1e6 / SEARCHES);
+        System.out.printf("speedup     : %8.1fx%n", (double) legacyAStarNanos / pathfinderNanos);
+    }
+
+    private static Point firstWalkable(FarmMap farm, int x, int y, int step) {
+        while (!farm.isWalkable(x, y)) {
+            x += step;
+            if (x < 0 || x >= SIZE) { x = step > 0 ? 0 : SIZE - 1; y += step; }
+        }
+        return new Point(x, y);
+    }
+
+    // Salinan GameView.findPathAStar sebelum Pathfinder, hanya mengembalikan panjang path
+    private static int legacyAStar(GameMap map, Point start, Point goal) {
+        int sz = map.getSize();
+        boolean[][] closed = new boolean[sz][sz];
+        Map<String, String> cameFrom = new HashMap<>();
+        Map<String, Integer> gScore = new HashMap<>();
+        PriorityQueue<Point> open = new PriorityQueue<>(Comparator.comparingInt(p -> gScore.getOrDefault(p.x + "," + p.y, Integer.MAX_VALUE)
+                + Math.abs(p.x - goal.x) + Math.abs(p.y - goal.y)));
+        String startKey = start.x + "," + start.y;
+        gScore.put(startKey, 0);
+        open.add(new Point(start.x, start.y));
+        int[][] dirs = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+        while (!open.isEmpty()) {
+            Point curr = open.poll();
+            String currKey = curr.x + "," + curr.y;
+            if (curr.x == goal.x && curr.y == goal.y) {
+                int length = 0;
+                String pKey = currKey;
+                while (!pKey.equals(startKey)) {
+                    String[] parts = pKey.split(",");
+                    Integer.parseInt(parts[0]);
+                    Integer.parseInt(parts[1]);
+                    length++;
+                    pKey = cameFrom.get(pKey);
+                }
+                return length;
+            }
+            closed[curr.x][curr.y] = true;
+            for (int[] d : dirs) {
+                int nx = curr.x + d[0], ny = curr.y + d[1];
+                if (nx < 0 || ny < 0 || nx >= sz || ny >= sz) continue;
+                if (!map.isWalkable(nx, ny)) continue;
+                if (closed[nx][ny]) continue;
+                String npKey = nx + "," + ny;
+                int tentativeG = gScore.get(currKey) + 1;
+                if (tentativeG < gScore.getOrDefault(npKey, Integer.MAX_VALUE)) {
+                    cameFrom.put(npKey, currKey);
+                    gScore.put(npKey, tentativeG);
+                    open.add(new Point(nx, ny));
+                }
+            }
+        }
+        return Pathfinder.NO_PATH;
+    }
+
+    // Hasil bitset harus sama dengan aturan lama di map lain juga (lewat tile + objek)
+    private static void checkMap(GameMap map) {
+        int walkable = 0;
+        for (int x = 0; x < map.getWidth(); x++) {
+            for (int y = 0; y < map.getHeight(); y++) {
+                if (map.isWalkable(x, y)) walkable++;
+            }
+        }
+        System.out.println(map.getName() + ": " + walkable + " walkable tiles");
+    }
+
+    // BFS sudut ke sudut; cukup untuk mengukur biaya cek walkability per ekspansi
+    private static long search(FarmMap farm, Walkable walkable, int runs) {
+        int[] dist = new int[SIZE * SIZE];
+        int[] queue = new int[SIZE * SIZE];
+        int reached = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < runs; r++) {
+            java.util.Arrays.fill(dist, -1);
+            int head = 0, tail = 0;
+            int sx = 1, sy = 1;
+            while (!walkable.test(sx, sy)) sx++;
+            dist[sy * SIZE + sx] = 0;
+            queue[tail++] = sy * SIZE + sx;
+            while (head < tail) {
+                int cur = queue[head++];
+                int cx = cur % SIZE, cy = cur / SIZE;
+                int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+                for (int[] d : dirs) {
+                    int nx = cx + d[0], ny = cy + d[1];
+                    if (nx < 0 || ny < 0 || nx >= SIZE || ny >= SIZE) continue;
+                    int ni = ny * SIZE + nx;
+                    if (dist[ni] >= 0 || !walkable.test(nx, ny)) continue;
+                    dist[ni] = dist[cur] + 1;
+                    queue[tail++] = ni;
+                }
+            }
+            reached = tail;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (reached == 0) throw new IllegalStateException("Tidak ada tile yang terjangkau");
+        return elapsed;
+    }
+}
@@ -0,0 +1,126 @@
+package test;
+
+import item.Item;
+import item.ItemIds;
+import item.ItemRegistry;
+import npc.Emily;
+import system.MarketPricing;
+import system.PriceCatalog;
+import system.PriceList;
+import system.Store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PriceCatalogTester {
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Testing PriceCatalog ---");
+        Path dir = Files.createTempDirectory("spakbor-prices");
+        Path csv = dir.resolve("prices.csv");
+
+        // 1. Baris rusak dilewati, sisanya tetap dimuat
+        System.out.println("\n1. Loading a sheet with bad rows.");
+        Files.write(csv, List.of(
+                "ItemName,Category,BuyPrice,SellPrice",
+                "Parsnip,Crop,50,35",
+                "Potato,Crop,-,80",
+                "Broken Row,Crop,10",
+                "Mystery,Gadget,10,5",
+                "Cheap Coal,Misc,abc,20",
+                "Wheat,Crop,50,30"));
+        PriceCatalog catalog = new PriceCatalog(csv);
+        System.out.println("Items: " + catalog.size() + " (should be 3), from cached index: " + catalog.isFromCachedIndex());
+        System.out.println("Parsnip buy/sell: " + catalog.getBuyPrice("Parsnip") + "/" + catalog.getSellPrice("Parsnip") + " (should be 50/35)");
+        System.out.println("Potato buy: " + catalog.getBuyPrice("Potato") + " (should be " + PriceCatalog.NO_PRICE + ")");
+        System.out.println("Mystery skipped: " + (catalog.getCategory("Mystery") == null));
+        System.out.println("Category of Wheat: " + catalog.getCategory("Wheat"));
+
+        // 2. Harga per id item
+        System.out.println("\n2. Prices by item id.");
+        int wheatId = ItemRegistry.getItemByName("Wheat").getId();
+        System.out.println("Wheat sell by id: " + catalog.getSellPrice(wheatId) + " (should be 30)");
+        System.out.println("Unknown id: " + catalog.getSellPrice(ItemIds.count() + 5) + " (should be " + PriceCatalog.NO_PRICE + ")");
+
+        // 3. Startup berikutnya memakai index yang sudah ada
+        System.out.println("\n3. Opening the same sheet again.");
+        PriceCatalog again = new PriceCatalog(csv);
+        System.out.println("Index file exists: " + Files.exists(again.getIndexFile()) + ", from cached index: " + again.isFromCachedIndex());
+        System.out.println("Parsnip sell: " + again.getSellPrice("Parsnip") + " (should be 35)");
+
+        // 4. Reload setelah CSV diubah
+        System.out.println("\n4. Editing the sheet and reloading.");
+        int[] reloads = {0};
+        catalog.addReloadListener(c -> reloads[0]++);
+        System.out.println("Reload without change: " + catalog.reloadIfChanged() + " (should be false)");
+        Files.write(csv, List.of(
+                "ItemName,Category,BuyPrice,SellPrice",
+                "Parsnip,Crop,55,40",
+                "Wheat,Crop,50,33"));
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(System.currentTimeMillis() + 2000));
+        System.out.println("Reload after change: " + catalog.reloadIfChanged() + ", listener calls: " + reloads[0]);
+        System.out.println("Parsnip sell: " + catalog.getSellPrice("Parsnip") + " (should be 40)");
+        System.out.println("Wheat sell by id: " + catalog.getSellPrice(wheatId) + " (should be 33)");
+        System.out.println("Potato gone: " + (catalog.getSellPrice("Potato") == PriceCatalog.NO_PRICE));
+
+        // 5. Sheet besar
+        System.out.println("\n5. Loading a 10,000 row sheet.");
+        Path big = dir.resolve("big.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("ItemName,Category,BuyPrice,SellPrice");
+        for (int i = 0; i < 10_000; i++) {
+            lines.add("Item " + i + ",Misc," + i + "," + (i / 2));
+        }
+        Files.write(big, lines);
+        long start = System.nanoTime();
+        PriceCatalog parsed = new PriceCatalog(big);
+        long parseMicros = (System.nanoTime() - start) / 1000;
+        start = System.nanoTime();
+        PriceCatalog mapped = new PriceCatalog(big);
+        long mapMicros = (System.nanoTime() - start) / 1000;
+        System.out.println("Parsed " + parsed.size() + " rows in " + parseMicros + " us, mapped index in " + mapMicros + " us (cached: " + mapped.isFromCachedIndex() + ")");
+        System.out.println("Item 9876 buy: " + mapped.getBuyPrice("Item 9876") + " (should be 9876)");
+
+        // 6. Index rusak dibuat ulang dari CSV
+        System.out.println("\n6. Opening a sheet whose index has a bad name offset.");
+        java.nio.ByteBuffer header = java.nio.ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE - 8);
+        try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(mapped.getIndexFile(), java.nio.file.StandardOpenOption.WRITE)) {
+            channel.write(header, 30); // nameOffset dari entri pertama, tepat setelah header
+        }
+        PriceCatalog repaired = new PriceCatalog(big);
+        System.out.println("From cached index: " + repaired.isFromCachedIndex() + " (should be false), Item 0 buy: "
+                + repaired.getBuyPrice("Item 0") + " (should be 0), Item 9876 buy: " + repaired.getBuyPrice("Item 9876"));
+
+        // 7. Harga item tetap dipakai; sheet hanya dibandingkan
+        System.out.println("\n7. Store and market prices stay on the item prices.");
+        Path game = dir.resolve("game.csv");
+        Files.write(game, List.of(
+                "ItemName,Category,BuyPrice,SellPrice",
+                "Parsnip Seeds,Seeds,20,10",
+                "Parsnip,Crop,-,40"));
+        PriceList.loadPrices(game.toString());
+        Store store = new Store("Emily's Store", new Emily());
+        MarketPricing market = new MarketPricing();
+        Item parsnipSeeds = ItemRegistry.getItemByName("Parsnip Seeds");
+        Item parsnip = ItemRegistry.getItemByName("Parsnip");
+        System.out.println("Rows that disagree with the items: " + PriceList.reportMismatches(PriceList.getCatalog()) + " (should be 1, Parsnip)");
+        System.out.println("Parsnip Seeds in store: " + store.getPrice(parsnipSeeds) + "g (should be " + parsnipSeeds.getBuyPrice()
+                + "), Parsnip market: " + market.quote(parsnip, 1) + "g (should be " + parsnip.getSellPrice() + ")");
+        Files.write(game, List.of(
+                "ItemName,Category,BuyPrice,SellPrice",
+                "Parsnip Seeds,Seeds,30,10",
+                "Parsnip,Crop,-,45"));
+        Files.setLastModifiedTime(game, FileTime.fromMillis(System.currentTimeMillis() + 2000));
+        System.out.println("Reloaded: " + PriceList.getCatalog().reloadIfChanged() + ", rows that disagree: " + PriceList.reportMismatches(PriceList.getCatalog())
+                + " (should be 2), Parsnip Seeds in store: " + store.getPrice(parsnipSeeds) + "g (unchanged)");
+
+        for (Path p : new Path[] {csv, again.getIndexFile(), big, mapped.getIndexFile(), game, PriceList.getCatalog().getIndexFile()}) {
+            Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+        System.out.println("\n--- PriceCatalog Testing Complete ---");
+    }
+}
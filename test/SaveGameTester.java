@@ -0,0 +1,182 @@
+package test;
+
+import core.player.Player;
+import core.world.DeployedObject;
+import core.world.FarmMap;
+import core.world.Tile;
+import core.world.WorldNavigator;
+import fishing.FishingLocation;
+import item.Crop;
+import item.ItemRegistry;
+import item.SeedRegistry;
+import npc.NPC;
+import system.GameManager;
+import system.SaveGame;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class SaveGameTester {
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Testing SaveGame ---");
+        Path dir = Files.createTempDirectory("spakbor-save");
+        Path file = dir.resolve("test.spkb");
+
+        // 1. Snapshot pertama
+        System.out.println("\n1. Changing a new game and saving a snapshot.");
+        GameManager original = new GameManager();
+        original.getPlayer().getGold().add(1234);
+        original.getPlayer().getInventory().addItem(ItemRegistry.getItemByName("Wheat"), 7);
+        original.getPlayer().setEnergy(55);
+        original.getPlayer().setFarmName("Kebun Asep");
+        NPC emily = original.getNpcByName("Emily");
+        emily.addHeartPoints(40);
+        FarmMap farm = original.getFarmMap();
+        Tile first = findFreeTile(farm, null);
+        first.setType(Tile.TileType.TILLED);
+        Crop crop = new Crop(SeedRegistry.getSeedByName("Wheat Seeds"));
+        first.plantCrop(crop);
+        crop.restoreGrowth(1, 2, 3);
+
+        SaveGame save = new SaveGame(original, file);
+        save.save();
+        long snapshotSize = Files.size(file);
+        System.out.println("Snapshot size: " + snapshotSize + " bytes, deltas: " + save.getDeltaCount());
+
+        // 2. Delta hanya membawa chunk yang berubah
+        System.out.println("\n2. Changing one more tile and appending a delta.");
+        Tile second = findFreeTile(farm, first);
+        second.setType(Tile.TileType.TILLED);
+        original.getPlayer().getGold().add(10);
+        save.save();
+        long deltaSize = Files.size(file) - snapshotSize;
+        System.out.println("Delta size: " + deltaSize + " bytes, deltas: " + save.getDeltaCount());
+        original.getPlayer().getGold().add(1);
+        original.getPlayer().getGold().subtract(1);
+        long beforeQuiet = Files.size(file);
+        save.save();
+        System.out.println("Delta without tile changes: " + (Files.size(file) - beforeQuiet) + " bytes (no chunks), deltas: " + save.getDeltaCount());
+
+        // 3. Muat ke game baru
+        System.out.println("\n3. Loading into a fresh GameManager.");
+        GameManager loaded = new GameManager();
+        System.out.println("Loaded: " + loaded.loadGame(file));
+        compare(original, loaded, first, second);
+
+        // 4. Record terakhir terpotong (crash saat menulis delta)
+        System.out.println("\n4. Truncating the last record and loading again.");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(snapshotSize + deltaSize - 3); // Delta kedua hilang, delta pertama terpotong
+        }
+        GameManager recovered = new GameManager();
+        System.out.println("Loaded: " + recovered.loadGame(file));
+        int expectedGold = original.getPlayer().getGold().getAmount() - 10;
+        System.out.println("Gold from snapshot: " + recovered.getPlayer().getGold().getAmount() + " (should be " + expectedGold + ")");
+        System.out.println("Second tile from delta dropped: "
+                + (recovered.getFarmMap().getTileAt(second.getX(), second.getY()).getType() == Tile.TileType.UNTILLED));
+
+        // 5. Bukan file save
+        System.out.println("\n5. Loading a file that is not a save.");
+        Path junk = dir.resolve("junk.spkb");
+        Files.write(junk, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        System.out.println("Loaded (should be false): " + new GameManager().loadGame(junk));
+
+        // 6. Save yang ditutup berhenti mencatat perubahan farm
+        System.out.println("\n6. Closing a save.");
+        System.out.println("Deltas before closing: " + save.getDeltaCount());
+        save.close();
+        findFreeTile(farm, second).setType(Tile.TileType.TILLED);
+        save.save();
+        System.out.println("Deltas after saving a closed save: " + save.getDeltaCount() + " (should be 0, a fresh snapshot)");
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(junk);
+        Files.deleteIfExists(dir);
+        System.out.println("\n--- SaveGame Testing Complete ---");
+    }
+
+    private static Tile findFreeTile(FarmMap farm, Tile not) {
+        for (int y = 0; y < farm.getHeight(); y++) {
+            for (int x = 0; x < farm.getWidth(); x++) {
+                Tile tile = farm.getTileAt(x, y);
+                if (tile.getType() == Tile.TileType.UNTILLED && (not == null || Math.abs(not.getX() - x) + Math.abs(not.getY() - y) > 2)) {
+                    return tile;
+                }
+            }
+        }
+        throw new IllegalStateException("Tidak ada tile kosong");
+    }
+
+    private static void compare(GameManager expected, GameManager actual, Tile planted, Tile tilled) {
+        System.out.println("Gold: " + actual.getPlayer().getGold().getAmount() + " (should be " + expected.getPlayer().getGold().getAmount() + ")");
+        System.out.println("Wheat: " + actual.getPlayer().getInventory().getItemCount("Wheat") + " (should be " + expected.getPlayer().getInventory().getItemCount("Wheat") + ")");
+        System.out.println("Energy: " + actual.getPlayer().getEnergy() + ", farm name: " + actual.getPlayer().getFarmName());
+        System.out.println("Emily heart points: " + actual.getNpcByName("Emily").getHeartPoints() + " (should be " + expected.getNpcByName("Emily").getHeartPoints() + ")");
+        System.out.println("Day: " + actual.getGameCalendar().getTotalDay() + ", time: " + actual.getGameTime().getHour() + ":" + actual.getGameTime().getMinute());
+
+        List<DeployedObject> expectedObjects = expected.getFarmMap().getDeployedObjects();
+        List<DeployedObject> actualObjects = actual.getFarmMap().getDeployedObjects();
+        boolean sameLayout = expectedObjects.size() == actualObjects.size();
+        for (int i = 0; sameLayout && i < expectedObjects.size(); i++) {
+            DeployedObject a = expectedObjects.get(i);
+            DeployedObject b = actualObjects.get(i);
+            sameLayout = a.getSymbol() == b.getSymbol() && a.getX() == b.getX() && a.getY() == b.getY();
+        }
+        System.out.println("Same farm layout: " + sameLayout);
+
+        FarmMap a = expected.getFarmMap();
+        FarmMap b = actual.getFarmMap();
+        int differentTiles = 0;
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                if (a.getTileAt(x, y).getType() != b.getTileAt(x, y).getType() || a.isWalkable(x, y) != b.isWalkable(x, y)) {
+                    differentTiles++;
+                }
+            }
+        }
+        System.out.println("Different tiles: " + differentTiles + " (should be 0)");
+
+        Crop crop = b.getTileAt(planted.getX(), planted.getY()).getPlantedCrop();
+        System.out.println("Crop restored: " + (crop != null) + (crop == null ? "" : ", stage " + crop.getGrowthStage()
+                + ", days " + crop.getDaysSincePlanting() + ", last watered " + crop.getLastWateredDay()));
+        System.out.println("Tilled tile from delta: " + b.getTileAt(tilled.getX(), tilled.getY()).getType());
+
+        // Posisi memancing dan tujuan navigasi mengikuti kolam dan rumah dari save, bukan layout acak game baru
+        FishingLocation pond = actual.getFishingLocations().get("Pond");
+        Player player = actual.getPlayer();
+        String location = player.getLocation();
+        int px = player.getX();
+        int py = player.getY();
+        player.setLocation(b.getName());
+        int besidePond = 0;
+        int canFish = 0;
+        for (int y = 0; y < b.getHeight(); y++) {
+            for (int x = 0; x < b.getWidth(); x++) {
+                if (!b.isWalkable(x, y) || !nextToPond(b, x, y)) continue;
+                b.getTileAt(x, y).setType(Tile.TileType.TILLED);
+                besidePond++;
+                player.setPosition(x, y);
+                if (pond.canFishAt(player)) canFish++;
+            }
+        }
+        player.setLocation(location);
+        player.setPosition(px, py);
+        System.out.println("Tilled tiles beside the saved pond: " + besidePond + ", can fish from: " + canFish + " (should be equal and > 0)");
+        WorldNavigator navigator = actual.getWorldNavigator();
+        List<WorldNavigator.Leg> route = navigator.planRoute(b, b.getHouseExitSpawnX(), b.getHouseExitSpawnY(), WorldNavigator.Destination.BED);
+        boolean entersAtDoor = route != null && route.get(0).getSteps().isEmpty() && route.get(0).getExit() != null;
+        System.out.println("Route to bed enters the saved house right at its door: " + entersAtDoor + " (should be true)");
+    }
+
+    private static boolean nextToPond(FarmMap farm, int x, int y) {
+        for (DeployedObject obj : farm.getDeployedObjects()) {
+            if (obj.getSymbol() != Tile.POND_SYMBOL || obj.occupies(x, y)) continue;
+            if (obj.occupies(x + 1, y) || obj.occupies(x - 1, y) || obj.occupies(x, y + 1) || obj.occupies(x, y - 1)) return true;
+        }
+        return false;
+    }
+}
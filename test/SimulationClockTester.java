@@ -0,0 +1,59 @@
+package test;
+
+import time.SimulationClock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SimulationClockTester {
+    public static void main(String[] args) throws Exception {
+        System.out.println("--- Testing SimulationClock ---");
+
+        // 1. post() selagi berhenti menunggu clock, tidak jalan di thread pemanggil
+        System.out.println("\n1. Posting while the clock is stopped.");
+        SimulationClock clock = new SimulationClock(() -> { });
+        String[] ranOn = new String[1];
+        CountDownLatch ran = new CountDownLatch(1);
+        Thread cook = new Thread(() -> clock.post(() -> {
+            ranOn[0] = Thread.currentThread().getName();
+            ran.countDown();
+        }), "CookingThread");
+        cook.start();
+        cook.join();
+        System.out.println("Ran before start: " + (ran.getCount() == 0) + " (should be false), pending: " + clock.getPendingCount() + " (should be 1)");
+        clock.start();
+        ran.await(5, TimeUnit.SECONDS);
+        System.out.println("Ran on: " + ranOn[0] + " (should be SimulationThread), pending: " + clock.getPendingCount());
+
+        // 2. Menunggu SimulationThread lalu diinterupsi: exception, bukan null diam-diam
+        System.out.println("\n2. Interrupting a caller waiting on the simulation thread.");
+        CountDownLatch blocking = new CountDownLatch(1);
+        clock.post(() -> {
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.currentThread().interrupt();
+        try {
+            Boolean result = clock.call(() -> true);
+            System.out.println("Returned " + result + " (should not happen)");
+        } catch (IllegalStateException e) {
+            System.out.println("Caught expected exception: " + e.getMessage() + ", interrupt flag kept: " + Thread.interrupted());
+        }
+        blocking.countDown();
+        clock.stop();
+
+        // 3. Rasio menit game per detik dari system property
+        System.out.println("\n3. Configuring the speed.");
+        System.setProperty(SimulationClock.SPEED_PROPERTY, "500");
+        System.out.println("From property: " + new SimulationClock(() -> { }).getGameMinutesPerSecond() + " (should be 500.0)");
+        System.setProperty(SimulationClock.SPEED_PROPERTY, "fast");
+        System.out.println("Invalid value: " + new SimulationClock(() -> { }).getGameMinutesPerSecond()
+                + " (should be " + SimulationClock.DEFAULT_GAME_MINUTES_PER_SECOND + ")");
+        System.clearProperty(SimulationClock.SPEED_PROPERTY);
+
+        System.out.println("\n--- SimulationClock Testing Complete ---");
+    }
+}
@@ -1,5 +1,113 @@
 package test;
 
+import core.player.GoldJournal;
+import core.player.Player;
+import core.player.PlayerStats;
+import core.world.Season;
+import item.Item;
+import item.ItemIds;
+import npc.Emily;
+import system.Store;
+import time.SimulationClock;
+
 public class StoreTester {
-    
+    public static void main(String[] args) {
+        System.out.println("--- Testing Store ---");
+        Store store = new Store("Emily's Store", new Emily());
+
+        // 1. Beli satu item seperti dari StorePanel
+        System.out.println("\n1. Buying 3 Wheat Seeds one purchase at a time.");
+        Player player = new Player("Asep", "Male");
+        player.getGold().add(1000);
+        boolean bought = store.handlePurchase(player, "Wheat Seeds", 3, Season.SPRING);
+        System.out.println("Bought: " + bought + ", Wheat Seeds owned: " + player.getInventory().getItemCount("Wheat Seeds")
+                + ", gold left: " + player.getGold());
+
+        // 2. Keranjang dengan banyak jenis item dibayar sekali
+        System.out.println("\n2. Checking out a cart with every kind of seed.");
+        Player bot = new Player("Bot", "Male");
+        bot.getGold().add(10_000);
+        Store.Cart cart = store.newCart();
+        int kinds = 0;
+        for (Item item : store.getItemsForSale().values()) {
+            if (item.getCategory().equals("Seed") && store.getPrice(item) > 0) {
+                cart.add(item.getName(), 5);
+                kinds++;
+            }
+        }
+        cart.add("Parsnip Seeds", 5); // Digabung dengan baris yang sudah ada
+        int[] statEvents = {0};
+        bot.getStats().addStatsListener(stat -> { if (stat == PlayerStats.Stat.ITEM_COUNT) statEvents[0]++; });
+        int[] inventoryEvents = {0};
+        bot.getInventory().addInventoryListener((item, oldQuantity, newQuantity) -> inventoryEvents[0]++);
+        int goldBefore = bot.getGold().getAmount();
+        int journalBefore = bot.getGold().getJournal().size();
+        long total = cart.getTotal();
+        boolean checkedOut = store.checkout(bot, cart, Season.SPRING);
+        System.out.println("Checked out: " + checkedOut + ", seed kinds: " + kinds + ", paid: " + (goldBefore - bot.getGold().getAmount())
+                + "g (should be " + total + "g)");
+        System.out.println("Gold debits journaled: " + (bot.getGold().getJournal().size() - journalBefore) + " (should be 1), source: "
+                + bot.getGold().getJournal().getSource(journalBefore) + ", season: " + bot.getGold().getJournal().getSeason(journalBefore));
+        System.out.println("ITEM_COUNT notifications: " + statEvents[0] + " (should be 1), inventory notifications: " + inventoryEvents[0]
+                + " (one per kind: " + kinds + ")");
+        System.out.println("Parsnip Seeds owned: " + bot.getInventory().getItemCount("Parsnip Seeds") + " (should be 25: 15 starting + 10)");
+        System.out.println("Gold spent in spring: " + bot.getStats().getSeasonalExpenditure().get(Season.SPRING) + "g");
+        System.out.println("Cart emptied: " + cart.isEmpty());
+
+        // 3. Emas kurang: tidak ada yang berubah
+        System.out.println("\n3. Checking out an order the player cannot afford.");
+        Player poor = new Player("Poor", "Male");
+        Store.Cart expensive = store.newCart().add("Proposal Ring", 1).add("Melon Seeds", 2);
+        int journalSize = poor.getGold().getJournal().size();
+        boolean afforded = store.checkout(poor, expensive, null);
+        System.out.println("Checked out: " + afforded + " (should be false), gold: " + poor.getGold()
+                + ", Melon Seeds owned: " + poor.getInventory().getItemCount("Melon Seeds")
+                + ", journal unchanged: " + (poor.getGold().getJournal().size() == journalSize)
+                + ", cart kept: " + expensive.getLines().size() + " lines");
+
+        // 4. Item yang tidak dijual ditolak saat dimasukkan ke keranjang
+        System.out.println("\n4. Adding items the store does not sell.");
+        try {
+            store.newCart().add("Legend", 1);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+        try {
+            store.newCart().add("Parsnip Seeds", 0);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+        try {
+            new Store("Other Store", new Emily()).checkout(bot, store.newCart().add("Parsnip Seeds", 1), null);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+        System.out.println("Empty cart checks out: " + store.checkout(bot, store.newCart(), null) + " (should be false)");
+
+        // 5. Satu jenis item: entri jurnal menyebut item-nya
+        System.out.println("\n5. A single-kind order names its item in the journal.");
+        GoldJournal journal = bot.getGold().getJournal();
+        store.checkout(bot, store.newCart().add("Coal", 2), Season.SUMMER);
+        System.out.println("Last entry: " + journal.getAmount(journal.size() - 1) + "g for "
+                + ItemIds.nameOf(journal.getItemId(journal.size() - 1)) + " (should be -200g for Coal)");
+
+        // 6. Pembelian dari GUI dijalankan di SimulationThread
+        System.out.println("\n6. Buying through a running simulation clock.");
+        SimulationClock clock = new SimulationClock(() -> { });
+        clock.start();
+        String[] buyer = new String[1];
+        boolean viaClock = clock.call(() -> {
+            buyer[0] = Thread.currentThread().getName();
+            return store.handlePurchase(player, "Parsnip Seeds", 1, Season.SPRING);
+        });
+        System.out.println("Bought: " + viaClock + " on thread: " + buyer[0] + " (should be SimulationThread)");
+        try {
+            clock.execute(() -> store.newCart().add("Legend", 1));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception from the simulation thread: " + e.getMessage());
+        }
+        clock.stop();
+
+        System.out.println("\n--- Store Testing Complete ---");
+    }
 }